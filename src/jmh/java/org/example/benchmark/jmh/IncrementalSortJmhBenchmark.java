@@ -0,0 +1,131 @@
+package org.example.benchmark.jmh;
+
+import org.example.sorts.IncrementalSorter;
+import org.example.sorts.NaturalMergeSort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de IncrementalSorter frente a ordenar al final.
+ *
+ * - total*: costo completo de cargar "size" elementos y recorrerlos
+ *   en orden, con IncrementalSorter o acumulando en una lista y
+ *   ordenándola con NaturalMergeSort.
+ * - prefix*: latencia del último paso, con los datos ya cargados:
+ *   obtener los PREFIX menores. Con IncrementalSorter solo se mezclan
+ *   las secuencias ya ordenadas; con la lista hay que ordenarla toda.
+ *
+ * Ejemplo:
+ *   java -jar target/benchmarks.jar IncrementalSort
+ *
+ * @author Joao
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IncrementalSortJmhBenchmark {
+
+    /**
+     * Semilla fija para que los datos sean iguales entre ejecuciones.
+     */
+    private static final long SEED = 42L;
+
+    /**
+     * Cantidad de elementos del prefijo.
+     */
+    private static final int PREFIX = 100;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Integer[] source;
+
+    private IncrementalSorter<Integer> loaded;
+
+    private List<Integer> collected;
+
+    /**
+     * Genera los datos de entrada.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new Random(SEED).ints(size).boxed().toArray(Integer[]::new);
+    }
+
+    /**
+     * Carga los datos antes de cada medición de prefix*.
+     */
+    @Setup(Level.Invocation)
+    public void load() {
+        loaded = new IncrementalSorter<>(Comparator.naturalOrder());
+        collected = new ArrayList<>(size);
+        for (Integer value : source) {
+            loaded.add(value);
+            collected.add(value);
+        }
+    }
+
+    /**
+     * Carga y recorre los datos con IncrementalSorter.
+     *
+     * @param blackhole evita que el JIT elimine el resultado
+     */
+    @Benchmark
+    public void totalIncremental(Blackhole blackhole) {
+        IncrementalSorter<Integer> sorter = new IncrementalSorter<>(Comparator.naturalOrder());
+        for (Integer value : source) {
+            sorter.add(value);
+        }
+        for (Integer value : sorter) {
+            blackhole.consume(value);
+        }
+    }
+
+    /**
+     * Carga los datos en una lista, la ordena y la recorre.
+     *
+     * @param blackhole evita que el JIT elimine el resultado
+     */
+    @Benchmark
+    public void totalSortAtEnd(Blackhole blackhole) {
+        List<Integer> list = new ArrayList<>(size);
+        for (Integer value : source) {
+            list.add(value);
+        }
+        new NaturalMergeSort<Integer>().sort(list);
+        for (Integer value : list) {
+            blackhole.consume(value);
+        }
+    }
+
+    /**
+     * Obtiene el prefijo de un IncrementalSorter ya cargado.
+     *
+     * @return menores elementos
+     */
+    @Benchmark
+    public List<Integer> prefixIncremental() {
+        return loaded.prefix(PREFIX);
+    }
+
+    /**
+     * Ordena la lista ya cargada y obtiene su prefijo.
+     *
+     * @return menores elementos
+     */
+    @Benchmark
+    public List<Integer> prefixSortAtEnd() {
+        new NaturalMergeSort<Integer>().sort(collected);
+        return new ArrayList<>(collected.subList(0, PREFIX));
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.benchmark.jmh;
+
+import org.example.sorts.KeySort;
+import org.example.sorts.MergeSort;
+import org.example.sorts.ParallelQuickSort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del ordenamiento de registros por un campo.
+ *
+ * Compara ordenar con un Comparator (una llamada virtual y dos
+ * extracciones de clave por comparación) contra KeySort, que extrae
+ * la clave una sola vez y ordena con Radix Sort.
+ *
+ * Ejemplo:
+ *   java -jar target/benchmarks.jar KeySort -p size=100000
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class KeySortJmhBenchmark {
+
+    /**
+     * Semilla fija para que los datos sean iguales entre ejecuciones.
+     */
+    private static final long SEED = 42L;
+
+    /**
+     * Comparador por el campo id de los registros.
+     */
+    private static final Comparator<Order> BY_ID = Comparator.comparingInt(Order::id);
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"ListSort", "MergeSort", "ParallelQuickSort", "KeySortInt"})
+    public String method;
+
+    private List<Order> source;
+
+    /**
+     * Genera los registros de entrada.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source.add(new Order(random.nextInt(), "order-" + i));
+        }
+    }
+
+    /**
+     * Ordena una copia de los registros por id con el método elegido.
+     *
+     * @param blackhole evita que el JIT elimine el ordenamiento
+     */
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        List<Order> data = new ArrayList<>(source);
+        switch (method) {
+            case "ListSort" -> data.sort(BY_ID);
+            case "MergeSort" -> new MergeSort<Integer>().sort(data, BY_ID);
+            case "ParallelQuickSort" -> new ParallelQuickSort<Integer>().sort(data, BY_ID);
+            case "KeySortInt" -> KeySort.sortByInt(data, Order::id);
+            default -> throw new IllegalArgumentException("Método desconocido: " + method);
+        }
+        blackhole.consume(data);
+    }
+
+    /**
+     * Registro de ejemplo sin orden natural.
+     *
+     * @param id identificador usado como clave
+     * @param description descripción del pedido
+     */
+    public record Order(int id, String description) {
+    }
+}
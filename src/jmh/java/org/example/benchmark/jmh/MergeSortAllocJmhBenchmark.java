@@ -0,0 +1,86 @@
+package org.example.benchmark.jmh;
+
+import org.example.sorts.MergeSort;
+import org.example.sorts.MergeWorkspace;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de las reservas de memoria de MergeSort.
+ *
+ * Compara el modo recursivo con el modo ascendente usando un
+ * espacio de trabajo propio o el del hilo. Debe ejecutarse con
+ * el perfilador de GC para ver los bytes reservados por operación
+ * (gc.alloc.rate.norm), que en los modos ascendentes debe ser ~0:
+ *   java -jar target/benchmarks.jar MergeSortAlloc -prof gc
+ *
+ * Los datos se restauran antes de cada ordenamiento copiándolos
+ * sobre la misma lista, sin crear objetos nuevos.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class MergeSortAllocJmhBenchmark {
+
+    /**
+     * Semilla fija para que los datos sean iguales entre ejecuciones.
+     */
+    private static final long SEED = 42L;
+
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    @Param({"Recursive", "Workspace", "ThreadLocal"})
+    public String mode;
+
+    private List<Integer> source;
+
+    private List<Integer> data;
+
+    private MergeSort<Integer> sorter;
+
+    /**
+     * Genera los datos de entrada y crea el algoritmo del modo elegido.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source.add(random.nextInt());
+        }
+        data = new ArrayList<>(source);
+
+        sorter = switch (mode) {
+            case "Recursive" -> new MergeSort<>();
+            case "Workspace" -> new MergeSort<>(new MergeWorkspace(size));
+            case "ThreadLocal" -> MergeSort.withThreadLocalWorkspace();
+            default -> throw new IllegalArgumentException("Modo desconocido: " + mode);
+        };
+    }
+
+    /**
+     * Restaura los datos desordenados y los ordena.
+     *
+     * @param blackhole evita que el JIT elimine el ordenamiento
+     */
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            data.set(i, source.get(i));
+        }
+        sorter.sort(data);
+        blackhole.consume(data);
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.benchmark.jmh;
+
+import org.example.sorts.PrimitiveQuickSort;
+import org.example.sorts.PrimitiveRadixSort;
+import org.example.sorts.SegmentIntSortAlgorithm;
+import org.example.sorts.SegmentQuickSort;
+import org.example.sorts.SegmentRadixSort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del ordenamiento fuera del heap.
+ *
+ * Compara SegmentRadixSort y SegmentQuickSort sobre un segmento
+ * nativo con PrimitiveRadixSort y PrimitiveQuickSort sobre int[].
+ * Con -prof gc se verifica que los algoritmos sobre segmentos no
+ * reservan memoria en el heap proporcional al tamaño.
+ *
+ * Ejemplo:
+ *   java -jar target/benchmarks.jar OffHeapSort -prof gc
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class OffHeapSortJmhBenchmark {
+
+    /**
+     * Semilla fija para que los datos sean iguales entre ejecuciones.
+     */
+    private static final long SEED = 42L;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"SegmentRadixSort", "SegmentQuickSort", "PrimitiveRadixSort", "PrimitiveQuickSort"})
+    public String algorithm;
+
+    private Arena arena;
+
+    private MemorySegment source;
+
+    private MemorySegment segment;
+
+    private int[] sourceArray;
+
+    private int[] data;
+
+    private SegmentIntSortAlgorithm segmentSort;
+
+    /**
+     * Genera los datos en el heap o en segmentos nativos, según el algoritmo.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = new Random(SEED).ints(size).toArray();
+        switch (algorithm) {
+            case "SegmentRadixSort" -> segmentSort = new SegmentRadixSort();
+            case "SegmentQuickSort" -> segmentSort = new SegmentQuickSort();
+            case "PrimitiveRadixSort", "PrimitiveQuickSort" -> { }
+            default -> throw new IllegalArgumentException("Algoritmo desconocido: " + algorithm);
+        }
+
+        if (segmentSort != null) {
+            arena = Arena.ofShared();
+            source = arena.allocate((long) size * Integer.BYTES, Integer.BYTES);
+            segment = arena.allocate((long) size * Integer.BYTES, Integer.BYTES);
+            for (int i = 0; i < size; i++) {
+                source.setAtIndex(SegmentIntSortAlgorithm.LAYOUT, i, values[i]);
+            }
+        } else {
+            sourceArray = values;
+            data = new int[size];
+        }
+    }
+
+    /**
+     * Libera los segmentos nativos al terminar.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (arena != null) {
+            arena.close();
+        }
+    }
+
+    /**
+     * Ordena una copia de los datos.
+     *
+     * @param blackhole evita que el JIT elimine el resultado
+     */
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        if (segmentSort != null) {
+            MemorySegment.copy(source, 0, segment, 0, source.byteSize());
+            segmentSort.sort(segment);
+            blackhole.consume(segment);
+        } else {
+            System.arraycopy(sourceArray, 0, data, 0, size);
+            if (algorithm.equals("PrimitiveRadixSort")) {
+                new PrimitiveRadixSort().sort(data);
+            } else {
+                new PrimitiveQuickSort().sort(data);
+            }
+            blackhole.consume(data);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.benchmark.jmh;
+
+import org.example.sorts.ParallelRadixSort;
+import org.example.sorts.PrimitiveRadixSort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de escalabilidad de ParallelRadixSort.
+ *
+ * Ordena arreglos int[] grandes variando la cantidad de hilos del
+ * ForkJoinPool, para obtener la curva de aceleración respecto a
+ * PrimitiveRadixSort secuencial (threads = 0).
+ *
+ * Ejemplo:
+ *   java -jar target/benchmarks.jar RadixScaling -p threads=1,2,4,8,16,32
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class RadixScalingJmhBenchmark {
+
+    /**
+     * Semilla fija para que los datos sean iguales entre ejecuciones.
+     */
+    private static final long SEED = 42L;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    /**
+     * Cantidad de hilos; 0 indica PrimitiveRadixSort secuencial.
+     */
+    @Param({"0", "1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"Full", "Small"})
+    public String range;
+
+    private int[] source;
+
+    private int[] data;
+
+    private ForkJoinPool pool;
+
+    private ParallelRadixSort parallel;
+
+    private PrimitiveRadixSort sequential;
+
+    /**
+     * Genera los datos y crea el pool con la cantidad de hilos indicada.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        source = switch (range) {
+            case "Full" -> random.ints(size).toArray();
+            case "Small" -> random.ints(size, 0, 10000).toArray();
+            default -> throw new IllegalArgumentException("Rango desconocido: " + range);
+        };
+        data = new int[size];
+
+        if (threads == 0) {
+            sequential = new PrimitiveRadixSort();
+        } else {
+            pool = new ForkJoinPool(threads);
+            parallel = new ParallelRadixSort(pool, ParallelRadixSort.DEFAULT_SEQUENTIAL_THRESHOLD);
+        }
+    }
+
+    /**
+     * Libera el pool al terminar.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Ordena una copia de los datos.
+     *
+     * @param blackhole evita que el JIT elimine el resultado
+     */
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        System.arraycopy(source, 0, data, 0, size);
+        if (parallel != null) {
+            parallel.sort(data);
+        } else {
+            sequential.sort(data);
+        }
+        blackhole.consume(data);
+    }
+}
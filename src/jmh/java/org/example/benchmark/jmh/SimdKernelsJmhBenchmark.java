@@ -0,0 +1,168 @@
+package org.example.benchmark.jmh;
+
+import org.example.sorts.IntKernels;
+import org.example.sorts.PrimitiveQuickSort;
+import org.example.sorts.ScalarIntKernels;
+import org.example.sorts.SimdQuickSort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de IntKernels escalar y vectorial.
+ *
+ * - sortBlocks: ordena BLOCKS bloques de "size" elementos con
+ *   sortSmall. Compara Insertion Sort con las redes de ordenamiento
+ *   para cada tamaño de caso base.
+ * - quickSort: ordena QUICK_SORT_SIZE enteros con SimdQuickSort
+ *   usando "size" como caso base (PrimitiveQuickSort como referencia
+ *   con kernel=Primitive), para elegir el cutoff.
+ * - partition: particiona PARTITION_SIZE enteros alrededor de la mediana.
+ *
+ * Requiere compilar con ambos perfiles; el fork agrega el módulo:
+ *   mvn -Pjmh,vector package -DskipTests
+ *   java -jar target/benchmarks.jar SimdKernels
+ * Con vectores de 512 bits también se pueden medir bloques de hasta 32:
+ *   java -jar target/benchmarks.jar SimdKernels -p size=4,8,12,16,24,32
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class SimdKernelsJmhBenchmark {
+
+    /**
+     * Semilla fija para que los datos sean iguales entre ejecuciones.
+     */
+    private static final long SEED = 42L;
+
+    /**
+     * Cantidad de bloques ordenados por invocación de sortBlocks.
+     */
+    private static final int BLOCKS = 1024;
+
+    /**
+     * Tamaño del arreglo ordenado por quickSort.
+     */
+    private static final int QUICK_SORT_SIZE = 100_000;
+
+    /**
+     * Tamaño del arreglo particionado por partition.
+     */
+    private static final int PARTITION_SIZE = 100_000;
+
+    /**
+     * Tamaño de bloque (sortBlocks) o caso base (quickSort).
+     */
+    @Param({"4", "8", "12", "16"})
+    public int size;
+
+    /**
+     * Implementación: Scalar, Vector o Primitive (solo referencia para quickSort).
+     */
+    @Param({"Scalar", "Vector"})
+    public String kernel;
+
+    private IntKernels kernels;
+
+    private int[] blocksSource;
+
+    private int[] blocks;
+
+    private int[] sortSource;
+
+    private int[] sortData;
+
+    private int[] partitionSource;
+
+    private int[] partitionData;
+
+    private int pivot;
+
+    private SimdQuickSort quickSort;
+
+    private PrimitiveQuickSort primitive;
+
+    /**
+     * Genera los datos y selecciona la implementación.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (kernel) {
+            case "Scalar", "Primitive" -> kernels = new ScalarIntKernels();
+            case "Vector" -> {
+                kernels = IntKernels.best();
+                if (kernels instanceof ScalarIntKernels) {
+                    throw new IllegalStateException("La versión vectorial no está disponible (perfil vector)");
+                }
+            }
+            default -> throw new IllegalArgumentException("Kernel desconocido: " + kernel);
+        }
+
+        Random random = new Random(SEED);
+        blocksSource = random.ints((long) BLOCKS * size).toArray();
+        blocks = new int[blocksSource.length];
+        sortSource = random.ints(QUICK_SORT_SIZE).toArray();
+        sortData = new int[QUICK_SORT_SIZE];
+        partitionSource = random.ints(PARTITION_SIZE).toArray();
+        partitionData = new int[PARTITION_SIZE];
+        pivot = 0;
+
+        if (kernel.equals("Primitive")) {
+            primitive = new PrimitiveQuickSort();
+        } else if (size <= kernels.maxBlock()) {
+            quickSort = new SimdQuickSort(kernels, size);
+        }
+    }
+
+    /**
+     * Ordena BLOCKS bloques de "size" elementos.
+     *
+     * @param blackhole evita que el JIT elimine el resultado
+     */
+    @Benchmark
+    public void sortBlocks(Blackhole blackhole) {
+        System.arraycopy(blocksSource, 0, blocks, 0, blocks.length);
+        for (int from = 0; from < blocks.length; from += size) {
+            kernels.sortSmall(blocks, from, from + size);
+        }
+        blackhole.consume(blocks);
+    }
+
+    /**
+     * Ordena una copia de los datos con Quick Sort.
+     *
+     * @param blackhole evita que el JIT elimine el resultado
+     */
+    @Benchmark
+    public void quickSort(Blackhole blackhole) {
+        System.arraycopy(sortSource, 0, sortData, 0, QUICK_SORT_SIZE);
+        if (primitive != null) {
+            primitive.sort(sortData);
+        } else {
+            quickSort.sort(sortData);
+        }
+        blackhole.consume(sortData);
+    }
+
+    /**
+     * Particiona una copia de los datos alrededor de 0 (la mediana
+     * esperada de enteros uniformes).
+     *
+     * @param blackhole evita que el JIT elimine el resultado
+     * @return índice de la partición
+     */
+    @Benchmark
+    public int partition(Blackhole blackhole) {
+        System.arraycopy(partitionSource, 0, partitionData, 0, PARTITION_SIZE);
+        blackhole.consume(partitionData);
+        return kernels.partition(partitionData, 0, PARTITION_SIZE, pivot);
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.benchmark.jmh;
+
+import org.example.sorts.*;
+import org.example.workload.Distribution;
+import org.example.workload.WorkloadGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark JMH de los algoritmos de ordenamiento.
+ *
+ * Reemplaza la medición de una sola muestra en frío con
+ * System.nanoTime() que realiza SortBenchMark. JMH se encarga
+ * del calentamiento del JIT, de repetir las mediciones y de
+ * reportar el error de cada resultado.
+ *
+ * Se barren tres parámetros:
+ * - size: cantidad de elementos
+ * - distribution: forma de los datos de entrada (nombre de escenario
+ *   de {@link Distribution}, generada con WorkloadGenerator). También
+ *   acepta PresortedNN: tramos ordenados con un NN% de pares
+ *   consecutivos en orden (WorkloadGenerator.runs), y UnsortedWide:
+ *   valores uniformes en todo el rango de int. Ambas se usan para
+ *   calibrar AdaptiveSort.
+ * - algorithm: algoritmo a evaluar
+ *
+ * Cada invocación ordena una copia nueva de los datos, por lo que
+ * el tiempo reportado incluye la copia (igual para todos los algoritmos).
+ *
+ * Ejecución:
+ *   mvn -Pjmh package -DskipTests
+ *   java -jar target/benchmarks.jar -prof gc -rf json -rff target/jmh-result.json
+ *
+ * Los umbrales de AdaptiveSort se calibraron con el barrido guardado
+ * en src/jmh/calibration (ver AdaptiveSort.Thresholds).
+ *
+ * @author Joao
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SortJmhBenchmark {
+
+    /**
+     * Semilla fija para que los datos sean iguales entre ejecuciones.
+     */
+    private static final long SEED = 42L;
+
+    /**
+     * Prefijo de las distribuciones con una proporción de pares en orden.
+     */
+    private static final String PRESORTED = "Presorted";
+
+    /**
+     * Distribución uniforme en todo el rango de int.
+     */
+    private static final String UNSORTED_WIDE = "UnsortedWide";
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    @Param({"Unsorted", "Sorted", "Reverse", "NearlySorted", "Zipf", "FewUnique", "Sawtooth", "OrganPipe",
+            "QuickSortKiller"})
+    public String distribution;
+
+    @Param({"GnomeSort", "InsertionSort", "MergeSort", "QuickSort", "RadixSort", "ParallelMergeSort", "ParallelQuickSort",
+            "ParallelRadixSort", "NaturalMergeSort", "AdaptiveSort", "StableSort"})
+    public String algorithm;
+
+    /**
+     * Datos originales, generados una sola vez por combinación de parámetros.
+     */
+    private List<Integer> source;
+
+    /**
+     * Acción de ordenamiento del algoritmo seleccionado.
+     */
+    private Consumer<List<Integer>> sorter;
+
+    /**
+     * Genera los datos de entrada y crea la instancia del algoritmo.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        WorkloadGenerator generator = new WorkloadGenerator(SEED);
+        if (distribution.startsWith(PRESORTED)) {
+            // Un descenso por cada (100 - NN)% de los pares consecutivos
+            double inOrder = Integer.parseInt(distribution.substring(PRESORTED.length())) / 100.0;
+            int descents = (int) Math.round((1 - inOrder) * Math.max(0, size - 1));
+            source = new ArrayList<>(size);
+            for (int value : generator.runs(size, descents + 1)) {
+                source.add(value);
+            }
+        } else if (distribution.equals(UNSORTED_WIDE)) {
+            source = new ArrayList<>(size);
+            for (int value : generator.uniform(size, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L)) {
+                source.add(value);
+            }
+        } else {
+            source = generator.generateList(Distribution.fromName(distribution), size);
+        }
+
+        switch (algorithm) {
+            case "GnomeSort" -> sorter = new GnomeSort<Integer>()::sort;
+            case "InsertionSort" -> sorter = new InsertionSort<Integer>()::sort;
+            case "MergeSort" -> sorter = new MergeSort<Integer>()::sort;
+            case "QuickSort" -> sorter = new QuickSort<Integer>()::sort;
+            case "ParallelMergeSort" -> sorter = new ParallelMergeSort<Integer>()::sort;
+            case "ParallelQuickSort" -> sorter = new ParallelQuickSort<Integer>()::sort;
+            case "RadixSort" -> sorter = new RadixSort()::sort;
+            case "ParallelRadixSort" -> sorter = new ParallelRadixSort()::sort;
+            case "NaturalMergeSort" -> sorter = new NaturalMergeSort<Integer>()::sort;
+            case "AdaptiveSort" -> sorter = new AdaptiveSort<Integer>()::sort;
+            case "StableSort" -> sorter = new StableSort<Integer>()::sort;
+            default -> throw new IllegalArgumentException("Algoritmo desconocido: " + algorithm);
+        }
+    }
+
+    /**
+     * Ordena una copia de los datos con el algoritmo seleccionado.
+     *
+     * @param blackhole evita que el JIT elimine el resultado
+     */
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        List<Integer> data = new ArrayList<>(source);
+        sorter.accept(data);
+        blackhole.consume(data);
+    }
+}
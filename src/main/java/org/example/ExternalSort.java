@@ -0,0 +1,399 @@
+package org.example;
+
+import org.example.sorts.IntArrayList;
+import org.example.sorts.QuickSort;
+import org.example.sorts.SortAlgorithm;
+import org.example.sorts.SortCapabilities.KeyType;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Ordenamiento externo (external merge sort) para archivos de números
+ * más grandes que la memoria disponible.
+ *
+ * El proceso tiene dos fases:
+ * 1. Se lee el archivo de texto (un número por línea, el mismo formato
+ *    que usa FileManager) con NumberTextParser, en bloques de tamaño acotado. Cada bloque se
+ *    ordena en memoria con el SortAlgorithm configurado y se escribe en
+ *    un archivo temporal ("run") en formato binario (4 bytes por número).
+ * 2. Los runs se combinan con una mezcla de k vías usando una cola de
+ *    prioridad. Si hay más runs que el fan-in permitido, se combinan
+ *    por grupos en varias pasadas hasta que quede una sola mezcla final,
+ *    que se escribe en el archivo de salida en formato de texto.
+ *
+ * La memoria utilizada depende solo del presupuesto configurado,
+ * no del tamaño del archivo de entrada. El tamaño de los bloques se
+ * calcula según el algoritmo: uno con versión primitiva (KeyType.INT)
+ * ordena el int[] del bloque, mientras que los demás convierten cada
+ * número en un Integer y usan arreglos de referencias, por lo que sus
+ * bloques son varias veces más pequeños.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class ExternalSort {
+
+    /**
+     * Presupuesto de memoria por defecto (64 MB).
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+    /**
+     * Cantidad de runs combinados por defecto en cada mezcla.
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * Bytes estimados por elemento en memoria con un algoritmo
+     * primitivo: el int del bloque más una posición del arreglo
+     * auxiliar que usan MergeSort y RadixSort.
+     */
+    private static final int PRIMITIVE_BYTES_PER_ELEMENT = 8;
+
+    /**
+     * Bytes estimados por elemento en memoria con un algoritmo que
+     * convierte a objetos: el int del bloque, un Integer (16 bytes) y
+     * una referencia en la copia y otra en el arreglo auxiliar (hasta
+     * 8 bytes cada una sin referencias comprimidas).
+     */
+    private static final int BOXED_BYTES_PER_ELEMENT = 40;
+
+    /**
+     * Tamaño máximo del buffer de cada archivo durante la mezcla.
+     */
+    private static final int MAX_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Tamaño mínimo del buffer de cada archivo durante la mezcla.
+     */
+    private static final int MIN_BUFFER_SIZE = 1 << 10;
+
+    /**
+     * Algoritmo usado para ordenar cada bloque en memoria.
+     */
+    private final SortAlgorithm<Integer> algorithm;
+
+    /**
+     * Memoria máxima destinada a los bloques y buffers, en bytes.
+     */
+    private final long memoryBudget;
+
+    /**
+     * Bytes estimados por elemento del bloque con el algoritmo elegido.
+     */
+    private final int bytesPerElement;
+
+    /**
+     * Cantidad máxima de runs combinados en una mezcla.
+     */
+    private final int fanIn;
+
+    /**
+     * Directorio donde se crean los archivos temporales.
+     */
+    private final Path tempDir;
+
+    /**
+     * Crea un ordenamiento externo con QuickSort, 64 MB de memoria,
+     * fan-in de 64 y el directorio temporal del sistema.
+     */
+    public ExternalSort() {
+        this(new QuickSort<>(), DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN,
+             Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Crea un ordenamiento externo con la configuración indicada.
+     *
+     * El bloque en memoria se almacena en un IntArrayList, por lo que
+     * los algoritmos con versión primitiva (los que declaran KeyType.INT)
+     * lo ordenan sin boxing. Con los demás, el bloque se reduce para
+     * que los Integer creados al ordenarlo quepan en el presupuesto.
+     *
+     * @param algorithm algoritmo para ordenar cada bloque
+     * @param memoryBudget memoria máxima en bytes
+     * @param fanIn cantidad máxima de runs por mezcla (al menos 2)
+     * @param tempDir directorio para los archivos temporales
+     * @throws IllegalArgumentException si algún parámetro no es válido
+     */
+    public ExternalSort(SortAlgorithm<Integer> algorithm, long memoryBudget, int fanIn, Path tempDir) {
+        if (algorithm == null || tempDir == null) {
+            throw new IllegalArgumentException("El algoritmo y el directorio temporal no pueden ser nulos");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn debe ser al menos 2: " + fanIn);
+        }
+        if (memoryBudget < (long) fanIn * MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("memoryBudget insuficiente para un fan-in de " + fanIn);
+        }
+        this.algorithm = algorithm;
+        this.memoryBudget = memoryBudget;
+        this.bytesPerElement = algorithm.capabilities().supports(KeyType.INT)
+                ? PRIMITIVE_BYTES_PER_ELEMENT : BOXED_BYTES_PER_ELEMENT;
+        this.fanIn = fanIn;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Ordena el archivo administrado por el FileManager y escribe
+     * el resultado en el archivo de salida.
+     *
+     * @param source FileManager con el archivo de entrada
+     * @param output archivo de salida (texto, un número por línea)
+     * @throws IOException si ocurre un error de lectura o escritura
+     */
+    public void sort(FileManager source, Path output) throws IOException {
+        sort(source.getFile(), output);
+    }
+
+    /**
+     * Ordena un archivo de texto con un número por línea y escribe
+     * el resultado en el archivo de salida con el mismo formato.
+     *
+     * @param input archivo de entrada
+     * @param output archivo de salida
+     * @throws IOException si ocurre un error de lectura o escritura
+     */
+    public void sort(Path input, Path output) throws IOException {
+        List<Path> created = new ArrayList<>();
+        try {
+            List<Run> runs = createRuns(input, created);
+
+            while (runs.size() > fanIn) {
+                List<Run> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Run> group = runs.subList(i, Math.min(runs.size(), i + fanIn));
+                    Path run = createRunFile(created);
+                    long count = 0;
+                    try (DataOutputStream out = openRunWriter(run, group.size())) {
+                        merge(group, out::writeInt);
+                    }
+                    for (Run source : group) {
+                        count += source.count();
+                        Files.deleteIfExists(source.path());
+                    }
+                    merged.add(new Run(run, count));
+                }
+                runs = merged;
+            }
+
+            try (BufferedWriter writer = Files.newBufferedWriter(output)) {
+                merge(runs, value -> {
+                    writer.write(Integer.toString(value));
+                    writer.newLine();
+                });
+            }
+        } finally {
+            deleteAll(created);
+        }
+    }
+
+    /**
+     * Lee el archivo de entrada por bloques, ordena cada bloque y
+     * lo escribe como un run binario.
+     *
+     * @param input archivo de entrada
+     * @param created lista donde se registran los archivos temporales
+     * @return runs creados, en orden
+     * @throws IOException si ocurre un error de lectura o escritura
+     */
+    private List<Run> createRuns(Path input, List<Path> created) throws IOException {
+        List<Run> runs = new ArrayList<>();
+        int chunkSize = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, memoryBudget / bytesPerElement));
+        // Se reserva el bloque completo de una vez: si creciera por
+        // duplicación, la copia al crecer superaría el presupuesto. Un
+        // número ocupa al menos 2 bytes en el texto ("0\n"), así que un
+        // archivo pequeño no necesita el bloque completo.
+        IntArrayList chunk = new IntArrayList((int) Math.min(chunkSize, Files.size(input) / 2 + 1));
+
+        new NumberTextParser().parse(input, value -> {
+            chunk.addInt(value);
+            if (chunk.size() == chunkSize) {
+                runs.add(spill(chunk, created));
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            runs.add(spill(chunk, created));
+        }
+        return runs;
+    }
+
+    /**
+     * Ordena el bloque y lo escribe en un archivo temporal.
+     *
+     * @param chunk bloque de números
+     * @param created lista donde se registran los archivos temporales
+     * @return run creado
+     * @throws IOException si ocurre un error de escritura
+     */
+    private Run spill(IntArrayList chunk, List<Path> created) throws IOException {
+        algorithm.sort(chunk);
+
+        Path run = createRunFile(created);
+        int[] values = chunk.elements();
+        try (DataOutputStream out = openRunWriter(run, 1)) {
+            for (int i = 0; i < chunk.size(); i++) {
+                out.writeInt(values[i]);
+            }
+        }
+        return new Run(run, chunk.size());
+    }
+
+    /**
+     * Combina varios runs ordenados usando una cola de prioridad
+     * y entrega cada valor, en orden, al consumidor.
+     *
+     * @param runs runs a combinar
+     * @param sink destino de los valores
+     * @throws IOException si ocurre un error de lectura o escritura
+     */
+    private void merge(List<Run> runs, IntSink sink) throws IOException {
+        int bufferSize = bufferSize(runs.size() + 1);
+        PriorityQueue<RunReader> queue = new PriorityQueue<>(Math.max(1, runs.size()));
+        List<RunReader> readers = new ArrayList<>();
+        try {
+            for (Run run : runs) {
+                RunReader reader = new RunReader(run, bufferSize);
+                readers.add(reader);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                sink.accept(reader.current);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Crea un archivo temporal para un run y lo registra para su limpieza.
+     *
+     * @param created lista donde se registran los archivos temporales
+     * @return ruta del archivo creado
+     * @throws IOException si no se puede crear el archivo
+     */
+    private Path createRunFile(List<Path> created) throws IOException {
+        Path run = Files.createTempFile(tempDir, "run-", ".bin");
+        created.add(run);
+        return run;
+    }
+
+    /**
+     * Abre un run binario para escritura.
+     *
+     * @param run ruta del run
+     * @param streams cantidad de archivos abiertos simultáneamente
+     * @return flujo de escritura
+     * @throws IOException si no se puede abrir el archivo
+     */
+    private DataOutputStream openRunWriter(Path run, int streams) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(run), bufferSize(streams + 1)));
+    }
+
+    /**
+     * Calcula el tamaño de buffer por archivo para que la suma de
+     * todos los buffers no supere el presupuesto de memoria.
+     *
+     * @param streams cantidad de archivos abiertos simultáneamente
+     * @return tamaño del buffer en bytes
+     */
+    private int bufferSize(int streams) {
+        long perStream = memoryBudget / Math.max(1, streams);
+        return (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, perStream));
+    }
+
+    /**
+     * Elimina los archivos temporales indicados.
+     *
+     * @param files archivos a eliminar
+     * @throws IOException si no se puede eliminar algún archivo
+     */
+    private static void deleteAll(List<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Run binario junto con la cantidad de valores que se escribieron.
+     *
+     * @param path archivo del run
+     * @param count cantidad de valores
+     */
+    private record Run(Path path, long count) {
+    }
+
+    /**
+     * Destino de los valores producidos por una mezcla.
+     */
+    @FunctionalInterface
+    private interface IntSink {
+        void accept(int value) throws IOException;
+    }
+
+    /**
+     * Lector secuencial de un run binario que mantiene el valor actual.
+     *
+     * Al abrirlo se compara el tamaño del archivo con la cantidad de
+     * valores que se escribieron, de modo que un run truncado (o con
+     * bytes de más) produce un error en lugar de terminar la mezcla
+     * antes de tiempo.
+     */
+    private static final class RunReader implements Comparable<RunReader>, Closeable {
+        private final DataInputStream in;
+        private long remaining;
+        private int current;
+
+        RunReader(Run run, int bufferSize) throws IOException {
+            long bytes = Files.size(run.path());
+            if (bytes != run.count() * Integer.BYTES) {
+                throw new IOException("Run truncado: " + run.path() + " tiene " + bytes
+                        + " bytes, se esperaban " + run.count() * Integer.BYTES);
+            }
+            remaining = run.count();
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path()), bufferSize));
+        }
+
+        /**
+         * Avanza al siguiente valor del run.
+         *
+         * @return false si el run terminó
+         * @throws IOException si ocurre un error de lectura o el run
+         *                     tiene menos valores de los esperados
+         */
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            current = in.readInt();
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public int compareTo(RunReader other) {
+            return Integer.compare(current, other.current);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
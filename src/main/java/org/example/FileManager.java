@@ -1,7 +1,19 @@
 package org.example;
 
+import org.example.monitoring.FileIoCompleted;
+import org.example.sorts.IntArrayList;
+
 import java.io.*;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 /**
@@ -11,7 +23,26 @@ import java.util.List;
  * Permite escribir una lista de números en un archivo de texto
  * y posteriormente leerlos para su procesamiento.
  *
- * El archivo utilizado es "numbers.txt".
+ * Además soporta un formato binario que evita convertir cada número
+ * a texto. El archivo binario tiene un encabezado de 16 bytes:
+ * - bytes 0-3: número mágico "HSRT"
+ * - bytes 4-5: versión del formato
+ * - byte 6: tipo de elemento (int, long o double)
+ * - byte 7: reservado
+ * - bytes 8-15: cantidad de elementos
+ * seguido de los valores primitivos en orden little-endian.
+ * La lectura y escritura se realiza mediante FileChannel y
+ * MappedByteBuffer, por lo que se puede obtener una vista IntBuffer
+ * del archivo sin interpretar ni copiar los datos.
+ *
+ * El formato de texto se mantiene para importar y exportar datos.
+ *
+ * Por defecto el archivo utilizado es "numbers.txt", aunque
+ * puede indicarse otro en el constructor.
+ *
+ * Cada lectura o escritura completa emite un evento JFR
+ * {@link FileIoCompleted} con el formato, la cantidad de elementos, el
+ * tamaño del archivo y la duración.
  *
  * @author Kenett
  * @version 1.0
@@ -19,10 +50,106 @@ import java.util.List;
 public class FileManager {
 
     /**
-     * Nombre del archivo donde se almacenan los números.
+     * Nombre del archivo por defecto donde se almacenan los números.
      */
     private static final String FILE_NAME = "numbers.txt";
 
+    /**
+     * Número mágico del formato binario ("HSRT" en ASCII).
+     */
+    public static final int BINARY_MAGIC = 0x54525348;
+
+    /**
+     * Versión actual del formato binario.
+     */
+    public static final short BINARY_VERSION = 1;
+
+    /**
+     * Tamaño en bytes del encabezado del formato binario.
+     */
+    public static final int BINARY_HEADER_SIZE = 16;
+
+    /**
+     * Tipo de los elementos almacenados en un archivo binario.
+     */
+    public enum ElementType {
+        INT(1, Integer.BYTES),
+        LONG(2, Long.BYTES),
+        DOUBLE(3, Double.BYTES);
+
+        private final byte code;
+        private final int bytes;
+
+        ElementType(int code, int bytes) {
+            this.code = (byte) code;
+            this.bytes = bytes;
+        }
+
+        /**
+         * Retorna el tamaño en bytes de un elemento.
+         *
+         * @return bytes por elemento
+         */
+        public int bytes() {
+            return bytes;
+        }
+
+        /**
+         * Retorna el código del tipo en el encabezado.
+         *
+         * @return código del tipo
+         */
+        byte code() {
+            return code;
+        }
+
+        static ElementType fromCode(byte code) throws IOException {
+            for (ElementType type : values()) {
+                if (type.code == code) return type;
+            }
+            throw new IOException("Tipo de elemento desconocido: " + code);
+        }
+    }
+
+    /**
+     * Encabezado de un archivo binario.
+     *
+     * @param type tipo de los elementos
+     * @param count cantidad de elementos
+     */
+    public record BinaryHeader(ElementType type, long count) {
+    }
+
+    /**
+     * Archivo donde se almacenan los números.
+     */
+    private final Path file;
+
+    /**
+     * Crea un FileManager que utiliza el archivo por defecto "numbers.txt".
+     */
+    public FileManager() {
+        this(Path.of(FILE_NAME));
+    }
+
+    /**
+     * Crea un FileManager que utiliza el archivo indicado.
+     *
+     * @param file ruta del archivo de números
+     */
+    public FileManager(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Retorna la ruta del archivo utilizado.
+     *
+     * @return ruta del archivo de números
+     */
+    public Path getFile() {
+        return file;
+    }
+
     /**
      * Escribe una lista de números enteros en el archivo especificado.
      *
@@ -32,32 +159,308 @@ public class FileManager {
      * @throws IOException si ocurre un error durante la escritura
      */
     public void writeNumbersToFile(List<Integer> numbers) throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_NAME))) {
+        FileIoCompleted event = FileIoCompleted.start();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile()))) {
             for (Integer number : numbers) {
                 writer.write(number.toString());
                 writer.newLine();
             }
         }
+        event.finish("write", "text", file, numbers.size());
     }
 
     /**
      * Lee los números enteros almacenados en el archivo especificado.
      *
-     * Cada línea del archivo se interpreta como un número entero
-     * y se agrega a una lista que es retornada al finalizar la lectura.
+     * Cada línea del archivo se interpreta como un número entero.
+     * La lectura se realiza con NumberTextParser, que no crea un
+     * String por línea, y los números se almacenan en un IntArrayList
+     * respaldado por un int[], sin boxing.
      *
      * @return lista de números enteros leídos del archivo
      * @throws IOException si ocurre un error durante la lectura
+     * @throws NumberFormatException si alguna línea no es un entero válido
      */
     public List<Integer> readNumbersFromFile() throws IOException {
-        List<Integer> numbers = new ArrayList<>();
+        FileIoCompleted event = FileIoCompleted.start();
+        IntArrayList numbers = new NumberTextParser().parse(file);
+        event.finish("read", "text", file, numbers.size());
+        return numbers;
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(FILE_NAME))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                numbers.add(Integer.parseInt(line));
-            }
+    /**
+     * Lee en paralelo los números del archivo de texto. El archivo se
+     * divide en rangos alineados a líneas que se analizan en hilos
+     * distintos del pool común.
+     *
+     * @return lista con los números, respaldada por un int[]
+     * @throws IOException si ocurre un error durante la lectura
+     * @throws NumberFormatException si alguna línea no es un entero válido
+     */
+    public IntArrayList readNumbersParallel() throws IOException {
+        FileIoCompleted event = FileIoCompleted.start();
+        IntArrayList numbers = new ParallelTextIO().read(file);
+        event.finish("read", "text-parallel", file, numbers.size());
+        return numbers;
+    }
+
+    /**
+     * Escribe en paralelo los números en el archivo de texto, uno por
+     * línea. Los bloques se convierten a texto en hilos distintos y se
+     * escriben con escrituras posicionales.
+     *
+     * @param numbers números a escribir
+     * @throws IOException si ocurre un error durante la escritura
+     */
+    public void writeNumbersParallel(int[] numbers) throws IOException {
+        FileIoCompleted event = FileIoCompleted.start();
+        new ParallelTextIO().write(file, numbers);
+        event.finish("write", "text-parallel", file, numbers.length);
+    }
+
+    /**
+     * Escribe un arreglo de enteros en formato binario.
+     *
+     * @param numbers números a escribir
+     * @throws IOException si ocurre un error durante la escritura
+     */
+    public void writeBinary(int[] numbers) throws IOException {
+        FileIoCompleted event = FileIoCompleted.start();
+        ByteBuffer buffer = mapForWrite(ElementType.INT, numbers.length);
+        buffer.asIntBuffer().put(numbers);
+        event.finish("write", "binary-int", file, numbers.length);
+    }
+
+    /**
+     * Escribe un arreglo de long en formato binario.
+     *
+     * @param numbers números a escribir
+     * @throws IOException si ocurre un error durante la escritura
+     */
+    public void writeBinary(long[] numbers) throws IOException {
+        FileIoCompleted event = FileIoCompleted.start();
+        ByteBuffer buffer = mapForWrite(ElementType.LONG, numbers.length);
+        buffer.asLongBuffer().put(numbers);
+        event.finish("write", "binary-long", file, numbers.length);
+    }
+
+    /**
+     * Escribe un arreglo de double en formato binario.
+     *
+     * @param numbers números a escribir
+     * @throws IOException si ocurre un error durante la escritura
+     */
+    public void writeBinary(double[] numbers) throws IOException {
+        FileIoCompleted event = FileIoCompleted.start();
+        ByteBuffer buffer = mapForWrite(ElementType.DOUBLE, numbers.length);
+        buffer.asDoubleBuffer().put(numbers);
+        event.finish("write", "binary-double", file, numbers.length);
+    }
+
+    /**
+     * Lee el encabezado del archivo binario.
+     *
+     * @return encabezado con el tipo y la cantidad de elementos
+     * @throws IOException si el archivo no tiene un encabezado válido
+     */
+    public BinaryHeader readBinaryHeader() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(BINARY_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) { }
+            header.flip();
+            return parseHeader(header, channel.size());
         }
+    }
+
+    /**
+     * Mapea en memoria un archivo binario de enteros y retorna una
+     * vista de solo lectura sobre sus datos, sin copiarlos.
+     *
+     * @return vista IntBuffer de los datos del archivo
+     * @throws IOException si el archivo no es válido o no contiene int
+     */
+    public IntBuffer mapInts() throws IOException {
+        return mapForRead(ElementType.INT).asIntBuffer();
+    }
+
+    /**
+     * Mapea en memoria un archivo binario de long y retorna una
+     * vista de solo lectura sobre sus datos, sin copiarlos.
+     *
+     * @return vista LongBuffer de los datos del archivo
+     * @throws IOException si el archivo no es válido o no contiene long
+     */
+    public LongBuffer mapLongs() throws IOException {
+        return mapForRead(ElementType.LONG).asLongBuffer();
+    }
+
+    /**
+     * Mapea en memoria un archivo binario de double y retorna una
+     * vista de solo lectura sobre sus datos, sin copiarlos.
+     *
+     * @return vista DoubleBuffer de los datos del archivo
+     * @throws IOException si el archivo no es válido o no contiene double
+     */
+    public DoubleBuffer mapDoubles() throws IOException {
+        return mapForRead(ElementType.DOUBLE).asDoubleBuffer();
+    }
+
+    /**
+     * Lee un archivo binario de enteros a un arreglo int[].
+     *
+     * @return números almacenados en el archivo
+     * @throws IOException si el archivo no es válido o no contiene int
+     */
+    public int[] readIntsBinary() throws IOException {
+        FileIoCompleted event = FileIoCompleted.start();
+        IntBuffer view = mapInts();
+        int[] numbers = new int[view.remaining()];
+        view.get(numbers);
+        event.finish("read", "binary-int", file, numbers.length);
+        return numbers;
+    }
+
+    /**
+     * Lee un archivo binario de long a un arreglo long[].
+     *
+     * @return números almacenados en el archivo
+     * @throws IOException si el archivo no es válido o no contiene long
+     */
+    public long[] readLongsBinary() throws IOException {
+        FileIoCompleted event = FileIoCompleted.start();
+        LongBuffer view = mapLongs();
+        long[] numbers = new long[view.remaining()];
+        view.get(numbers);
+        event.finish("read", "binary-long", file, numbers.length);
+        return numbers;
+    }
+
+    /**
+     * Lee un archivo binario de double a un arreglo double[].
+     *
+     * @return números almacenados en el archivo
+     * @throws IOException si el archivo no es válido o no contiene double
+     */
+    public double[] readDoublesBinary() throws IOException {
+        FileIoCompleted event = FileIoCompleted.start();
+        DoubleBuffer view = mapDoubles();
+        double[] numbers = new double[view.remaining()];
+        view.get(numbers);
+        event.finish("read", "binary-double", file, numbers.length);
         return numbers;
     }
+
+    /**
+     * Importa el archivo de texto administrado (un entero por línea)
+     * y lo escribe en formato binario en el destino indicado.
+     *
+     * @param target archivo binario a crear
+     * @throws IOException si ocurre un error de lectura o escritura
+     */
+    public void convertTextToBinary(Path target) throws IOException {
+        IntArrayList numbers = new NumberTextParser().parse(file);
+        new FileManager(target).writeBinary(numbers.toIntArray());
+    }
+
+    /**
+     * Exporta el archivo binario de enteros administrado a un
+     * archivo de texto con un número por línea.
+     *
+     * @param target archivo de texto a crear
+     * @throws IOException si ocurre un error de lectura o escritura
+     */
+    public void convertBinaryToText(Path target) throws IOException {
+        IntBuffer view = mapInts();
+        try (BufferedWriter writer = Files.newBufferedWriter(target)) {
+            while (view.hasRemaining()) {
+                writer.write(Integer.toString(view.get()));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Crea el archivo binario con su encabezado y retorna un buffer
+     * mapeado, en orden little-endian, posicionado en los datos.
+     *
+     * @param type tipo de los elementos
+     * @param count cantidad de elementos
+     * @return buffer donde se deben escribir los datos
+     * @throws IOException si ocurre un error durante la escritura
+     */
+    private ByteBuffer mapForWrite(ElementType type, int count) throws IOException {
+        long size = BINARY_HEADER_SIZE + (long) count * type.bytes();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("El archivo binario excede el tamaño máximo mapeable: " + size);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            mapped.putInt(BINARY_MAGIC);
+            mapped.putShort(BINARY_VERSION);
+            mapped.put(type.code);
+            mapped.put((byte) 0);
+            mapped.putLong(count);
+            return mapped.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Mapea el archivo binario en modo de solo lectura, valida su
+     * encabezado y retorna un buffer little-endian con los datos.
+     *
+     * @param expected tipo de elemento esperado
+     * @return buffer con los datos del archivo
+     * @throws IOException si el archivo no es válido o el tipo no coincide
+     */
+    private ByteBuffer mapForRead(ElementType expected) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("El archivo binario excede el tamaño máximo mapeable: " + size);
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            BinaryHeader header = parseHeader(mapped, size);
+            if (header.type() != expected) {
+                throw new IOException("Se esperaba un archivo de " + expected + " pero contiene " + header.type());
+            }
+
+            mapped.position(BINARY_HEADER_SIZE);
+            mapped.limit(BINARY_HEADER_SIZE + (int) (header.count() * expected.bytes()));
+            return mapped.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Interpreta y valida el encabezado de un archivo binario.
+     *
+     * @param header buffer little-endian posicionado al inicio del encabezado
+     * @param fileSize tamaño total del archivo
+     * @return encabezado leído
+     * @throws IOException si el encabezado no es válido
+     */
+    private static BinaryHeader parseHeader(ByteBuffer header, long fileSize) throws IOException {
+        if (header.remaining() < BINARY_HEADER_SIZE) {
+            throw new IOException("Archivo binario incompleto: falta el encabezado");
+        }
+        if (header.getInt() != BINARY_MAGIC) {
+            throw new IOException("El archivo no tiene formato binario de números");
+        }
+        short version = header.getShort();
+        if (version != BINARY_VERSION) {
+            throw new IOException("Versión de formato no soportada: " + version);
+        }
+        ElementType type = ElementType.fromCode(header.get());
+        header.get();
+        long count = header.getLong();
+        // Se divide en lugar de multiplicar: count * bytes puede desbordar long
+        if (count < 0 || count > (fileSize - BINARY_HEADER_SIZE) / type.bytes()) {
+            throw new IOException("Cantidad de elementos inválida: " + count);
+        }
+        return new BinaryHeader(type, count);
+    }
 }
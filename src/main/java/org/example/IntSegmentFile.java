@@ -0,0 +1,87 @@
+package org.example;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Acceso a los archivos binarios de enteros de FileManager como
+ * MemorySegment mapeados en memoria.
+ *
+ * A diferencia de FileManager.mapInts(), que retorna un IntBuffer de
+ * solo lectura limitado a 2 GB, los segmentos se mapean en modo de
+ * lectura y escritura, usan índices long y pueden contener más de
+ * 2^31 elementos. Así, un archivo puede ordenarse en el lugar con
+ * SegmentRadixSort o SegmentQuickSort sin copiar los datos al heap.
+ *
+ * El segmento solo cubre los datos (sin el encabezado) y es válido
+ * mientras el Arena indicado esté abierto. Los cambios se escriben en
+ * el archivo al cerrar el Arena, o antes con MemorySegment.force().
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public final class IntSegmentFile {
+
+    /**
+     * Clase de utilidades; no se instancia.
+     */
+    private IntSegmentFile() {
+    }
+
+    /**
+     * Mapea los datos de un archivo binario de enteros existente.
+     *
+     * @param file archivo binario escrito por FileManager
+     * @param arena arena que controla la vida del mapeo
+     * @return segmento con los enteros del archivo
+     * @throws IOException si el archivo no es válido o no contiene int
+     */
+    public static MemorySegment map(Path file, Arena arena) throws IOException {
+        FileManager.BinaryHeader header = new FileManager(file).readBinaryHeader();
+        if (header.type() != FileManager.ElementType.INT) {
+            throw new IOException("Se esperaba un archivo de INT pero contiene " + header.type());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, FileManager.BINARY_HEADER_SIZE,
+                    header.count() * Integer.BYTES, arena);
+        }
+    }
+
+    /**
+     * Crea un archivo binario de enteros con el encabezado para la
+     * cantidad indicada y mapea su zona de datos para llenarla.
+     *
+     * @param file archivo a crear (se reemplaza si existe)
+     * @param count cantidad de enteros
+     * @param arena arena que controla la vida del mapeo
+     * @return segmento donde se deben escribir los enteros
+     * @throws IOException si ocurre un error durante la escritura
+     * @throws IllegalArgumentException si la cantidad es negativa
+     */
+    public static MemorySegment create(Path file, long count, Arena arena) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("La cantidad no puede ser negativa: " + count);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(FileManager.BINARY_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(FileManager.BINARY_MAGIC);
+            header.putShort(FileManager.BINARY_VERSION);
+            header.put(FileManager.ElementType.INT.code());
+            header.put((byte) 0);
+            header.putLong(count);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            return channel.map(FileChannel.MapMode.READ_WRITE, FileManager.BINARY_HEADER_SIZE,
+                    count * Integer.BYTES, arena);
+        }
+    }
+}
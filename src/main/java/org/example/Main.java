@@ -1,10 +1,16 @@
 package org.example;
 
+import org.example.benchmark.BenchmarkScheduler;
 import org.example.benchmark.SortBenchMark;
+import org.example.monitoring.SortMetrics;
+import org.example.workload.Distribution;
 import jdk.jfr.Recording;
 import jdk.jfr.Configuration;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Clase principal encargada de ejecutar el benchmark de los
@@ -16,6 +22,8 @@ import java.nio.file.Path;
  * - Ejecuta las pruebas de rendimiento.
  * - Detiene la grabación y genera un archivo .jfr
  *   para su posterior análisis.
+ * - Publica las métricas en vivo de los ordenamientos como MBean
+ *   (org.example:type=SortMetrics) y muestra un resumen al final.
  *
  * El archivo generado puede analizarse con:
  * - jfr print
@@ -33,7 +41,16 @@ public class Main {
      * ejecuta el benchmark de los algoritmos de ordenamiento
      * y guarda el archivo de resultados para su análisis.
      *
-     * @param args argumentos de línea de comandos (no utilizados)
+     * Argumentos opcionales: el modo del planificador (ISOLATED,
+     * THROUGHPUT o MIXED, por defecto ISOLATED) y la cantidad de hilos
+     * para los modos THROUGHPUT y MIXED (por defecto, los procesadores
+     * disponibles), las repeticiones medidas por algoritmo (por
+     * defecto 5), los escenarios separados por comas (nombres de
+     * {@link Distribution}, por ejemplo Unsorted,Zipf,QuickSortKiller,
+     * o "all"; por defecto Unsorted, Sorted y NearlySorted) y la
+     * semilla de los datos (por defecto 42).
+     *
+     * @param args argumentos de línea de comandos: [modo] [hilos] [repeticiones] [escenarios] [semilla]
      * @throws Exception si ocurre algún error durante la ejecución
      */
     public static void main(String[] args) throws Exception {
@@ -51,14 +68,26 @@ public class Main {
 
         System.out.println("Iniciando profiling con JFR...");
         recording.start();
+        SortMetrics metrics = SortMetrics.start(Duration.ofMinutes(10));
 
         // Ejecución del benchmark
-        SortBenchMark benchmark = new SortBenchMark();
+        BenchmarkScheduler.Mode mode = args.length > 0
+                ? BenchmarkScheduler.Mode.valueOf(args[0].toUpperCase())
+                : BenchmarkScheduler.Mode.ISOLATED;
+        int threads = mode == BenchmarkScheduler.Mode.ISOLATED ? 1
+                : args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int repetitions = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        List<Distribution> scenarios = args.length > 3 ? parseScenarios(args[3]) : SortBenchMark.DEFAULT_SCENARIOS;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : SortBenchMark.DEFAULT_SEED;
+        SortBenchMark benchmark = new SortBenchMark(new BenchmarkScheduler(mode, threads, 3, repetitions),
+                scenarios, seed);
         benchmark.runBenchmarks();
 
         // Finalización del profiling
         recording.stop();
         recording.close();
+        printMetrics(metrics);
+        metrics.close();
 
         System.out.println();
         System.out.println("Profiling completado.");
@@ -68,4 +97,43 @@ public class Main {
         System.out.println("  jfr print benchmark-profile.jfr > profile_summary.txt");
         System.out.println("  O abrirlo con JDK Mission Control");
     }
+
+    /**
+     * Muestra la latencia por algoritmo registrada por el MBean.
+     *
+     * @param metrics métricas en vivo
+     * @throws InterruptedException si el hilo es interrumpido
+     */
+    private static void printMetrics(SortMetrics metrics) throws InterruptedException {
+        if (!metrics.drain(Duration.ofSeconds(10))) {
+            System.out.println("Aviso: las métricas pueden no incluir los últimos ordenamientos");
+        }
+        System.out.println();
+        System.out.println("Latencia por algoritmo (eventos SortExecuted, microsegundos):");
+        for (String algorithm : metrics.getAlgorithms()) {
+            System.out.printf("  %-20s n=%-6d p50=%12.1f p99=%12.1f%n", algorithm,
+                    metrics.sortCount(algorithm),
+                    metrics.sortPercentileMicros(algorithm, 50),
+                    metrics.sortPercentileMicros(algorithm, 99));
+        }
+        System.out.printf("  Archivos: %d operaciones, %d bytes, p99=%.1f%n",
+                metrics.getFileIoCount(), metrics.getFileIoBytes(), metrics.getFileIoP99Micros());
+    }
+
+    /**
+     * Convierte la lista de escenarios de la línea de comandos.
+     *
+     * @param names nombres separados por comas, o "all"
+     * @return distribuciones elegidas
+     * @throws IllegalArgumentException si algún nombre no existe
+     */
+    private static List<Distribution> parseScenarios(String names) {
+        if (names.equalsIgnoreCase("all")) {
+            return List.of(Distribution.values());
+        }
+        return Arrays.stream(names.split(","))
+                .map(String::trim)
+                .map(Distribution::fromName)
+                .toList();
+    }
 }
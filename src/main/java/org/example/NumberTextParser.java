@@ -0,0 +1,242 @@
+package org.example;
+
+import org.example.sorts.IntArrayList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Analizador de archivos de texto con un número entero por línea,
+ * como "numbers.txt".
+ *
+ * A diferencia de BufferedReader.readLine() + Integer.parseInt(),
+ * no crea un String por línea: lee bloques grandes del archivo en un
+ * ByteBuffer directo mediante FileChannel y convierte los dígitos
+ * directamente a int, leyéndolos del buffer con get(i) absoluto, sin
+ * copiarlos a un arreglo. El buffer es directo porque FileChannel
+ * lee un buffer de heap a través de un buffer directo temporal del
+ * JDK, lo que agrega una copia por bloque. El estado del número en
+ * curso se conserva entre bloques, por lo que los números partidos
+ * entre dos lecturas se interpretan correctamente.
+ *
+ * Formato aceptado:
+ * - Dígitos ASCII con un signo '-' o '+' opcional al inicio.
+ * - Fin de línea '\n' o "\r\n".
+ * - Las líneas vacías se ignoran.
+ *
+ * Cualquier otro carácter, un número fuera del rango de int o un signo
+ * sin dígitos provoca una NumberFormatException que indica el número
+ * de línea.
+ *
+ * Una instancia reutiliza su buffer entre llamadas, por lo que no
+ * debe compartirse entre hilos.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class NumberTextParser {
+
+    /**
+     * Tamaño por defecto del buffer de lectura (1 MB).
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Menor valor acumulado que aún puede multiplicarse por 10 sin desbordar.
+     */
+    private static final int MULT_MIN = Integer.MIN_VALUE / 10;
+
+    /**
+     * Buffer directo reutilizado en cada lectura del canal.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Línea en curso, usada en los mensajes de error.
+     */
+    private long line;
+
+    /**
+     * Crea un analizador con el buffer por defecto.
+     */
+    public NumberTextParser() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Crea un analizador con el tamaño de buffer indicado.
+     *
+     * @param bufferSize tamaño del buffer en bytes
+     * @throws IllegalArgumentException si el tamaño no es positivo
+     */
+    public NumberTextParser(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize debe ser positivo: " + bufferSize);
+        }
+        buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Lee todos los números del archivo a un IntArrayList.
+     *
+     * @param file archivo de texto
+     * @return lista con los números, respaldada por un int[]
+     * @throws IOException si ocurre un error de lectura
+     * @throws NumberFormatException si alguna línea no es un entero válido
+     */
+    public IntArrayList parse(Path file) throws IOException {
+        IntArrayList numbers = new IntArrayList();
+        parse(file, numbers::addInt);
+        return numbers;
+    }
+
+    /**
+     * Lee los números del archivo y entrega cada uno, en orden, al consumidor.
+     *
+     * @param file archivo de texto
+     * @param handler consumidor de los números
+     * @throws IOException si ocurre un error de lectura o lo lanza el consumidor
+     * @throws NumberFormatException si alguna línea no es un entero válido
+     */
+    public void parse(Path file, IntHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            parse(channel, handler);
+        }
+    }
+
+    /**
+     * Lee los números desde la posición actual del canal hasta el final
+     * y entrega cada uno, en orden, al consumidor.
+     *
+     * @param channel canal de lectura
+     * @param handler consumidor de los números
+     * @throws IOException si ocurre un error de lectura o lo lanza el consumidor
+     * @throws NumberFormatException si alguna línea no es un entero válido
+     */
+    public void parse(FileChannel channel, IntHandler handler) throws IOException {
+        parse(channel, channel.position(), channel.size(), handler);
+    }
+
+    /**
+     * Lee los números contenidos en el rango de bytes [start, end) del
+     * canal y entrega cada uno, en orden, al consumidor. Se utilizan
+     * lecturas posicionales, por lo que varios analizadores pueden leer
+     * rangos distintos del mismo canal en paralelo.
+     *
+     * El rango debe comenzar al inicio de una línea. Los números de
+     * línea de los mensajes de error son relativos al inicio del rango.
+     *
+     * @param channel canal de lectura
+     * @param start posición inicial (inclusive)
+     * @param end posición final (exclusiva)
+     * @param handler consumidor de los números
+     * @throws IOException si ocurre un error de lectura o lo lanza el consumidor
+     * @throws NumberFormatException si alguna línea no es un entero válido
+     */
+    public void parse(FileChannel channel, long start, long end, IntHandler handler) throws IOException {
+        // El estado se mantiene en variables locales dentro del ciclo principal
+        int value = 0;
+        int digits = 0;
+        boolean negative = false;
+        boolean signed = false;
+        boolean carriageReturn = false;
+        line = 1;
+
+        long position = start;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read == -1) break;
+            position += read;
+            int length = buffer.position();
+
+            for (int i = 0; i < length; i++) {
+                byte b = buffer.get(i);
+                int digit = b - '0';
+
+                if (digit >= 0 && digit <= 9 && !carriageReturn) {
+                    // Se acumula en negativo, como Integer.parseInt, para cubrir Integer.MIN_VALUE.
+                    // Con menos de 9 dígitos no puede haber desbordamiento.
+                    if (digits >= 9) {
+                        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+                        if (value < MULT_MIN || value * 10 < limit + digit) {
+                            throw error("número fuera del rango de int");
+                        }
+                    }
+                    value = value * 10 - digit;
+                    digits++;
+                } else if (b == '\n') {
+                    if (digits > 0) {
+                        handler.accept(negative ? value : -value);
+                    } else if (signed) {
+                        throw error("signo sin dígitos");
+                    }
+                    value = 0;
+                    digits = 0;
+                    negative = false;
+                    signed = false;
+                    carriageReturn = false;
+                    line++;
+                } else if (carriageReturn) {
+                    throw error("'\\r' sin '\\n'");
+                } else if (b == '\r') {
+                    carriageReturn = true;
+                } else if ((b == '-' || b == '+') && digits == 0 && !signed) {
+                    signed = true;
+                    negative = b == '-';
+                } else {
+                    throw error("carácter inesperado " + describe(b));
+                }
+            }
+        }
+
+        // Última línea sin salto de línea final
+        if (digits > 0) {
+            handler.accept(negative ? value : -value);
+        } else if (signed) {
+            throw error("signo sin dígitos");
+        }
+    }
+
+    /**
+     * Representa un byte para los mensajes de error.
+     *
+     * @param b byte a describir
+     * @return el carácter entre comillas, o su código hexadecimal
+     */
+    private static String describe(byte b) {
+        if (b >= 32 && b < 127) {
+            return "'" + (char) b + "'";
+        }
+        return "0x" + Integer.toHexString(b & 0xFF);
+    }
+
+    /**
+     * Crea la excepción para una línea mal formada.
+     *
+     * @param reason descripción del problema
+     * @return excepción con el número de línea
+     */
+    private NumberFormatException error(String reason) {
+        return new NumberFormatException("Línea " + line + ": " + reason);
+    }
+
+    /**
+     * Consumidor de los números leídos.
+     */
+    @FunctionalInterface
+    public interface IntHandler {
+
+        /**
+         * Recibe el siguiente número del archivo.
+         *
+         * @param value número leído
+         * @throws IOException si ocurre un error al procesarlo
+         */
+        void accept(int value) throws IOException;
+    }
+}
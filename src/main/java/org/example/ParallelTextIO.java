@@ -0,0 +1,304 @@
+package org.example;
+
+import org.example.sorts.IntArrayList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Lectura y escritura en paralelo de archivos de texto con un
+ * número entero por línea.
+ *
+ * Lectura:
+ * 1. El archivo se divide en rangos de bytes de tamaño similar, y
+ *    el inicio de cada rango se ajusta al comienzo de la línea siguiente.
+ * 2. Cada rango se analiza en su propio hilo con NumberTextParser.
+ * 3. Los resultados se concatenan en un único int[] respetando el orden.
+ *
+ * Escritura:
+ * 1. Los números se dividen en bloques que se convierten a texto
+ *    en paralelo, directamente a bytes ASCII.
+ * 2. Con las longitudes de cada bloque se calcula su posición en el archivo.
+ * 3. Cada bloque se escribe con FileChannel.write posicional, en paralelo.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class ParallelTextIO {
+
+    /**
+     * Tamaño mínimo de un rango de lectura, en bytes.
+     */
+    private static final long MIN_RANGE_BYTES = 1 << 20;
+
+    /**
+     * Cantidad de números por bloque de escritura.
+     */
+    private static final int WRITE_CHUNK = 1 << 18;
+
+    /**
+     * Máximo de bytes de un int en texto más el salto de línea ("-2147483648\n").
+     */
+    private static final int MAX_INT_CHARS = 12;
+
+    /**
+     * Texto de Integer.MIN_VALUE, que no puede negarse para convertirlo.
+     */
+    private static final byte[] MIN_VALUE_TEXT = Integer.toString(Integer.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Pool donde se ejecutan las tareas.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea la utilidad usando el pool común.
+     */
+    public ParallelTextIO() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea la utilidad usando el pool indicado.
+     *
+     * @param pool pool donde se ejecutan las tareas
+     */
+    public ParallelTextIO(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool no puede ser nulo");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Lee en paralelo todos los números del archivo.
+     *
+     * Si alguna línea no es válida, el archivo se vuelve a analizar de
+     * forma secuencial para reportar el número de línea exacto.
+     *
+     * @param file archivo de texto
+     * @return lista con los números, respaldada por un int[]
+     * @throws IOException si ocurre un error de lectura
+     * @throws NumberFormatException si alguna línea no es un entero válido
+     */
+    public IntArrayList read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = splitAtLines(channel);
+            int ranges = bounds.length - 1;
+            IntArrayList[] parts = new IntArrayList[ranges];
+
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(ranges);
+            for (int r = 0; r < ranges; r++) {
+                int range = r;
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    IntArrayList part = new IntArrayList((int) Math.min(1 << 20, (bounds[range + 1] - bounds[range]) / 4 + 1));
+                    new NumberTextParser().parse(channel, bounds[range], bounds[range + 1], part::addInt);
+                    parts[range] = part;
+                    return null;
+                }));
+            }
+
+            try {
+                invokeAll(tasks);
+            } catch (NumberFormatException e) {
+                // Los números de línea de cada rango son relativos: se repite
+                // la lectura secuencial para obtener el mensaje exacto.
+                new NumberTextParser().parse(channel, 0, channel.size(), v -> { });
+                throw e;
+            }
+
+            return concat(parts);
+        }
+    }
+
+    /**
+     * Escribe en paralelo los números en el archivo, uno por línea.
+     *
+     * @param file archivo de destino (se reemplaza si existe)
+     * @param numbers números a escribir
+     * @throws IOException si ocurre un error de escritura
+     */
+    public void write(Path file, int[] numbers) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            int chunksPerRound = pool.getParallelism();
+            long position = 0;
+
+            // Se procesa por rondas para acotar la memoria usada por los bloques de texto
+            for (int roundStart = 0; roundStart < numbers.length; roundStart += chunksPerRound * WRITE_CHUNK) {
+                int chunks = (int) Math.min(chunksPerRound,
+                        ((long) numbers.length - roundStart + WRITE_CHUNK - 1) / WRITE_CHUNK);
+                byte[][] texts = new byte[chunks][];
+                int[] lengths = new int[chunks];
+
+                List<ForkJoinTask<?>> format = new ArrayList<>(chunks);
+                for (int c = 0; c < chunks; c++) {
+                    int chunk = c;
+                    int from = roundStart + c * WRITE_CHUNK;
+                    int to = Math.min(numbers.length, from + WRITE_CHUNK);
+                    format.add(ForkJoinTask.adapt(() -> {
+                        byte[] text = new byte[(to - from) * MAX_INT_CHARS];
+                        int length = 0;
+                        for (int i = from; i < to; i++) {
+                            length = formatInt(numbers[i], text, length);
+                            text[length++] = '\n';
+                        }
+                        texts[chunk] = text;
+                        lengths[chunk] = length;
+                    }));
+                }
+                invokeAll(format);
+
+                List<ForkJoinTask<?>> writes = new ArrayList<>(chunks);
+                for (int c = 0; c < chunks; c++) {
+                    ByteBuffer text = ByteBuffer.wrap(texts[c], 0, lengths[c]);
+                    long offset = position;
+                    writes.add(ForkJoinTask.adapt(() -> {
+                        long at = offset;
+                        while (text.hasRemaining()) {
+                            at += channel.write(text, at);
+                        }
+                        return null;
+                    }));
+                    position += lengths[c];
+                }
+                invokeAll(writes);
+            }
+        }
+    }
+
+    /**
+     * Divide el archivo en rangos de bytes cuyo inicio coincide con
+     * el comienzo de una línea.
+     *
+     * @param channel canal del archivo
+     * @return límites de los rangos; el rango i es [bounds[i], bounds[i + 1])
+     * @throws IOException si ocurre un error de lectura
+     */
+    private long[] splitAtLines(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int ranges = (int) Math.max(1, Math.min(pool.getParallelism(), size / MIN_RANGE_BYTES));
+
+        long[] bounds = new long[ranges + 1];
+        bounds[ranges] = size;
+        ByteBuffer probe = ByteBuffer.allocate(64);
+        for (int r = 1; r < ranges; r++) {
+            long position = Math.max(bounds[r - 1], size * r / ranges);
+            bounds[r] = nextLineStart(channel, position, probe);
+        }
+        return bounds;
+    }
+
+    /**
+     * Busca el comienzo de la primera línea que inicia en la posición
+     * indicada o después de ella.
+     *
+     * @param channel canal del archivo
+     * @param position posición desde donde buscar
+     * @param probe buffer auxiliar para la búsqueda
+     * @return posición del primer byte posterior a un '\n', o el tamaño del archivo
+     * @throws IOException si ocurre un error de lectura
+     */
+    private static long nextLineStart(FileChannel channel, long position, ByteBuffer probe) throws IOException {
+        if (position == 0) return 0;
+
+        // Si el byte anterior es un salto de línea, la posición ya es un inicio de línea
+        long at = position - 1;
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, at);
+            if (read <= 0) return channel.size();
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return at + i + 1;
+                }
+            }
+            at += read;
+        }
+    }
+
+    /**
+     * Concatena las partes en un único arreglo, copiándolas en paralelo.
+     *
+     * @param parts partes a concatenar, en orden
+     * @return lista con todos los números
+     */
+    private IntArrayList concat(IntArrayList[] parts) {
+        if (parts.length == 1) return parts[0];
+
+        long total = 0;
+        for (IntArrayList part : parts) total += part.size();
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("El archivo contiene demasiados números para un int[]: " + total);
+        }
+
+        int[] result = new int[(int) total];
+        List<ForkJoinTask<?>> copies = new ArrayList<>(parts.length);
+        int offset = 0;
+        for (IntArrayList part : parts) {
+            int at = offset;
+            copies.add(ForkJoinTask.adapt(() -> System.arraycopy(part.elements(), 0, result, at, part.size())));
+            offset += part.size();
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(copies)));
+        return new IntArrayList(result);
+    }
+
+    /**
+     * Ejecuta las tareas en el pool y espera a que terminen. Las
+     * IOException lanzadas por las tareas se propagan sin envolver.
+     *
+     * @param tasks tareas a ejecutar
+     * @throws IOException si alguna tarea lanzó una IOException
+     */
+    private void invokeAll(List<ForkJoinTask<?>> tasks) throws IOException {
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        } catch (RuntimeException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null && !(cause instanceof IOException)) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof NumberFormatException nfe) throw nfe;
+            throw e;
+        }
+    }
+
+    /**
+     * Escribe la representación decimal de un entero como bytes ASCII.
+     *
+     * @param value número a escribir
+     * @param buffer arreglo de destino
+     * @param position posición donde comienza la escritura
+     * @return posición siguiente al último byte escrito
+     */
+    static int formatInt(int value, byte[] buffer, int position) {
+        if (value == Integer.MIN_VALUE) {
+            System.arraycopy(MIN_VALUE_TEXT, 0, buffer, position, MIN_VALUE_TEXT.length);
+            return position + MIN_VALUE_TEXT.length;
+        }
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) digits++;
+
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+}
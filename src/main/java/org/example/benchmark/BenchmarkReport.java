@@ -0,0 +1,251 @@
+package org.example.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Escribe los resultados del benchmark en CSV y JSON con un esquema
+ * versionado.
+ *
+ * Ambos formatos incluyen la versión del esquema y los metadatos de la
+ * JVM y del equipo (versión y proveedor de Java, recolectores de
+ * basura, argumentos de la JVM, sistema operativo, procesador, núcleos
+ * y memoria), para poder comparar ejecuciones hechas en máquinas
+ * distintas. En el CSV los metadatos van en líneas iniciales que
+ * comienzan con '#', seguidas del encabezado y de una fila por
+ * resultado. Los tiempos se expresan en nanosegundos.
+ *
+ * Si cambian las columnas, debe incrementarse SCHEMA_VERSION.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public final class BenchmarkReport {
+
+    /**
+     * Versión del esquema de resultados. La versión 1 era el CSV
+     * original con el tiempo truncado a milisegundos; la 3 agrega las
+     * lecturas, escrituras y profundidad de pila de los algoritmos
+     * instrumentados.
+     */
+    public static final int SCHEMA_VERSION = 3;
+
+    /**
+     * Encabezado del CSV.
+     */
+    static final String CSV_HEADER = "SchemaVersion,Algorithm,Size,Scenario,"
+            + "Mode,Threads,ConcurrentJobs,LiveThreads,SystemLoad,"
+            + "Repetitions,MinNs,MedianNs,MeanNs,P90Ns,P99Ns,MaxNs,ElementsPerSec,"
+            + "Comparisons,Swaps,Reads,Writes,MaxStackDepth,AllocatedBytes,GcCount,GcTimeMs";
+
+    /**
+     * Constructor privado: clase utilitaria.
+     */
+    private BenchmarkReport() {
+    }
+
+    /**
+     * Recopila los metadatos de la JVM y del equipo actuales, en un
+     * orden fijo.
+     *
+     * @return metadatos como pares nombre-valor
+     */
+    public static Map<String, String> metadata() {
+        Map<String, String> metadata = new LinkedHashMap<>();
+        metadata.put("schemaVersion", String.valueOf(SCHEMA_VERSION));
+        metadata.put("timestamp", Instant.now().toString());
+        metadata.put("java.version", System.getProperty("java.version"));
+        metadata.put("java.vendor", System.getProperty("java.vendor"));
+        metadata.put("java.vm.name", System.getProperty("java.vm.name"));
+        metadata.put("java.vm.version", System.getProperty("java.vm.version"));
+        List<String> collectors = new ArrayList<>();
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collectors.add(bean.getName());
+        }
+        metadata.put("gc", String.join(";", collectors));
+        metadata.put("jvm.args", String.join(" ", ManagementFactory.getRuntimeMXBean().getInputArguments()));
+        metadata.put("heap.maxBytes", String.valueOf(Runtime.getRuntime().maxMemory()));
+        metadata.put("os.name", System.getProperty("os.name"));
+        metadata.put("os.version", System.getProperty("os.version"));
+        metadata.put("os.arch", System.getProperty("os.arch"));
+        metadata.put("cpu.model", cpuModel());
+        metadata.put("cpu.count", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        long memory = ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os
+                ? os.getTotalMemorySize() : -1;
+        metadata.put("memory.totalBytes", String.valueOf(memory));
+        return metadata;
+    }
+
+    /**
+     * Escribe los resultados en CSV.
+     *
+     * @param path archivo de destino
+     * @param metadata metadatos de la ejecución
+     * @param results resultados a escribir
+     * @throws IOException si ocurre un error al escribir el archivo
+     */
+    public static void writeCsv(Path path, Map<String, String> metadata, List<BenchmarkResult> results)
+            throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                writer.write("# " + entry.getKey() + "=" + entry.getValue().replace('\n', ' ') + "\n");
+            }
+            writer.write(CSV_HEADER + "\n");
+            for (BenchmarkResult result : results) {
+                writer.write(csvRow(result) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Escribe los resultados en JSON: un objeto con la versión del
+     * esquema, los metadatos y un arreglo de resultados.
+     *
+     * @param path archivo de destino
+     * @param metadata metadatos de la ejecución
+     * @param results resultados a escribir
+     * @throws IOException si ocurre un error al escribir el archivo
+     */
+    public static void writeJson(Path path, Map<String, String> metadata, List<BenchmarkResult> results)
+            throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"schemaVersion\": " + SCHEMA_VERSION + ",\n  \"metadata\": {");
+            String separator = "\n";
+            for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                writer.write(separator + "    " + quote(entry.getKey()) + ": " + quote(entry.getValue()));
+                separator = ",\n";
+            }
+            writer.write("\n  },\n  \"results\": [");
+            separator = "\n";
+            for (BenchmarkResult result : results) {
+                writer.write(separator + "    " + jsonObject(result));
+                separator = ",\n";
+            }
+            writer.write("\n  ]\n}\n");
+        }
+    }
+
+    /**
+     * Convierte un resultado en una fila del CSV.
+     *
+     * @param r resultado
+     * @return fila sin salto de línea
+     */
+    static String csvRow(BenchmarkResult r) {
+        BenchmarkStats s = r.stats();
+        return String.join(",", String.valueOf(SCHEMA_VERSION), r.algorithm(), String.valueOf(r.size()),
+                r.scenario(), r.mode().name(), String.valueOf(r.threads()), String.valueOf(r.concurrentJobs()),
+                String.valueOf(r.liveThreads()), decimal(r.systemLoad()),
+                String.valueOf(s.samples()), String.valueOf(s.min()), String.valueOf(s.median()),
+                decimal(s.mean()), String.valueOf(s.p90()), String.valueOf(s.p99()), String.valueOf(s.max()),
+                decimal(r.elementsPerSecond()), String.valueOf(r.comparisons()), String.valueOf(r.swaps()),
+                String.valueOf(r.reads()), String.valueOf(r.writes()), String.valueOf(r.maxStackDepth()),
+                String.valueOf(r.allocatedBytes()), String.valueOf(r.gcCount()), String.valueOf(r.gcTimeMs()));
+    }
+
+    /**
+     * Convierte un resultado en un objeto JSON de una línea.
+     *
+     * @param r resultado
+     * @return objeto JSON
+     */
+    private static String jsonObject(BenchmarkResult r) {
+        BenchmarkStats s = r.stats();
+        return "{\"algorithm\": " + quote(r.algorithm())
+                + ", \"size\": " + r.size()
+                + ", \"scenario\": " + quote(r.scenario())
+                + ", \"mode\": " + quote(r.mode().name())
+                + ", \"threads\": " + r.threads()
+                + ", \"concurrentJobs\": " + r.concurrentJobs()
+                + ", \"liveThreads\": " + r.liveThreads()
+                + ", \"systemLoad\": " + decimal(r.systemLoad())
+                + ", \"repetitions\": " + s.samples()
+                + ", \"minNs\": " + s.min()
+                + ", \"medianNs\": " + s.median()
+                + ", \"meanNs\": " + decimal(s.mean())
+                + ", \"p90Ns\": " + s.p90()
+                + ", \"p99Ns\": " + s.p99()
+                + ", \"maxNs\": " + s.max()
+                + ", \"elementsPerSec\": " + decimal(r.elementsPerSecond())
+                + ", \"comparisons\": " + r.comparisons()
+                + ", \"swaps\": " + r.swaps()
+                + ", \"reads\": " + r.reads()
+                + ", \"writes\": " + r.writes()
+                + ", \"maxStackDepth\": " + r.maxStackDepth()
+                + ", \"allocatedBytes\": " + r.allocatedBytes()
+                + ", \"gcCount\": " + r.gcCount()
+                + ", \"gcTimeMs\": " + r.gcTimeMs() + "}";
+    }
+
+    /**
+     * Formatea un número con punto y dos decimales, sin importar la
+     * configuración regional.
+     *
+     * @param value valor a formatear
+     * @return valor formateado
+     */
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    /**
+     * Escribe un texto como cadena JSON, escapando comillas, barras
+     * invertidas y caracteres de control.
+     *
+     * @param text texto a escribir
+     * @return cadena JSON entre comillas
+     */
+    static String quote(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Obtiene el modelo del procesador desde /proc/cpuinfo (Linux).
+     *
+     * @return modelo del procesador, o "unknown" si no está disponible
+     */
+    private static String cpuModel() {
+        Path cpuinfo = Path.of("/proc/cpuinfo");
+        try {
+            if (Files.isReadable(cpuinfo)) {
+                for (String line : Files.readAllLines(cpuinfo)) {
+                    if (line.startsWith("model name")) {
+                        return line.substring(line.indexOf(':') + 1).trim();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Sin /proc/cpuinfo legible el modelo queda como desconocido
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.benchmark;
+
+/**
+ * Resultado de un algoritmo para un tamaño y un escenario: los
+ * tiempos de todas las repeticiones, el trabajo realizado y el uso de
+ * memoria, junto con las condiciones en que se midió.
+ *
+ * @param algorithm nombre del algoritmo
+ * @param size tamaño del conjunto de datos
+ * @param scenario escenario evaluado
+ * @param mode modo de ejecución del planificador
+ * @param threads hilos del planificador
+ * @param concurrentJobs máximo de trabajos simultáneos durante la medición
+ * @param liveThreads hilos vivos de la JVM al terminar la medición
+ * @param systemLoad carga promedio del sistema, o negativa si no está disponible
+ * @param stats estadísticas de los tiempos en nanosegundos
+ * @param comparisons comparaciones de una ejecución, o -1 si no se contaron
+ * @param swaps intercambios de una ejecución, o -1 si no se contaron
+ * @param reads lecturas de elementos de una ejecución, o -1 si no se contaron
+ * @param writes escrituras de elementos de una ejecución, o -1 si no se contaron
+ * @param maxStackDepth profundidad máxima de pila muestreada de una
+ *                      ejecución, o -1 si no se midió
+ * @param allocatedBytes bytes asignados por repetición en el hilo que
+ *                       ordena, o -1 si la JVM no lo permite
+ * @param gcCount recolecciones de basura durante las repeticiones
+ * @param gcTimeMs tiempo de recolección de basura en milisegundos
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public record BenchmarkResult(String algorithm, int size, String scenario,
+                              BenchmarkScheduler.Mode mode, int threads, int concurrentJobs,
+                              int liveThreads, double systemLoad,
+                              BenchmarkStats stats, long comparisons, long swaps,
+                              long reads, long writes, long maxStackDepth,
+                              long allocatedBytes, long gcCount, long gcTimeMs) {
+
+    /**
+     * Elementos ordenados por segundo según la mediana.
+     *
+     * @return elementos por segundo, o 0 si la mediana es 0
+     */
+    public double elementsPerSecond() {
+        return stats.median() == 0 ? 0 : size * 1e9 / stats.median();
+    }
+}
@@ -0,0 +1,391 @@
+package org.example.benchmark;
+
+import org.example.monitoring.SortExecuted;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Planificador de mediciones del benchmark.
+ *
+ * Ejecutar todos los algoritmos a la vez en un pool hace que compitan
+ * por núcleos, caché y ancho de banda de memoria: un Gnome Sort
+ * cuadrático altera el tiempo de un Quick Sort que corre a su lado.
+ * Por eso el modo de ejecución es explícito:
+ * - ISOLATED: un trabajo a la vez, siempre en el mismo hilo dedicado
+ *   (Java no permite fijar un hilo a un núcleo; reutilizar el hilo es
+ *   lo más cercano). Es el modo para comparar algoritmos.
+ * - THROUGHPUT: N copias simultáneas del mismo trabajo, liberadas a
+ *   la vez con una barrera, para medir cómo escala.
+ * - MIXED: todos los trabajos a la vez en un pool de N hilos, como
+ *   se comportaría una carga real compartida.
+ *
+ * En todos los modos cada trabajo se calienta primero en solitario
+ * (las iteraciones de calentamiento no se reportan) y luego se mide
+ * varias repeticiones, cada una sobre datos recién preparados. Cada
+ * medición registra los tiempos de todas las repeticiones, los bytes
+ * asignados por el hilo que ejecuta el trabajo, las recolecciones de
+ * basura, la cantidad de hilos, cuántos trabajos se ejecutaban al
+ * mismo tiempo, los hilos vivos de la JVM y la carga del sistema, de
+ * modo que los resultados se puedan reproducir y comparar. Las
+ * recolecciones de basura son de toda la JVM: en los modos THROUGHPUT
+ * y MIXED incluyen las causadas por los otros trabajos.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class BenchmarkScheduler {
+
+    /**
+     * Modo de ejecución de las mediciones.
+     */
+    public enum Mode {
+        /** Un trabajo a la vez en un hilo dedicado. */
+        ISOLATED,
+        /** N copias simultáneas del mismo trabajo. */
+        THROUGHPUT,
+        /** Todos los trabajos a la vez en un pool de N hilos. */
+        MIXED
+    }
+
+    /**
+     * Trabajo a medir.
+     *
+     * El proveedor prepara una ejecución (por ejemplo, copia los datos)
+     * y retorna la acción que se cronometra; la preparación no forma
+     * parte del tiempo medido.
+     *
+     * @param name nombre del algoritmo
+     * @param scenario escenario evaluado
+     * @param size tamaño del conjunto de datos
+     * @param setup prepara una ejecución y retorna la acción a medir
+     */
+    public record Job(String name, String scenario, int size, Supplier<Runnable> setup) {
+    }
+
+    /**
+     * Resultado de una ejecución medida.
+     *
+     * @param name nombre del algoritmo
+     * @param scenario escenario evaluado
+     * @param size tamaño del conjunto de datos
+     * @param mode modo de ejecución
+     * @param threads hilos del planificador
+     * @param concurrentJobs máximo de trabajos en ejecución al mismo
+     *                       tiempo durante esta medición, incluido este
+     * @param liveThreads hilos vivos de la JVM al terminar
+     * @param systemLoad carga promedio del sistema en el último minuto,
+     *                   o un valor negativo si no está disponible
+     * @param stats estadísticas de los tiempos de las repeticiones
+     * @param allocatedBytes bytes asignados por repetición en el hilo
+     *                       del trabajo, o -1 si la JVM no lo permite
+     * @param gcCount recolecciones de basura durante las repeticiones
+     * @param gcTimeMs tiempo de recolección de basura en milisegundos
+     */
+    public record Run(String name, String scenario, int size, Mode mode, int threads,
+                      int concurrentJobs, int liveThreads, double systemLoad,
+                      BenchmarkStats stats, long allocatedBytes, long gcCount, long gcTimeMs) {
+    }
+
+    /**
+     * Modo de ejecución.
+     */
+    private final Mode mode;
+
+    /**
+     * Hilos del planificador (1 en modo ISOLATED).
+     */
+    private final int threads;
+
+    /**
+     * Ejecuciones de calentamiento por trabajo.
+     */
+    private final int warmups;
+
+    /**
+     * Repeticiones medidas por trabajo.
+     */
+    private final int repetitions;
+
+    /**
+     * Trabajos en ejecución en este momento.
+     */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * Máximo de trabajos simultáneos visto por cada medición en curso.
+     * Cada trabajo que inicia actualiza el máximo de los que ya corren.
+     */
+    private final Set<AtomicInteger> running = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Acceso a la cantidad de hilos vivos de la JVM.
+     */
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Acceso a la carga del sistema operativo.
+     */
+    private final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+
+    /**
+     * Recolectores de basura de la JVM.
+     */
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+
+    /**
+     * Crea un planificador en modo ISOLATED con tres ejecuciones de
+     * calentamiento y cinco repeticiones medidas por trabajo.
+     */
+    public BenchmarkScheduler() {
+        this(Mode.ISOLATED, 1, 3, 5);
+    }
+
+    /**
+     * Crea un planificador que mide una repetición por trabajo.
+     *
+     * @param mode modo de ejecución
+     * @param threads hilos a usar; en modo ISOLATED debe ser 1
+     * @param warmups ejecuciones de calentamiento por trabajo
+     * @throws IllegalArgumentException si threads no es positivo, si es
+     *                                  distinto de 1 en modo ISOLATED o
+     *                                  si warmups es negativo
+     */
+    public BenchmarkScheduler(Mode mode, int threads, int warmups) {
+        this(mode, threads, warmups, 1);
+    }
+
+    /**
+     * Crea un planificador.
+     *
+     * @param mode modo de ejecución
+     * @param threads hilos a usar; en modo ISOLATED debe ser 1
+     * @param warmups ejecuciones de calentamiento por trabajo
+     * @param repetitions repeticiones medidas por trabajo
+     * @throws IllegalArgumentException si threads no es positivo, si es
+     *                                  distinto de 1 en modo ISOLATED,
+     *                                  si warmups es negativo o si
+     *                                  repetitions no es positivo
+     */
+    public BenchmarkScheduler(Mode mode, int threads, int warmups, int repetitions) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads debe ser positivo: " + threads);
+        }
+        if (mode == Mode.ISOLATED && threads != 1) {
+            throw new IllegalArgumentException("El modo ISOLATED usa un solo hilo: " + threads);
+        }
+        if (warmups < 0) {
+            throw new IllegalArgumentException("warmups no puede ser negativo: " + warmups);
+        }
+        if (repetitions < 1) {
+            throw new IllegalArgumentException("repetitions debe ser positivo: " + repetitions);
+        }
+        this.mode = mode;
+        this.threads = threads;
+        this.warmups = warmups;
+        this.repetitions = repetitions;
+    }
+
+    /**
+     * Retorna el modo de ejecución.
+     *
+     * @return modo de ejecución
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Retorna la cantidad de hilos del planificador.
+     *
+     * @return hilos del planificador
+     */
+    public int threads() {
+        return threads;
+    }
+
+    /**
+     * Retorna las repeticiones medidas por trabajo.
+     *
+     * @return repeticiones por trabajo
+     */
+    public int repetitions() {
+        return repetitions;
+    }
+
+    /**
+     * Ejecuta y mide los trabajos según el modo del planificador.
+     *
+     * Retorna una medición por trabajo en los modos ISOLATED y MIXED, y
+     * una por copia (threads por trabajo) en el modo THROUGHPUT, en el
+     * orden de los trabajos recibidos.
+     *
+     * @param jobs trabajos a medir
+     * @return mediciones realizadas
+     * @throws InterruptedException si el hilo es interrumpido
+     * @throws ExecutionException si algún trabajo lanza una excepción
+     */
+    public List<Run> run(List<Job> jobs) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "benchmark-" + mode.name().toLowerCase());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Run>> futures = new ArrayList<>();
+            for (Job job : jobs) {
+                // El calentamiento siempre es secuencial, con un solo trabajo activo
+                executor.submit(() -> warmUp(job)).get();
+                if (mode == Mode.ISOLATED) {
+                    Future<Run> future = executor.submit(() -> measure(job, null));
+                    future.get();
+                    futures.add(future);
+                } else if (mode == Mode.THROUGHPUT) {
+                    CyclicBarrier barrier = new CyclicBarrier(threads);
+                    List<Future<Run>> copies = new ArrayList<>(threads);
+                    for (int t = 0; t < threads; t++) {
+                        copies.add(executor.submit(() -> measure(job, barrier)));
+                    }
+                    for (Future<Run> copy : copies) {
+                        copy.get();
+                    }
+                    futures.addAll(copies);
+                }
+            }
+            if (mode == Mode.MIXED) {
+                for (Job job : jobs) {
+                    futures.add(executor.submit(() -> measure(job, null)));
+                }
+            }
+            List<Run> runs = new ArrayList<>(futures.size());
+            for (Future<Run> future : futures) {
+                runs.add(future.get());
+            }
+            return runs;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Ejecuta las iteraciones de calentamiento de un trabajo. Sus
+     * ordenamientos se emiten con el escenario SortExecuted.WARMUP.
+     *
+     * @param job trabajo a calentar
+     * @return null
+     */
+    private Void warmUp(Job job) {
+        SortExecuted.setScenario(SortExecuted.WARMUP);
+        try {
+            for (int w = 0; w < warmups; w++) {
+                job.setup().get().run();
+            }
+        } finally {
+            SortExecuted.setScenario(null);
+        }
+        return null;
+    }
+
+    /**
+     * Ejecuta y mide las repeticiones de un trabajo. Solo la acción
+     * retornada por el trabajo forma parte del tiempo y de los bytes
+     * asignados; la preparación de cada repetición queda fuera.
+     *
+     * @param job trabajo a medir
+     * @param barrier barrera que libera las copias a la vez, o null
+     * @return medición realizada
+     * @throws Exception si la barrera falla o el hilo es interrumpido
+     */
+    private Run measure(Job job, CyclicBarrier barrier) throws Exception {
+        Runnable first = job.setup().get();
+        if (barrier != null) {
+            barrier.await();
+        }
+        AtomicInteger peak = new AtomicInteger();
+        running.add(peak);
+        int now = active.incrementAndGet();
+        for (AtomicInteger other : running) {
+            other.accumulateAndGet(now, Math::max);
+        }
+        long[] nanos = new long[repetitions];
+        long allocated = 0;
+        long gcCount = 0;
+        long gcTimeMs = 0;
+        SortExecuted.setScenario(job.scenario());
+        try {
+            for (int r = 0; r < repetitions; r++) {
+                Runnable action = r == 0 ? first : job.setup().get();
+                long gcCountBefore = gcCount();
+                long gcTimeBefore = gcTimeMs();
+                long bytesBefore = allocatedBytes();
+                long start = System.nanoTime();
+                action.run();
+                long end = System.nanoTime();
+                allocated += allocatedBytes() - bytesBefore;
+                gcCount += gcCount() - gcCountBefore;
+                gcTimeMs += gcTimeMs() - gcTimeBefore;
+                nanos[r] = end - start;
+            }
+        } finally {
+            SortExecuted.setScenario(null);
+            running.remove(peak);
+            active.decrementAndGet();
+        }
+        long allocatedPerRun = allocatedBytes() < 0 ? -1 : allocated / repetitions;
+        return new Run(job.name(), job.scenario(), job.size(), mode, threads,
+                peak.get(), threadBean.getThreadCount(), osBean.getSystemLoadAverage(),
+                BenchmarkStats.of(nanos), allocatedPerRun, gcCount, gcTimeMs);
+    }
+
+    /**
+     * Retorna los bytes asignados hasta ahora por el hilo actual.
+     *
+     * @return bytes asignados, o -1 si la JVM no lo permite
+     */
+    private long allocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna las recolecciones de basura acumuladas de la JVM.
+     *
+     * @return recolecciones de basura
+     */
+    private long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Retorna el tiempo acumulado de recolección de basura de la JVM.
+     *
+     * @return tiempo en milisegundos
+     */
+    private long gcTimeMs() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            time += Math.max(0, bean.getCollectionTime());
+        }
+        return time;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Estadísticas de los tiempos de varias repeticiones de una medición,
+ * en nanosegundos.
+ *
+ * Los percentiles usan el método del rango más cercano: el percentil
+ * p es la muestra ordenada en la posición ceil(p * n) - 1, de modo que
+ * siempre es un tiempo realmente observado.
+ *
+ * @param samples cantidad de repeticiones
+ * @param min tiempo mínimo
+ * @param median mediana
+ * @param mean promedio
+ * @param p90 percentil 90
+ * @param p99 percentil 99
+ * @param max tiempo máximo
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public record BenchmarkStats(int samples, long min, long median, double mean, long p90, long p99, long max) {
+
+    /**
+     * Calcula las estadísticas de las muestras (no se modifican).
+     *
+     * @param nanos tiempos de cada repetición en nanosegundos
+     * @return estadísticas de las muestras
+     * @throws IllegalArgumentException si no hay muestras
+     */
+    public static BenchmarkStats of(long[] nanos) {
+        if (nanos.length == 0) {
+            throw new IllegalArgumentException("Se requiere al menos una muestra");
+        }
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+        long median = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2;
+        double sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+        return new BenchmarkStats(n, sorted[0], median, sum / n,
+                percentile(sorted, 0.90), percentile(sorted, 0.99), sorted[n - 1]);
+    }
+
+    /**
+     * Retorna el percentil indicado de muestras ya ordenadas.
+     *
+     * @param sorted muestras ordenadas
+     * @param p percentil entre 0 y 1
+     * @return muestra del percentil
+     */
+    private static long percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
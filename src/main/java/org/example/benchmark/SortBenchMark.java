@@ -1,32 +1,49 @@
 package org.example.benchmark;
 
 import org.example.FileManager;
-import org.example.RandomNumberGeneration;
+import org.example.monitoring.SortExecuted;
 import org.example.sorts.*;
+import org.example.workload.Distribution;
+import org.example.workload.WorkloadGenerator;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.*;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Clase encargada de ejecutar las pruebas de rendimiento
  * para los diferentes algoritmos de ordenamiento.
  *
  * Esta clase:
- * - Genera números aleatorios.
+ * - Genera los datos de cada escenario con WorkloadGenerator, a
+ *   partir de una semilla fija, para que los resultados sean
+ *   reproducibles.
  * - Guarda y lee los datos desde archivo.
- * - Ejecuta los algoritmos en dos escenarios:
+ * - Ejecuta los algoritmos en los escenarios elegidos, uno por cada
+ *   {@link Distribution}. Por defecto:
  *      • Datos desordenados (caso promedio)
  *      • Datos ordenados (mejor caso)
- * - Mide el tiempo de ejecución usando System.nanoTime().
- * - Guarda los resultados en un archivo CSV.
+ *      • Datos casi ordenados (1% de intercambios aleatorios)
+ * - Mide el tiempo de ejecución usando System.nanoTime(), repitiendo
+ *   cada medición según el planificador (mínimo, mediana, promedio,
+ *   percentiles 90 y 99 y máximo, en nanosegundos).
+ * - Cuenta las comparaciones, lecturas, escrituras, intercambios y
+ *   profundidad de pila de cada algoritmo en una ejecución aparte,
+ *   sin cronometrar, con InstrumentedSort e InstrumentedRadixSort. Si
+ *   la instrumentación está desactivada, esas columnas quedan en -1.
+ *   Esa ejecución pasa por un comparador, no por los caminos
+ *   primitivos; los metadatos lo indican con counts.path=comparator.
+ * - Guarda los resultados en benchmark_results.csv y
+ *   benchmark_results.json con el esquema de BenchmarkReport.
  *
- * Las ejecuciones se realizan en paralelo utilizando
- * ExecutorService para optimizar el tiempo total del benchmark.
+ * Las ejecuciones se planifican con BenchmarkScheduler. Por defecto
+ * se usa el modo ISOLATED (un algoritmo a la vez, con calentamiento),
+ * para que un algoritmo no altere la medición de otro; los modos
+ * THROUGHPUT y MIXED se eligen con el constructor. Cada resultado
+ * registra el modo, los hilos y la actividad concurrente.
  *
  * Los tamaños evaluados van desde 10 hasta 3000 elementos,
  * conforme a lo solicitado en la hoja de trabajo.
@@ -37,171 +54,245 @@ import java.util.concurrent.*;
 public class SortBenchMark {
 
     /**
-     * Escritor utilizado para almacenar los resultados
-     * del benchmark en formato CSV.
+     * Contadores usados cuando la instrumentación está desactivada.
      */
-    private final BufferedWriter csvWriter;
+    private static final SortCounters.Snapshot NOT_COUNTED = new SortCounters.Snapshot(0, -1, -1, -1, -1, -1, -1);
 
     /**
-     * Constructor que inicializa el archivo CSV y escribe
-     * el encabezado correspondiente.
+     * Escenarios evaluados por defecto.
+     */
+    public static final List<Distribution> DEFAULT_SCENARIOS =
+            List.of(Distribution.UNIFORM, Distribution.SORTED, Distribution.NEARLY_SORTED);
+
+    /**
+     * Semilla usada por defecto para generar los datos.
+     */
+    public static final long DEFAULT_SEED = 42L;
+
+    /**
+     * Resultados acumulados del benchmark.
+     */
+    private final List<BenchmarkResult> results = new ArrayList<>();
+
+    /**
+     * Planificador que ejecuta y mide los algoritmos.
+     */
+    private final BenchmarkScheduler scheduler;
+
+    /**
+     * Escenarios evaluados, en orden.
+     */
+    private final List<Distribution> scenarios;
+
+    /**
+     * Generador de los datos de entrada.
+     */
+    private final WorkloadGenerator generator;
+
+    /**
+     * Constructor que usa el modo ISOLATED con el calentamiento y las
+     * repeticiones por defecto del planificador.
+     */
+    public SortBenchMark() {
+        this(new BenchmarkScheduler());
+    }
+
+    /**
+     * Constructor que usa el planificador indicado con los escenarios
+     * y la semilla por defecto.
+     *
+     * @param scheduler planificador de las mediciones
+     */
+    public SortBenchMark(BenchmarkScheduler scheduler) {
+        this(scheduler, DEFAULT_SCENARIOS, DEFAULT_SEED);
+    }
+
+    /**
+     * Constructor que usa el planificador, los escenarios y la
+     * semilla indicados.
      *
-     * @throws IOException si ocurre un error al crear el archivo
+     * @param scheduler planificador de las mediciones
+     * @param scenarios distribuciones a evaluar, en orden
+     * @param seed semilla de los datos generados
+     * @throws IllegalArgumentException si no se indica ningún escenario
      */
-    public SortBenchMark() throws IOException {
-        csvWriter = new BufferedWriter(new FileWriter("benchmark_results.csv"));
-        csvWriter.write("Algorithm,Size,Scenario,TimeMs\n");
+    public SortBenchMark(BenchmarkScheduler scheduler, List<Distribution> scenarios, long seed) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("Se necesita al menos un escenario");
+        }
+        this.scheduler = scheduler;
+        this.scenarios = List.copyOf(scenarios);
+        this.generator = new WorkloadGenerator(seed);
     }
 
     /**
      * Ejecuta los benchmarks para distintos tamaños de datos,
-     * evaluando tanto el caso promedio como el mejor caso.
+     * evaluando cada uno de los escenarios elegidos.
      *
      * @throws Exception si ocurre algún error durante la ejecución
      */
     public void runBenchmarks() throws Exception {
-        RandomNumberGeneration generator = new RandomNumberGeneration();
         FileManager fileManager = new FileManager();
 
-        System.out.println("Running benchmarks from 10 to 3000 elements...\n");
+        System.out.println("Running benchmarks from 10 to 3000 elements ("
+                + scheduler.mode() + ", " + scheduler.threads() + " thread(s), "
+                + scheduler.repetitions() + " repetitions, seed " + generator.seed() + ")...\n");
 
         // Tamaños ajustados según la hoja (máximo 3000)
         int[] sizes = {10, 100, 500, 1000, 2000, 3000};
 
-        ExecutorService executor = Executors.newFixedThreadPool(10);
-
         for (int size : sizes) {
             System.out.println("Testing with " + size + " elements:");
 
-            // Generar datos aleatorios
-            List<Integer> data = generator.generateNumbers(size);
-            fileManager.writeNumbersToFile(data);
-            List<Integer> unsortedNumbers = fileManager.readNumbersFromFile();
-
-            // Crear copia ordenada (mejor caso)
-            List<Integer> sortedNumbers = new ArrayList<>(unsortedNumbers);
-            Collections.sort(sortedNumbers);
-
-            // Caso promedio (datos desordenados)
-            System.out.println("  Unsorted data (Average Case):");
-            List<Future<BenchmarkResult>> unsortedFutures = new ArrayList<>();
-
-            unsortedFutures.add(executor.submit(() ->
-                    measureParallel("GnomeSort", new GnomeSort<>(), new ArrayList<>(unsortedNumbers), size, "Unsorted")));
-            unsortedFutures.add(executor.submit(() ->
-                    measureParallel("MergeSort", new MergeSort<>(), new ArrayList<>(unsortedNumbers), size, "Unsorted")));
-            unsortedFutures.add(executor.submit(() ->
-                    measureParallel("QuickSort", new QuickSort<>(), new ArrayList<>(unsortedNumbers), size, "Unsorted")));
-            unsortedFutures.add(executor.submit(() ->
-                    measureParallel("InsertionSort", new InsertionSort<>(), new ArrayList<>(unsortedNumbers), size, "Unsorted")));
-            unsortedFutures.add(executor.submit(() ->
-                    measureRadixParallel("RadixSort", new ArrayList<>(unsortedNumbers), size, "Unsorted")));
-
-            for (Future<BenchmarkResult> future : unsortedFutures) {
-                BenchmarkResult result = future.get();
-                System.out.println("    " + result.name + " → " + result.timeMs + " ms");
-                csvWriter.write(result.name + "," + result.size + "," + result.scenario + "," + result.timeMs + "\n");
-            }
-
-            // Mejor caso (datos ordenados)
-            System.out.println("  Sorted data (Best Case):");
-            List<Future<BenchmarkResult>> sortedFutures = new ArrayList<>();
-
-            sortedFutures.add(executor.submit(() ->
-                    measureParallel("GnomeSort", new GnomeSort<>(), new ArrayList<>(sortedNumbers), size, "Sorted")));
-            sortedFutures.add(executor.submit(() ->
-                    measureParallel("MergeSort", new MergeSort<>(), new ArrayList<>(sortedNumbers), size, "Sorted")));
-            sortedFutures.add(executor.submit(() ->
-                    measureParallel("QuickSort", new QuickSort<>(), new ArrayList<>(sortedNumbers), size, "Sorted")));
-            sortedFutures.add(executor.submit(() ->
-                    measureParallel("InsertionSort", new InsertionSort<>(), new ArrayList<>(sortedNumbers), size, "Sorted")));
-            sortedFutures.add(executor.submit(() ->
-                    measureRadixParallel("RadixSort", new ArrayList<>(sortedNumbers), size, "Sorted")));
-
-            for (Future<BenchmarkResult> future : sortedFutures) {
-                BenchmarkResult result = future.get();
-                System.out.println("    " + result.name + " → " + result.timeMs + " ms");
-                csvWriter.write(result.name + "," + result.size + "," + result.scenario + "," + result.timeMs + "\n");
+            for (Distribution distribution : scenarios) {
+                // Generar los datos del escenario y pasarlos por el archivo
+                fileManager.writeNumbersToFile(generator.generateList(distribution, size));
+                List<Integer> numbers = fileManager.readNumbersFromFile();
+                runScenario(distribution.title() + ":", distribution.scenario(), numbers, size);
             }
 
             System.out.println("--------------------------------");
         }
 
-        executor.shutdown();
-        csvWriter.close();
+        Map<String, String> metadata = BenchmarkReport.metadata();
+        // Los conteos salen de una ejecución aparte sobre una vista de la
+        // lista y, salvo en RadixSort, con un comparador
+        metadata.put("counts.path", "comparator");
+        BenchmarkReport.writeCsv(Path.of("benchmark_results.csv"), metadata, results);
+        BenchmarkReport.writeJson(Path.of("benchmark_results.json"), metadata, results);
 
-        System.out.println("\nResults saved to benchmark_results.csv");
+        System.out.println("\nResults saved to benchmark_results.csv and benchmark_results.json");
     }
 
     /**
-     * Mide el tiempo de ejecución de un algoritmo
-     * basado en comparación.
+     * Ejecuta todos los algoritmos sobre una copia de los datos de
+     * un escenario y acumula los resultados.
      *
+     * @param title título impreso en consola
+     * @param scenario nombre del escenario en los resultados
+     * @param numbers datos del escenario
+     * @param size tamaño del conjunto de datos
+     * @throws Exception si ocurre algún error durante la ejecución
+     */
+    private void runScenario(String title, String scenario,
+                             List<Integer> numbers, int size) throws Exception {
+        System.out.println("  " + title);
+        List<BenchmarkScheduler.Job> jobs = new ArrayList<>();
+        Map<String, SortCounters.Snapshot> counts = new HashMap<>();
+        addJob(jobs, counts, "GnomeSort", GnomeSort::new, numbers, size, scenario);
+        addJob(jobs, counts, "MergeSort", MergeSort::new, numbers, size, scenario);
+        addJob(jobs, counts, "NaturalMergeSort", NaturalMergeSort::new, numbers, size, scenario);
+        addJob(jobs, counts, "QuickSort", QuickSort::new, numbers, size, scenario);
+        addJob(jobs, counts, "InsertionSort", InsertionSort::new, numbers, size, scenario);
+        jobs.add(radixJob("RadixSort", numbers, size, scenario));
+        if (SortCounters.ENABLED) {
+            SortCounters counters = new SortCounters();
+            SortExecuted.setScenario(SortExecuted.INSTRUMENTED);
+            try {
+                InstrumentedRadixSort.wrap(new RadixSort(), counters).sort(new ArrayList<>(numbers));
+            } finally {
+                SortExecuted.setScenario(null);
+            }
+            counts.put("RadixSort", counters.snapshot());
+        }
+
+        for (BenchmarkScheduler.Run run : scheduler.run(jobs)) {
+            SortCounters.Snapshot count = counts.getOrDefault(run.name(), NOT_COUNTED);
+            BenchmarkResult result = new BenchmarkResult(run.name(), run.size(), run.scenario(),
+                    run.mode(), run.threads(), run.concurrentJobs(), run.liveThreads(), run.systemLoad(),
+                    run.stats(), count.comparisons(), count.swaps(),
+                    count.reads(), count.writes(), count.maxStackDepth(),
+                    run.allocatedBytes(), run.gcCount(), run.gcTimeMs());
+            results.add(result);
+            System.out.println("    " + result.algorithm() + " → median " + result.stats().median() + " ns"
+                    + ", p99 " + result.stats().p99() + " ns"
+                    + " (concurrent jobs: " + result.concurrentJobs() + ")");
+        }
+    }
+
+    /**
+     * Agrega el trabajo de un algoritmo basado en comparación y cuenta
+     * sus operaciones en una ejecución instrumentada aparte, que no se
+     * cronometra y se emite con el escenario SortExecuted.INSTRUMENTED.
+     *
+     * @param jobs trabajos del escenario
+     * @param counts contadores por algoritmo
      * @param name nombre del algoritmo
-     * @param algorithm instancia del algoritmo
+     * @param factory crea una instancia del algoritmo
      * @param data datos a ordenar
      * @param size tamaño del conjunto de datos
-     * @param scenario escenario evaluado (Sorted o Unsorted)
+     * @param scenario escenario evaluado
      * @param <T> tipo de dato comparable
-     * @return resultado encapsulado del benchmark
      */
-    private <T extends Comparable<T>> BenchmarkResult measureParallel(
+    private <T extends Comparable<T>> void addJob(
+            List<BenchmarkScheduler.Job> jobs,
+            Map<String, SortCounters.Snapshot> counts,
             String name,
-            SortAlgorithm<T> algorithm,
+            Supplier<SortAlgorithm<T>> factory,
             List<T> data,
             int size,
             String scenario) {
 
-        long start = System.nanoTime();
-        algorithm.sort(data);
-        long end = System.nanoTime();
-
-        long timeMs = (end - start) / 1_000_000;
-        return new BenchmarkResult(name, size, scenario, timeMs);
+        jobs.add(job(name, factory, data, size, scenario));
+        if (SortCounters.ENABLED) {
+            SortCounters counters = new SortCounters();
+            SortExecuted.setScenario(SortExecuted.INSTRUMENTED);
+            try {
+                InstrumentedSort.wrap(name, factory.get(), counters).sort(new ArrayList<>(data));
+            } finally {
+                SortExecuted.setScenario(null);
+            }
+            counts.put(name, counters.snapshot());
+        }
     }
 
     /**
-     * Mide el tiempo de ejecución del algoritmo Radix Sort.
+     * Crea el trabajo que mide un algoritmo basado en comparación.
+     * Cada ejecución ordena una copia nueva de los datos con una
+     * instancia propia del algoritmo, ya que algunas reutilizan
+     * memoria auxiliar y en modo THROUGHPUT corren varias copias a la vez.
      *
      * @param name nombre del algoritmo
+     * @param factory crea una instancia del algoritmo
      * @param data datos a ordenar
      * @param size tamaño del conjunto de datos
-     * @param scenario escenario evaluado
-     * @return resultado encapsulado del benchmark
+     * @param scenario escenario evaluado (nombre de una Distribution)
+     * @param <T> tipo de dato comparable
+     * @return trabajo para el planificador
      */
-    private BenchmarkResult measureRadixParallel(
+    private <T extends Comparable<T>> BenchmarkScheduler.Job job(
             String name,
-            List<Integer> data,
+            Supplier<SortAlgorithm<T>> factory,
+            List<T> data,
             int size,
             String scenario) {
 
-        RadixSort radix = new RadixSort();
-
-        long start = System.nanoTime();
-        radix.sort(data);
-        long end = System.nanoTime();
-
-        long timeMs = (end - start) / 1_000_000;
-        return new BenchmarkResult(name, size, scenario, timeMs);
+        return new BenchmarkScheduler.Job(name, scenario, size, () -> {
+            SortAlgorithm<T> algorithm = factory.get();
+            List<T> copy = new ArrayList<>(data);
+            return () -> algorithm.sort(copy);
+        });
     }
 
     /**
-     * Clase interna que encapsula los resultados
-     * de cada ejecución del benchmark.
+     * Crea el trabajo que mide el algoritmo Radix Sort.
+     *
+     * @param name nombre del algoritmo
+     * @param data datos a ordenar
+     * @param size tamaño del conjunto de datos
+     * @param scenario escenario evaluado
+     * @return trabajo para el planificador
      */
-    private static class BenchmarkResult {
-        String name;
-        int size;
-        String scenario;
-        long timeMs;
-
-        BenchmarkResult(String name, int size, String scenario, long timeMs) {
-            this.name = name;
-            this.size = size;
-            this.scenario = scenario;
-            this.timeMs = timeMs;
-        }
+    private BenchmarkScheduler.Job radixJob(
+            String name,
+            List<Integer> data,
+            int size,
+            String scenario) {
+
+        return new BenchmarkScheduler.Job(name, scenario, size, () -> {
+            RadixSort radix = new RadixSort();
+            List<Integer> copy = new ArrayList<>(data);
+            return () -> radix.sort(copy);
+        });
     }
 }
-
-
@@ -0,0 +1,197 @@
+package org.example.benchmark;
+
+import org.example.service.SortService;
+import org.example.sorts.PrimitiveInsertionSort;
+import org.example.sorts.PrimitiveRadixSort;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Generador de carga para SortService.
+ *
+ * Lanza CLIENTS clientes en hilos virtuales; cada uno envía
+ * REQUESTS solicitudes una tras otra y espera cada respuesta. El 99,9%
+ * de las solicitudes son arreglos pequeños (8 a 64 enteros) y el resto
+ * arreglos grandes (LARGE_SIZE enteros), como en un servicio con
+ * muchos clientes.
+ *
+ * Se comparan tres modos con la misma carga:
+ * - Direct: cada cliente ordena su copia en su propio hilo virtual.
+ * - Unbatched: las solicitudes pasan por SortService sin lotes
+ *   (tinyMax = 0), por lo que cada una paga el costo completo.
+ * - Service: SortService con la configuración por defecto (lotes,
+ *   contrapresión y algoritmos paralelos).
+ *
+ * Para cada modo se reporta el rendimiento (solicitudes por segundo)
+ * y la latencia p50, p99 y p999 en microsegundos, y se guardan en
+ * "service_load_results.csv".
+ *
+ * Uso:
+ *   java -cp target/classes org.example.benchmark.SortServiceLoadBenchmark [clientes] [solicitudes]
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class SortServiceLoadBenchmark {
+
+    /**
+     * Cantidad de clientes por defecto.
+     */
+    private static final int CLIENTS = 1000;
+
+    /**
+     * Solicitudes por cliente por defecto.
+     */
+    private static final int REQUESTS = 200;
+
+    /**
+     * Tamaño de las solicitudes grandes.
+     */
+    private static final int LARGE_SIZE = 1 << 17;
+
+    /**
+     * Proporción de solicitudes grandes.
+     */
+    private static final double LARGE_RATIO = 0.001;
+
+    /**
+     * Ordenamiento de una solicitud: directo o a través del servicio.
+     */
+    @FunctionalInterface
+    private interface Sorter {
+        int[] sort(int[] data) throws Exception;
+    }
+
+    /**
+     * Resultado de un modo.
+     *
+     * @param mode nombre del modo
+     * @param requests solicitudes completadas
+     * @param throughput solicitudes por segundo
+     * @param p50 latencia p50 en microsegundos
+     * @param p99 latencia p99 en microsegundos
+     * @param p999 latencia p999 en microsegundos
+     */
+    private record Result(String mode, int requests, double throughput, double p50, double p99, double p999) {
+    }
+
+    /**
+     * Ejecuta ambos modos e imprime los resultados.
+     *
+     * @param args cantidad de clientes y de solicitudes por cliente (opcionales)
+     * @throws Exception si ocurre algún error durante la ejecución
+     */
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : CLIENTS;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : REQUESTS;
+
+        System.out.println("Load: " + clients + " clients x " + requests + " requests, "
+                + (LARGE_RATIO * 100) + "% of " + LARGE_SIZE + " elements");
+
+        List<Result> results = new ArrayList<>();
+        // Primera ronda de calentamiento, sin reportar
+        run("Direct", clients, requests / 4, SortServiceLoadBenchmark::sortDirect);
+        results.add(run("Direct", clients, requests, SortServiceLoadBenchmark::sortDirect));
+        SortService.Config unbatched = new SortService.Config(SortService.Config.DEFAULT.queueCapacity(), 0,
+                SortService.Config.DEFAULT.batchMaxElements(), SortService.Config.DEFAULT.parallelMin());
+        try (SortService service = new SortService(unbatched, ForkJoinPool.commonPool())) {
+            run("Unbatched", clients, requests / 4, data -> service.sort(data).get());
+            results.add(run("Unbatched", clients, requests, data -> service.sort(data).get()));
+        }
+        try (SortService service = new SortService()) {
+            run("Service", clients, requests / 4, data -> service.sort(data).get());
+            results.add(run("Service", clients, requests, data -> service.sort(data).get()));
+            System.out.println("Service stats: " + service.stats());
+        }
+
+        try (BufferedWriter csv = new BufferedWriter(new FileWriter("service_load_results.csv"))) {
+            csv.write("Mode,Clients,Requests,Throughput,P50Us,P99Us,P999Us\n");
+            for (Result r : results) {
+                System.out.printf("  %-8s %,10.0f req/s   p50 %8.1f us   p99 %8.1f us   p999 %9.1f us%n",
+                        r.mode(), r.throughput(), r.p50(), r.p99(), r.p999());
+                csv.write(r.mode() + "," + clients + "," + r.requests() + "," + r.throughput() + ","
+                        + r.p50() + "," + r.p99() + "," + r.p999() + "\n");
+            }
+        } catch (IOException e) {
+            System.err.println("No se pudo escribir service_load_results.csv: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ordena una copia de la solicitud en el hilo actual.
+     *
+     * @param data valores a ordenar
+     * @return copia ordenada
+     */
+    private static int[] sortDirect(int[] data) {
+        int[] copy = data.clone();
+        if (copy.length <= 64) {
+            new PrimitiveInsertionSort().sort(copy);
+        } else {
+            new PrimitiveRadixSort().sort(copy);
+        }
+        return copy;
+    }
+
+    /**
+     * Ejecuta la carga con el ordenamiento indicado y mide cada solicitud.
+     *
+     * @param mode nombre del modo
+     * @param clients cantidad de clientes
+     * @param requests solicitudes por cliente
+     * @param sorter ordenamiento a medir
+     * @return rendimiento y latencias
+     * @throws Exception si alguna solicitud falla
+     */
+    private static Result run(String mode, int clients, int requests, Sorter sorter) throws Exception {
+        long[][] latencies = new long[clients][requests];
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                futures.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(client);
+                    for (int i = 0; i < requests; i++) {
+                        int size = random.nextDouble() < LARGE_RATIO ? LARGE_SIZE : random.nextInt(8, 65);
+                        int[] data = random.ints(size).toArray();
+                        long t0 = System.nanoTime();
+                        sorter.sort(data);
+                        latencies[client][i] = System.nanoTime() - t0;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(mode, all.length, all.length / seconds,
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999));
+    }
+
+    /**
+     * Retorna el percentil indicado de latencias ordenadas, en microsegundos.
+     *
+     * @param sorted latencias en nanosegundos, ordenadas
+     * @param p percentil entre 0 y 1
+     * @return latencia en microsegundos
+     */
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1000.0;
+    }
+}
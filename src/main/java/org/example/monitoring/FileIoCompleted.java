@@ -0,0 +1,99 @@
+package org.example.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Evento JFR emitido por cada lectura o escritura completa de un
+ * archivo de números en FileManager.
+ *
+ * JFR registra por sí mismo la duración y el hilo; este evento agrega
+ * la operación, el formato, la ruta, la cantidad de elementos y el
+ * tamaño del archivo en bytes. El tamaño se consulta solo si el evento
+ * se va a registrar.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+@Name("org.example.FileIoCompleted")
+@Label("File I/O Completed")
+@Category("Sorting")
+@Description("Una lectura o escritura de un archivo de números")
+@StackTrace(false)
+public final class FileIoCompleted extends Event {
+
+    /**
+     * Operación: "read" o "write".
+     */
+    @Label("Operation")
+    String operation;
+
+    /**
+     * Formato del archivo (por ejemplo, "text" o "binary-int").
+     */
+    @Label("Format")
+    String format;
+
+    /**
+     * Ruta del archivo.
+     */
+    @Label("Path")
+    String path;
+
+    /**
+     * Cantidad de elementos leídos o escritos.
+     */
+    @Label("Elements")
+    long elements;
+
+    /**
+     * Tamaño del archivo en bytes, o -1 si no se pudo consultar.
+     */
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Crea e inicia un evento.
+     *
+     * @return evento iniciado
+     */
+    public static FileIoCompleted start() {
+        FileIoCompleted event = new FileIoCompleted();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Termina el evento y lo registra si está habilitado.
+     *
+     * @param operation "read" o "write"
+     * @param format formato del archivo
+     * @param file archivo leído o escrito
+     * @param elements cantidad de elementos
+     */
+    public void finish(String operation, String format, Path file, long elements) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.format = format;
+            this.path = file.toString();
+            this.elements = elements;
+            try {
+                this.bytes = Files.size(file);
+            } catch (IOException e) {
+                this.bytes = -1;
+            }
+            commit();
+        }
+    }
+}
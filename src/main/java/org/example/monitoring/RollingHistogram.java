@@ -0,0 +1,213 @@
+package org.example.monitoring;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Histograma de valores no negativos (por ejemplo, duraciones en
+ * nanosegundos) que solo considera una ventana de tiempo reciente.
+ *
+ * La ventana se divide en intervalos; cada uno guarda su propio
+ * histograma y se reinicia al reutilizarse, de modo que los valores
+ * más antiguos que la ventana dejan de contar sin recorrer muestras.
+ *
+ * Los buckets son log-lineales: cada potencia de dos se divide en 8
+ * buckets iguales, por lo que un percentil se reporta con un error
+ * relativo máximo de 12.5 % usando 512 contadores por intervalo. Los
+ * valores menores que 8 tienen un bucket exacto.
+ *
+ * Los métodos son sincronizados: se registra desde un solo hilo (el
+ * del consumidor de eventos) y se consulta con poca frecuencia.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+final class RollingHistogram {
+
+    /**
+     * Bits de subdivisión de cada potencia de dos.
+     */
+    private static final int SUB_BITS = 3;
+
+    /**
+     * Buckets por potencia de dos.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /**
+     * Buckets por intervalo.
+     */
+    static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    /**
+     * Valores de un histograma en un momento dado.
+     *
+     * @param count cantidad de valores
+     * @param sum suma de los valores
+     * @param max valor máximo, o 0 si no hay valores
+     * @param buckets cantidad de valores por bucket
+     */
+    record Snapshot(long count, long sum, long max, long[] buckets) {
+
+        /**
+         * Retorna el percentil indicado: el límite superior del bucket
+         * que lo contiene, sin superar el máximo observado.
+         *
+         * @param p percentil entre 0 y 1
+         * @return valor del percentil, o 0 si no hay valores
+         */
+        long percentile(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(p * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(max, upperBound(i));
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Retorna el promedio de los valores.
+         *
+         * @return promedio, o 0 si no hay valores
+         */
+        double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+    }
+
+    /**
+     * Duración de cada intervalo en milisegundos.
+     */
+    private final long sliceMillis;
+
+    /**
+     * Contadores por intervalo y bucket.
+     */
+    private final long[][] counts;
+
+    /**
+     * Número de intervalo (tiempo / sliceMillis) que ocupa cada
+     * posición, o -1 si está vacía.
+     */
+    private final long[] epochs;
+
+    /**
+     * Suma de valores por intervalo.
+     */
+    private final long[] sums;
+
+    /**
+     * Máximo por intervalo.
+     */
+    private final long[] maxes;
+
+    /**
+     * Crea un histograma.
+     *
+     * @param window duración de la ventana
+     * @param slices intervalos en que se divide la ventana
+     * @throws IllegalArgumentException si la ventana dura menos de un
+     *                                  milisegundo por intervalo o si
+     *                                  slices no es positivo
+     */
+    RollingHistogram(Duration window, int slices) {
+        if (slices < 1 || window.toMillis() < slices) {
+            throw new IllegalArgumentException("Ventana inválida: " + window + " en " + slices + " intervalos");
+        }
+        this.sliceMillis = window.toMillis() / slices;
+        this.counts = new long[slices][BUCKETS];
+        this.epochs = new long[slices];
+        this.sums = new long[slices];
+        this.maxes = new long[slices];
+        Arrays.fill(epochs, -1);
+    }
+
+    /**
+     * Registra un valor.
+     *
+     * @param timeMillis instante del valor en milisegundos
+     * @param value valor a registrar (los negativos cuentan como 0)
+     */
+    synchronized void record(long timeMillis, long value) {
+        long v = Math.max(0, value);
+        long epoch = timeMillis / sliceMillis;
+        int slot = (int) (epoch % counts.length);
+        if (epochs[slot] != epoch) {
+            if (epochs[slot] > epoch) {
+                // Valor más antiguo que el intervalo que ocupa la posición
+                return;
+            }
+            Arrays.fill(counts[slot], 0);
+            sums[slot] = 0;
+            maxes[slot] = 0;
+            epochs[slot] = epoch;
+        }
+        counts[slot][bucket(v)]++;
+        sums[slot] += v;
+        maxes[slot] = Math.max(maxes[slot], v);
+    }
+
+    /**
+     * Combina los intervalos que siguen dentro de la ventana.
+     *
+     * @param nowMillis instante actual en milisegundos
+     * @return valores de la ventana
+     */
+    synchronized Snapshot snapshot(long nowMillis) {
+        long current = nowMillis / sliceMillis;
+        long[] merged = new long[BUCKETS];
+        long count = 0;
+        long sum = 0;
+        long max = 0;
+        for (int slot = 0; slot < counts.length; slot++) {
+            if (epochs[slot] < 0 || current - epochs[slot] >= counts.length) {
+                continue;
+            }
+            for (int b = 0; b < BUCKETS; b++) {
+                merged[b] += counts[slot][b];
+                count += counts[slot][b];
+            }
+            sum += sums[slot];
+            max = Math.max(max, maxes[slot]);
+        }
+        return new Snapshot(count, sum, max, merged);
+    }
+
+    /**
+     * Retorna el bucket de un valor no negativo.
+     *
+     * @param v valor
+     * @return índice del bucket
+     */
+    static int bucket(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Retorna el mayor valor que cae en un bucket.
+     *
+     * @param index índice del bucket
+     * @return límite superior del bucket
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BITS);
+        long lower = (long) (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+        return lower + width - 1;
+    }
+}
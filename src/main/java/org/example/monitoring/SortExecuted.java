@@ -0,0 +1,145 @@
+package org.example.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR emitido por cada llamada a un algoritmo de ordenamiento.
+ *
+ * JFR registra por sí mismo la duración y el hilo de cada evento; este
+ * evento agrega el algoritmo, la cantidad de elementos y el escenario.
+ * El escenario se toma del hilo actual (ver {@link #setScenario}), ya
+ * que los algoritmos no lo conocen.
+ *
+ * Uso dentro de un algoritmo:
+ * <pre>
+ * SortExecuted event = SortExecuted.start();
+ * ... ordenar ...
+ * event.finish("QuickSort", list.size());
+ * </pre>
+ * Si el evento no está habilitado en ninguna grabación, finish no hace
+ * nada y el JIT puede eliminar el objeto del evento.
+ *
+ * Solo emiten este evento los algoritmos que ordenan por sí mismos;
+ * los que eligen otro algoritmo (StableSort, AdaptiveSort) y los
+ * motores primitivos que los demás usan internamente no lo emiten, para
+ * que cada ordenamiento se cuente una sola vez.
+ *
+ * Los ordenamientos que no son mediciones (calentamiento, ejecuciones
+ * instrumentadas y los que hace la generación de datos) se emiten con
+ * los escenarios WARMUP, INSTRUMENTED y WORKLOAD; {@link #isMeasured}
+ * permite descartarlos, como hace SortMetrics.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+@Name("org.example.SortExecuted")
+@Label("Sort Executed")
+@Category("Sorting")
+@Description("Una llamada a un algoritmo de ordenamiento")
+@StackTrace(false)
+public final class SortExecuted extends Event {
+
+    /**
+     * Escenario de las iteraciones de calentamiento.
+     */
+    public static final String WARMUP = "warmup";
+
+    /**
+     * Escenario de las ejecuciones instrumentadas, que no se cronometran.
+     */
+    public static final String INSTRUMENTED = "instrumented";
+
+    /**
+     * Escenario de los ordenamientos internos de la generación de datos.
+     */
+    public static final String WORKLOAD = "workload";
+
+    /**
+     * Escenario asociado al hilo actual.
+     */
+    private static final ThreadLocal<String> SCENARIO = new ThreadLocal<>();
+
+    /**
+     * Nombre del algoritmo.
+     */
+    @Label("Algorithm")
+    String algorithm;
+
+    /**
+     * Elementos ordenados.
+     */
+    @Label("Size")
+    int size;
+
+    /**
+     * Escenario de los datos, o null si no se indicó.
+     */
+    @Label("Scenario")
+    String scenario;
+
+    /**
+     * Crea e inicia un evento.
+     *
+     * @return evento iniciado
+     */
+    public static SortExecuted start() {
+        SortExecuted event = new SortExecuted();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Termina el evento y lo registra si está habilitado.
+     *
+     * @param algorithm nombre del algoritmo
+     * @param size elementos ordenados
+     */
+    public void finish(String algorithm, int size) {
+        end();
+        if (shouldCommit()) {
+            this.algorithm = algorithm;
+            this.size = size;
+            this.scenario = SCENARIO.get();
+            commit();
+        }
+    }
+
+    /**
+     * Asocia un escenario a los ordenamientos que haga el hilo actual.
+     *
+     * @param scenario escenario de los datos, o null para quitarlo
+     */
+    public static void setScenario(String scenario) {
+        if (scenario == null) {
+            SCENARIO.remove();
+        } else {
+            SCENARIO.set(scenario);
+        }
+    }
+
+    /**
+     * Retorna el escenario asociado al hilo actual.
+     *
+     * @return escenario del hilo, o null si no se indicó
+     */
+    public static String scenario() {
+        return SCENARIO.get();
+    }
+
+    /**
+     * Indica si un ordenamiento del escenario dado es una medición, es
+     * decir, si no es de calentamiento, instrumentado ni de la
+     * generación de datos.
+     *
+     * @param scenario escenario del evento, o null
+     * @return true si el ordenamiento es una medición
+     */
+    public static boolean isMeasured(String scenario) {
+        return !WARMUP.equals(scenario) && !INSTRUMENTED.equals(scenario) && !WORKLOAD.equals(scenario);
+    }
+}
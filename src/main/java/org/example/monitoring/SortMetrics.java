@@ -0,0 +1,310 @@
+package org.example.monitoring;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas en vivo de los ordenamientos y de la entrada/salida de
+ * archivos, obtenidas de los eventos JFR {@link SortExecuted} y
+ * {@link FileIoCompleted}.
+ *
+ * Un RecordingStream recibe los eventos en su propio hilo (JFR los
+ * entrega en bloques, aproximadamente una vez por segundo) y los
+ * acumula en histogramas móviles por algoritmo. Las métricas se
+ * publican como MBean en org.example:type=SortMetrics, de modo que
+ * JConsole, VisualVM o un agente JMX puedan leer la latencia de los
+ * ordenamientos sin instrumentar el código que ordena: el costo en
+ * los algoritmos es solo el de emitir el evento. Como la entrega es
+ * asíncrona, quien necesite leer las métricas de los ordenamientos que
+ * acaba de hacer debe llamar antes a drain. Los ordenamientos de
+ * calentamiento, instrumentados o de la generación de datos (ver
+ * SortExecuted.isMeasured) no entran en los histogramas.
+ *
+ * Uso:
+ * <pre>
+ * try (SortMetrics metrics = SortMetrics.start(Duration.ofMinutes(1))) {
+ *     ... ordenar ...
+ *     metrics.drain(Duration.ofSeconds(5));
+ *     metrics.sortPercentileMicros("QuickSort", 99);
+ * }
+ * </pre>
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public final class SortMetrics implements SortMetricsMBean, AutoCloseable {
+
+    /**
+     * Nombre JMX del MBean.
+     */
+    public static final String OBJECT_NAME = "org.example:type=SortMetrics";
+
+    /**
+     * Intervalos en que se divide la ventana.
+     */
+    private static final int SLICES = 12;
+
+    /**
+     * Duración de la ventana.
+     */
+    private final Duration window;
+
+    /**
+     * Duración de los ordenamientos por algoritmo, en nanosegundos.
+     */
+    private final Map<String, RollingHistogram> sorts = new ConcurrentSkipListMap<>();
+
+    /**
+     * Duración de todos los ordenamientos, en nanosegundos.
+     */
+    private final RollingHistogram allSorts;
+
+    /**
+     * Duración de las operaciones de archivo, en nanosegundos.
+     */
+    private final RollingHistogram fileIo;
+
+    /**
+     * Bytes de las operaciones de archivo.
+     */
+    private final RollingHistogram fileBytes;
+
+    /**
+     * Flujo de eventos JFR.
+     */
+    private final RecordingStream stream;
+
+    /**
+     * Nombre con que se registró el MBean.
+     */
+    private final ObjectName name;
+
+    /**
+     * Bloques de eventos procesados por el flujo; se protege con el
+     * monitor de la instancia.
+     */
+    private long flushes;
+
+    /**
+     * Crea las métricas, inicia el flujo de eventos y registra el MBean.
+     * El MBean se registra al final, con el flujo ya iniciado; si el
+     * registro falla, el flujo se cierra.
+     *
+     * @param window duración de la ventana
+     * @throws JMException si el MBean no se puede registrar (por
+     *                     ejemplo, si ya hay otra instancia activa)
+     */
+    private SortMetrics(Duration window) throws JMException {
+        this.window = window;
+        this.allSorts = new RollingHistogram(window, SLICES);
+        this.fileIo = new RollingHistogram(window, SLICES);
+        this.fileBytes = new RollingHistogram(window, SLICES);
+
+        this.name = new ObjectName(OBJECT_NAME);
+
+        stream = new RecordingStream();
+        try {
+            stream.enable(SortExecuted.class).withoutThreshold();
+            stream.enable(FileIoCompleted.class).withoutThreshold();
+            stream.setMaxAge(window);
+            stream.setReuse(true);
+            stream.setOrdered(false);
+            stream.onEvent("org.example.SortExecuted", this::onSort);
+            stream.onEvent("org.example.FileIoCompleted", this::onFileIo);
+            stream.onFlush(this::onFlush);
+            stream.startAsync();
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(this, name);
+        } catch (JMException | RuntimeException e) {
+            stream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Inicia las métricas con una ventana de un minuto.
+     *
+     * @return métricas iniciadas
+     * @throws JMException si el MBean no se puede registrar
+     */
+    public static SortMetrics start() throws JMException {
+        return start(Duration.ofMinutes(1));
+    }
+
+    /**
+     * Inicia las métricas con la ventana indicada.
+     *
+     * @param window duración de la ventana (al menos 12 milisegundos)
+     * @return métricas iniciadas
+     * @throws JMException si el MBean no se puede registrar
+     * @throws IllegalArgumentException si la ventana es demasiado corta
+     */
+    public static SortMetrics start(Duration window) throws JMException {
+        if (window.toMillis() < SLICES) {
+            throw new IllegalArgumentException("La ventana es demasiado corta: " + window);
+        }
+        return new SortMetrics(window);
+    }
+
+    /**
+     * Registra un evento SortExecuted.
+     *
+     * @param event evento recibido
+     */
+    private void onSort(RecordedEvent event) {
+        if (!SortExecuted.isMeasured(event.getString("scenario"))) {
+            return;
+        }
+        long time = event.getEndTime().toEpochMilli();
+        long nanos = event.getDuration().toNanos();
+        String algorithm = event.getString("algorithm");
+        allSorts.record(time, nanos);
+        if (algorithm != null) {
+            sorts.computeIfAbsent(algorithm, a -> new RollingHistogram(window, SLICES)).record(time, nanos);
+        }
+    }
+
+    /**
+     * Registra un evento FileIoCompleted.
+     *
+     * @param event evento recibido
+     */
+    private void onFileIo(RecordedEvent event) {
+        long time = event.getEndTime().toEpochMilli();
+        fileIo.record(time, event.getDuration().toNanos());
+        fileBytes.record(time, event.getLong("bytes"));
+    }
+
+    /**
+     * Registra que el flujo terminó de procesar un bloque de eventos.
+     */
+    private synchronized void onFlush() {
+        flushes++;
+        notifyAll();
+    }
+
+    /**
+     * Espera a que el flujo procese los eventos emitidos antes de la
+     * llamada, de modo que las métricas los incluyan.
+     *
+     * El bloque que se estaba procesando al llamar puede no contener
+     * los últimos eventos, así que se esperan dos bloques completos:
+     * el segundo empieza después de la llamada y los incluye.
+     *
+     * @param timeout tiempo máximo de espera
+     * @return true si los eventos se procesaron, false si se agotó el tiempo
+     * @throws InterruptedException si el hilo es interrumpido
+     */
+    public synchronized boolean drain(Duration timeout) throws InterruptedException {
+        long target = flushes + 2;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (flushes < target) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    @Override
+    public long getWindowSeconds() {
+        return window.toSeconds();
+    }
+
+    @Override
+    public String[] getAlgorithms() {
+        long now = System.currentTimeMillis();
+        return sorts.entrySet().stream()
+                .filter(e -> e.getValue().snapshot(now).count() > 0)
+                .map(Map.Entry::getKey)
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public long getSortCount() {
+        return allSorts.snapshot(System.currentTimeMillis()).count();
+    }
+
+    @Override
+    public double getSortP50Micros() {
+        return micros(allSorts.snapshot(System.currentTimeMillis()).percentile(0.50));
+    }
+
+    @Override
+    public double getSortP99Micros() {
+        return micros(allSorts.snapshot(System.currentTimeMillis()).percentile(0.99));
+    }
+
+    @Override
+    public double getSortMaxMicros() {
+        return micros(allSorts.snapshot(System.currentTimeMillis()).max());
+    }
+
+    @Override
+    public long getFileIoCount() {
+        return fileIo.snapshot(System.currentTimeMillis()).count();
+    }
+
+    @Override
+    public long getFileIoBytes() {
+        return fileBytes.snapshot(System.currentTimeMillis()).sum();
+    }
+
+    @Override
+    public double getFileIoP99Micros() {
+        return micros(fileIo.snapshot(System.currentTimeMillis()).percentile(0.99));
+    }
+
+    @Override
+    public long sortCount(String algorithm) {
+        RollingHistogram histogram = sorts.get(algorithm);
+        return histogram == null ? 0 : histogram.snapshot(System.currentTimeMillis()).count();
+    }
+
+    @Override
+    public double sortPercentileMicros(String algorithm, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100: " + percentile);
+        }
+        RollingHistogram histogram = sorts.get(algorithm);
+        if (histogram == null) {
+            return 0;
+        }
+        return micros(histogram.snapshot(System.currentTimeMillis()).percentile(percentile / 100));
+    }
+
+    /**
+     * Detiene el flujo de eventos y quita el MBean.
+     */
+    @Override
+    public void close() {
+        stream.close();
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            // Ya no estaba registrado
+        }
+    }
+
+    /**
+     * Convierte nanosegundos a microsegundos.
+     *
+     * @param nanos valor en nanosegundos
+     * @return valor en microsegundos
+     */
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.monitoring;
+
+/**
+ * Interfaz JMX de {@link SortMetrics}. Los tiempos se expresan en
+ * microsegundos y corresponden a la ventana móvil configurada.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public interface SortMetricsMBean {
+
+    /**
+     * Retorna la duración de la ventana en segundos.
+     *
+     * @return duración de la ventana
+     */
+    long getWindowSeconds();
+
+    /**
+     * Retorna los algoritmos con ordenamientos en la ventana.
+     *
+     * @return nombres de los algoritmos
+     */
+    String[] getAlgorithms();
+
+    /**
+     * Retorna la cantidad de ordenamientos en la ventana.
+     *
+     * @return ordenamientos de todos los algoritmos
+     */
+    long getSortCount();
+
+    /**
+     * Retorna la mediana de la duración de los ordenamientos.
+     *
+     * @return mediana en microsegundos
+     */
+    double getSortP50Micros();
+
+    /**
+     * Retorna el percentil 99 de la duración de los ordenamientos.
+     *
+     * @return percentil 99 en microsegundos
+     */
+    double getSortP99Micros();
+
+    /**
+     * Retorna la duración máxima de los ordenamientos.
+     *
+     * @return máximo en microsegundos
+     */
+    double getSortMaxMicros();
+
+    /**
+     * Retorna la cantidad de lecturas y escrituras de archivos.
+     *
+     * @return operaciones de archivo en la ventana
+     */
+    long getFileIoCount();
+
+    /**
+     * Retorna los bytes leídos y escritos en archivos.
+     *
+     * @return bytes en la ventana
+     */
+    long getFileIoBytes();
+
+    /**
+     * Retorna el percentil 99 de la duración de las operaciones de
+     * archivo.
+     *
+     * @return percentil 99 en microsegundos
+     */
+    double getFileIoP99Micros();
+
+    /**
+     * Retorna la cantidad de ordenamientos de un algoritmo.
+     *
+     * @param algorithm nombre del algoritmo
+     * @return ordenamientos en la ventana
+     */
+    long sortCount(String algorithm);
+
+    /**
+     * Retorna un percentil de la duración de los ordenamientos de un
+     * algoritmo.
+     *
+     * @param algorithm nombre del algoritmo
+     * @param percentile percentil entre 0 y 100
+     * @return percentil en microsegundos, o 0 si no hay ordenamientos
+     */
+    double sortPercentileMicros(String algorithm, double percentile);
+}
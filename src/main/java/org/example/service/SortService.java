@@ -0,0 +1,592 @@
+package org.example.service;
+
+import org.example.sorts.ParallelMergeSort;
+import org.example.sorts.ParallelRadixSort;
+import org.example.sorts.PrimitiveInsertionSort;
+import org.example.sorts.PrimitiveRadixSort;
+import org.example.sorts.StableSort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servicio de ordenamiento en proceso para muchos clientes concurrentes.
+ *
+ * Cada solicitud retorna un CompletableFuture con una copia ordenada
+ * de los datos (la entrada no se modifica). Las solicitudes pasan por
+ * una cola acotada, y el despachador solo saca una solicitud de la
+ * cola si hay un permiso libre entre Config.maxInFlight: cada
+ * solicitud tomada conserva su permiso hasta que termina de
+ * ordenarse. Así, a lo sumo queueCapacity + maxInFlight solicitudes
+ * están pendientes a la vez; cuando la cola se llena, quien envía se
+ * bloquea hasta que haya espacio (contrapresión), de modo que la
+ * memoria pendiente no crece sin límite.
+ *
+ * Un hilo despachador toma de la cola las solicitudes pendientes
+ * (tantas como permisos haya) y las ejecuta en hilos virtuales:
+ * - Los arreglos int[] de hasta Config.tinyMax elementos se agrupan
+ *   en lotes de hasta Config.batchMaxElements elementos. Cada valor
+ *   se etiqueta con el número de solicitud en los 32 bits altos de una
+ *   clave long, el lote completo se ordena con un solo Radix Sort y
+ *   luego se separa: las claves de cada solicitud quedan contiguas y
+ *   en orden. Así, muchas solicitudes pequeñas pagan una sola llamada.
+ * - Las solicitudes de al menos Config.parallelMin elementos se
+ *   ordenan con los algoritmos paralelos (ParallelRadixSort para int[]
+ *   y ParallelMergeSort para listas) en el pool indicado.
+ * - Las demás se ordenan solas con PrimitiveRadixSort, Insertion Sort
+ *   o StableSort.
+ *
+ * Los lotes se forman con lo que ya está en la cola. Antes de tomar
+ * las pendientes, el despachador cede una vez su hilo para que los
+ * clientes listos encolen sus solicitudes; no hay un tiempo de espera
+ * fijo, por lo que con poca carga una solicitud pequeña no espera a
+ * otras.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class SortService implements AutoCloseable {
+
+    /**
+     * Configuración del servicio.
+     *
+     * @param queueCapacity solicitudes que pueden esperar en la cola
+     * @param tinyMax tamaño máximo de un arreglo que se agrupa en lotes
+     * @param batchMaxElements cantidad máxima de elementos de un lote
+     * @param parallelMin tamaño mínimo para usar un algoritmo paralelo
+     * @param maxInFlight solicitudes que pueden estar fuera de la cola
+     *                    (agrupándose o ordenándose) a la vez
+     */
+    public record Config(int queueCapacity, int tinyMax, int batchMaxElements, int parallelMin,
+                         int maxInFlight) {
+
+        /**
+         * Solicitudes en curso por defecto.
+         */
+        public static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+
+        /**
+         * Configuración por defecto: cola de 4096 solicitudes, hasta
+         * 1024 solicitudes en curso, lotes de hasta 64 Ki elementos
+         * formados por arreglos de hasta 256 elementos y algoritmos
+         * paralelos desde 64 Ki elementos.
+         */
+        public static final Config DEFAULT = new Config(4096, 256, 1 << 16, 1 << 16);
+
+        /**
+         * Crea una configuración con {@link #DEFAULT_MAX_IN_FLIGHT}
+         * solicitudes en curso.
+         *
+         * @param queueCapacity solicitudes que pueden esperar en la cola
+         * @param tinyMax tamaño máximo de un arreglo que se agrupa en lotes
+         * @param batchMaxElements cantidad máxima de elementos de un lote
+         * @param parallelMin tamaño mínimo para usar un algoritmo paralelo
+         */
+        public Config(int queueCapacity, int tinyMax, int batchMaxElements, int parallelMin) {
+            this(queueCapacity, tinyMax, batchMaxElements, parallelMin, DEFAULT_MAX_IN_FLIGHT);
+        }
+
+        /**
+         * Valida la configuración.
+         *
+         * @throws IllegalArgumentException si algún valor no es válido
+         */
+        public Config {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("queueCapacity debe ser positivo: " + queueCapacity);
+            }
+            if (tinyMax < 0 || tinyMax > batchMaxElements) {
+                throw new IllegalArgumentException("tinyMax debe estar entre 0 y batchMaxElements: " + tinyMax);
+            }
+            if (parallelMin <= tinyMax) {
+                throw new IllegalArgumentException("parallelMin debe ser mayor que tinyMax: " + parallelMin);
+            }
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("maxInFlight debe ser positivo: " + maxInFlight);
+            }
+        }
+    }
+
+    /**
+     * Estadísticas acumuladas del servicio.
+     *
+     * @param submitted solicitudes recibidas
+     * @param batches lotes ordenados
+     * @param batchedRequests solicitudes resueltas dentro de un lote
+     * @param parallelRequests solicitudes resueltas con un algoritmo paralelo
+     */
+    public record Stats(long submitted, long batches, long batchedRequests, long parallelRequests) {
+    }
+
+    /**
+     * Tamaño máximo para usar Insertion Sort en una solicitud individual.
+     */
+    private static final int INSERTION_MAX = 64;
+
+    /**
+     * Configuración del servicio.
+     */
+    private final Config config;
+
+    /**
+     * Solicitudes pendientes.
+     */
+    private final BlockingQueue<Job> queue;
+
+    /**
+     * Permisos de las solicitudes que salieron de la cola y aún no
+     * terminan.
+     */
+    private final Semaphore inFlight;
+
+    /**
+     * Executor de hilos virtuales donde se ordenan las solicitudes.
+     */
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Hilo que toma las solicitudes de la cola.
+     */
+    private final Thread dispatcher;
+
+    /**
+     * Algoritmo paralelo para int[].
+     */
+    private final ParallelRadixSort parallelRadix;
+
+    /**
+     * Algoritmo paralelo para listas.
+     */
+    private final ParallelMergeSort<?> parallelMerge;
+
+    /**
+     * Algoritmo estable para listas medianas.
+     */
+    private final StableSort<?> stable = new StableSort<>();
+
+    /**
+     * Si el servicio fue cerrado.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Solicitudes recibidas.
+     */
+    private final AtomicLong submitted = new AtomicLong();
+
+    /**
+     * Lotes ordenados.
+     */
+    private final AtomicLong batches = new AtomicLong();
+
+    /**
+     * Solicitudes resueltas dentro de un lote.
+     */
+    private final AtomicLong batchedRequests = new AtomicLong();
+
+    /**
+     * Solicitudes resueltas con un algoritmo paralelo.
+     */
+    private final AtomicLong parallelRequests = new AtomicLong();
+
+    /**
+     * Crea el servicio con la configuración por defecto y el pool común.
+     */
+    public SortService() {
+        this(Config.DEFAULT, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea el servicio con la configuración y el pool indicados.
+     *
+     * @param config configuración del servicio
+     * @param pool pool donde se ejecutan los algoritmos paralelos
+     * @throws IllegalArgumentException si la configuración o el pool son nulos
+     */
+    public SortService(Config config, ForkJoinPool pool) {
+        if (config == null || pool == null) {
+            throw new IllegalArgumentException("La configuración y el pool no pueden ser nulos");
+        }
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>(config.queueCapacity());
+        this.inFlight = new Semaphore(config.maxInFlight());
+        this.parallelRadix = new ParallelRadixSort(pool, ParallelRadixSort.DEFAULT_SEQUENTIAL_THRESHOLD);
+        this.parallelMerge = new ParallelMergeSort<>(pool);
+        this.dispatcher = Thread.ofVirtual().name("sort-service-dispatcher").start(this::dispatch);
+    }
+
+    /**
+     * Envía un arreglo a ordenar. Si la cola está llena, espera a que
+     * haya espacio.
+     *
+     * @param data valores a ordenar (no se modifican)
+     * @return futuro con una copia ordenada de los valores
+     * @throws InterruptedException si se interrumpe la espera por espacio en la cola
+     * @throws IllegalStateException si el servicio está cerrado
+     */
+    public CompletableFuture<int[]> sort(int[] data) throws InterruptedException {
+        IntJob job = new IntJob(data.clone());
+        submit(job);
+        return job.result;
+    }
+
+    /**
+     * Envía una lista a ordenar según el comparador indicado. Si la
+     * cola está llena, espera a que haya espacio. El orden es estable.
+     *
+     * @param list elementos a ordenar (no se modifican)
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos
+     * @return futuro con una copia ordenada de la lista
+     * @throws InterruptedException si se interrumpe la espera por espacio en la cola
+     * @throws IllegalStateException si el servicio está cerrado
+     */
+    public <E> CompletableFuture<List<E>> sort(List<E> list, Comparator<? super E> comparator)
+            throws InterruptedException {
+        ListJob<E> job = new ListJob<>(new ArrayList<>(list), comparator);
+        submit(job);
+        return job.result;
+    }
+
+    /**
+     * Retorna las estadísticas acumuladas.
+     *
+     * @return estadísticas del servicio
+     */
+    public Stats stats() {
+        return new Stats(submitted.get(), batches.get(), batchedRequests.get(), parallelRequests.get());
+    }
+
+    /**
+     * Deja de aceptar solicitudes, espera a que terminen las
+     * pendientes y libera los hilos.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.close();
+    }
+
+    /**
+     * Encola una solicitud, esperando si la cola está llena.
+     *
+     * @param job solicitud
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    private void submit(Job job) throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("El servicio está cerrado");
+        }
+        queue.put(job);
+        submitted.incrementAndGet();
+        if (closed && queue.remove(job)) {
+            throw new IllegalStateException("El servicio está cerrado");
+        }
+    }
+
+    /**
+     * Ciclo del despachador: toma las solicitudes pendientes para las
+     * que haya permiso, agrupa las pequeñas y ejecuta cada lote o
+     * solicitud en un hilo virtual. Al cerrar, despacha lo que quede en
+     * la cola.
+     */
+    private void dispatch() {
+        List<Job> pending = new ArrayList<>();
+        while (true) {
+            Job first;
+            try {
+                // Sin permiso libre no se saca nada de la cola: al llenarse, los clientes esperan
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            try {
+                // Al cerrar ya no se espera: se despacha lo que quede y se termina
+                first = closed ? queue.poll() : queue.take();
+            } catch (InterruptedException e) {
+                inFlight.release();
+                continue;
+            }
+            if (first == null) {
+                inFlight.release();
+                return;
+            }
+            pending.add(first);
+            if (queue.isEmpty() && isTiny(first)) {
+                // Cede el hilo para que los clientes listos encolen sus solicitudes y formen un lote
+                Thread.yield();
+            }
+            while (inFlight.tryAcquire()) {
+                Job next = queue.poll();
+                if (next == null) {
+                    inFlight.release();
+                    break;
+                }
+                pending.add(next);
+            }
+
+            List<IntJob> batch = new ArrayList<>();
+            int batchElements = 0;
+            for (Job job : pending) {
+                if (isTiny(job)) {
+                    IntJob ints = (IntJob) job;
+                    if (batchElements + ints.data.length > config.batchMaxElements()) {
+                        startBatch(batch);
+                        batch = new ArrayList<>();
+                        batchElements = 0;
+                    }
+                    batch.add(ints);
+                    batchElements += ints.data.length;
+                } else {
+                    workers.execute(() -> runSingle(job));
+                }
+            }
+            startBatch(batch);
+            pending.clear();
+        }
+    }
+
+    /**
+     * Indica si la solicitud es un arreglo que se agrupa en lotes.
+     *
+     * @param job solicitud
+     * @return true si es un int[] de hasta tinyMax elementos
+     */
+    private boolean isTiny(Job job) {
+        return job instanceof IntJob ints && ints.data.length <= config.tinyMax();
+    }
+
+    /**
+     * Ejecuta un lote en un hilo virtual; un lote de una sola
+     * solicitud se ordena sin etiquetas.
+     *
+     * @param batch solicitudes pequeñas de int[]
+     */
+    private void startBatch(List<IntJob> batch) {
+        if (batch.isEmpty()) return;
+        if (batch.size() == 1) {
+            IntJob job = batch.get(0);
+            workers.execute(() -> runSingle(job));
+        } else {
+            workers.execute(() -> runBatch(batch));
+        }
+    }
+
+    /**
+     * Ordena un lote de solicitudes con sortTagged, completa cada
+     * futuro con su parte y libera los permisos del lote.
+     *
+     * @param batch solicitudes pequeñas de int[]
+     */
+    private void runBatch(List<IntJob> batch) {
+        try {
+            List<int[]> arrays = new ArrayList<>(batch.size());
+            for (IntJob job : batch) arrays.add(job.data);
+            sortTagged(arrays);
+
+            batches.incrementAndGet();
+            batchedRequests.addAndGet(batch.size());
+            for (IntJob job : batch) {
+                job.result.complete(job.data);
+            }
+        } catch (RuntimeException | Error e) {
+            for (IntJob job : batch) {
+                job.result.completeExceptionally(e);
+            }
+        } finally {
+            inFlight.release(batch.size());
+        }
+    }
+
+    /**
+     * Ordena cada arreglo en el lugar con un solo Radix Sort sobre
+     * todos los valores. Cada valor se guarda en una clave long con el
+     * número de arreglo en los 32 bits altos y el valor (con el bit de
+     * signo invertido) en los bajos, de modo que al ordenar las claves
+     * los valores de cada arreglo quedan contiguos y en orden.
+     *
+     * @param arrays arreglos a ordenar
+     */
+    static void sortTagged(List<int[]> arrays) {
+        int total = 0;
+        for (int[] a : arrays) total += a.length;
+
+        long[] keys = new long[total];
+        int k = 0;
+        for (int tag = 0; tag < arrays.size(); tag++) {
+            long high = (long) tag << 32;
+            for (int value : arrays.get(tag)) {
+                keys[k++] = high | ((value ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+            }
+        }
+        new PrimitiveRadixSort().sort(keys);
+
+        k = 0;
+        for (int[] a : arrays) {
+            for (int i = 0; i < a.length; i++) {
+                a[i] = (int) keys[k++] ^ Integer.MIN_VALUE;
+            }
+        }
+    }
+
+    /**
+     * Ordena una solicitud individual con el algoritmo adecuado a su
+     * tamaño y libera su permiso.
+     *
+     * @param job solicitud
+     */
+    private void runSingle(Job job) {
+        try {
+            if (job.size() >= config.parallelMin()) {
+                parallelRequests.incrementAndGet();
+            }
+            job.run();
+        } catch (RuntimeException | Error e) {
+            job.fail(e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Solicitud pendiente.
+     */
+    private abstract static class Job {
+
+        /**
+         * Retorna la cantidad de elementos de la solicitud.
+         *
+         * @return cantidad de elementos
+         */
+        abstract int size();
+
+        /**
+         * Ordena los datos y completa el futuro.
+         */
+        abstract void run();
+
+        /**
+         * Completa el futuro con un error.
+         *
+         * @param e error ocurrido
+         */
+        abstract void fail(Throwable e);
+    }
+
+    /**
+     * Solicitud de ordenar un arreglo int[].
+     */
+    private final class IntJob extends Job {
+
+        /**
+         * Copia de los valores, que se ordena en el lugar.
+         */
+        private final int[] data;
+
+        /**
+         * Futuro que recibe el resultado.
+         */
+        private final CompletableFuture<int[]> result = new CompletableFuture<>();
+
+        /**
+         * Crea la solicitud.
+         *
+         * @param data copia de los valores
+         */
+        IntJob(int[] data) {
+            this.data = data;
+        }
+
+        @Override
+        int size() {
+            return data.length;
+        }
+
+        @Override
+        void run() {
+            if (data.length >= config.parallelMin()) {
+                parallelRadix.sort(data);
+            } else if (data.length <= INSERTION_MAX) {
+                new PrimitiveInsertionSort().sort(data);
+            } else {
+                new PrimitiveRadixSort().sort(data);
+            }
+            result.complete(data);
+        }
+
+        @Override
+        void fail(Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Solicitud de ordenar una lista según un comparador.
+     *
+     * @param <E> tipo de los elementos
+     */
+    private final class ListJob<E> extends Job {
+
+        /**
+         * Copia de la lista, que se ordena en el lugar.
+         */
+        private final List<E> list;
+
+        /**
+         * Comparador que define el orden.
+         */
+        private final Comparator<? super E> comparator;
+
+        /**
+         * Futuro que recibe el resultado.
+         */
+        private final CompletableFuture<List<E>> result = new CompletableFuture<>();
+
+        /**
+         * Crea la solicitud.
+         *
+         * @param list copia de la lista
+         * @param comparator comparador que define el orden
+         */
+        ListJob(List<E> list, Comparator<? super E> comparator) {
+            this.list = list;
+            this.comparator = comparator;
+        }
+
+        @Override
+        int size() {
+            return list.size();
+        }
+
+        @Override
+        void run() {
+            if (list.size() >= config.parallelMin()) {
+                parallelMerge.sort(list, comparator);
+            } else {
+                stable.sort(list, comparator);
+            }
+            result.complete(list);
+        }
+
+        @Override
+        void fail(Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package org.example.sorts;
+
+import org.example.sorts.SortCapabilities.KeyType;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+
+/**
+ * Algoritmo de ordenamiento adaptativo que elige la estrategia
+ * según las características de la entrada.
+ *
+ * Antes de ordenar se toma una muestra de la lista (a lo sumo
+ * SAMPLE_SIZE posiciones) para estimar qué tan ordenada está
+ * (proporción de pares consecutivos en orden) y si sus elementos son
+ * Integer.
+ *
+ * Con esas estimaciones y el tamaño de la lista se elige, en este orden:
+ * 1. InsertionSort si la lista es pequeña.
+ * 2. NaturalMergeSort si la lista ya está casi ordenada.
+ * 3. RadixSort si los elementos son Integer y la lista es grande.
+ * 4. Quick Sort de tres vías (ParallelQuickSort) en los demás casos,
+ *    que además es la mejor opción con muchos duplicados. Por debajo
+ *    de su umbral secuencial ordena en el hilo que llama, sin el costo
+ *    de pasar la tarea al pool.
+ *
+ * La proporción de duplicados y el rango de valores no se consideran:
+ * en el barrido de calibración no cambiaron la mejor estrategia (con
+ * Zipf y FewUnique RadixSort siguió siendo el más rápido con Integer,
+ * y ParallelQuickSort el más rápido por comparación), y RadixSort no
+ * superó antes a los demás con valores menores que 2^16 que con todo
+ * el rango de int.
+ *
+ * Los umbrales se obtienen de resultados de JMH (ver Thresholds)
+ * y cada decisión se registra en el logger de la clase con nivel
+ * DEBUG. La última decisión puede consultarse con getLastDecision().
+ *
+ * El algoritmo no garantiza estabilidad.
+ *
+ * @param <T> tipo de dato que implementa la interfaz Comparable
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class AdaptiveSort<T extends Comparable<T>> implements SortAlgorithm<T> {
+
+    /**
+     * Cantidad máxima de posiciones muestreadas.
+     */
+    public static final int SAMPLE_SIZE = 256;
+
+    /**
+     * Logger donde se registran las decisiones.
+     */
+    private static final System.Logger LOGGER = System.getLogger(AdaptiveSort.class.getName());
+
+    /**
+     * Estrategias que puede elegir el algoritmo.
+     */
+    public enum Strategy {
+        INSERTION,
+        NATURAL_MERGE,
+        RADIX,
+        THREE_WAY_QUICK
+    }
+
+    /**
+     * Umbrales de decisión.
+     *
+     * Los valores por defecto son los que calcula fromJmhCsv sobre
+     * src/jmh/calibration/adaptive-sort-jmh.csv: un barrido de
+     * SortJmhBenchmark (JDK 21, 1 CPU, -f 3 -wi 5 -i 8 de 200 ms) con
+     * Unsorted de 16 a 512 elementos, UnsortedWide de 64 a 2048 y
+     * Presorted50 a Presorted99 con 128, 512 y 2048 elementos. Solo se
+     * tomaron en cuenta las diferencias con los intervalos del 99.9%
+     * separados. En ese barrido:
+     * - InsertionSort fue claramente más rápido que QuickSort solo con
+     *   16 elementos; de 24 a 64 los intervalos se superponen.
+     * - RadixSort fue claramente el más rápido desde 512 elementos con
+     *   UnsortedWide. Con Unsorted (valores menores que 10000) ganó
+     *   claramente en algunos tamaños desde 160, pero con 512 la
+     *   diferencia con QuickSort quedó dentro del error, así que esa
+     *   distribución no fija el umbral.
+     * - NaturalMergeSort solo ganó claramente con 99% de pares en orden
+     *   (con 128 elementos); con 97% RadixSort fue más rápido desde 512
+     *   y con 128 hubo empate.
+     * Con una sola CPU ParallelQuickSort no se beneficia del paralelismo;
+     * conviene recalcularlos en la máquina de destino.
+     *
+     * @param insertionMax tamaño máximo para usar InsertionSort
+     * @param radixMin tamaño mínimo para usar RadixSort con Integer
+     * @param presortedRatio proporción mínima de pares en orden para usar NaturalMergeSort
+     */
+    public record Thresholds(int insertionMax, int radixMin, double presortedRatio) {
+
+        /**
+         * Umbrales calibrados con src/jmh/calibration/adaptive-sort-jmh.csv.
+         */
+        public static final Thresholds DEFAULT = new Thresholds(16, 512, 0.99);
+
+        /**
+         * Prefijo de las distribuciones con una proporción de pares en
+         * orden (PresortedNN) en SortJmhBenchmark.
+         */
+        private static final String PRESORTED = "Presorted";
+
+        /**
+         * Calcula los umbrales a partir de un CSV generado por JMH con
+         * SortJmhBenchmark (java -jar target/benchmarks.jar -rf csv).
+         *
+         * Se usan las filas de tiempo (ns/op) con su error (la columna
+         * "Score Error (99.9%)"). Un algoritmo es más rápido que otro
+         * solo si los intervalos score ± error no se tocan; si se
+         * superponen, la diferencia es ruido y no mueve ningún umbral.
+         * Un error NaN (JMH no lo calcula con una sola muestra) nunca
+         * permite afirmar una diferencia.
+         * - insertionMax es el mayor tamaño de Unsorted en que
+         *   InsertionSort fue más rápido que QuickSort y MergeSort.
+         * - radixMin es el menor tamaño a partir del cual RadixSort fue
+         *   más rápido que todos los demás algoritmos medidos (sin contar
+         *   AdaptiveSort), tanto en Unsorted como en UnsortedWide si el
+         *   archivo tiene filas de esa distribución.
+         * - presortedRatio es el menor NN% tal que, en PresortedNN y en
+         *   todos los niveles mayores, NaturalMergeSort ganó al menos la
+         *   mitad de las comparaciones con diferencia clara, en los
+         *   tamaños mayores que insertionMax, contra la estrategia que
+         *   se elegiría en su lugar (RadixSort desde radixMin,
+         *   ParallelQuickSort antes). Los niveles sin ninguna diferencia
+         *   clara no cuentan. Si ni con el mayor nivel ganó, es 1.
+         * Si el archivo no tiene datos suficientes para algún umbral, o
+         * ninguna diferencia clara que lo fije, se conserva su valor por
+         * defecto.
+         *
+         * @param csv archivo CSV de JMH
+         * @return umbrales calibrados
+         * @throws IOException si no se puede leer el archivo
+         */
+        public static Thresholds fromJmhCsv(Path csv) throws IOException {
+            // distribución -> tamaño -> (algoritmo -> ns/op)
+            Map<String, Map<Integer, Map<String, Score>>> scores = new HashMap<>();
+            List<String> lines = Files.readAllLines(csv);
+            if (lines.isEmpty()) return DEFAULT;
+
+            List<String> header = splitCsv(lines.get(0));
+            int benchmarkCol = header.indexOf("Benchmark");
+            int scoreCol = header.indexOf("Score");
+            int errorCol = header.indexOf("Score Error (99.9%)");
+            int unitCol = header.indexOf("Unit");
+            int algorithmCol = header.indexOf("Param: algorithm");
+            int distributionCol = header.indexOf("Param: distribution");
+            int sizeCol = header.indexOf("Param: size");
+            if (Math.min(Math.min(benchmarkCol, Math.min(scoreCol, errorCol)), Math.min(unitCol,
+                    Math.min(algorithmCol, Math.min(distributionCol, sizeCol)))) < 0) {
+                return DEFAULT;
+            }
+
+            for (String line : lines.subList(1, lines.size())) {
+                List<String> row = splitCsv(line);
+                if (row.size() != header.size()
+                        || row.get(benchmarkCol).contains(":")
+                        || !row.get(unitCol).equals("ns/op")) {
+                    continue;
+                }
+                scores.computeIfAbsent(row.get(distributionCol), k -> new TreeMap<>())
+                      .computeIfAbsent(Integer.parseInt(row.get(sizeCol)), k -> new HashMap<>())
+                      .put(row.get(algorithmCol), new Score(Double.parseDouble(row.get(scoreCol)),
+                              Double.parseDouble(row.get(errorCol))));
+            }
+
+            int insertionMax = insertionMax(scores.getOrDefault("Unsorted", Map.of()));
+            if (insertionMax <= 0) insertionMax = DEFAULT.insertionMax();
+
+            int radixMin = radixMin(scores.getOrDefault("Unsorted", Map.of()));
+            if (scores.containsKey("UnsortedWide")) {
+                radixMin = Math.max(radixMin, radixMin(scores.get("UnsortedWide")));
+            }
+            if (radixMin <= 0) radixMin = DEFAULT.radixMin();
+
+            return new Thresholds(insertionMax, radixMin, presortedRatio(scores, insertionMax, radixMin));
+        }
+
+        /**
+         * Tiempo medido por JMH para un algoritmo y un tamaño.
+         *
+         * @param mean tiempo promedio en ns/op
+         * @param error semiancho del intervalo de confianza del 99.9%
+         */
+        private record Score(double mean, double error) {
+
+            /**
+             * Indica si este tiempo es menor que el otro con los
+             * intervalos de confianza separados.
+             *
+             * @param other tiempo con que se compara
+             * @return true si la diferencia no es ruido
+             */
+            boolean fasterThan(Score other) {
+                return mean + error < other.mean - other.error;
+            }
+        }
+
+        /**
+         * Retorna el mayor tamaño en que InsertionSort fue más rápido
+         * que QuickSort y MergeSort.
+         *
+         * @param bySize tamaño -> (algoritmo -> ns/op)
+         * @return tamaño encontrado, o -1 si no hay ninguno
+         */
+        private static int insertionMax(Map<Integer, Map<String, Score>> bySize) {
+            int insertionMax = -1;
+            for (Map.Entry<Integer, Map<String, Score>> entry : bySize.entrySet()) {
+                Map<String, Score> scores = entry.getValue();
+                Score insertion = scores.get("InsertionSort");
+                Score quick = scores.get("QuickSort");
+                Score merge = scores.get("MergeSort");
+                if (insertion != null && quick != null && merge != null
+                        && insertion.fasterThan(quick) && insertion.fasterThan(merge)) {
+                    insertionMax = entry.getKey();
+                }
+            }
+            return insertionMax;
+        }
+
+        /**
+         * Retorna el menor tamaño a partir del cual RadixSort fue más
+         * rápido que todos los demás algoritmos en todos los tamaños.
+         *
+         * @param bySize tamaño -> (algoritmo -> ns/op), en orden de tamaño
+         * @return tamaño encontrado, o -1 si RadixSort no ganó en el mayor tamaño
+         */
+        private static int radixMin(Map<Integer, Map<String, Score>> bySize) {
+            int radixMin = -1;
+            for (Map.Entry<Integer, Map<String, Score>> entry : bySize.entrySet()) {
+                Score radix = entry.getValue().get("RadixSort");
+                if (radix == null) continue;
+                boolean fastest = entry.getValue().entrySet().stream()
+                        .filter(e -> !e.getKey().equals("RadixSort") && !e.getKey().equals("AdaptiveSort"))
+                        .allMatch(e -> radix.fasterThan(e.getValue()));
+                if (!fastest) {
+                    radixMin = -1;
+                } else if (radixMin < 0) {
+                    radixMin = entry.getKey();
+                }
+            }
+            return radixMin;
+        }
+
+        /**
+         * Calcula la proporción mínima de pares en orden para usar
+         * NaturalMergeSort a partir de las filas PresortedNN.
+         *
+         * @param scores distribución -> tamaño -> (algoritmo -> ns/op)
+         * @param insertionMax tamaño máximo para usar InsertionSort
+         * @param radixMin tamaño mínimo para usar RadixSort
+         * @return proporción calculada, o la de DEFAULT si ningún nivel
+         *         PresortedNN tiene diferencias claras
+         */
+        private static double presortedRatio(Map<String, Map<Integer, Map<String, Score>>> scores,
+                                             int insertionMax, int radixMin) {
+            // NN -> si NaturalMergeSort ganó al menos la mitad de las comparaciones claras
+            TreeMap<Integer, Boolean> wins = new TreeMap<>();
+            for (Map.Entry<String, Map<Integer, Map<String, Score>>> entry : scores.entrySet()) {
+                String distribution = entry.getKey();
+                if (!distribution.matches(PRESORTED + "\\d{1,3}")) continue;
+
+                int won = 0;
+                int decided = 0;
+                for (Map.Entry<Integer, Map<String, Score>> bySize : entry.getValue().entrySet()) {
+                    Score merge = bySize.getValue().get("NaturalMergeSort");
+                    Score other = bySize.getValue().get(bySize.getKey() >= radixMin ? "RadixSort" : "ParallelQuickSort");
+                    if (bySize.getKey() <= insertionMax || merge == null || other == null) continue;
+                    if (merge.fasterThan(other)) {
+                        won++;
+                        decided++;
+                    } else if (other.fasterThan(merge)) {
+                        decided++;
+                    }
+                }
+                if (decided > 0) {
+                    wins.put(Integer.parseInt(distribution.substring(PRESORTED.length())), 2 * won >= decided);
+                }
+            }
+            if (wins.isEmpty()) return DEFAULT.presortedRatio();
+
+            int percent = 100;
+            for (Map.Entry<Integer, Boolean> entry : wins.descendingMap().entrySet()) {
+                if (!entry.getValue()) break;
+                percent = entry.getKey();
+            }
+            return percent / 100.0;
+        }
+
+        /**
+         * Separa una línea CSV de JMH en columnas, quitando las comillas.
+         *
+         * @param line línea a separar
+         * @return columnas de la línea
+         */
+        private static List<String> splitCsv(String line) {
+            List<String> columns = new ArrayList<>();
+            for (String column : line.split(",", -1)) {
+                columns.add(column.replace("\"", "").trim());
+            }
+            return columns;
+        }
+    }
+
+    /**
+     * Decisión tomada para una llamada a sort.
+     *
+     * @param strategy estrategia elegida
+     * @param size tamaño de la lista
+     * @param sortedRatio proporción estimada de pares consecutivos en orden
+     */
+    public record Decision(Strategy strategy, int size, double sortedRatio) {
+    }
+
+    /**
+     * Umbrales utilizados para decidir.
+     */
+    private final Thresholds thresholds;
+
+    /**
+     * Última decisión tomada.
+     */
+    private volatile Decision lastDecision;
+
+    /**
+     * Crea el algoritmo con los umbrales por defecto.
+     */
+    public AdaptiveSort() {
+        this(Thresholds.DEFAULT);
+    }
+
+    /**
+     * Crea el algoritmo con los umbrales indicados.
+     *
+     * @param thresholds umbrales de decisión
+     */
+    public AdaptiveSort(Thresholds thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    /**
+     * Retorna la última decisión tomada por este algoritmo.
+     *
+     * @return última decisión, o null si aún no se ha ordenado nada
+     */
+    public Decision getLastDecision() {
+        return lastDecision;
+    }
+
+    /**
+     * Ordena la lista con la estrategia elegida a partir de una muestra.
+     *
+     * @param list lista de elementos comparables a ordenar
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(List<T> list) {
+        Decision decision = record(decide(list, Comparator.naturalOrder(), true));
+
+        switch (decision.strategy()) {
+            case INSERTION -> new InsertionSort<T>().sort(list);
+            case NATURAL_MERGE -> new NaturalMergeSort<T>().sort(list);
+            case RADIX -> new RadixSort().sort((List<Integer>) list);
+            case THREE_WAY_QUICK -> new ParallelQuickSort<T>().sort(list);
+        }
+    }
+
+    /**
+     * Ordena la lista según el comparador indicado, con la estrategia
+     * elegida a partir de una muestra. Como el orden lo define el
+     * comparador, nunca se elige RadixSort.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    @Override
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        Decision decision = record(decide(list, comparator, false));
+
+        switch (decision.strategy()) {
+            case INSERTION -> new InsertionSort<T>().sort(list, comparator);
+            case NATURAL_MERGE -> new NaturalMergeSort<T>().sort(list, comparator);
+            case RADIX, THREE_WAY_QUICK -> new ParallelQuickSort<T>().sort(list, comparator);
+        }
+    }
+
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * No es estable, ya que puede elegir Quick Sort de tres vías.
+     * Es adaptativo y puede ordenar en paralelo, según la
+     * estrategia elegida para cada entrada. No declara KeyType.INT:
+     * la muestra lee la lista como Integer y NaturalMergeSort y
+     * ParallelQuickSort no tienen versión primitiva.
+     *
+     * @return características del algoritmo
+     */
+    @Override
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(false, false, true, true,
+                KeyType.COMPARABLE, KeyType.COMPARATOR);
+    }
+
+    /**
+     * Registra la decisión en el logger y como última decisión.
+     *
+     * @param decision decisión tomada
+     * @return la misma decisión
+     */
+    private Decision record(Decision decision) {
+        lastDecision = decision;
+        LOGGER.log(Level.DEBUG, () -> "AdaptiveSort: " + decision);
+        return decision;
+    }
+
+    /**
+     * Analiza una muestra de la lista y elige la estrategia.
+     *
+     * @param list lista a analizar
+     * @param c comparador que define el orden
+     * @param natural si el orden es el natural (permite elegir RadixSort)
+     * @return decisión tomada
+     */
+    private <E> Decision decide(List<E> list, Comparator<? super E> c, boolean natural) {
+        int n = list.size();
+        if (n <= thresholds.insertionMax()) {
+            return new Decision(Strategy.INSERTION, n, Double.NaN);
+        }
+
+        List<E> view = list instanceof RandomAccess ? list : new ArrayList<>(list);
+        int samples = Math.min(SAMPLE_SIZE, n - 1);
+
+        // Pares consecutivos en posiciones distribuidas uniformemente
+        int inOrder = 0;
+        boolean integers = natural;
+        for (int s = 0; s < samples; s++) {
+            int i = (int) ((long) s * (n - 1) / samples);
+            E current = view.get(i);
+            if (c.compare(current, view.get(i + 1)) <= 0) {
+                inOrder++;
+            }
+            if (!(current instanceof Integer)) {
+                integers = false;
+            }
+        }
+        double sortedRatio = (double) inOrder / samples;
+
+        Strategy strategy;
+        if (sortedRatio >= thresholds.presortedRatio()) {
+            strategy = Strategy.NATURAL_MERGE;
+        } else if (integers && n >= thresholds.radixMin()) {
+            strategy = Strategy.RADIX;
+        } else {
+            strategy = Strategy.THREE_WAY_QUICK;
+        }
+        return new Decision(strategy, n, sortedRatio);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.sorts;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Vista de una lista que cuenta las lecturas y escrituras de
+ * elementos que hace un algoritmo.
+ *
+ * Todas las operaciones de AbstractList (iteradores, toArray,
+ * ListIterator.set) pasan por get y set, así que también se cuentan.
+ *
+ * Un intercambio se detecta cuando dos escrituras consecutivas en
+ * posiciones distintas se cruzan los valores: la segunda escribe el
+ * elemento que desplazó la primera y desplaza el que la primera
+ * escribió (comparando referencias). Es el patrón de
+ * {@code tmp = get(i); set(i, get(j)); set(j, tmp)}. Los
+ * desplazamientos de Insertion Sort y las mezclas no lo cumplen, salvo
+ * mover un elemento una sola posición, que es idéntico a intercambiarlo
+ * con su vecino y se cuenta como intercambio. La detección supone que
+ * las escrituras sobre la lista son secuenciales.
+ *
+ * @param <E> tipo de los elementos
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+final class CountingList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Lista original.
+     */
+    private final List<E> list;
+
+    /**
+     * Mediciones de la llamada.
+     */
+    private final SortCall call;
+
+    /**
+     * Posición de la última escritura que puede iniciar un intercambio,
+     * o -1.
+     */
+    private int pendingIndex = -1;
+
+    /**
+     * Valor escrito por la última escritura.
+     */
+    private Object pendingWritten;
+
+    /**
+     * Valor desplazado por la última escritura.
+     */
+    private Object pendingDisplaced;
+
+    /**
+     * Crea la vista.
+     *
+     * @param list lista original
+     * @param call mediciones de la llamada
+     */
+    CountingList(List<E> list, SortCall call) {
+        this.list = list;
+        this.call = call;
+    }
+
+    @Override
+    public E get(int index) {
+        call.reads.increment();
+        return list.get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        call.writes.increment();
+        E displaced = list.set(index, element);
+        if (pendingIndex >= 0 && index != pendingIndex
+                && element == pendingDisplaced && displaced == pendingWritten) {
+            call.swaps.increment();
+            pendingIndex = -1;
+        } else {
+            pendingIndex = index;
+            pendingWritten = element;
+            pendingDisplaced = displaced;
+        }
+        return displaced;
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+}
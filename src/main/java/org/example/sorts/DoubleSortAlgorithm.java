@@ -0,0 +1,35 @@
+package org.example.sorts;
+
+/**
+ * Interfaz que define el contrato para los algoritmos de ordenamiento
+ * especializados en arreglos primitivos de tipo double.
+ *
+ * Trabajar directamente sobre double[] evita el boxing/unboxing de
+ * Double y reduce el uso de memoria respecto a List&lt;Double&gt;.
+ *
+ * Los valores NaN no están soportados: el resultado de ordenar
+ * un arreglo que los contenga no está definido.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public interface DoubleSortAlgorithm {
+
+    /**
+     * Ordena de forma ascendente el rango [from, to) del arreglo.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    void sort(double[] a, int from, int to);
+
+    /**
+     * Ordena de forma ascendente todo el arreglo.
+     *
+     * @param a arreglo a ordenar
+     */
+    default void sort(double[] a) {
+        sort(a, 0, a.length);
+    }
+}
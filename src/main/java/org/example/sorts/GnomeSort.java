@@ -1,5 +1,9 @@
 package org.example.sorts;
 
+import org.example.monitoring.SortExecuted;
+import org.example.sorts.SortCapabilities.KeyType;
+
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -36,20 +40,47 @@ public class GnomeSort<T extends Comparable<T>> implements SortAlgorithm<T> {
      */
     @Override
     public void sort(List<T> list) {
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena la lista con Gnome Sort según el comparador indicado.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    @Override
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        SortExecuted event = SortExecuted.start();
         int index = 0;
 
         while (index < list.size()) {
             if (index == 0) {
                 index++;
-            } else if (list.get(index).compareTo(list.get(index - 1)) >= 0) {
+            } else if (comparator.compare(list.get(index), list.get(index - 1)) >= 0) {
                 index++;
             } else {
-                T temp = list.get(index);
+                E temp = list.get(index);
                 list.set(index, list.get(index - 1));
                 list.set(index - 1, temp);
                 index--;
             }
         }
+        event.finish("GnomeSort", list.size());
     }
-}
 
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * Gnome Sort es estable, ordena en el lugar y recorre una lista
+     * ya ordenada en tiempo lineal.
+     *
+     * @return características del algoritmo
+     */
+    @Override
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(true, true, true, false,
+                KeyType.COMPARABLE, KeyType.COMPARATOR);
+    }
+}
@@ -0,0 +1,415 @@
+package org.example.sorts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Ordenamiento incremental para datos que llegan en flujo.
+ *
+ * En lugar de esperar a tener toda la lista, los elementos se agregan
+ * con add o addAll a un buffer en memoria. Cuando el buffer se llena,
+ * se ordena con NaturalMergeSort y se guarda como una secuencia
+ * ordenada (run) en el nivel 0. Las secuencias se organizan en
+ * niveles, como en un árbol LSM: cuando un nivel acumula FAN_IN
+ * secuencias, se mezclan en una sola que pasa al nivel siguiente.
+ * Así el costo de ordenar se reparte durante la carga, cada elemento
+ * se mezcla O(log n) veces y nunca hay más de FAN_IN secuencias por
+ * nivel.
+ *
+ * iterator() recorre los elementos en orden mezclando las secuencias
+ * a demanda con un montículo, por lo que los primeros elementos están
+ * disponibles sin mezclar todo (ver prefix). Los elementos que aún
+ * están en el buffer entran al montículo como una copia ordenada, sin
+ * convertirse en secuencia: recorrer con frecuencia no llena el nivel
+ * 0 de secuencias pequeñas. El iterador ve los elementos agregados
+ * antes de crearlo; los agregados después no lo afectan.
+ *
+ * El orden es estable: entre elementos iguales se conserva el orden
+ * en que fueron agregados.
+ *
+ * Complejidad:
+ * - add: O(log n) amortizado
+ * - iterator: O(k log r) para los primeros k elementos, con r secuencias
+ *
+ * Espacio adicional: O(n)
+ *
+ * @param <E> tipo de los elementos
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class IncrementalSorter<E> implements Iterable<E> {
+
+    /**
+     * Capacidad por defecto del buffer.
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = 1024;
+
+    /**
+     * Cantidad de secuencias de un nivel que se mezclan juntas.
+     */
+    public static final int FAN_IN = 4;
+
+    /**
+     * Comparador que define el orden.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Algoritmo estable con el que se ordena el buffer.
+     */
+    private final SortAlgorithm<?> runSorter = new NaturalMergeSort<>();
+
+    /**
+     * Elementos agregados que aún no forman una secuencia.
+     */
+    private final Object[] buffer;
+
+    /**
+     * Cantidad de elementos en el buffer.
+     */
+    private int buffered;
+
+    /**
+     * Copia ordenada del buffer para los iteradores, o null si el
+     * buffer cambió desde la última copia.
+     */
+    private Object[] sortedBuffer;
+
+    /**
+     * Secuencias ordenadas por nivel. Dentro de un nivel están de la
+     * más antigua a la más nueva, y todo nivel es más antiguo que los
+     * niveles menores.
+     */
+    private final List<List<Object[]>> levels = new ArrayList<>();
+
+    /**
+     * Cantidad total de elementos.
+     */
+    private long size;
+
+    /**
+     * Crea el ordenador con el comparador y la capacidad de buffer por defecto.
+     *
+     * @param comparator comparador que define el orden
+     */
+    public IncrementalSorter(Comparator<? super E> comparator) {
+        this(comparator, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Crea el ordenador con el comparador y la capacidad de buffer indicados.
+     *
+     * @param comparator comparador que define el orden
+     * @param bufferCapacity cantidad de elementos que forman una secuencia del nivel 0
+     * @throws IllegalArgumentException si el comparador es nulo o la capacidad no es positiva
+     */
+    public IncrementalSorter(Comparator<? super E> comparator, int bufferCapacity) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("El comparador no puede ser nulo");
+        }
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("bufferCapacity debe ser positivo: " + bufferCapacity);
+        }
+        this.comparator = comparator;
+        this.buffer = new Object[bufferCapacity];
+    }
+
+    /**
+     * Agrega un elemento.
+     *
+     * @param element elemento a agregar
+     */
+    public void add(E element) {
+        buffer[buffered++] = element;
+        sortedBuffer = null;
+        size++;
+        if (buffered == buffer.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Agrega un lote de elementos, en el orden en que se recorren.
+     *
+     * @param batch elementos a agregar
+     */
+    public void addAll(Iterable<? extends E> batch) {
+        for (E element : batch) {
+            add(element);
+        }
+    }
+
+    /**
+     * Retorna la cantidad de elementos agregados.
+     *
+     * @return cantidad de elementos
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Retorna la cantidad de secuencias ordenadas, sin contar el buffer.
+     *
+     * @return cantidad de secuencias
+     */
+    public int runCount() {
+        int count = 0;
+        for (List<Object[]> level : levels) {
+            count += level.size();
+        }
+        return count;
+    }
+
+    /**
+     * Retorna un iterador que recorre en orden los elementos
+     * agregados hasta ahora, mezclando las secuencias a demanda.
+     *
+     * @return iterador en orden
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<Object[]> runs = runsByAge();
+        if (buffered > 0) {
+            runs.add(sortedBuffer());
+        }
+        return new MergeIterator<>(runs, comparator);
+    }
+
+    /**
+     * Retorna los k menores elementos en orden, sin mezclar el resto.
+     *
+     * @param k cantidad de elementos
+     * @return a lo sumo k elementos, de menor a mayor
+     * @throws IllegalArgumentException si k es negativo
+     */
+    public List<E> prefix(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k no puede ser negativo: " + k);
+        }
+        List<E> result = new ArrayList<>((int) Math.min(k, size));
+        Iterator<E> it = iterator();
+        while (result.size() < k && it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * Mezcla todas las secuencias en una sola, de modo que los
+     * recorridos siguientes no necesiten el montículo.
+     */
+    public void compact() {
+        flush();
+        List<Object[]> runs = runsByAge();
+        if (runs.size() <= 1) return;
+
+        Object[] merged = merge(runs, size);
+        levels.clear();
+        int level = 0;
+        for (long n = merged.length / buffer.length; n >= FAN_IN; n /= FAN_IN) {
+            level++;
+        }
+        levelAt(level).add(merged);
+    }
+
+    /**
+     * Retorna una copia ordenada del buffer, que es la secuencia más
+     * nueva para los iteradores. La copia se reutiliza mientras no se
+     * agreguen elementos y nunca se modifica, así que varios
+     * iteradores pueden compartirla.
+     *
+     * @return elementos del buffer ordenados
+     */
+    private Object[] sortedBuffer() {
+        if (sortedBuffer == null) {
+            sortedBuffer = Arrays.copyOf(buffer, buffered);
+            runSorter.sort(Arrays.asList(sortedBuffer), elementComparator());
+        }
+        return sortedBuffer;
+    }
+
+    /**
+     * Ordena el buffer, lo guarda como secuencia del nivel 0 y mezcla
+     * los niveles que se llenaron.
+     */
+    private void flush() {
+        if (buffered == 0) return;
+
+        Object[] run = Arrays.copyOf(buffer, buffered);
+        Arrays.fill(buffer, 0, buffered, null);
+        buffered = 0;
+        sortedBuffer = null;
+        runSorter.sort(Arrays.asList(run), elementComparator());
+        levelAt(0).add(run);
+
+        for (int level = 0; levels.get(level).size() >= FAN_IN; level++) {
+            List<Object[]> full = levels.get(level);
+            long total = 0;
+            for (Object[] r : full) total += r.length;
+            Object[] merged = merge(full, total);
+            full.clear();
+            levelAt(level + 1).add(merged);
+        }
+    }
+
+    /**
+     * Retorna el nivel indicado, creándolo si no existe.
+     *
+     * @param level número de nivel
+     * @return secuencias del nivel
+     */
+    private List<Object[]> levelAt(int level) {
+        while (levels.size() <= level) {
+            levels.add(new ArrayList<>(FAN_IN));
+        }
+        return levels.get(level);
+    }
+
+    /**
+     * Retorna todas las secuencias de la más antigua a la más nueva.
+     *
+     * @return secuencias ordenadas por antigüedad
+     */
+    private List<Object[]> runsByAge() {
+        List<Object[]> runs = new ArrayList<>();
+        for (int level = levels.size() - 1; level >= 0; level--) {
+            runs.addAll(levels.get(level));
+        }
+        return runs;
+    }
+
+    /**
+     * Mezcla varias secuencias en un arreglo nuevo.
+     *
+     * @param runs secuencias de la más antigua a la más nueva
+     * @param total cantidad total de elementos
+     * @return secuencia mezclada
+     * @throws IllegalStateException si el resultado excede el tamaño máximo de un arreglo
+     */
+    private Object[] merge(List<Object[]> runs, long total) {
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("La secuencia excede el tamaño máximo de un arreglo: " + total);
+        }
+        Object[] merged = new Object[(int) total];
+        MergeIterator<E> it = new MergeIterator<>(runs, comparator);
+        for (int i = 0; it.hasNext(); i++) {
+            merged[i] = it.next();
+        }
+        return merged;
+    }
+
+    /**
+     * Retorna el comparador aplicado a los elementos guardados como Object.
+     *
+     * @return comparador de elementos
+     */
+    @SuppressWarnings("unchecked")
+    private Comparator<Object> elementComparator() {
+        return (Comparator<Object>) comparator;
+    }
+
+    /**
+     * Iterador que mezcla varias secuencias ordenadas con un montículo
+     * de cursores. Ante elementos iguales avanza primero la secuencia
+     * más antigua, lo que mantiene la estabilidad.
+     *
+     * @param <E> tipo de los elementos
+     */
+    private static final class MergeIterator<E> implements Iterator<E> {
+
+        /**
+         * Montículo de cursores ordenado por el elemento actual y la antigüedad.
+         */
+        private final PriorityQueue<Cursor> heap;
+
+        /**
+         * Crea el iterador sobre las secuencias indicadas.
+         *
+         * @param runs secuencias de la más antigua a la más nueva
+         * @param comparator comparador que define el orden
+         */
+        @SuppressWarnings("unchecked")
+        MergeIterator(List<Object[]> runs, Comparator<? super E> comparator) {
+            Comparator<Object> c = (Comparator<Object>) comparator;
+            heap = new PriorityQueue<>(Math.max(1, runs.size()), (x, y) -> {
+                int cmp = c.compare(x.run[x.index], y.run[y.index]);
+                return cmp != 0 ? cmp : Integer.compare(x.age, y.age);
+            });
+            for (int age = 0; age < runs.size(); age++) {
+                Object[] run = runs.get(age);
+                if (run.length > 0) {
+                    heap.add(new Cursor(run, age));
+                }
+            }
+        }
+
+        /**
+         * Indica si quedan elementos.
+         *
+         * @return true si alguna secuencia no se terminó de recorrer
+         */
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        /**
+         * Retorna el menor elemento pendiente.
+         *
+         * @return siguiente elemento en orden
+         * @throws NoSuchElementException si no quedan elementos
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            Cursor cursor = heap.poll();
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+            E element = (E) cursor.run[cursor.index++];
+            if (cursor.index < cursor.run.length) {
+                heap.add(cursor);
+            }
+            return element;
+        }
+    }
+
+    /**
+     * Posición actual dentro de una secuencia.
+     */
+    private static final class Cursor {
+
+        /**
+         * Secuencia recorrida.
+         */
+        private final Object[] run;
+
+        /**
+         * Antigüedad de la secuencia; menor es más antigua.
+         */
+        private final int age;
+
+        /**
+         * Índice del elemento actual.
+         */
+        private int index;
+
+        /**
+         * Crea un cursor al inicio de la secuencia.
+         *
+         * @param run secuencia recorrida
+         * @param age antigüedad de la secuencia
+         */
+        Cursor(Object[] run, int age) {
+            this.run = run;
+            this.age = age;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package org.example.sorts;
 
+import org.example.monitoring.SortExecuted;
+import org.example.sorts.SortCapabilities.KeyType;
+
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -25,6 +29,11 @@ import java.util.List;
  */
 public class InsertionSort<T extends Comparable<T>> implements SortAlgorithm<T> {
 
+    /**
+     * Versión primitiva usada cuando la lista es un IntArrayList.
+     */
+    private static final PrimitiveInsertionSort PRIMITIVE = new PrimitiveInsertionSort();
+
     /**
      * Ordena la lista utilizando el algoritmo Insertion Sort.
      *
@@ -32,21 +41,57 @@ public class InsertionSort<T extends Comparable<T>> implements SortAlgorithm<T>
      * y desplazando los elementos mayores hacia la derecha hasta encontrar
      * la posición correcta para insertarlo.
      *
+     * Si la lista es un IntArrayList, se ordena directamente su
+     * arreglo interno con la versión primitiva del algoritmo.
+     *
      * @param list lista de elementos comparables a ordenar
      */
     @Override
     public void sort(List<T> list) {
+        if (list instanceof IntArrayList ints) {
+            SortExecuted event = SortExecuted.start();
+            PRIMITIVE.sort(ints.elements(), 0, ints.size());
+            event.finish("InsertionSort", ints.size());
+            return;
+        }
+
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena la lista con Insertion Sort según el comparador indicado.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    @Override
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        SortExecuted event = SortExecuted.start();
         for (int i = 1; i < list.size(); i++) {
-            T key = list.get(i);
+            E key = list.get(i);
             int j = i - 1;
 
-            while (j >= 0 && list.get(j).compareTo(key) > 0) {
+            while (j >= 0 && comparator.compare(list.get(j), key) > 0) {
                 list.set(j + 1, list.get(j));
                 j--;
             }
             list.set(j + 1, key);
         }
+        event.finish("InsertionSort", list.size());
     }
-}
-
 
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * Insertion Sort es estable, ordena en el lugar y es lineal sobre
+     * listas ya ordenadas. Ordena IntArrayList sin conversión a objetos.
+     *
+     * @return características del algoritmo
+     */
+    @Override
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(true, true, true, false,
+                KeyType.COMPARABLE, KeyType.COMPARATOR, KeyType.INT);
+    }
+}
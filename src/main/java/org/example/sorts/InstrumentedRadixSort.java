@@ -0,0 +1,95 @@
+package org.example.sorts;
+
+import java.util.List;
+
+/**
+ * Decorador de {@link RadixSort} que cuenta las lecturas y escrituras
+ * de elementos de la lista y los bytes auxiliares asignados, con los
+ * mismos contadores y eventos JFR que {@link InstrumentedSort}.
+ *
+ * Radix Sort no compara elementos, por lo que las comparaciones y los
+ * intercambios son siempre 0. La lista se recibe a través de una vista
+ * que cuenta los accesos, salvo un IntArrayList, que se pasa sin
+ * decorar para que use su camino rápido sobre el arreglo interno; esa
+ * llamada solo mide los bytes asignados y sus conteos son -1.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public final class InstrumentedRadixSort extends RadixSort {
+
+    /**
+     * Algoritmo decorado.
+     */
+    private final RadixSort delegate;
+
+    /**
+     * Contadores acumulados.
+     */
+    private final SortCounters counters;
+
+    /**
+     * Valores de la última llamada terminada.
+     */
+    private volatile SortCounters.Snapshot last;
+
+    /**
+     * Crea el decorador.
+     *
+     * @param delegate algoritmo decorado
+     * @param counters contadores acumulados
+     */
+    private InstrumentedRadixSort(RadixSort delegate, SortCounters counters) {
+        this.delegate = delegate;
+        this.counters = counters;
+    }
+
+    /**
+     * Decora un Radix Sort. Si la instrumentación está desactivada
+     * retorna el mismo algoritmo.
+     *
+     * @param delegate algoritmo a decorar
+     * @param counters contadores donde se acumulan las llamadas
+     * @return algoritmo instrumentado, o el original
+     */
+    public static RadixSort wrap(RadixSort delegate, SortCounters counters) {
+        if (!SortCounters.ENABLED) {
+            return delegate;
+        }
+        return new InstrumentedRadixSort(delegate, counters);
+    }
+
+    @Override
+    public void sort(List<Integer> list) {
+        if (list == null || list.isEmpty()) {
+            delegate.sort(list);
+            return;
+        }
+        SortCall call = new SortCall(list.size());
+        if (list instanceof IntArrayList) {
+            call.uncounted();
+            call.start();
+            delegate.sort(list);
+            last = call.finish(counters, "RadixSort", list.size());
+            return;
+        }
+        CountingList<Integer> view = new CountingList<>(list, call);
+        call.start();
+        delegate.sort(view);
+        last = call.finish(counters, "RadixSort", list.size());
+    }
+
+    @Override
+    public SortCapabilities capabilities() {
+        return delegate.capabilities();
+    }
+
+    /**
+     * Retorna los valores de la última llamada terminada.
+     *
+     * @return valores de la última llamada, o null si no hubo ninguna
+     */
+    public SortCounters.Snapshot lastCall() {
+        return last;
+    }
+}
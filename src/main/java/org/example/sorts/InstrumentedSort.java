@@ -0,0 +1,126 @@
+package org.example.sorts;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Decorador que mide lo que hace un algoritmo de ordenamiento, no solo
+ * cuánto tarda: comparaciones, lecturas y escrituras de elementos,
+ * intercambios, profundidad de pila (como aproximación de la
+ * profundidad de recursión) y bytes auxiliares asignados.
+ *
+ * Los valores de cada llamada se suman a un {@link SortCounters} y se
+ * emiten en un evento JFR (org.example.sorts.InstrumentedSort).
+ *
+ * El algoritmo recibe una vista de la lista que cuenta los accesos y un
+ * comparador que cuenta las comparaciones; sort(list) se ordena con el
+ * orden natural a través del comparador. Eso cambia el camino que
+ * elige el algoritmo decorado: AdaptiveSort y StableSort nunca eligen
+ * Radix Sort con un comparador. Un IntArrayList, en cambio, se pasa
+ * sin decorar para que use su camino primitivo; esa llamada solo mide
+ * los bytes asignados y sus conteos son -1. Los accesos que el algoritmo hace sobre
+ * sus propios arreglos auxiliares no pasan por la lista y no se
+ * cuentan; se reflejan en los bytes asignados. Los bytes asignados son
+ * los del hilo que llama a sort: en algoritmos paralelos no incluyen
+ * los de los hilos del pool.
+ *
+ * @param <T> tipo de dato que implementa Comparable
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public final class InstrumentedSort<T extends Comparable<T>> implements SortAlgorithm<T> {
+
+    /**
+     * Algoritmo decorado.
+     */
+    private final SortAlgorithm<T> delegate;
+
+    /**
+     * Nombre del algoritmo en los eventos.
+     */
+    private final String name;
+
+    /**
+     * Contadores acumulados.
+     */
+    private final SortCounters counters;
+
+    /**
+     * Valores de la última llamada terminada.
+     */
+    private volatile SortCounters.Snapshot last;
+
+    /**
+     * Crea el decorador.
+     *
+     * @param name nombre del algoritmo en los eventos
+     * @param delegate algoritmo decorado
+     * @param counters contadores acumulados
+     */
+    private InstrumentedSort(String name, SortAlgorithm<T> delegate, SortCounters counters) {
+        this.name = name;
+        this.delegate = delegate;
+        this.counters = counters;
+    }
+
+    /**
+     * Decora un algoritmo. Si la instrumentación está desactivada
+     * ({@link SortCounters#ENABLED} es falso) retorna el mismo
+     * algoritmo, sin ningún costo adicional.
+     *
+     * @param name nombre del algoritmo en los eventos
+     * @param delegate algoritmo a decorar
+     * @param counters contadores donde se acumulan las llamadas
+     * @param <T> tipo de dato que implementa Comparable
+     * @return algoritmo instrumentado, o el original
+     */
+    public static <T extends Comparable<T>> SortAlgorithm<T> wrap(String name, SortAlgorithm<T> delegate,
+                                                                  SortCounters counters) {
+        if (!SortCounters.ENABLED) {
+            return delegate;
+        }
+        return new InstrumentedSort<>(name, delegate, counters);
+    }
+
+    @Override
+    public void sort(List<T> list) {
+        if (list instanceof IntArrayList) {
+            SortCall call = new SortCall(list.size());
+            call.uncounted();
+            call.start();
+            delegate.sort(list);
+            last = call.finish(counters, name, list.size());
+            return;
+        }
+        sort(list, Comparator.naturalOrder());
+    }
+
+    @Override
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null) {
+            delegate.sort(null, comparator);
+            return;
+        }
+        SortCall call = new SortCall(list.size());
+        CountingList<E> view = new CountingList<>(list, call);
+        Comparator<E> counting = call.counting(comparator);
+        call.start();
+        delegate.sort(view, counting);
+        last = call.finish(counters, name, list.size());
+    }
+
+    @Override
+    public SortCapabilities capabilities() {
+        return delegate.capabilities();
+    }
+
+    /**
+     * Retorna los valores de la última llamada terminada.
+     *
+     * @return valores de la última llamada, o null si no hubo ninguna
+     */
+    public SortCounters.Snapshot lastCall() {
+        return last;
+    }
+}
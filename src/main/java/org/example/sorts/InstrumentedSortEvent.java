@@ -0,0 +1,75 @@
+package org.example.sorts;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR emitido por cada llamada a un algoritmo instrumentado,
+ * con la duración de la llamada y sus contadores.
+ *
+ * Se registra en cualquier grabación JFR activa (por ejemplo, la que
+ * inicia Main) y se puede consultar con:
+ * jfr print --events org.example.sorts.InstrumentedSort archivo.jfr
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+@Name("org.example.sorts.InstrumentedSort")
+@Label("Instrumented Sort")
+@Category("Sorting")
+@Description("Una llamada a un algoritmo instrumentado con sus contadores")
+final class InstrumentedSortEvent extends Event {
+
+    /**
+     * Nombre del algoritmo.
+     */
+    @Label("Algorithm")
+    String algorithm;
+
+    /**
+     * Elementos ordenados.
+     */
+    @Label("Size")
+    int size;
+
+    /**
+     * Comparaciones entre elementos.
+     */
+    @Label("Comparisons")
+    long comparisons;
+
+    /**
+     * Lecturas de elementos.
+     */
+    @Label("Reads")
+    long reads;
+
+    /**
+     * Escrituras de elementos.
+     */
+    @Label("Writes")
+    long writes;
+
+    /**
+     * Intercambios detectados.
+     */
+    @Label("Swaps")
+    long swaps;
+
+    /**
+     * Profundidad máxima de pila muestreada.
+     */
+    @Label("Max Stack Depth")
+    int maxStackDepth;
+
+    /**
+     * Bytes auxiliares asignados por el hilo que llamó.
+     */
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
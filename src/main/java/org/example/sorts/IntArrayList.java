@@ -0,0 +1,185 @@
+package org.example.sorts;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Lista de enteros respaldada directamente por un arreglo int[].
+ *
+ * Implementa List&lt;Integer&gt; para poder usarse con cualquier
+ * SortAlgorithm, pero almacena los valores como primitivos.
+ * Los algoritmos que cuentan con una versión primitiva
+ * (QuickSort, MergeSort, InsertionSort y RadixSort) detectan
+ * esta clase y ordenan el arreglo interno sin boxing.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+
+    /**
+     * Capacidad inicial cuando no se especifica una.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Arreglo que almacena los elementos.
+     */
+    private int[] elements;
+
+    /**
+     * Cantidad de elementos válidos dentro del arreglo.
+     */
+    private int size;
+
+    /**
+     * Crea una lista vacía con la capacidad por defecto.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Crea una lista vacía con la capacidad indicada.
+     *
+     * @param capacity capacidad inicial
+     */
+    public IntArrayList(int capacity) {
+        elements = new int[capacity];
+    }
+
+    /**
+     * Crea una lista que envuelve el arreglo recibido sin copiarlo.
+     * Los cambios en la lista se reflejan en el arreglo y viceversa
+     * (mientras la lista no necesite crecer).
+     *
+     * @param elements arreglo a envolver
+     */
+    public IntArrayList(int[] elements) {
+        this.elements = elements;
+        this.size = elements.length;
+    }
+
+    /**
+     * Retorna el arreglo interno. Solo las primeras size() posiciones
+     * contienen elementos de la lista.
+     *
+     * @return arreglo que respalda la lista
+     */
+    public int[] elements() {
+        return elements;
+    }
+
+    /**
+     * Retorna el valor en la posición indicada sin boxing.
+     *
+     * @param index posición del elemento
+     * @return valor almacenado
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Reemplaza el valor en la posición indicada sin boxing.
+     *
+     * @param index posición del elemento
+     * @param value nuevo valor
+     * @return valor anterior
+     */
+    public int setInt(int index, int value) {
+        checkIndex(index);
+        int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    /**
+     * Agrega un valor al final de la lista sin boxing.
+     *
+     * @param value valor a agregar
+     */
+    public void addInt(int value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * Retorna una copia de los elementos como arreglo primitivo.
+     *
+     * @return arreglo con los elementos de la lista
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+        return setInt(index, value);
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int v = value;
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = v;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index);
+        int old = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Garantiza que el arreglo interno tenga al menos la capacidad indicada.
+     *
+     * @param capacity capacidad mínima requerida
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int newCapacity = Math.max(capacity, elements.length + (elements.length >> 1) + 1);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    /**
+     * Verifica que el índice esté dentro de los límites de la lista.
+     *
+     * @param index índice a verificar
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.sorts;
+
+/**
+ * Operaciones básicas sobre int[] que dominan el tiempo de los
+ * algoritmos recursivos: ordenar bloques pequeños (caso base) y
+ * particionar un rango alrededor de un pivote.
+ *
+ * Existen dos implementaciones:
+ * - ScalarIntKernels, con Insertion Sort y una partición escalar.
+ * - VectorIntKernels, con redes de ordenamiento y partición usando
+ *   la API incubadora jdk.incubator.vector. Solo se compila con el
+ *   perfil Maven "vector" y solo se usa si la JVM se inicia con
+ *   --add-modules jdk.incubator.vector.
+ *
+ * best() elige la implementación vectorial si está disponible y,
+ * en caso contrario, la escalar, sin que quien llama lo note. La
+ * propiedad de sistema "org.example.sorts.simd=false" fuerza la
+ * versión escalar.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public interface IntKernels {
+
+    /**
+     * Retorna la mejor implementación disponible en esta JVM.
+     *
+     * @return implementación vectorial, o la escalar si no está disponible
+     */
+    static IntKernels best() {
+        return IntKernelsLoader.BEST;
+    }
+
+    /**
+     * Retorna el tamaño máximo de bloque que acepta sortSmall.
+     *
+     * @return cantidad máxima de elementos de un bloque
+     */
+    int maxBlock();
+
+    /**
+     * Ordena de forma ascendente el rango [from, to), cuyo tamaño no
+     * puede superar maxBlock().
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @throws IllegalArgumentException si el rango supera maxBlock()
+     */
+    void sortSmall(int[] a, int from, int to);
+
+    /**
+     * Reordena el rango [from, to) para que los elementos menores que
+     * el pivote queden antes que los demás. El orden dentro de cada
+     * parte no está definido.
+     *
+     * @param a arreglo a particionar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @param pivot valor del pivote
+     * @return índice del primer elemento mayor o igual que el pivote
+     */
+    int partition(int[] a, int from, int to, int pivot);
+}
@@ -0,0 +1,54 @@
+package org.example.sorts;
+
+/**
+ * Carga perezosa de la implementación de IntKernels.
+ *
+ * La clase VectorIntKernels se busca por reflexión porque solo existe
+ * si se compiló con el perfil "vector", y solo puede cargarse si el
+ * módulo jdk.incubator.vector está presente en la JVM.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+final class IntKernelsLoader {
+
+    /**
+     * Nombre de la clase de la implementación vectorial.
+     */
+    private static final String VECTOR_CLASS = "org.example.sorts.VectorIntKernels";
+
+    /**
+     * Propiedad de sistema que permite desactivar la versión vectorial.
+     */
+    static final String SIMD_PROPERTY = "org.example.sorts.simd";
+
+    /**
+     * Mejor implementación disponible.
+     */
+    static final IntKernels BEST = load();
+
+    /**
+     * Clase de utilidades; no se instancia.
+     */
+    private IntKernelsLoader() {
+    }
+
+    /**
+     * Intenta crear la implementación vectorial y, si no está
+     * disponible, retorna la escalar.
+     *
+     * @return implementación a usar
+     */
+    private static IntKernels load() {
+        if (!Boolean.parseBoolean(System.getProperty(SIMD_PROPERTY, "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarIntKernels();
+        }
+        try {
+            return (IntKernels) Class.forName(VECTOR_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | UnsupportedOperationException e) {
+            // Clase no compilada, módulo ausente o hardware sin vectores útiles
+            return new ScalarIntKernels();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.sorts;
+
+/**
+ * Interfaz que define el contrato para los algoritmos de ordenamiento
+ * especializados en arreglos primitivos de tipo int.
+ *
+ * Trabajar directamente sobre int[] evita el boxing/unboxing de
+ * Integer y reduce el uso de memoria respecto a List&lt;Integer&gt;.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public interface IntSortAlgorithm {
+
+    /**
+     * Ordena de forma ascendente el rango [from, to) del arreglo.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    void sort(int[] a, int from, int to);
+
+    /**
+     * Ordena de forma ascendente todo el arreglo.
+     *
+     * @param a arreglo a ordenar
+     */
+    default void sort(int[] a) {
+        sort(a, 0, a.length);
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.sorts;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ordenamiento por clave primitiva (decorar, ordenar, desdecorar).
+ *
+ * En lugar de comparar objetos en cada paso, la clave de cada elemento
+ * se extrae una sola vez a un arreglo primitivo junto con su posición
+ * original. Ese arreglo se ordena con Radix Sort y luego los objetos se
+ * reubican según las posiciones ordenadas. Sirve sobre todo cuando la
+ * clave es costosa de obtener o cuando comparar objetos implica
+ * llamadas virtuales.
+ *
+ * - sortByInt empaqueta (clave, posición) en un long, cuyo orden con
+ *   signo coincide con el orden por clave y luego por posición, y lo
+ *   ordena con PrimitiveRadixSort.
+ * - sortByLong ordena las claves long acompañadas de sus posiciones
+ *   con un Radix Sort LSD propio.
+ *
+ * Ambos son estables: los elementos con la misma clave conservan su
+ * orden relativo.
+ *
+ * Complejidad: O(n) extracciones de clave y O(d·n) para ordenar
+ *
+ * Espacio adicional: O(n)
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public final class KeySort {
+
+    /**
+     * Tamaño por debajo del cual se usa Insertion Sort en lugar de Radix Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 64;
+
+    /**
+     * Bits por dígito del Radix Sort de claves long.
+     */
+    private static final int DIGIT_BITS = 8;
+
+    /**
+     * Cantidad de valores posibles de un dígito.
+     */
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    /**
+     * Radix Sort usado para las claves int empaquetadas.
+     */
+    private static final PrimitiveRadixSort RADIX_SORT = new PrimitiveRadixSort();
+
+    /**
+     * Insertion Sort usado para las listas pequeñas.
+     */
+    private static final PrimitiveInsertionSort INSERTION_SORT = new PrimitiveInsertionSort();
+
+    /**
+     * Clase de utilidades, no se instancia.
+     */
+    private KeySort() {
+    }
+
+    /**
+     * Ordena la lista de forma ascendente según una clave int.
+     *
+     * @param list lista a ordenar
+     * @param key función que obtiene la clave de cada elemento
+     * @param <E> tipo de los elementos de la lista
+     */
+    public static <E> void sortByInt(List<E> list, ToIntFunction<? super E> key) {
+        int n = list.size();
+        if (n <= 1) return;
+
+        // Clave en los 32 bits altos y posición en los 32 bits bajos
+        long[] packed = new long[n];
+        int i = 0;
+        for (E element : list) {
+            packed[i] = ((long) key.applyAsInt(element) << 32) | i;
+            i++;
+        }
+
+        if (n <= INSERTION_THRESHOLD) {
+            INSERTION_SORT.sort(packed, 0, n);
+        } else {
+            RADIX_SORT.sort(packed, 0, n);
+        }
+
+        int[] order = new int[n];
+        for (int j = 0; j < n; j++) {
+            order[j] = (int) packed[j];
+        }
+        permute(list, order);
+    }
+
+    /**
+     * Ordena la lista de forma ascendente según una clave long.
+     *
+     * @param list lista a ordenar
+     * @param key función que obtiene la clave de cada elemento
+     * @param <E> tipo de los elementos de la lista
+     */
+    public static <E> void sortByLong(List<E> list, ToLongFunction<? super E> key) {
+        int n = list.size();
+        if (n <= 1) return;
+
+        long[] keys = new long[n];
+        int[] order = new int[n];
+        int i = 0;
+        for (E element : list) {
+            keys[i] = key.applyAsLong(element);
+            order[i] = i;
+            i++;
+        }
+
+        if (n <= INSERTION_THRESHOLD) {
+            insertionSort(keys, order, n);
+        } else {
+            radixSort(keys, order, n);
+        }
+        permute(list, order);
+    }
+
+    /**
+     * Reubica los elementos: la posición j de la lista recibe el
+     * elemento que estaba en order[j].
+     *
+     * @param list lista a reordenar
+     * @param order posiciones originales en el orden final
+     * @param <E> tipo de los elementos de la lista
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> void permute(List<E> list, int[] order) {
+        Object[] elements = list.toArray();
+        if (list instanceof RandomAccess) {
+            for (int j = 0; j < order.length; j++) {
+                list.set(j, (E) elements[order[j]]);
+            }
+        } else {
+            ListIterator<E> it = list.listIterator();
+            for (int index : order) {
+                it.next();
+                it.set((E) elements[index]);
+            }
+        }
+    }
+
+    /**
+     * Ordena las claves con Insertion Sort moviendo también sus posiciones.
+     *
+     * @param keys claves
+     * @param order posiciones asociadas a cada clave
+     * @param n cantidad de elementos
+     */
+    private static void insertionSort(long[] keys, int[] order, int n) {
+        for (int i = 1; i < n; i++) {
+            long key = keys[i];
+            int index = order[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            order[j + 1] = index;
+        }
+    }
+
+    /**
+     * Ordena las claves con Radix Sort LSD (estable) moviendo también
+     * sus posiciones. El bit de signo se invierte para que las claves
+     * negativas queden antes que las positivas, y se omiten las
+     * pasadas en que todas las claves comparten el dígito.
+     *
+     * @param keys claves
+     * @param order posiciones asociadas a cada clave
+     * @param n cantidad de elementos
+     */
+    private static void radixSort(long[] keys, int[] order, int n) {
+        int passes = Long.SIZE / DIGIT_BITS;
+        int[] count = new int[passes * RADIX];
+        for (int i = 0; i < n; i++) {
+            long k = keys[i] ^ Long.MIN_VALUE;
+            for (int p = 0; p < passes; p++) {
+                count[p * RADIX + (int) ((k >>> (p * DIGIT_BITS)) & (RADIX - 1))]++;
+            }
+        }
+
+        long[] srcKeys = keys;
+        int[] srcOrder = order;
+        long[] dstKeys = new long[n];
+        int[] dstOrder = new int[n];
+        long first = keys[0] ^ Long.MIN_VALUE;
+
+        for (int p = 0; p < passes; p++) {
+            int shift = p * DIGIT_BITS;
+            int base = p * RADIX;
+            if (count[base + (int) ((first >>> shift) & (RADIX - 1))] == n) {
+                continue; // Todas las claves comparten este dígito
+            }
+
+            int sum = 0;
+            for (int d = base; d < base + RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int d = base + (int) (((srcKeys[i] ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1));
+                int target = count[d]++;
+                dstKeys[target] = srcKeys[i];
+                dstOrder[target] = srcOrder[i];
+            }
+
+            long[] tk = srcKeys; srcKeys = dstKeys; dstKeys = tk;
+            int[] to = srcOrder; srcOrder = dstOrder; dstOrder = to;
+        }
+
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, n);
+            System.arraycopy(srcOrder, 0, order, 0, n);
+        }
+    }
+}
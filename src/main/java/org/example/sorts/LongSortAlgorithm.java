@@ -0,0 +1,32 @@
+package org.example.sorts;
+
+/**
+ * Interfaz que define el contrato para los algoritmos de ordenamiento
+ * especializados en arreglos primitivos de tipo long.
+ *
+ * Trabajar directamente sobre long[] evita el boxing/unboxing de
+ * Long y reduce el uso de memoria respecto a List&lt;Long&gt;.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public interface LongSortAlgorithm {
+
+    /**
+     * Ordena de forma ascendente el rango [from, to) del arreglo.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    void sort(long[] a, int from, int to);
+
+    /**
+     * Ordena de forma ascendente todo el arreglo.
+     *
+     * @param a arreglo a ordenar
+     */
+    default void sort(long[] a) {
+        sort(a, 0, a.length);
+    }
+}
@@ -1,7 +1,13 @@
 package org.example.sorts;
 
+import org.example.monitoring.SortExecuted;
+import org.example.sorts.SortCapabilities.KeyType;
+
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
 
 /**
  * Implementación del algoritmo Merge Sort.
@@ -12,6 +18,16 @@ import java.util.List;
  *
  * Es un algoritmo estable y eficiente para grandes volúmenes de datos.
  *
+ * Tiene dos modos:
+ * - Recursivo (constructor sin parámetros): crea sublistas en cada
+ *   nivel de la recursión.
+ * - Ascendente sin reservas (constructor con MergeWorkspace o
+ *   withThreadLocalWorkspace()): no usa recursión; ordena bloques
+ *   pequeños con Insertion Sort y luego mezcla bloques de tamaño
+ *   1, 2, 4, ... alternando entre dos arreglos del espacio de trabajo.
+ *   Con un espacio de trabajo ya dimensionado y una lista RandomAccess
+ *   (o un IntArrayList), ordenar no reserva memoria.
+ *
  * Complejidad:
  * - Mejor caso: O(n log n)
  * - Caso promedio: O(n log n)
@@ -26,6 +42,74 @@ import java.util.List;
  */
 public class MergeSort<T extends Comparable<T>> implements SortAlgorithm<T> {
 
+    /**
+     * Versión primitiva usada cuando la lista es un IntArrayList.
+     */
+    private static final PrimitiveMergeSort PRIMITIVE = new PrimitiveMergeSort();
+
+    /**
+     * Tamaño de los bloques que el modo ascendente ordena con
+     * Insertion Sort antes de empezar a mezclar.
+     */
+    private static final int INSERTION_RUN = 16;
+
+    /**
+     * Espacio de trabajo del modo ascendente, o null si se usa el
+     * del hilo actual.
+     */
+    private final MergeWorkspace workspace;
+
+    /**
+     * Indica si se usa el modo ascendente sin reservas.
+     */
+    private final boolean bottomUp;
+
+    /**
+     * Crea el algoritmo en modo recursivo.
+     */
+    public MergeSort() {
+        this.workspace = null;
+        this.bottomUp = false;
+    }
+
+    /**
+     * Crea el algoritmo en modo ascendente usando el espacio de trabajo
+     * dado. El espacio de trabajo no debe compartirse entre hilos que
+     * ordenen al mismo tiempo.
+     *
+     * @param workspace espacio de trabajo reutilizable
+     * @throws IllegalArgumentException si workspace es null
+     */
+    public MergeSort(MergeWorkspace workspace) {
+        if (workspace == null) {
+            throw new IllegalArgumentException("El espacio de trabajo no puede ser null");
+        }
+        this.workspace = workspace;
+        this.bottomUp = true;
+    }
+
+    /**
+     * Constructor interno, sin espacio de trabajo propio.
+     *
+     * @param bottomUp si se usa el modo ascendente con el espacio de trabajo del hilo
+     */
+    private MergeSort(boolean bottomUp) {
+        this.workspace = null;
+        this.bottomUp = bottomUp;
+    }
+
+    /**
+     * Crea el algoritmo en modo ascendente usando el espacio de trabajo
+     * del hilo que llama a sort (MergeWorkspace.current()). La instancia
+     * puede compartirse entre hilos.
+     *
+     * @param <T> tipo de dato que implementa la interfaz Comparable
+     * @return algoritmo en modo ascendente
+     */
+    public static <T extends Comparable<T>> MergeSort<T> withThreadLocalWorkspace() {
+        return new MergeSort<>(true);
+    }
+
     /**
      * Ordena la lista utilizando el algoritmo Merge Sort.
      *
@@ -33,20 +117,108 @@ public class MergeSort<T extends Comparable<T>> implements SortAlgorithm<T> {
      * En caso contrario, se divide en dos sublistas, se ordenan
      * recursivamente y luego se combinan.
      *
+     * Si la lista es un IntArrayList, se ordena directamente su
+     * arreglo interno con la versión primitiva del algoritmo.
+     *
      * @param list lista de elementos comparables a ordenar
      */
     @Override
     public void sort(List<T> list) {
+        if (list instanceof IntArrayList ints) {
+            SortExecuted event = SortExecuted.start();
+            if (bottomUp) {
+                MergeWorkspace ws = workspace();
+                PRIMITIVE.sort(ints.elements(), 0, ints.size(), ws.ints(ints.size()));
+                release(ws);
+            } else {
+                PRIMITIVE.sort(ints.elements(), 0, ints.size());
+            }
+            event.finish("MergeSort", ints.size());
+            return;
+        }
+
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena la lista con Merge Sort según el comparador indicado,
+     * en el modo configurado. El algoritmo es estable.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    @Override
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        SortExecuted event = SortExecuted.start();
+        if (bottomUp) {
+            MergeWorkspace ws = workspace();
+            try {
+                sortBottomUp(list, ws, comparator);
+            } finally {
+                release(ws);
+            }
+        } else {
+            mergeSort(list, comparator);
+        }
+        event.finish("MergeSort", list.size());
+    }
+
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * Merge Sort es estable y usa memoria adicional O(n). Solo el modo
+     * ascendente es adaptativo: omite las mezclas de bloques que ya
+     * están en orden.
+     *
+     * @return características del algoritmo
+     */
+    @Override
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(true, false, bottomUp, false,
+                KeyType.COMPARABLE, KeyType.COMPARATOR, KeyType.INT);
+    }
+
+    /**
+     * Retorna el espacio de trabajo del modo ascendente.
+     *
+     * @return espacio de trabajo propio o el del hilo actual
+     */
+    private MergeWorkspace workspace() {
+        return workspace != null ? workspace : MergeWorkspace.current();
+    }
+
+    /**
+     * Recorta el espacio de trabajo del hilo actual para que no retenga
+     * la memoria de una lista grande. El espacio recibido en el
+     * constructor no se modifica.
+     *
+     * @param ws espacio de trabajo usado en la llamada
+     */
+    private void release(MergeWorkspace ws) {
+        if (workspace == null) {
+            ws.trim(MergeWorkspace.MAX_RETAINED_CAPACITY);
+        }
+    }
+
+    /**
+     * Ordena la lista en modo recursivo: se divide en dos sublistas,
+     * se ordenan recursivamente y luego se combinan.
+     *
+     * @param list lista a ordenar
+     * @param c comparador que define el orden
+     */
+    private <E> void mergeSort(List<E> list, Comparator<? super E> c) {
         if (list.size() <= 1) return;
 
         int mid = list.size() / 2;
-        List<T> left = new ArrayList<>(list.subList(0, mid));
-        List<T> right = new ArrayList<>(list.subList(mid, list.size()));
+        List<E> left = new ArrayList<>(list.subList(0, mid));
+        List<E> right = new ArrayList<>(list.subList(mid, list.size()));
 
-        sort(left);
-        sort(right);
+        mergeSort(left, c);
+        mergeSort(right, c);
 
-        merge(list, left, right);
+        merge(list, left, right, c);
     }
 
     /**
@@ -55,12 +227,13 @@ public class MergeSort<T extends Comparable<T>> implements SortAlgorithm<T> {
      * @param result lista donde se almacenará el resultado combinado
      * @param left sublista izquierda ordenada
      * @param right sublista derecha ordenada
+     * @param c comparador que define el orden
      */
-    private void merge(List<T> result, List<T> left, List<T> right) {
+    private <E> void merge(List<E> result, List<E> left, List<E> right, Comparator<? super E> c) {
         int i = 0, j = 0, k = 0;
 
         while (i < left.size() && j < right.size()) {
-            if (left.get(i).compareTo(right.get(j)) <= 0) {
+            if (c.compare(left.get(i), right.get(j)) <= 0) {
                 result.set(k++, left.get(i++));
             } else {
                 result.set(k++, right.get(j++));
@@ -70,4 +243,113 @@ public class MergeSort<T extends Comparable<T>> implements SortAlgorithm<T> {
         while (i < left.size()) result.set(k++, left.get(i++));
         while (j < right.size()) result.set(k++, right.get(j++));
     }
+
+    /**
+     * Ordena la lista con el Merge Sort ascendente, usando los
+     * arreglos del espacio de trabajo.
+     *
+     * @param list lista a ordenar
+     * @param ws espacio de trabajo
+     * @param c comparador que define el orden
+     */
+    @SuppressWarnings("unchecked")
+    private <E> void sortBottomUp(List<E> list, MergeWorkspace ws, Comparator<? super E> c) {
+        int n = list.size();
+        if (n <= 1) return;
+
+        Object[] a = ws.elements(n);
+        Object[] b = ws.buffer(n);
+        try {
+            boolean randomAccess = list instanceof RandomAccess;
+            if (randomAccess) {
+                for (int i = 0; i < n; i++) a[i] = list.get(i);
+            } else {
+                int i = 0;
+                for (E element : list) a[i++] = element;
+            }
+
+            // Bloques iniciales ordenados con Insertion Sort
+            for (int low = 0; low < n; low += INSERTION_RUN) {
+                insertionSort(a, low, Math.min(low + INSERTION_RUN, n), c);
+            }
+
+            // Mezclas de bloques de tamaño creciente, alternando arreglos
+            Object[] src = a;
+            Object[] dst = b;
+            for (int width = INSERTION_RUN; width < n; width <<= 1) {
+                for (int low = 0; low < n; low += width << 1) {
+                    int mid = Math.min(low + width, n);
+                    int high = Math.min(low + (width << 1), n);
+                    if (mid == high || c.compare((E) src[mid - 1], (E) src[mid]) <= 0) {
+                        System.arraycopy(src, low, dst, low, high - low);
+                    } else {
+                        mergeArrays(src, low, mid, high, dst, c);
+                    }
+                }
+                Object[] t = src; src = dst; dst = t;
+            }
+
+            if (randomAccess) {
+                for (int i = 0; i < n; i++) list.set(i, (E) src[i]);
+            } else {
+                ListIterator<E> it = list.listIterator();
+                for (int i = 0; i < n; i++) {
+                    it.next();
+                    it.set((E) src[i]);
+                }
+            }
+        } finally {
+            // También si el comparador lanza, para no retener los elementos
+            ws.clear(n);
+        }
+    }
+
+    /**
+     * Ordena a[low, high) con Insertion Sort.
+     *
+     * @param a arreglo a ordenar
+     * @param low índice inicial (inclusive)
+     * @param high índice final (exclusivo)
+     * @param c comparador que define el orden
+     */
+    @SuppressWarnings("unchecked")
+    private <E> void insertionSort(Object[] a, int low, int high, Comparator<? super E> c) {
+        for (int i = low + 1; i < high; i++) {
+            E key = (E) a[i];
+            int j = i - 1;
+            while (j >= low && c.compare((E) a[j], key) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+
+    /**
+     * Combina los bloques ordenados src[low, mid) y src[mid, high)
+     * en dst[low, high). En caso de empate toma primero el elemento
+     * del bloque izquierdo, lo que mantiene la estabilidad.
+     *
+     * @param src arreglo origen
+     * @param low inicio del bloque izquierdo
+     * @param mid inicio del bloque derecho
+     * @param high fin (exclusivo) del bloque derecho
+     * @param dst arreglo destino
+     * @param c comparador que define el orden
+     */
+    @SuppressWarnings("unchecked")
+    private <E> void mergeArrays(Object[] src, int low, int mid, int high, Object[] dst, Comparator<? super E> c) {
+        int i = low, j = mid, k = low;
+
+        while (i < mid && j < high) {
+            if (c.compare((E) src[i], (E) src[j]) <= 0) {
+                dst[k++] = src[i++];
+            } else {
+                dst[k++] = src[j++];
+            }
+        }
+
+        while (i < mid) dst[k++] = src[i++];
+        while (j < high) dst[k++] = src[j++];
+    }
 }
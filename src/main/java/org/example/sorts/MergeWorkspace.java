@@ -0,0 +1,179 @@
+package org.example.sorts;
+
+import java.util.Arrays;
+
+/**
+ * Espacio de trabajo reutilizable para MergeSort.
+ *
+ * Guarda los arreglos auxiliares que necesita el Merge Sort
+ * ascendente (bottom-up), de modo que ordenar muchas listas
+ * pequeñas no reserve memoria en cada llamada: los arreglos se
+ * crean una vez con la capacidad indicada y solo se reemplazan si
+ * llega una lista más grande.
+ *
+ * Una instancia no debe usarse desde varios hilos a la vez. Para
+ * ese caso, current() entrega un espacio de trabajo propio de cada hilo.
+ * Como esos espacios viven tanto como el hilo (incluidos los hilos de
+ * un pool), MergeSort los recorta a MAX_RETAINED_CAPACITY después de
+ * cada llamada: un ordenamiento grande reserva sus arreglos solo
+ * mientras dura. Un espacio creado con el constructor nunca se recorta
+ * solo; quien lo creó puede llamar a trim.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public final class MergeWorkspace {
+
+    /**
+     * Capacidad máxima que conserva entre llamadas el espacio de
+     * trabajo de cada hilo.
+     */
+    public static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    /**
+     * Espacio de trabajo de cada hilo, usado por current().
+     */
+    private static final ThreadLocal<MergeWorkspace> CURRENT =
+            ThreadLocal.withInitial(() -> new MergeWorkspace(0));
+
+    /**
+     * Copia de los elementos de la lista que se ordena.
+     */
+    private Object[] elements;
+
+    /**
+     * Arreglo auxiliar de las mezclas.
+     */
+    private Object[] buffer;
+
+    /**
+     * Arreglo auxiliar para listas IntArrayList.
+     */
+    private int[] ints;
+
+    /**
+     * Crea un espacio de trabajo para listas de hasta capacity elementos.
+     *
+     * @param capacity capacidad inicial
+     * @throws IllegalArgumentException si la capacidad es negativa
+     */
+    public MergeWorkspace(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("La capacidad no puede ser negativa: " + capacity);
+        }
+        elements = new Object[capacity];
+        buffer = new Object[capacity];
+        ints = new int[capacity];
+    }
+
+    /**
+     * Retorna el espacio de trabajo del hilo actual.
+     *
+     * @return espacio de trabajo del hilo actual
+     */
+    public static MergeWorkspace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Retorna la cantidad de elementos que se pueden ordenar
+     * sin reservar memoria.
+     *
+     * @return capacidad actual
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Retorna el arreglo de elementos con al menos n posiciones.
+     *
+     * @param n cantidad de elementos
+     * @return arreglo de elementos
+     */
+    Object[] elements(int n) {
+        ensureCapacity(n);
+        return elements;
+    }
+
+    /**
+     * Retorna el arreglo auxiliar de mezcla con al menos n posiciones.
+     *
+     * @param n cantidad de elementos
+     * @return arreglo auxiliar
+     */
+    Object[] buffer(int n) {
+        ensureCapacity(n);
+        return buffer;
+    }
+
+    /**
+     * Retorna el arreglo auxiliar de enteros con al menos n posiciones.
+     *
+     * @param n cantidad de elementos
+     * @return arreglo auxiliar de enteros
+     */
+    int[] ints(int n) {
+        if (ints.length < n) {
+            ints = new int[grow(ints.length, n)];
+        }
+        return ints;
+    }
+
+    /**
+     * Quita las referencias a los elementos de la última lista
+     * ordenada, para no retenerlos en memoria.
+     *
+     * @param n cantidad de posiciones usadas
+     */
+    void clear(int n) {
+        Arrays.fill(elements, 0, n, null);
+        Arrays.fill(buffer, 0, n, null);
+    }
+
+    /**
+     * Reemplaza los arreglos de más de maxCapacity posiciones por
+     * arreglos de maxCapacity posiciones, liberando la memoria que
+     * reservó una lista grande.
+     *
+     * @param maxCapacity capacidad máxima que se conserva
+     * @throws IllegalArgumentException si maxCapacity es negativa
+     */
+    public void trim(int maxCapacity) {
+        if (maxCapacity < 0) {
+            throw new IllegalArgumentException("La capacidad no puede ser negativa: " + maxCapacity);
+        }
+        if (elements.length > maxCapacity) {
+            elements = new Object[maxCapacity];
+            buffer = new Object[maxCapacity];
+        }
+        if (ints.length > maxCapacity) {
+            ints = new int[maxCapacity];
+        }
+    }
+
+    /**
+     * Agranda los arreglos de objetos si tienen menos de n posiciones.
+     *
+     * @param n cantidad de elementos
+     */
+    private void ensureCapacity(int n) {
+        if (elements.length < n) {
+            int capacity = grow(elements.length, n);
+            elements = new Object[capacity];
+            buffer = new Object[capacity];
+        }
+    }
+
+    /**
+     * Calcula la nueva capacidad: al menos el doble de la actual,
+     * para que una secuencia de listas crecientes reserve pocas veces.
+     *
+     * @param current capacidad actual
+     * @param needed capacidad necesaria
+     * @return nueva capacidad
+     */
+    private static int grow(int current, int needed) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(needed, 2L * current));
+    }
+}
@@ -0,0 +1,354 @@
+package org.example.sorts;
+
+import org.example.monitoring.SortExecuted;
+import org.example.sorts.SortCapabilities.KeyType;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Implementación de un Natural Merge Sort (mezcla natural) con galope.
+ *
+ * En lugar de dividir la lista por la mitad sin importar su contenido,
+ * detecta los tramos ("runs") que ya están ordenados y solo combina
+ * esos tramos:
+ * - Los runs ascendentes se usan tal cual; los estrictamente
+ *   descendentes se invierten (ser estrictos conserva la estabilidad).
+ * - Los runs más cortos que MIN_RUN se extienden con inserción binaria,
+ *   para no hacer muchas mezclas de tramos diminutos.
+ * - Los runs se combinan de a pares vecinos, en pasadas que alternan
+ *   entre el arreglo y un buffer, hasta que queda uno solo. Si dos
+ *   runs vecinos ya están en orden, solo se copian.
+ * - Durante la mezcla, si un run "gana" GALLOP_AFTER veces seguidas se
+ *   pasa a galope: con pasos que se duplican y luego búsqueda binaria
+ *   se encuentra cuántos elementos de ese run copiar de una vez.
+ *
+ * La mezcla natural es la de Knuth (The Art of Computer Programming,
+ * vol. 3, 5.2.4); extender los runs cortos y el galope son ideas de
+ * TimSort (Tim Peters, 2002).
+ *
+ * Si la lista ya está ordenada (o en orden inverso), basta con una
+ * pasada para detectarlo; con pocos elementos fuera de lugar el costo
+ * es cercano a O(n).
+ *
+ * El algoritmo es estable.
+ *
+ * Complejidad:
+ * - Mejor caso: O(n) (lista ordenada o en orden inverso)
+ * - Caso promedio: O(n log r), con r la cantidad de runs
+ * - Peor caso: O(n log n)
+ *
+ * Espacio adicional: O(n)
+ *
+ * @param <T> tipo de dato que implementa la interfaz Comparable
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class NaturalMergeSort<T extends Comparable<T>> implements SortAlgorithm<T> {
+
+    /**
+     * Longitud mínima de un run; los más cortos se extienden con
+     * inserción binaria (salvo el último de la lista).
+     */
+    private static final int MIN_RUN = 32;
+
+    /**
+     * Victorias seguidas de un mismo run tras las cuales la mezcla
+     * pasa a galope.
+     */
+    private static final int GALLOP_AFTER = 8;
+
+    /**
+     * Ordena la lista combinando sus runs naturales.
+     *
+     * @param list lista de elementos comparables a ordenar
+     */
+    @Override
+    public void sort(List<T> list) {
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena la lista combinando sus runs naturales según el
+     * comparador indicado.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        int n = list.size();
+        if (n <= 1) return;
+
+        SortExecuted event = SortExecuted.start();
+        E[] a = (E[]) list.toArray();
+        new Merger<>(a, comparator).sort();
+
+        ListIterator<E> it = list.listIterator();
+        for (E element : a) {
+            it.next();
+            it.set(element);
+        }
+        event.finish("NaturalMergeSort", n);
+    }
+
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * Natural Merge Sort es estable y adaptativo: aprovecha las
+     * secuencias ya ordenadas de la entrada. Usa un buffer adicional
+     * de n elementos cuando hay más de un run.
+     *
+     * @return características del algoritmo
+     */
+    @Override
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(true, false, true, false,
+                KeyType.COMPARABLE, KeyType.COMPARATOR);
+    }
+
+    /**
+     * Estado de un ordenamiento: el arreglo y el comparador.
+     *
+     * @param <T> tipo de los elementos
+     */
+    private static final class Merger<T> {
+
+        /**
+         * Arreglo que se ordena.
+         */
+        private final T[] a;
+
+        /**
+         * Comparador que define el orden.
+         */
+        private final Comparator<? super T> c;
+
+        /**
+         * Crea el estado para ordenar el arreglo dado.
+         *
+         * @param a arreglo a ordenar
+         * @param c comparador que define el orden
+         */
+        Merger(T[] a, Comparator<? super T> c) {
+            this.a = a;
+            this.c = c;
+        }
+
+        /**
+         * Ordena el arreglo: primero delimita los runs y luego los
+         * mezcla de a pares hasta que queda uno solo.
+         */
+        @SuppressWarnings("unchecked")
+        void sort() {
+            int n = a.length;
+
+            // bounds[r] es el inicio del run r y bounds[runs] es n. Todos los
+            // runs salvo el último tienen al menos MIN_RUN elementos.
+            int[] bounds = new int[n / MIN_RUN + 2];
+            int runs = 0;
+            for (int low = 0; low < n; ) {
+                int end = runEnd(low);
+                if (end - low < MIN_RUN) {
+                    int target = Math.min(low + MIN_RUN, n);
+                    binaryInsertion(low, end, target);
+                    end = target;
+                }
+                bounds[++runs] = end;
+                low = end;
+            }
+
+            T[] src = a;
+            T[] dst = (T[]) new Object[n];
+            while (runs > 1) {
+                int merged = 0;
+                for (int r = 0; r < runs; r += 2) {
+                    int low = bounds[r];
+                    if (r + 1 == runs) {
+                        // Run sin pareja en esta pasada
+                        System.arraycopy(src, low, dst, low, bounds[r + 1] - low);
+                        bounds[++merged] = bounds[r + 1];
+                    } else {
+                        merge(src, low, bounds[r + 1], bounds[r + 2], dst);
+                        bounds[++merged] = bounds[r + 2];
+                    }
+                }
+                runs = merged;
+                T[] t = src; src = dst; dst = t;
+            }
+            if (src != a) {
+                System.arraycopy(src, 0, a, 0, n);
+            }
+        }
+
+        /**
+         * Retorna el final del run que empieza en low. Si el run es
+         * estrictamente descendente, lo invierte.
+         *
+         * @param low inicio del run
+         * @return índice siguiente al último elemento del run
+         */
+        private int runEnd(int low) {
+            int n = a.length;
+            int end = low + 1;
+            if (end == n) return end;
+
+            if (c.compare(a[end], a[low]) < 0) {
+                while (end + 1 < n && c.compare(a[end + 1], a[end]) < 0) end++;
+                end++;
+                reverse(low, end);
+            } else {
+                while (end + 1 < n && c.compare(a[end + 1], a[end]) >= 0) end++;
+                end++;
+            }
+            return end;
+        }
+
+        /**
+         * Invierte el rango [low, high).
+         *
+         * @param low índice inicial
+         * @param high índice final (exclusivo)
+         */
+        private void reverse(int low, int high) {
+            for (int i = low, j = high - 1; i < j; i++, j--) {
+                T t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        }
+
+        /**
+         * Extiende el tramo ordenado [low, sorted) hasta end insertando
+         * cada elemento en su posición, hallada con búsqueda binaria.
+         * Un elemento se inserta después de los iguales a él, lo que
+         * conserva la estabilidad.
+         *
+         * @param low inicio del tramo
+         * @param sorted fin de la parte ya ordenada
+         * @param end fin del tramo (exclusivo)
+         */
+        private void binaryInsertion(int low, int sorted, int end) {
+            for (int i = sorted; i < end; i++) {
+                T key = a[i];
+                int position = search(a, low, i, key, false);
+                System.arraycopy(a, position, a, position + 1, i - position);
+                a[position] = key;
+            }
+        }
+
+        /**
+         * Mezcla los runs vecinos src[low, mid) y src[mid, high) en
+         * dst[low, high). Ante elementos iguales toma primero el del run
+         * izquierdo, por lo que la mezcla es estable.
+         *
+         * Cuando un run gana GALLOP_AFTER comparaciones seguidas, se
+         * copian de una vez todos sus elementos que van antes del
+         * elemento actual del otro run.
+         *
+         * @param src arreglo de origen
+         * @param low inicio del run izquierdo
+         * @param mid inicio del run derecho
+         * @param high fin del run derecho (exclusivo)
+         * @param dst arreglo de destino
+         */
+        private void merge(T[] src, int low, int mid, int high, T[] dst) {
+            if (c.compare(src[mid - 1], src[mid]) <= 0) {
+                // Los runs ya están en orden
+                System.arraycopy(src, low, dst, low, high - low);
+                return;
+            }
+
+            int i = low;
+            int j = mid;
+            int k = low;
+            int leftStreak = 0;
+            int rightStreak = 0;
+            while (i < mid && j < high) {
+                if (c.compare(src[j], src[i]) < 0) {
+                    dst[k++] = src[j++];
+                    leftStreak = 0;
+                    if (++rightStreak == GALLOP_AFTER && j < high) {
+                        // Elementos del run derecho estrictamente menores que src[i]
+                        int end = search(src, j, high, src[i], true);
+                        System.arraycopy(src, j, dst, k, end - j);
+                        k += end - j;
+                        j = end;
+                        rightStreak = 0;
+                    }
+                } else {
+                    dst[k++] = src[i++];
+                    rightStreak = 0;
+                    if (++leftStreak == GALLOP_AFTER && i < mid) {
+                        // Elementos del run izquierdo menores o iguales que src[j]
+                        int end = search(src, i, mid, src[j], false);
+                        System.arraycopy(src, i, dst, k, end - i);
+                        k += end - i;
+                        i = end;
+                        leftStreak = 0;
+                    }
+                }
+            }
+            System.arraycopy(src, i, dst, k, mid - i);
+            System.arraycopy(src, j, dst, k + (mid - i), high - j);
+        }
+
+        /**
+         * Retorna el primer índice de [from, to) cuyo elemento no va
+         * antes de key. Un elemento va antes de key si es menor o, con
+         * strict en false, también si es igual. El rango debe estar
+         * ordenado.
+         *
+         * Se avanza desde from con pasos 1, 2, 4, ... hasta pasar la
+         * posición buscada y luego se hace búsqueda binaria en el último
+         * paso: si la posición está a distancia d, cuesta O(log d)
+         * comparaciones en lugar de O(log(to - from)).
+         *
+         * @param array arreglo ordenado en [from, to)
+         * @param from índice inicial
+         * @param to índice final (exclusivo)
+         * @param key elemento buscado
+         * @param strict si los elementos iguales a key no van antes
+         * @return posición encontrada, entre from y to
+         */
+        private int search(T[] array, int from, int to, T key, boolean strict) {
+            // [from, low) va antes de key; [high, to) no
+            int low = from;
+            int high = to;
+            for (int step = 1; low + step - 1 < to; step <<= 1) {
+                int probe = low + step - 1;
+                if (!precedes(array[probe], key, strict)) {
+                    high = probe;
+                    break;
+                }
+                low = probe + 1;
+            }
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (precedes(array[mid], key, strict)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Indica si x va antes de key.
+         *
+         * @param x elemento a ubicar
+         * @param key elemento de referencia
+         * @param strict si los elementos iguales a key no van antes
+         * @return true si x va antes de key
+         */
+        private boolean precedes(T x, T key, boolean strict) {
+            int cmp = c.compare(x, key);
+            return strict ? cmp < 0 : cmp <= 0;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package org.example.sorts;
+
+import org.example.monitoring.SortExecuted;
+import org.example.sorts.SortCapabilities.KeyType;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementación paralela del algoritmo Merge Sort basada en Fork/Join.
+ *
+ * A diferencia de MergeSort, no crea sublistas en cada nivel:
+ * los elementos se copian una sola vez a un arreglo y se reserva
+ * un único arreglo auxiliar. Los papeles de origen y destino se
+ * alternan entre niveles de la recursión, por lo que no se
+ * realizan copias adicionales.
+ *
+ * - Los rangos mayores que el umbral secuencial se dividen en
+ *   tareas que se ejecutan en el ForkJoinPool.
+ * - En los niveles superiores la mezcla también es paralela:
+ *   se divide buscando el punto de corte con búsqueda binaria.
+ * - Los rangos menores que el umbral de inserción se ordenan
+ *   con Insertion Sort.
+ *
+ * El algoritmo es estable.
+ *
+ * Complejidad:
+ * - Trabajo: O(n log n)
+ * - Profundidad: O(log^3 n) con mezcla paralela
+ *
+ * Espacio adicional: O(n)
+ *
+ * @param <T> tipo de dato que implementa la interfaz Comparable
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class ParallelMergeSort<T extends Comparable<T>> implements SortAlgorithm<T> {
+
+    /**
+     * Umbral secuencial por defecto.
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /**
+     * Umbral de Insertion Sort por defecto.
+     */
+    public static final int DEFAULT_INSERTION_THRESHOLD = 16;
+
+    /**
+     * Pool donde se ejecutan las tareas.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Tamaño de rango por debajo del cual no se crean más tareas.
+     */
+    private final int sequentialThreshold;
+
+    /**
+     * Tamaño de rango por debajo del cual se usa Insertion Sort.
+     */
+    private final int insertionThreshold;
+
+    /**
+     * Crea el algoritmo usando el pool común y los umbrales por defecto.
+     */
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea el algoritmo usando el pool indicado y los umbrales por defecto.
+     *
+     * @param pool pool donde se ejecutan las tareas
+     */
+    public ParallelMergeSort(ForkJoinPool pool) {
+        this(pool, DEFAULT_SEQUENTIAL_THRESHOLD, DEFAULT_INSERTION_THRESHOLD);
+    }
+
+    /**
+     * Crea el algoritmo con el pool y los umbrales indicados.
+     *
+     * @param pool pool donde se ejecutan las tareas
+     * @param sequentialThreshold tamaño mínimo de rango para dividir en tareas
+     * @param insertionThreshold tamaño de rango por debajo del cual se usa Insertion Sort
+     * @throws IllegalArgumentException si algún umbral no es positivo
+     */
+    public ParallelMergeSort(ForkJoinPool pool, int sequentialThreshold, int insertionThreshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool no puede ser nulo");
+        }
+        if (insertionThreshold < 1) {
+            throw new IllegalArgumentException("insertionThreshold debe ser positivo: " + insertionThreshold);
+        }
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("sequentialThreshold debe ser positivo: " + sequentialThreshold);
+        }
+        this.pool = pool;
+        this.insertionThreshold = insertionThreshold;
+        // Por debajo de este tamaño la mezcla paralela no podría garantizar progreso
+        this.sequentialThreshold = Math.max(sequentialThreshold, 2 * insertionThreshold + 4);
+    }
+
+    /**
+     * Ordena la lista utilizando Merge Sort en paralelo.
+     *
+     * Los elementos se copian a un arreglo, se ordenan y
+     * se escriben de regreso en la lista.
+     *
+     * @param list lista de elementos comparables a ordenar
+     */
+    @Override
+    public void sort(List<T> list) {
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena la lista con Merge Sort en paralelo según el comparador
+     * indicado. El comparador debe poder usarse desde varios hilos.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        if (list.size() <= 1) return;
+
+        SortExecuted event = SortExecuted.start();
+        Object[] a = list.toArray();
+        Object[] aux = a.clone();
+        pool.invoke(new SortTask(aux, a, 0, a.length, (Comparator<Object>) comparator));
+
+        ListIterator<E> it = list.listIterator();
+        for (Object element : a) {
+            it.next();
+            it.set((E) element);
+        }
+        event.finish("ParallelMergeSort", a.length);
+    }
+
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * Merge Sort en paralelo es estable y omite las mezclas de rangos
+     * que ya están en orden. Copia la lista a dos arreglos auxiliares.
+     *
+     * @return características del algoritmo
+     */
+    @Override
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(true, false, true, true,
+                KeyType.COMPARABLE, KeyType.COMPARATOR);
+    }
+
+    /**
+     * Ordena secuencialmente src[low, high) dejando el resultado
+     * en dest[low, high). Al inicio ambos rangos tienen el mismo contenido.
+     *
+     * @param src arreglo origen
+     * @param dest arreglo destino
+     * @param low índice inicial
+     * @param high índice final (exclusivo)
+     * @param c comparador que define el orden
+     */
+    private void mergeSort(Object[] src, Object[] dest, int low, int high, Comparator<Object> c) {
+        if (high - low <= insertionThreshold) {
+            insertionSort(dest, low, high, c);
+            return;
+        }
+
+        int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid, c);
+        mergeSort(dest, src, mid, high, c);
+
+        if (c.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, low, high - low);
+            return;
+        }
+        merge(src, low, mid, mid, high, dest, low, c);
+    }
+
+    /**
+     * Combina src[lo1, hi1) y src[lo2, hi2), ambos ordenados,
+     * en dest a partir de la posición destLow.
+     *
+     * @param src arreglo origen
+     * @param lo1 inicio del primer tramo
+     * @param hi1 fin (exclusivo) del primer tramo
+     * @param lo2 inicio del segundo tramo
+     * @param hi2 fin (exclusivo) del segundo tramo
+     * @param dest arreglo destino
+     * @param destLow posición inicial en dest
+     * @param c comparador que define el orden
+     */
+    private void merge(Object[] src, int lo1, int hi1, int lo2, int hi2, Object[] dest, int destLow,
+                       Comparator<Object> c) {
+        int i = lo1, j = lo2, k = destLow;
+
+        while (i < hi1 && j < hi2) {
+            if (c.compare(src[i], src[j]) <= 0) {
+                dest[k++] = src[i++];
+            } else {
+                dest[k++] = src[j++];
+            }
+        }
+
+        while (i < hi1) dest[k++] = src[i++];
+        while (j < hi2) dest[k++] = src[j++];
+    }
+
+    /**
+     * Ordena el rango [low, high) con Insertion Sort.
+     *
+     * @param a arreglo a ordenar
+     * @param low índice inicial
+     * @param high índice final (exclusivo)
+     * @param c comparador que define el orden
+     */
+    private void insertionSort(Object[] a, int low, int high, Comparator<Object> c) {
+        for (int i = low + 1; i < high; i++) {
+            Object key = a[i];
+            int j = i - 1;
+
+            while (j >= low && c.compare(a[j], key) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+
+    /**
+     * Busca la primera posición de src[low, high) cuyo valor es mayor o igual a key.
+     *
+     * @param src arreglo ordenado en el rango
+     * @param low índice inicial
+     * @param high índice final (exclusivo)
+     * @param key valor buscado
+     * @param c comparador que define el orden
+     * @return posición encontrada, o high si no existe
+     */
+    private int lowerBound(Object[] src, int low, int high, Object key, Comparator<Object> c) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (c.compare(src[mid], key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Busca la primera posición de src[low, high) cuyo valor es mayor que key.
+     *
+     * @param src arreglo ordenado en el rango
+     * @param low índice inicial
+     * @param high índice final (exclusivo)
+     * @param key valor buscado
+     * @param c comparador que define el orden
+     * @return posición encontrada, o high si no existe
+     */
+    private int upperBound(Object[] src, int low, int high, Object key, Comparator<Object> c) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (c.compare(src[mid], key) <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Tarea que ordena src[low, high) dejando el resultado en dest[low, high).
+     */
+    @SuppressWarnings("serial") // Las tareas nunca se serializan
+    private class SortTask extends RecursiveAction {
+        private final Object[] src;
+        private final Object[] dest;
+        private final int low;
+        private final int high;
+        private final Comparator<Object> c;
+
+        SortTask(Object[] src, Object[] dest, int low, int high, Comparator<Object> c) {
+            this.src = src;
+            this.dest = dest;
+            this.low = low;
+            this.high = high;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= sequentialThreshold) {
+                mergeSort(src, dest, low, high, c);
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            invokeAll(new SortTask(dest, src, low, mid, c), new SortTask(dest, src, mid, high, c));
+
+            if (c.compare(src[mid - 1], src[mid]) <= 0) {
+                System.arraycopy(src, low, dest, low, high - low);
+                return;
+            }
+            new MergeTask(src, low, mid, mid, high, dest, low, c).compute();
+        }
+    }
+
+    /**
+     * Tarea que combina en paralelo dos tramos ordenados.
+     *
+     * El tramo más largo se corta por la mitad y el punto de corte
+     * del otro tramo se busca con búsqueda binaria, respetando la
+     * estabilidad: ante valores iguales, los del primer tramo
+     * quedan antes que los del segundo.
+     */
+    @SuppressWarnings("serial") // Las tareas nunca se serializan
+    private class MergeTask extends RecursiveAction {
+        private final Object[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final Object[] dest;
+        private final int destLow;
+        private final Comparator<Object> c;
+
+        MergeTask(Object[] src, int lo1, int hi1, int lo2, int hi2, Object[] dest, int destLow,
+                  Comparator<Object> c) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dest = dest;
+            this.destLow = destLow;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= sequentialThreshold) {
+                merge(src, lo1, hi1, lo2, hi2, dest, destLow, c);
+                return;
+            }
+
+            int cut1;
+            int cut2;
+            if (n1 >= n2) {
+                cut1 = (lo1 + hi1) >>> 1;
+                cut2 = lowerBound(src, lo2, hi2, src[cut1], c);
+            } else {
+                cut2 = (lo2 + hi2) >>> 1;
+                cut1 = upperBound(src, lo1, hi1, src[cut2], c);
+            }
+
+            int destMid = destLow + (cut1 - lo1) + (cut2 - lo2);
+            invokeAll(new MergeTask(src, lo1, cut1, lo2, cut2, dest, destLow, c),
+                      new MergeTask(src, cut1, hi1, cut2, hi2, dest, destMid, c));
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package org.example.sorts;
+
+import org.example.monitoring.SortExecuted;
+import org.example.sorts.SortCapabilities.KeyType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementación paralela del algoritmo Quick Sort basada en Fork/Join
+ * (introsort).
+ *
+ * Mejoras respecto a QuickSort:
+ * - Partición de tres vías (bandera holandesa): los elementos iguales
+ *   al pivote quedan agrupados y no se vuelven a procesar, por lo que
+ *   las listas con muchos duplicados se ordenan rápidamente.
+ * - Se itera sobre la partición más grande y se recurre (o se crea
+ *   una tarea) sobre la más pequeña, acotando la pila a O(log n).
+ * - Si la profundidad supera 2·log2(n), el rango se ordena con
+ *   Heap Sort, garantizando O(n log n) en el peor caso.
+ * - Las particiones mayores que el umbral secuencial se ejecutan
+ *   como tareas independientes en el ForkJoinPool. Una lista que no
+ *   supera el umbral se ordena en el hilo que llama, sin pasar por el
+ *   pool: ninguna partición se delegaría y el traspaso costaría más
+ *   que ordenarla.
+ *
+ * El nivel de paralelismo se controla con el pool utilizado.
+ *
+ * El algoritmo no es estable.
+ *
+ * Complejidad:
+ * - Mejor caso: O(n) (todos los elementos iguales)
+ * - Caso promedio: O(n log n)
+ * - Peor caso: O(n log n)
+ *
+ * Espacio adicional: O(n) para la copia en arreglo y O(log n) de pila.
+ *
+ * @param <T> tipo de dato que implementa la interfaz Comparable
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class ParallelQuickSort<T extends Comparable<T>> implements SortAlgorithm<T>, AutoCloseable {
+
+    /**
+     * Umbral secuencial por defecto.
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /**
+     * Tamaño de rango por debajo del cual se usa Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * Pool donde se ejecutan las tareas.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Si el pool fue creado por este algoritmo y debe cerrarse con él.
+     */
+    private final boolean ownsPool;
+
+    /**
+     * Tamaño mínimo de una partición para ejecutarla como tarea aparte.
+     */
+    private final int sequentialThreshold;
+
+    /**
+     * Crea el algoritmo usando el pool común y el umbral por defecto.
+     */
+    public ParallelQuickSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Crea el algoritmo con un pool propio del nivel de paralelismo
+     * indicado, que se cierra con {@link #close()}.
+     *
+     * @param parallelism cantidad de hilos del pool
+     * @param sequentialThreshold tamaño mínimo de partición para crear una tarea
+     * @throws IllegalArgumentException si algún valor no es positivo
+     */
+    public ParallelQuickSort(int parallelism, int sequentialThreshold) {
+        this(createPool(parallelism), sequentialThreshold, true);
+    }
+
+    /**
+     * Crea el algoritmo con el pool y el umbral indicados. El pool
+     * pertenece a quien lo pasa: {@link #close()} no lo cierra.
+     *
+     * @param pool pool donde se ejecutan las tareas
+     * @param sequentialThreshold tamaño mínimo de partición para crear una tarea
+     * @throws IllegalArgumentException si el pool es nulo o el umbral no es positivo
+     */
+    public ParallelQuickSort(ForkJoinPool pool, int sequentialThreshold) {
+        this(pool, sequentialThreshold, false);
+    }
+
+    /**
+     * Crea el algoritmo con el pool y el umbral indicados.
+     *
+     * @param pool pool donde se ejecutan las tareas
+     * @param sequentialThreshold umbral secuencial
+     * @param ownsPool si el pool se cierra junto con el algoritmo
+     * @throws IllegalArgumentException si el pool es nulo o el umbral no es positivo
+     */
+    private ParallelQuickSort(ForkJoinPool pool, int sequentialThreshold, boolean ownsPool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool no puede ser nulo");
+        }
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("sequentialThreshold debe ser positivo: " + sequentialThreshold);
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+        this.ownsPool = ownsPool;
+    }
+
+    /**
+     * Retorna el nivel de paralelismo del pool utilizado.
+     *
+     * @return cantidad de hilos del pool
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Retorna el umbral secuencial configurado.
+     *
+     * @return tamaño mínimo de partición para crear una tarea
+     */
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    /**
+     * Ordena la lista utilizando Quick Sort en paralelo.
+     *
+     * Los elementos se copian a un arreglo, se ordenan y
+     * se escriben de regreso en la lista.
+     *
+     * @param list lista de elementos comparables a ordenar
+     */
+    @Override
+    public void sort(List<T> list) {
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena la lista con Quick Sort en paralelo según el comparador
+     * indicado. El comparador debe poder usarse desde varios hilos.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        if (list.size() <= 1) return;
+
+        SortExecuted event = SortExecuted.start();
+        Object[] a = list.toArray();
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(a.length));
+        SortTask task = new SortTask(a, 0, a.length, depthLimit, (Comparator<Object>) comparator);
+        if (a.length <= sequentialThreshold) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+
+        ListIterator<E> it = list.listIterator();
+        for (Object element : a) {
+            it.next();
+            it.set((E) element);
+        }
+        event.finish("ParallelQuickSort", a.length);
+    }
+
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * Quick Sort en paralelo no es estable. Copia la lista a un
+     * arreglo auxiliar antes de ordenarla. No tiene versión primitiva:
+     * un IntArrayList se copia a Integer, por lo que no declara
+     * KeyType.INT.
+     *
+     * @return características del algoritmo
+     */
+    @Override
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(false, false, false, true,
+                KeyType.COMPARABLE, KeyType.COMPARATOR);
+    }
+
+    /**
+     * Cierra el pool si fue creado por este algoritmo, esperando a que
+     * terminen sus tareas. Un pool recibido en el constructor (o el pool
+     * común) no se cierra: pertenece a quien lo creó.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.close();
+        }
+    }
+
+    /**
+     * Crea un pool con el nivel de paralelismo indicado.
+     *
+     * @param parallelism cantidad de hilos
+     * @return pool creado
+     */
+    private static ForkJoinPool createPool(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism debe ser positivo: " + parallelism);
+        }
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Selecciona el pivote como la mediana de tres elementos
+     * (inicio, centro y final del rango).
+     *
+     * @param a arreglo
+     * @param low índice inicial
+     * @param high índice final (exclusivo)
+     * @param c comparador que define el orden
+     * @return valor del pivote
+     */
+    private Object medianOfThree(Object[] a, int low, int high, Comparator<Object> c) {
+        Object x = a[low];
+        Object y = a[(low + high) >>> 1];
+        Object z = a[high - 1];
+
+        if (c.compare(x, y) > 0) { Object t = x; x = y; y = t; }
+        if (c.compare(y, z) > 0) { y = z; }
+        if (c.compare(x, y) > 0) { y = x; }
+        return y;
+    }
+
+    /**
+     * Ordena el rango [low, high) con Insertion Sort.
+     *
+     * @param a arreglo a ordenar
+     * @param low índice inicial
+     * @param high índice final (exclusivo)
+     * @param c comparador que define el orden
+     */
+    private void insertionSort(Object[] a, int low, int high, Comparator<Object> c) {
+        for (int i = low + 1; i < high; i++) {
+            Object key = a[i];
+            int j = i - 1;
+
+            while (j >= low && c.compare(a[j], key) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+
+    /**
+     * Ordena el rango [low, high) con Heap Sort.
+     *
+     * @param a arreglo a ordenar
+     * @param low índice inicial
+     * @param high índice final (exclusivo)
+     * @param c comparador que define el orden
+     */
+    private void heapSort(Object[] a, int low, int high, Comparator<Object> c) {
+        int n = high - low;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, low, i, n, c);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, low, low + end);
+            siftDown(a, low, 0, end, c);
+        }
+    }
+
+    /**
+     * Hunde el elemento en la posición i del montículo que
+     * inicia en base y tiene n elementos.
+     *
+     * @param a arreglo
+     * @param base posición del arreglo donde inicia el montículo
+     * @param i posición relativa del elemento a hundir
+     * @param n tamaño del montículo
+     * @param c comparador que define el orden
+     */
+    private void siftDown(Object[] a, int base, int i, int n, Comparator<Object> c) {
+        Object value = a[base + i];
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && c.compare(a[base + child + 1], a[base + child]) > 0) {
+                child++;
+            }
+            if (c.compare(value, a[base + child]) >= 0) break;
+            a[base + i] = a[base + child];
+            i = child;
+        }
+        a[base + i] = value;
+    }
+
+    /**
+     * Intercambia dos posiciones del arreglo.
+     *
+     * @param a arreglo
+     * @param i índice del primer elemento
+     * @param j índice del segundo elemento
+     */
+    private static void swap(Object[] a, int i, int j) {
+        Object temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Tarea que ordena el rango [low, high) del arreglo.
+     */
+    @SuppressWarnings("serial") // Las tareas nunca se serializan
+    private class SortTask extends RecursiveAction {
+        private final Object[] a;
+        private final int low;
+        private final int high;
+        private final int depth;
+        private final Comparator<Object> c;
+
+        SortTask(Object[] a, int low, int high, int depth, Comparator<Object> c) {
+            this.a = a;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            List<SortTask> forked = new ArrayList<>();
+            quickSort(low, high, depth, forked);
+            for (SortTask task : forked) {
+                task.join();
+            }
+        }
+
+        /**
+         * Ordena [low, high) iterando sobre la partición más grande.
+         * Las particiones menores que superan el umbral secuencial
+         * se delegan a otras tareas.
+         *
+         * @param low índice inicial
+         * @param high índice final (exclusivo)
+         * @param depth profundidad restante antes de usar Heap Sort
+         * @param forked tareas creadas que deben esperarse
+         */
+        private void quickSort(int low, int high, int depth, List<SortTask> forked) {
+            while (high - low > INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    heapSort(a, low, high, c);
+                    return;
+                }
+
+                // Partición de tres vías: [low, lt) < pivote, [lt, gt) == pivote, [gt, high) > pivote
+                Object pivot = medianOfThree(a, low, high, c);
+                int lt = low;
+                int gt = high;
+                int i = low;
+                while (i < gt) {
+                    int cmp = c.compare(a[i], pivot);
+                    if (cmp < 0) {
+                        swap(a, lt++, i++);
+                    } else if (cmp > 0) {
+                        swap(a, i, --gt);
+                    } else {
+                        i++;
+                    }
+                }
+
+                int smallLow, smallHigh;
+                if (lt - low < high - gt) {
+                    smallLow = low;
+                    smallHigh = lt;
+                    low = gt;
+                } else {
+                    smallLow = gt;
+                    smallHigh = high;
+                    high = lt;
+                }
+
+                if (smallHigh - smallLow > sequentialThreshold) {
+                    SortTask task = new SortTask(a, smallLow, smallHigh, depth, c);
+                    task.fork();
+                    forked.add(task);
+                } else {
+                    quickSort(smallLow, smallHigh, depth, forked);
+                }
+            }
+            insertionSort(a, low, high, c);
+        }
+    }
+}
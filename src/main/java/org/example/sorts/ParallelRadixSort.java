@@ -0,0 +1,344 @@
+package org.example.sorts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Implementación paralela de Radix Sort (MSD) para enteros.
+ *
+ * El primer dígito (el más significativo) se procesa en paralelo:
+ * 1. Se calcula el mínimo y el máximo para ubicar el dígito de 8 bits
+ *    más alto en el que las claves difieren. Así, con valores en un
+ *    dominio pequeño (por ejemplo 0 a 10000) los datos igualmente se
+ *    reparten entre varias cubetas.
+ * 2. Cada hilo construye el histograma de su bloque de datos.
+ * 3. Con las sumas de prefijos globales cada bloque conoce su
+ *    posición de escritura dentro de cada cubeta.
+ * 4. Cada hilo distribuye su bloque en paralelo.
+ *
+ * Luego cada cubeta se ordena de forma independiente en el
+ * ForkJoinPool: las pequeñas con Insertion Sort y las demás con
+ * PrimitiveRadixSort (LSD) sobre los dígitos restantes.
+ *
+ * Para soportar números negativos se invierte el bit de signo
+ * de cada clave.
+ *
+ * Complejidad:
+ * - Trabajo: O(n·w/8)
+ * - Profundidad: O(n/p) con p hilos
+ *
+ * Espacio adicional: O(n + p·256)
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class ParallelRadixSort implements IntSortAlgorithm, AutoCloseable {
+
+    /**
+     * Tamaño por debajo del cual se ordena de forma secuencial.
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    /**
+     * Bits del dígito más significativo.
+     */
+    private static final int DIGIT_BITS = 8;
+
+    /**
+     * Cantidad de cubetas.
+     */
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    /**
+     * Máscara para extraer un dígito.
+     */
+    private static final int MASK = RADIX - 1;
+
+    /**
+     * Tamaño de cubeta por debajo del cual se usa Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 64;
+
+    /**
+     * Pool donde se ejecutan las tareas.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Si el pool fue creado por este algoritmo y debe cerrarse con él.
+     */
+    private final boolean ownsPool;
+
+    /**
+     * Tamaño por debajo del cual se ordena de forma secuencial.
+     */
+    private final int sequentialThreshold;
+
+    /**
+     * Algoritmo usado para las cubetas grandes y las entradas pequeñas.
+     */
+    private final PrimitiveRadixSort radix = new PrimitiveRadixSort();
+
+    /**
+     * Algoritmo usado para las cubetas pequeñas.
+     */
+    private final PrimitiveInsertionSort insertion = new PrimitiveInsertionSort();
+
+    /**
+     * Crea el algoritmo usando el pool común.
+     */
+    public ParallelRadixSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Crea el algoritmo con un pool propio del nivel de paralelismo
+     * indicado, que se cierra con {@link #close()}.
+     *
+     * @param parallelism cantidad de hilos del pool
+     * @throws IllegalArgumentException si el paralelismo no es positivo
+     */
+    public ParallelRadixSort(int parallelism) {
+        this(createPool(parallelism), DEFAULT_SEQUENTIAL_THRESHOLD, true);
+    }
+
+    /**
+     * Crea el algoritmo con el pool y el umbral indicados. El pool
+     * pertenece a quien lo pasa: {@link #close()} no lo cierra.
+     *
+     * @param pool pool donde se ejecutan las tareas
+     * @param sequentialThreshold tamaño por debajo del cual se ordena de forma secuencial
+     * @throws IllegalArgumentException si el pool es nulo o el umbral no es positivo
+     */
+    public ParallelRadixSort(ForkJoinPool pool, int sequentialThreshold) {
+        this(pool, sequentialThreshold, false);
+    }
+
+    /**
+     * Crea el algoritmo con el pool y el umbral indicados.
+     *
+     * @param pool pool donde se ejecutan las tareas
+     * @param sequentialThreshold umbral secuencial
+     * @param ownsPool si el pool se cierra junto con el algoritmo
+     * @throws IllegalArgumentException si el pool es nulo o el umbral no es positivo
+     */
+    private ParallelRadixSort(ForkJoinPool pool, int sequentialThreshold, boolean ownsPool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool no puede ser nulo");
+        }
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("sequentialThreshold debe ser positivo: " + sequentialThreshold);
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+        this.ownsPool = ownsPool;
+    }
+
+    /**
+     * Retorna el nivel de paralelismo del pool utilizado.
+     *
+     * @return cantidad de hilos del pool
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Ordena una lista de números enteros.
+     *
+     * Si la lista es un IntArrayList, se ordena directamente su
+     * arreglo interno. En caso contrario, los valores se copian a un
+     * arreglo int[], se ordenan y se escriben de regreso en la lista.
+     *
+     * @param list lista de números enteros a ordenar
+     */
+    public void sort(List<Integer> list) {
+        if (list == null || list.isEmpty()) {
+            return;
+        }
+
+        if (list instanceof IntArrayList ints) {
+            sort(ints.elements(), 0, ints.size());
+            return;
+        }
+
+        int[] values = new int[list.size()];
+        int i = 0;
+        for (int num : list) {
+            values[i++] = num;
+        }
+
+        sort(values);
+
+        ListIterator<Integer> it = list.listIterator();
+        for (int num : values) {
+            it.next();
+            it.set(num);
+        }
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de enteros.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(int[] a, int from, int to) {
+        int n = to - from;
+        if (n <= 1) return;
+        if (n < sequentialThreshold || pool.getParallelism() == 1) {
+            radix.sort(a, from, to);
+            return;
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> parallelSort(a, from, to)));
+    }
+
+    /**
+     * Ordena el rango [from, to) en paralelo. Se ejecuta dentro del pool.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    private void parallelSort(int[] a, int from, int to) {
+        int n = to - from;
+        int chunks = Math.min(pool.getParallelism(), Math.max(1, n / INSERTION_THRESHOLD));
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        // 1. Mínimo y máximo de las claves para elegir el dígito más significativo
+        int[] minKeys = new int[chunks];
+        int[] maxKeys = new int[chunks];
+        runAll(chunks, c -> {
+            int lo = from + c * chunkSize;
+            int hi = Math.min(to, lo + chunkSize);
+            int min = -1; // 0xFFFFFFFF, máximo sin signo
+            int max = 0;
+            for (int i = lo; i < hi; i++) {
+                int key = a[i] ^ Integer.MIN_VALUE;
+                if (Integer.compareUnsigned(key, min) < 0) min = key;
+                if (Integer.compareUnsigned(key, max) > 0) max = key;
+            }
+            minKeys[c] = min;
+            maxKeys[c] = max;
+        });
+
+        int min = -1;
+        int max = 0;
+        for (int c = 0; c < chunks; c++) {
+            if (Integer.compareUnsigned(minKeys[c], min) < 0) min = minKeys[c];
+            if (Integer.compareUnsigned(maxKeys[c], max) > 0) max = maxKeys[c];
+        }
+        int diff = min ^ max;
+        if (diff == 0) return; // Todos los valores son iguales
+
+        int highestBit = 31 - Integer.numberOfLeadingZeros(diff);
+        int shift = Math.max(0, highestBit - DIGIT_BITS + 1);
+
+        // 2. Histograma por bloque
+        int[][] counts = new int[chunks][RADIX];
+        runAll(chunks, c -> {
+            int lo = from + c * chunkSize;
+            int hi = Math.min(to, lo + chunkSize);
+            int[] count = counts[c];
+            for (int i = lo; i < hi; i++) {
+                count[((a[i] ^ Integer.MIN_VALUE) >>> shift) & MASK]++;
+            }
+        });
+
+        // 3. Sumas de prefijos globales: posición de cada bloque dentro de cada cubeta
+        int[] bucketStart = new int[RADIX + 1];
+        int sum = 0;
+        for (int d = 0; d < RADIX; d++) {
+            bucketStart[d] = sum;
+            for (int c = 0; c < chunks; c++) {
+                int count = counts[c][d];
+                counts[c][d] = sum;
+                sum += count;
+            }
+        }
+        bucketStart[RADIX] = sum;
+
+        // 4. Distribución en paralelo
+        int[] scratch = new int[n];
+        runAll(chunks, c -> {
+            int lo = from + c * chunkSize;
+            int hi = Math.min(to, lo + chunkSize);
+            int[] pos = counts[c];
+            for (int i = lo; i < hi; i++) {
+                int v = a[i];
+                scratch[pos[((v ^ Integer.MIN_VALUE) >>> shift) & MASK]++] = v;
+            }
+        });
+
+        // 5. Cada cubeta se copia de regreso y se ordena de forma independiente
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int d = 0; d < RADIX; d++) {
+            int start = bucketStart[d];
+            int end = bucketStart[d + 1];
+            if (start == end) continue;
+            tasks.add(ForkJoinTask.adapt(() -> {
+                System.arraycopy(scratch, start, a, from + start, end - start);
+                if (shift == 0) return; // La cubeta ya contiene un único valor
+                if (end - start <= INSERTION_THRESHOLD) {
+                    insertion.sort(a, from + start, from + end);
+                } else {
+                    radix.sort(a, from + start, from + end);
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /**
+     * Ejecuta en paralelo una acción por cada bloque y espera a que terminen.
+     *
+     * @param chunks cantidad de bloques
+     * @param action acción a ejecutar, recibe el número de bloque
+     */
+    private static void runAll(int chunks, ChunkAction action) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            tasks.add(ForkJoinTask.adapt(() -> action.run(chunk)));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /**
+     * Cierra el pool si fue creado por este algoritmo, esperando a que
+     * terminen sus tareas. Un pool recibido en el constructor (o el pool
+     * común) no se cierra: pertenece a quien lo creó.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.close();
+        }
+    }
+
+    /**
+     * Crea un pool con el nivel de paralelismo indicado.
+     *
+     * @param parallelism cantidad de hilos
+     * @return pool creado
+     */
+    private static ForkJoinPool createPool(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism debe ser positivo: " + parallelism);
+        }
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Acción aplicada sobre un bloque de los datos.
+     */
+    @FunctionalInterface
+    private interface ChunkAction {
+        void run(int chunk);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.sorts;
+
+/**
+ * Implementación de Insertion Sort para arreglos primitivos
+ * (int[], long[] y double[]).
+ *
+ * Es la misma lógica de InsertionSort, pero sin boxing ni llamadas
+ * a compareTo, por lo que es adecuada como caso base de los
+ * algoritmos recursivos.
+ *
+ * Complejidad:
+ * - Mejor caso: O(n)
+ * - Caso promedio: O(n^2)
+ * - Peor caso: O(n^2)
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class PrimitiveInsertionSort implements IntSortAlgorithm, LongSortAlgorithm, DoubleSortAlgorithm {
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de enteros.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(int[] a, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = a[i];
+            int j = i - 1;
+
+            while (j >= from && a[j] > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de long.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(long[] a, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = a[i];
+            int j = i - 1;
+
+            while (j >= from && a[j] > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de double.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(double[] a, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            double key = a[i];
+            int j = i - 1;
+
+            while (j >= from && a[j] > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+}
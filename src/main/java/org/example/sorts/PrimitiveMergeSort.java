@@ -0,0 +1,223 @@
+package org.example.sorts;
+
+import java.util.Arrays;
+
+/**
+ * Implementación de Merge Sort para arreglos primitivos
+ * (int[], long[] y double[]).
+ *
+ * A diferencia de MergeSort, no crea sublistas en cada nivel de
+ * la recursión: se reserva un único arreglo auxiliar al inicio y
+ * los papeles de origen y destino se alternan entre niveles.
+ * Además:
+ * - Los rangos pequeños se ordenan con Insertion Sort.
+ * - Si las dos mitades ya están en orden, se omite la mezcla.
+ *
+ * Complejidad:
+ * - Mejor caso: O(n)
+ * - Caso promedio: O(n log n)
+ * - Peor caso: O(n log n)
+ *
+ * Espacio adicional: O(n)
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class PrimitiveMergeSort implements IntSortAlgorithm, LongSortAlgorithm, DoubleSortAlgorithm {
+
+    /**
+     * Tamaño de rango por debajo del cual se usa Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * Algoritmo usado para los rangos pequeños.
+     */
+    private final PrimitiveInsertionSort insertion = new PrimitiveInsertionSort();
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de enteros.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(int[] a, int from, int to) {
+        if (to - from <= 1) return;
+
+        sort(a, from, to, new int[to - from]);
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de enteros usando un
+     * arreglo auxiliar dado por quien llama, sin reservar memoria.
+     * Permite reutilizar el mismo arreglo auxiliar entre llamadas.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @param scratch arreglo auxiliar con al menos (to - from) posiciones
+     * @throws IllegalArgumentException si el arreglo auxiliar es muy pequeño
+     */
+    public void sort(int[] a, int from, int to, int[] scratch) {
+        int n = to - from;
+        if (n <= 1) return;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("El arreglo auxiliar requiere " + n + " posiciones");
+        }
+
+        System.arraycopy(a, from, scratch, 0, n);
+        mergeSort(scratch, a, from, to, -from);
+    }
+
+    /**
+     * Ordena recursivamente src[low + off, high + off) dejando
+     * el resultado en dest[low, high).
+     *
+     * @param src arreglo origen (mismo contenido que dest en el rango)
+     * @param dest arreglo destino
+     * @param low índice inicial en dest
+     * @param high índice final (exclusivo) en dest
+     * @param off desplazamiento de los índices de src respecto a dest
+     */
+    private void mergeSort(int[] src, int[] dest, int low, int high, int off) {
+        int length = high - low;
+        if (length < INSERTION_THRESHOLD) {
+            insertion.sort(dest, low, high);
+            return;
+        }
+
+        int destLow = low;
+        int destHigh = high;
+        low += off;
+        high += off;
+        int mid = (low + high) >>> 1;
+
+        mergeSort(dest, src, low, mid, -off);
+        mergeSort(dest, src, mid, high, -off);
+
+        if (src[mid - 1] <= src[mid]) {
+            System.arraycopy(src, low, dest, destLow, length);
+            return;
+        }
+
+        for (int i = destLow, p = low, q = mid; i < destHigh; i++) {
+            if (q >= high || p < mid && src[p] <= src[q]) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de long.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(long[] a, int from, int to) {
+        if (to - from <= 1) return;
+
+        long[] aux = Arrays.copyOfRange(a, from, to);
+        mergeSort(aux, a, from, to, -from);
+    }
+
+    /**
+     * Ordena recursivamente src[low + off, high + off) dejando
+     * el resultado en dest[low, high).
+     *
+     * @param src arreglo origen (mismo contenido que dest en el rango)
+     * @param dest arreglo destino
+     * @param low índice inicial en dest
+     * @param high índice final (exclusivo) en dest
+     * @param off desplazamiento de los índices de src respecto a dest
+     */
+    private void mergeSort(long[] src, long[] dest, int low, int high, int off) {
+        int length = high - low;
+        if (length < INSERTION_THRESHOLD) {
+            insertion.sort(dest, low, high);
+            return;
+        }
+
+        int destLow = low;
+        int destHigh = high;
+        low += off;
+        high += off;
+        int mid = (low + high) >>> 1;
+
+        mergeSort(dest, src, low, mid, -off);
+        mergeSort(dest, src, mid, high, -off);
+
+        if (src[mid - 1] <= src[mid]) {
+            System.arraycopy(src, low, dest, destLow, length);
+            return;
+        }
+
+        for (int i = destLow, p = low, q = mid; i < destHigh; i++) {
+            if (q >= high || p < mid && src[p] <= src[q]) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de double.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(double[] a, int from, int to) {
+        if (to - from <= 1) return;
+
+        double[] aux = Arrays.copyOfRange(a, from, to);
+        mergeSort(aux, a, from, to, -from);
+    }
+
+    /**
+     * Ordena recursivamente src[low + off, high + off) dejando
+     * el resultado en dest[low, high).
+     *
+     * @param src arreglo origen (mismo contenido que dest en el rango)
+     * @param dest arreglo destino
+     * @param low índice inicial en dest
+     * @param high índice final (exclusivo) en dest
+     * @param off desplazamiento de los índices de src respecto a dest
+     */
+    private void mergeSort(double[] src, double[] dest, int low, int high, int off) {
+        int length = high - low;
+        if (length < INSERTION_THRESHOLD) {
+            insertion.sort(dest, low, high);
+            return;
+        }
+
+        int destLow = low;
+        int destHigh = high;
+        low += off;
+        high += off;
+        int mid = (low + high) >>> 1;
+
+        mergeSort(dest, src, low, mid, -off);
+        mergeSort(dest, src, mid, high, -off);
+
+        if (src[mid - 1] <= src[mid]) {
+            System.arraycopy(src, low, dest, destLow, length);
+            return;
+        }
+
+        for (int i = destLow, p = low, q = mid; i < destHigh; i++) {
+            if (q >= high || p < mid && src[p] <= src[q]) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package org.example.sorts;
+
+/**
+ * Implementación de Quick Sort para arreglos primitivos
+ * (int[], long[] y double[]).
+ *
+ * Utiliza el mismo pivote "median-of-three" que QuickSort,
+ * pero trabaja directamente sobre el arreglo sin boxing.
+ * Además:
+ * - Los rangos pequeños se ordenan con Insertion Sort.
+ * - Se recurre sobre la partición más pequeña y se itera
+ *   sobre la más grande, acotando la pila a O(log n).
+ *
+ * Complejidad:
+ * - Mejor caso: O(n log n)
+ * - Caso promedio: O(n log n)
+ * - Peor caso: O(n^2)
+ *
+ * Espacio adicional: O(log n) debido a la recursión.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class PrimitiveQuickSort implements IntSortAlgorithm, LongSortAlgorithm, DoubleSortAlgorithm {
+
+    /**
+     * Tamaño de rango por debajo del cual se usa Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * Algoritmo usado para los rangos pequeños.
+     */
+    private final PrimitiveInsertionSort insertion = new PrimitiveInsertionSort();
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de enteros.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(int[] a, int from, int to) {
+        int low = from;
+        int high = to - 1;
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            int pivotIndex = partition(a, low, high);
+            if (pivotIndex - low < high - pivotIndex) {
+                sort(a, low, pivotIndex);
+                low = pivotIndex + 1;
+            } else {
+                sort(a, pivotIndex + 1, high + 1);
+                high = pivotIndex - 1;
+            }
+        }
+        insertion.sort(a, low, high + 1);
+    }
+
+    /**
+     * Realiza la partición del rango [low, high] usando
+     * median-of-three para seleccionar el pivote.
+     *
+     * A diferencia de QuickSort, los punteros se detienen en los
+     * elementos iguales al pivote, de modo que las listas con muchos
+     * duplicados se dividen en mitades balanceadas.
+     *
+     * @param a arreglo a particionar
+     * @param low índice inicial
+     * @param high índice final
+     * @return índice final del pivote después de la partición
+     */
+    private int partition(int[] a, int low, int high) {
+        int mid = low + (high - low) / 2;
+
+        if (a[mid] < a[low]) swap(a, low, mid);
+        if (a[high] < a[low]) swap(a, low, high);
+        if (a[high] < a[mid]) swap(a, mid, high);
+
+        swap(a, mid, high);
+
+        int pivot = a[high];
+        int i = low - 1;
+        int j = high;
+
+        while (true) {
+            while (a[++i] < pivot) { }
+            while (pivot < a[--j]) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(a, i, j);
+        }
+
+        swap(a, i, high);
+        return i;
+    }
+
+    /**
+     * Intercambia dos posiciones del arreglo.
+     *
+     * @param a arreglo
+     * @param i índice del primer elemento
+     * @param j índice del segundo elemento
+     */
+    private static void swap(int[] a, int i, int j) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de long.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(long[] a, int from, int to) {
+        int low = from;
+        int high = to - 1;
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            int pivotIndex = partition(a, low, high);
+            if (pivotIndex - low < high - pivotIndex) {
+                sort(a, low, pivotIndex);
+                low = pivotIndex + 1;
+            } else {
+                sort(a, pivotIndex + 1, high + 1);
+                high = pivotIndex - 1;
+            }
+        }
+        insertion.sort(a, low, high + 1);
+    }
+
+    /**
+     * Realiza la partición del rango [low, high] usando
+     * median-of-three para seleccionar el pivote.
+     *
+     * A diferencia de QuickSort, los punteros se detienen en los
+     * elementos iguales al pivote, de modo que las listas con muchos
+     * duplicados se dividen en mitades balanceadas.
+     *
+     * @param a arreglo a particionar
+     * @param low índice inicial
+     * @param high índice final
+     * @return índice final del pivote después de la partición
+     */
+    private int partition(long[] a, int low, int high) {
+        int mid = low + (high - low) / 2;
+
+        if (a[mid] < a[low]) swap(a, low, mid);
+        if (a[high] < a[low]) swap(a, low, high);
+        if (a[high] < a[mid]) swap(a, mid, high);
+
+        swap(a, mid, high);
+
+        long pivot = a[high];
+        int i = low - 1;
+        int j = high;
+
+        while (true) {
+            while (a[++i] < pivot) { }
+            while (pivot < a[--j]) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(a, i, j);
+        }
+
+        swap(a, i, high);
+        return i;
+    }
+
+    /**
+     * Intercambia dos posiciones del arreglo.
+     *
+     * @param a arreglo
+     * @param i índice del primer elemento
+     * @param j índice del segundo elemento
+     */
+    private static void swap(long[] a, int i, int j) {
+        long temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de double.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(double[] a, int from, int to) {
+        int low = from;
+        int high = to - 1;
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            int pivotIndex = partition(a, low, high);
+            if (pivotIndex - low < high - pivotIndex) {
+                sort(a, low, pivotIndex);
+                low = pivotIndex + 1;
+            } else {
+                sort(a, pivotIndex + 1, high + 1);
+                high = pivotIndex - 1;
+            }
+        }
+        insertion.sort(a, low, high + 1);
+    }
+
+    /**
+     * Realiza la partición del rango [low, high] usando
+     * median-of-three para seleccionar el pivote.
+     *
+     * A diferencia de QuickSort, los punteros se detienen en los
+     * elementos iguales al pivote, de modo que las listas con muchos
+     * duplicados se dividen en mitades balanceadas.
+     *
+     * @param a arreglo a particionar
+     * @param low índice inicial
+     * @param high índice final
+     * @return índice final del pivote después de la partición
+     */
+    private int partition(double[] a, int low, int high) {
+        int mid = low + (high - low) / 2;
+
+        if (a[mid] < a[low]) swap(a, low, mid);
+        if (a[high] < a[low]) swap(a, low, high);
+        if (a[high] < a[mid]) swap(a, mid, high);
+
+        swap(a, mid, high);
+
+        double pivot = a[high];
+        int i = low - 1;
+        int j = high;
+
+        while (true) {
+            while (a[++i] < pivot) { }
+            while (pivot < a[--j]) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(a, i, j);
+        }
+
+        swap(a, i, high);
+        return i;
+    }
+
+    /**
+     * Intercambia dos posiciones del arreglo.
+     *
+     * @param a arreglo
+     * @param i índice del primer elemento
+     * @param j índice del segundo elemento
+     */
+    private static void swap(double[] a, int i, int j) {
+        double temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
@@ -0,0 +1,284 @@
+package org.example.sorts;
+
+/**
+ * Implementación de Radix Sort (LSD) para arreglos primitivos
+ * (int[], long[] y double[]).
+ *
+ * A diferencia de la versión original de RadixSort en base 10:
+ * - Procesa dígitos de 8 bits (u 11 bits, configurable) usando
+ *   desplazamientos y máscaras en lugar de divisiones y módulos.
+ * - Construye los histogramas de todos los dígitos en una sola
+ *   pasada inicial sobre los datos.
+ * - Omite las pasadas en que todas las claves comparten el mismo
+ *   dígito (por ejemplo, los bytes altos de valores pequeños).
+ * - Utiliza un único arreglo auxiliar para todas las pasadas, que
+ *   además puede ser proporcionado por el llamador para reutilizarlo.
+ *
+ * Para soportar números negativos se invierte el bit de signo
+ * de cada clave, de modo que el orden sin signo de las claves
+ * coincide con el orden con signo de los valores. Los double
+ * se transforman a claves long que conservan su orden.
+ *
+ * El algoritmo es estable.
+ *
+ * Complejidad:
+ * - Mejor caso: O(n)  (todas las pasadas omitidas)
+ * - Caso promedio: O(n·w/b)
+ * - Peor caso: O(n·w/b)
+ *
+ * Donde w es el ancho en bits del tipo (32 o 64) y b el ancho del dígito.
+ *
+ * Espacio adicional: O(n + (w/b)·2^b)
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class PrimitiveRadixSort implements IntSortAlgorithm, LongSortAlgorithm, DoubleSortAlgorithm {
+
+    /**
+     * Ancho de dígito por defecto, en bits.
+     */
+    public static final int DEFAULT_DIGIT_BITS = 8;
+
+    /**
+     * Ancho máximo de dígito permitido, en bits.
+     */
+    private static final int MAX_DIGIT_BITS = 16;
+
+    /**
+     * Bits procesados en cada pasada.
+     */
+    private final int digitBits;
+
+    /**
+     * Cantidad de valores posibles de un dígito.
+     */
+    private final int radix;
+
+    /**
+     * Máscara para extraer un dígito.
+     */
+    private final int mask;
+
+    /**
+     * Crea el algoritmo con dígitos de 8 bits.
+     */
+    public PrimitiveRadixSort() {
+        this(DEFAULT_DIGIT_BITS);
+    }
+
+    /**
+     * Crea el algoritmo con el ancho de dígito indicado.
+     *
+     * Con 8 bits un int requiere 4 pasadas; con 11 bits, 3 pasadas
+     * a cambio de histogramas más grandes.
+     *
+     * @param digitBits bits por dígito (entre 1 y 16)
+     * @throws IllegalArgumentException si el ancho está fuera de rango
+     */
+    public PrimitiveRadixSort(int digitBits) {
+        if (digitBits < 1 || digitBits > MAX_DIGIT_BITS) {
+            throw new IllegalArgumentException("digitBits debe estar entre 1 y " + MAX_DIGIT_BITS + ": " + digitBits);
+        }
+        this.digitBits = digitBits;
+        this.radix = 1 << digitBits;
+        this.mask = radix - 1;
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de enteros.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(int[] a, int from, int to) {
+        if (to - from <= 1) return;
+        sort(a, from, to, new int[to - from]);
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de enteros usando
+     * el arreglo auxiliar recibido, que puede reutilizarse entre llamadas.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @param scratch arreglo auxiliar con al menos (to - from) posiciones
+     * @throws IllegalArgumentException si el arreglo auxiliar es muy pequeño
+     */
+    public void sort(int[] a, int from, int to, int[] scratch) {
+        int n = to - from;
+        if (n <= 1) return;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("El arreglo auxiliar requiere " + n + " posiciones");
+        }
+
+        int passes = (Integer.SIZE + digitBits - 1) / digitBits;
+        int[] count = new int[passes * radix];
+
+        // Histogramas de todos los dígitos en una sola pasada
+        for (int i = from; i < to; i++) {
+            int key = a[i] ^ Integer.MIN_VALUE;
+            for (int p = 0, base = 0; p < passes; p++, base += radix) {
+                count[base + ((key >>> (p * digitBits)) & mask)]++;
+            }
+        }
+
+        int[] src = a;
+        int[] dst = scratch;
+        int srcOff = from;
+        int dstOff = 0;
+        int firstKey = a[from] ^ Integer.MIN_VALUE;
+
+        for (int p = 0, base = 0; p < passes; p++, base += radix) {
+            int shift = p * digitBits;
+            if (count[base + ((firstKey >>> shift) & mask)] == n) {
+                continue; // Todas las claves comparten este dígito
+            }
+
+            prefixSums(count, base);
+            for (int i = 0; i < n; i++) {
+                int v = src[srcOff + i];
+                dst[dstOff + count[base + (((v ^ Integer.MIN_VALUE) >>> shift) & mask)]++] = v;
+            }
+
+            int[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de long.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(long[] a, int from, int to) {
+        if (to - from <= 1) return;
+        sortKeys(a, from, to, new long[to - from], Long.MIN_VALUE);
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de long usando
+     * el arreglo auxiliar recibido, que puede reutilizarse entre llamadas.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @param scratch arreglo auxiliar con al menos (to - from) posiciones
+     * @throws IllegalArgumentException si el arreglo auxiliar es muy pequeño
+     */
+    public void sort(long[] a, int from, int to, long[] scratch) {
+        sortKeys(a, from, to, scratch, Long.MIN_VALUE);
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de double.
+     *
+     * Los valores se convierten a claves long cuyo orden sin signo
+     * coincide con el orden de los double, se ordenan las claves
+     * y luego se convierten de regreso.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(double[] a, int from, int to) {
+        int n = to - from;
+        if (n <= 1) return;
+
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            long bits = Double.doubleToRawLongBits(a[from + i]);
+            keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+
+        sortKeys(keys, 0, n, new long[n], 0L);
+
+        for (int i = 0; i < n; i++) {
+            long key = keys[i];
+            long bits = key < 0 ? key ^ Long.MIN_VALUE : ~key;
+            a[from + i] = Double.longBitsToDouble(bits);
+        }
+    }
+
+    /**
+     * Ordena el rango [from, to) comparando los valores como claves
+     * sin signo luego de aplicarles un XOR con signMask.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @param scratch arreglo auxiliar con al menos (to - from) posiciones
+     * @param signMask Long.MIN_VALUE para orden con signo, 0 para orden sin signo
+     */
+    private void sortKeys(long[] a, int from, int to, long[] scratch, long signMask) {
+        int n = to - from;
+        if (n <= 1) return;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("El arreglo auxiliar requiere " + n + " posiciones");
+        }
+
+        int passes = (Long.SIZE + digitBits - 1) / digitBits;
+        int[] count = new int[passes * radix];
+
+        // Histogramas de todos los dígitos en una sola pasada
+        for (int i = from; i < to; i++) {
+            long key = a[i] ^ signMask;
+            for (int p = 0, base = 0; p < passes; p++, base += radix) {
+                count[base + ((int) (key >>> (p * digitBits)) & mask)]++;
+            }
+        }
+
+        long[] src = a;
+        long[] dst = scratch;
+        int srcOff = from;
+        int dstOff = 0;
+        long firstKey = a[from] ^ signMask;
+
+        for (int p = 0, base = 0; p < passes; p++, base += radix) {
+            int shift = p * digitBits;
+            if (count[base + ((int) (firstKey >>> shift) & mask)] == n) {
+                continue; // Todas las claves comparten este dígito
+            }
+
+            prefixSums(count, base);
+            for (int i = 0; i < n; i++) {
+                long v = src[srcOff + i];
+                dst[dstOff + count[base + ((int) ((v ^ signMask) >>> shift) & mask)]++] = v;
+            }
+
+            long[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    /**
+     * Convierte el histograma de un dígito en posiciones iniciales
+     * (suma de prefijos exclusiva).
+     *
+     * @param count histogramas de todos los dígitos
+     * @param base posición donde inicia el histograma del dígito
+     */
+    private void prefixSums(int[] count, int base) {
+        int sum = 0;
+        for (int d = base; d < base + radix; d++) {
+            int c = count[d];
+            count[d] = sum;
+            sum += c;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.example.sorts;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementación de selección por rango con Introselect.
+ *
+ * Usa la misma partición median-of-three de QuickSort, pero después
+ * de cada partición continúa solo por el lado que contiene el rango
+ * buscado, por lo que en promedio recorre n + n/2 + n/4 + ... = O(n)
+ * elementos.
+ *
+ * El rango que queda por revisar debe reducirse al menos a la mitad
+ * cada dos particiones. Si no es así (entrada adversaria, o con
+ * muchos repetidos, donde la partición de Lomuto solo descarta el
+ * pivote), cambia a la mediana de medianas como pivote con una
+ * partición de tres vías. Antes del cambio se hacen a lo sumo dos
+ * particiones por cada mitad descartada, es decir O(n) comparaciones,
+ * y la mediana de medianas garantiza O(n) en lo que resta.
+ *
+ * partialSort selecciona el rango k - 1 y luego ordena solo las
+ * primeras k posiciones con NaturalMergeSort.
+ *
+ * Complejidad:
+ * - select: O(n) promedio y peor caso
+ * - partialSort: O(n + k log k)
+ *
+ * Espacio adicional: O(log n)
+ *
+ * @param <T> tipo de dato que implementa la interfaz Comparable
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class QuickSelect<T extends Comparable<T>> implements SelectionAlgorithm<T> {
+
+    /**
+     * Tamaño de rango por debajo del cual se ordena con Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * Particiones permitidas para reducir el rango a la mitad antes de
+     * cambiar a la mediana de medianas.
+     */
+    private static final int PARTITIONS_PER_HALVING = 2;
+
+    /**
+     * Quick Sort cuya partición se reutiliza.
+     */
+    private final QuickSort<T> quickSort = new QuickSort<>();
+
+    /**
+     * Algoritmo usado para ordenar el prefijo en partialSort.
+     */
+    private final NaturalMergeSort<T> prefixSort = new NaturalMergeSort<>();
+
+    /**
+     * Retorna el elemento de rango k usando Introselect.
+     *
+     * @param list lista de elementos comparables
+     * @param k rango buscado, entre 0 y size - 1
+     * @return elemento de rango k
+     * @throws IllegalArgumentException si k está fuera de rango
+     */
+    @Override
+    public T select(List<T> list, int k) {
+        return select(list, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Retorna el elemento de rango k según el comparador indicado.
+     *
+     * @param list lista de elementos
+     * @param k rango buscado, entre 0 y size - 1
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     * @return elemento de rango k
+     * @throws IllegalArgumentException si k está fuera de rango
+     */
+    @Override
+    public <E> E select(List<E> list, int k, Comparator<? super E> comparator) {
+        if (k < 0 || k >= list.size()) {
+            throw new IllegalArgumentException("Rango fuera de la lista: " + k + " (tamaño " + list.size() + ")");
+        }
+        return select(list, 0, list.size() - 1, k, comparator);
+    }
+
+    /**
+     * Ordena los k menores elementos en las primeras k posiciones.
+     *
+     * @param list lista de elementos comparables
+     * @param k cantidad de elementos a ordenar, entre 0 y size
+     * @throws IllegalArgumentException si k está fuera de rango
+     */
+    @Override
+    public void partialSort(List<T> list, int k) {
+        partialSort(list, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena los k menores elementos, según el comparador indicado,
+     * en las primeras k posiciones.
+     *
+     * @param list lista de elementos
+     * @param k cantidad de elementos a ordenar, entre 0 y size
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     * @throws IllegalArgumentException si k está fuera de rango
+     */
+    @Override
+    public <E> void partialSort(List<E> list, int k, Comparator<? super E> comparator) {
+        int n = list.size();
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("Cantidad fuera de la lista: " + k + " (tamaño " + n + ")");
+        }
+        if (k == 0) return;
+
+        if (k < n) {
+            select(list, 0, n - 1, k - 1, comparator);
+        }
+        prefixSort.sort(list.subList(0, k), comparator);
+    }
+
+    /**
+     * Busca el elemento de rango k dentro del rango [low, high].
+     *
+     * @param list lista de elementos
+     * @param low índice inicial
+     * @param high índice final (inclusive)
+     * @param k rango buscado, entre low y high
+     * @param c comparador que define el orden
+     * @return elemento de rango k
+     */
+    private <E> E select(List<E> list, int low, int high, int k, Comparator<? super E> c) {
+        // Tamaño que el rango debe alcanzar antes de agotar las particiones permitidas
+        int target = (high - low + 1) / 2;
+        int rounds = PARTITIONS_PER_HALVING;
+        boolean fallback = false;
+
+        while (high - low >= INSERTION_THRESHOLD) {
+            if (!fallback) {
+                int p = quickSort.partition(list, low, high, c);
+                if (k == p) return list.get(k);
+                if (k < p) {
+                    high = p - 1;
+                } else {
+                    low = p + 1;
+                }
+                if (high - low + 1 <= target) {
+                    target = (high - low + 1) / 2;
+                    rounds = PARTITIONS_PER_HALVING;
+                } else if (--rounds == 0) {
+                    fallback = true;
+                }
+                continue;
+            }
+
+            // Peor caso: pivote mediana de medianas y partición de tres vías
+            E pivot = medianOfMedians(list, low, high, c);
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int cmp = c.compare(list.get(i), pivot);
+                if (cmp < 0) {
+                    quickSort.swap(list, lt++, i++);
+                } else if (cmp > 0) {
+                    quickSort.swap(list, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return list.get(k);
+            }
+        }
+
+        insertionSort(list, low, high, c);
+        return list.get(k);
+    }
+
+    /**
+     * Calcula la mediana de medianas del rango [low, high]: ordena
+     * grupos de 5, lleva sus medianas al inicio del rango y selecciona
+     * recursivamente la mediana de ellas.
+     *
+     * @param list lista de elementos
+     * @param low índice inicial
+     * @param high índice final (inclusive)
+     * @param c comparador que define el orden
+     * @return pivote que deja al menos un 30% del rango a cada lado
+     */
+    private <E> E medianOfMedians(List<E> list, int low, int high, Comparator<? super E> c) {
+        int medians = 0;
+        for (int start = low; start <= high; start += 5) {
+            int end = Math.min(start + 4, high);
+            insertionSort(list, start, end, c);
+            quickSort.swap(list, low + medians, start + (end - start) / 2);
+            medians++;
+        }
+        return select(list, low, low + medians - 1, low + (medians - 1) / 2, c);
+    }
+
+    /**
+     * Ordena el rango [low, high] con Insertion Sort.
+     *
+     * @param list lista de elementos
+     * @param low índice inicial
+     * @param high índice final (inclusive)
+     * @param c comparador que define el orden
+     */
+    private <E> void insertionSort(List<E> list, int low, int high, Comparator<? super E> c) {
+        for (int i = low + 1; i <= high; i++) {
+            E key = list.get(i);
+            int j = i - 1;
+            while (j >= low && c.compare(list.get(j), key) > 0) {
+                list.set(j + 1, list.get(j));
+                j--;
+            }
+            list.set(j + 1, key);
+        }
+    }
+}
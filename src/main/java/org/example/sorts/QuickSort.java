@@ -1,5 +1,9 @@
 package org.example.sorts;
 
+import org.example.monitoring.SortExecuted;
+import org.example.sorts.SortCapabilities.KeyType;
+
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -28,14 +32,57 @@ import java.util.List;
  */
 public class QuickSort<T extends Comparable<T>> implements SortAlgorithm<T> {
 
+    /**
+     * Versión primitiva usada cuando la lista es un IntArrayList.
+     */
+    private static final PrimitiveQuickSort PRIMITIVE = new PrimitiveQuickSort();
+
     /**
      * Ordena la lista utilizando el algoritmo Quick Sort.
      *
+     * Si la lista es un IntArrayList, se ordena directamente su
+     * arreglo interno con la versión primitiva del algoritmo.
+     *
      * @param list lista de elementos comparables a ordenar
      */
     @Override
     public void sort(List<T> list) {
-        quickSort(list, 0, list.size() - 1);
+        if (list instanceof IntArrayList ints) {
+            SortExecuted event = SortExecuted.start();
+            PRIMITIVE.sort(ints.elements(), 0, ints.size());
+            event.finish("QuickSort", ints.size());
+            return;
+        }
+
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena la lista con Quick Sort según el comparador indicado.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    @Override
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        SortExecuted event = SortExecuted.start();
+        quickSort(list, 0, list.size() - 1, comparator);
+        event.finish("QuickSort", list.size());
+    }
+
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * Quick Sort no es estable: la partición puede cambiar el orden
+     * relativo de elementos iguales. Ordena en el lugar.
+     *
+     * @return características del algoritmo
+     */
+    @Override
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(false, true, false, false,
+                KeyType.COMPARABLE, KeyType.COMPARATOR, KeyType.INT);
     }
 
     /**
@@ -45,12 +92,13 @@ public class QuickSort<T extends Comparable<T>> implements SortAlgorithm<T> {
      * @param list lista a ordenar
      * @param low índice inicial del rango
      * @param high índice final del rango
+     * @param c comparador que define el orden
      */
-    private void quickSort(List<T> list, int low, int high) {
+    private <E> void quickSort(List<E> list, int low, int high, Comparator<? super E> c) {
         if (low < high) {
-            int pivotIndex = partition(list, low, high);
-            quickSort(list, low, pivotIndex - 1);
-            quickSort(list, pivotIndex + 1, high);
+            int pivotIndex = partition(list, low, high, c);
+            quickSort(list, low, pivotIndex - 1, c);
+            quickSort(list, pivotIndex + 1, high, c);
         }
     }
 
@@ -58,31 +106,47 @@ public class QuickSort<T extends Comparable<T>> implements SortAlgorithm<T> {
      * Realiza la partición de la lista utilizando el método
      * median-of-three para seleccionar el pivote.
      *
+     * También la usa QuickSelect para la selección por rango.
+     *
      * @param list lista a particionar
      * @param low índice inicial
      * @param high índice final
+     * @param c comparador que define el orden
      * @return índice final del pivote después de la partición
      */
-    private int partition(List<T> list, int low, int high) {
+    <E> int partition(List<E> list, int low, int high, Comparator<? super E> c) {
         int mid = low + (high - low) / 2;
 
-        if (list.get(mid).compareTo(list.get(low)) < 0) {
+        if (c.compare(list.get(mid), list.get(low)) < 0) {
             swap(list, low, mid);
         }
-        if (list.get(high).compareTo(list.get(low)) < 0) {
+        if (c.compare(list.get(high), list.get(low)) < 0) {
             swap(list, low, high);
         }
-        if (list.get(high).compareTo(list.get(mid)) < 0) {
+        if (c.compare(list.get(high), list.get(mid)) < 0) {
             swap(list, mid, high);
         }
 
         swap(list, mid, high);
+        return partitionAroundLast(list, low, high, c);
+    }
 
-        T pivot = list.get(high);
+    /**
+     * Particiona el rango [low, high] usando como pivote el
+     * elemento que está en la posición high.
+     *
+     * @param list lista a particionar
+     * @param low índice inicial
+     * @param high índice final (posición del pivote)
+     * @param c comparador que define el orden
+     * @return índice final del pivote después de la partición
+     */
+    <E> int partitionAroundLast(List<E> list, int low, int high, Comparator<? super E> c) {
+        E pivot = list.get(high);
         int i = low - 1;
 
         for (int j = low; j < high; j++) {
-            if (list.get(j).compareTo(pivot) <= 0) {
+            if (c.compare(list.get(j), pivot) <= 0) {
                 i++;
                 swap(list, i, j);
             }
@@ -99,11 +163,9 @@ public class QuickSort<T extends Comparable<T>> implements SortAlgorithm<T> {
      * @param i índice del primer elemento
      * @param j índice del segundo elemento
      */
-    private void swap(List<T> list, int i, int j) {
-        T temp = list.get(i);
+    <E> void swap(List<E> list, int i, int j) {
+        E temp = list.get(i);
         list.set(i, list.get(j));
         list.set(j, temp);
     }
 }
-
-
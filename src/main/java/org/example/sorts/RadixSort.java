@@ -1,6 +1,10 @@
 package org.example.sorts;
 
+import org.example.monitoring.SortExecuted;
+import org.example.sorts.SortCapabilities.KeyType;
+
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * Implementación del algoritmo Radix Sort.
@@ -9,34 +13,45 @@ import java.util.List;
  * que ordena números enteros procesando cada dígito de manera
  * individual, comenzando desde el dígito menos significativo.
  *
- * Esta implementación utiliza Counting Sort como subrutina
- * para ordenar los elementos según cada posición decimal.
+ * Esta implementación delega en PrimitiveRadixSort, que procesa
+ * dígitos de 8 bits con desplazamientos y máscaras (4 pasadas para
+ * un int, en lugar de hasta 10 pasadas en base decimal) y soporta
+ * todo el rango de int, incluidos los números negativos.
  *
  * Nota: Este algoritmo no utiliza la interfaz Comparable,
  * ya que no se basa en comparaciones entre elementos,
  * sino en el análisis de sus dígitos.
  *
  * Complejidad:
- * - Mejor caso: O(nk)
+ * - Mejor caso: O(n)
  * - Caso promedio: O(nk)
  * - Peor caso: O(nk)
  *
  * Donde:
  * n = número de elementos
- * k = número de dígitos del número mayor
+ * k = número de dígitos de 8 bits que varían entre los elementos (máximo 4)
  *
- * Espacio adicional: O(n + k)
+ * Espacio adicional: O(n)
  *
  * @author Kenett
  * @version 1.0
  */
 public class RadixSort {
 
+    /**
+     * Motor de Radix Sort sobre arreglos primitivos.
+     */
+    private static final PrimitiveRadixSort PRIMITIVE = new PrimitiveRadixSort();
+
     /**
      * Ordena una lista de números enteros utilizando Radix Sort.
      *
      * Si la lista es nula o está vacía, el método no realiza ninguna acción.
      *
+     * Si la lista es un IntArrayList, se ordena directamente su
+     * arreglo interno. En caso contrario, los valores se copian a un
+     * arreglo int[], se ordenan y se escriben de regreso en la lista.
+     *
      * @param list lista de números enteros a ordenar
      */
     public void sort(List<Integer> list) {
@@ -44,54 +59,39 @@ public class RadixSort {
             return;
         }
 
-        int max = getMax(list);
-
-        for (int exp = 1; max / exp > 0; exp *= 10) {
-            countingSort(list, exp);
+        SortExecuted event = SortExecuted.start();
+        if (list instanceof IntArrayList ints) {
+            PRIMITIVE.sort(ints.elements(), 0, ints.size());
+            event.finish("RadixSort", ints.size());
+            return;
         }
-    }
 
-    /**
-     * Obtiene el valor máximo dentro de la lista.
-     *
-     * @param list lista de números enteros
-     * @return el número máximo encontrado
-     */
-    private int getMax(List<Integer> list) {
-        int max = list.get(0);
+        int[] values = new int[list.size()];
+        int i = 0;
         for (int num : list) {
-            if (num > max) max = num;
+            values[i++] = num;
         }
-        return max;
+
+        PRIMITIVE.sort(values);
+
+        ListIterator<Integer> it = list.listIterator();
+        for (int num : values) {
+            it.next();
+            it.set(num);
+        }
+        event.finish("RadixSort", values.length);
     }
 
     /**
-     * Aplica Counting Sort basado en el dígito representado
-     * por el exponente actual.
+     * Retorna las características del algoritmo.
      *
-     * @param list lista de números enteros a ordenar
-     * @param exp exponente que representa la posición decimal actual
+     * Radix Sort LSD es estable: cada pasada de conteo conserva el
+     * orden relativo de los elementos con el mismo dígito. Solo
+     * ordena claves int y usa memoria adicional O(n).
+     *
+     * @return características del algoritmo
      */
-    private void countingSort(List<Integer> list, int exp) {
-        int[] output = new int[list.size()];
-        int[] count = new int[10];
-
-        for (int num : list) {
-            count[(num / exp) % 10]++;
-        }
-
-        for (int i = 1; i < 10; i++) {
-            count[i] += count[i - 1];
-        }
-
-        for (int i = list.size() - 1; i >= 0; i--) {
-            int num = list.get(i);
-            output[count[(num / exp) % 10] - 1] = num;
-            count[(num / exp) % 10]--;
-        }
-
-        for (int i = 0; i < list.size(); i++) {
-            list.set(i, output[i]);
-        }
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(true, false, false, false, KeyType.INT);
     }
 }
@@ -0,0 +1,74 @@
+package org.example.sorts;
+
+/**
+ * Implementación escalar de IntKernels.
+ *
+ * Los bloques pequeños se ordenan con PrimitiveInsertionSort y la
+ * partición recorre el rango desde ambos extremos intercambiando
+ * los elementos que están del lado incorrecto del pivote.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class ScalarIntKernels implements IntKernels {
+
+    /**
+     * Tamaño máximo de bloque; por encima, Insertion Sort deja de
+     * ser competitivo (ver PrimitiveQuickSort).
+     */
+    public static final int MAX_BLOCK = 16;
+
+    /**
+     * Algoritmo usado para los bloques pequeños.
+     */
+    private final PrimitiveInsertionSort insertion = new PrimitiveInsertionSort();
+
+    /**
+     * Retorna el tamaño máximo de bloque que acepta sortSmall.
+     *
+     * @return MAX_BLOCK
+     */
+    @Override
+    public int maxBlock() {
+        return MAX_BLOCK;
+    }
+
+    /**
+     * Ordena el bloque [from, to) con Insertion Sort.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @throws IllegalArgumentException si el bloque supera MAX_BLOCK
+     */
+    @Override
+    public void sortSmall(int[] a, int from, int to) {
+        if (to - from > MAX_BLOCK) {
+            throw new IllegalArgumentException("El bloque supera " + MAX_BLOCK + " elementos: " + (to - from));
+        }
+        insertion.sort(a, from, to);
+    }
+
+    /**
+     * Particiona el rango [from, to) alrededor del pivote.
+     *
+     * @param a arreglo a particionar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @param pivot valor del pivote
+     * @return índice del primer elemento mayor o igual que el pivote
+     */
+    @Override
+    public int partition(int[] a, int from, int to, int pivot) {
+        int i = from;
+        int j = to - 1;
+        while (true) {
+            while (i <= j && a[i] < pivot) i++;
+            while (i <= j && a[j] >= pivot) j--;
+            if (i >= j) return i;
+            int t = a[i];
+            a[i++] = a[j];
+            a[j--] = t;
+        }
+    }
+}
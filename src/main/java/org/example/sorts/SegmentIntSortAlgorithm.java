@@ -0,0 +1,44 @@
+package org.example.sorts;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * Interfaz que define el contrato para los algoritmos que ordenan
+ * enteros int almacenados en un MemorySegment, normalmente fuera del
+ * heap (reservados con un Arena o mapeados desde un archivo).
+ *
+ * Los índices son long, por lo que un segmento puede contener más
+ * de 2^31 elementos. Los datos se leen y escriben en el segmento con
+ * el layout LAYOUT, sin copiarlos a arreglos del heap.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public interface SegmentIntSortAlgorithm {
+
+    /**
+     * Layout de cada elemento: int de 4 bytes en orden little-endian,
+     * el mismo del formato binario de FileManager.
+     */
+    ValueLayout.OfInt LAYOUT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Ordena de forma ascendente los elementos [from, to) del segmento.
+     *
+     * @param segment segmento con los enteros
+     * @param from índice del primer elemento (inclusive)
+     * @param to índice del último elemento (exclusivo)
+     */
+    void sort(MemorySegment segment, long from, long to);
+
+    /**
+     * Ordena de forma ascendente todos los enteros del segmento.
+     *
+     * @param segment segmento con los enteros
+     */
+    default void sort(MemorySegment segment) {
+        sort(segment, 0, segment.byteSize() / Integer.BYTES);
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.sorts;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Implementación de Quick Sort sobre enteros almacenados en un
+ * MemorySegment, que ordena en el lugar sin memoria adicional
+ * fuera de la pila.
+ *
+ * Como PrimitiveQuickSort, usa pivote "median-of-three", ordena los
+ * rangos pequeños con Insertion Sort y recurre sobre la partición más
+ * pequeña, acotando la pila a O(log n). Además:
+ * - Usa la partición de Hoare, que divide en partes similares
+ *   los rangos con muchos elementos repetidos.
+ * - Si la recursión supera 2·log2(n) niveles, el rango se termina
+ *   con Heap Sort (introsort), de modo que el peor caso es O(n log n).
+ *
+ * Complejidad:
+ * - Mejor caso: O(n log n)
+ * - Caso promedio: O(n log n)
+ * - Peor caso: O(n log n)
+ *
+ * Espacio adicional: O(log n) debido a la recursión.
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class SegmentQuickSort implements SegmentIntSortAlgorithm {
+
+    /**
+     * Tamaño de rango por debajo del cual se usa Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * Ordena los elementos [from, to) del segmento.
+     *
+     * @param segment segmento con los enteros
+     * @param from índice del primer elemento (inclusive)
+     * @param to índice del último elemento (exclusivo)
+     */
+    @Override
+    public void sort(MemorySegment segment, long from, long to) {
+        long n = to - from;
+        if (n < 2) return;
+        quickSort(segment, from, to, 2 * (63 - Long.numberOfLeadingZeros(n)));
+    }
+
+    /**
+     * Ordena el rango [low, high) con introsort.
+     *
+     * @param s segmento con los enteros
+     * @param low índice inicial (inclusive)
+     * @param high índice final (exclusivo)
+     * @param depth niveles de partición restantes antes de usar Heap Sort
+     */
+    private static void quickSort(MemorySegment s, long low, long high, int depth) {
+        while (high - low > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(s, low, high);
+                return;
+            }
+
+            long split = partition(s, low, high - 1);
+            if (split + 1 - low < high - split - 1) {
+                quickSort(s, low, split + 1, depth);
+                low = split + 1;
+            } else {
+                quickSort(s, split + 1, high, depth);
+                high = split + 1;
+            }
+        }
+        insertionSort(s, low, high);
+    }
+
+    /**
+     * Particiona el rango [low, high] con el esquema de Hoare, usando
+     * como pivote la mediana del primero, el del medio y el último.
+     *
+     * @param s segmento con los enteros
+     * @param low índice inicial (inclusive)
+     * @param high índice final (inclusive)
+     * @return índice j tal que [low, j] queda menor o igual que [j + 1, high]
+     */
+    private static long partition(MemorySegment s, long low, long high) {
+        long mid = low + ((high - low) >>> 1);
+        if (get(s, mid) < get(s, low)) swap(s, mid, low);
+        if (get(s, high) < get(s, low)) swap(s, high, low);
+        if (get(s, high) < get(s, mid)) swap(s, high, mid);
+        int pivot = get(s, mid);
+
+        long i = low - 1;
+        long j = high + 1;
+        while (true) {
+            do i++; while (get(s, i) < pivot);
+            do j--; while (get(s, j) > pivot);
+            if (i >= j) return j;
+            swap(s, i, j);
+        }
+    }
+
+    /**
+     * Ordena el rango [low, high) con Insertion Sort.
+     *
+     * @param s segmento con los enteros
+     * @param low índice inicial (inclusive)
+     * @param high índice final (exclusivo)
+     */
+    private static void insertionSort(MemorySegment s, long low, long high) {
+        for (long i = low + 1; i < high; i++) {
+            int key = get(s, i);
+            long j = i - 1;
+            while (j >= low && get(s, j) > key) {
+                set(s, j + 1, get(s, j));
+                j--;
+            }
+            set(s, j + 1, key);
+        }
+    }
+
+    /**
+     * Ordena el rango [low, high) con Heap Sort.
+     *
+     * @param s segmento con los enteros
+     * @param low índice inicial (inclusive)
+     * @param high índice final (exclusivo)
+     */
+    private static void heapSort(MemorySegment s, long low, long high) {
+        long n = high - low;
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(s, low, i, n);
+        }
+        for (long end = n - 1; end > 0; end--) {
+            swap(s, low, low + end);
+            siftDown(s, low, 0, end);
+        }
+    }
+
+    /**
+     * Hunde el nodo i de un montículo de máximos de tamaño n que
+     * comienza en base.
+     *
+     * @param s segmento con los enteros
+     * @param base índice de la raíz del montículo
+     * @param i nodo a hundir, relativo a base
+     * @param n tamaño del montículo
+     */
+    private static void siftDown(MemorySegment s, long base, long i, long n) {
+        int value = get(s, base + i);
+        long child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && get(s, base + child + 1) > get(s, base + child)) {
+                child++;
+            }
+            int childValue = get(s, base + child);
+            if (value >= childValue) break;
+            set(s, base + i, childValue);
+            i = child;
+        }
+        set(s, base + i, value);
+    }
+
+    /**
+     * Lee un elemento del segmento.
+     *
+     * @param s segmento con los enteros
+     * @param index índice del elemento
+     * @return valor del elemento
+     */
+    private static int get(MemorySegment s, long index) {
+        return s.getAtIndex(LAYOUT, index);
+    }
+
+    /**
+     * Escribe un elemento del segmento.
+     *
+     * @param s segmento con los enteros
+     * @param index índice del elemento
+     * @param value valor a escribir
+     */
+    private static void set(MemorySegment s, long index, int value) {
+        s.setAtIndex(LAYOUT, index, value);
+    }
+
+    /**
+     * Intercambia dos posiciones del segmento.
+     *
+     * @param s segmento con los enteros
+     * @param i índice del primer elemento
+     * @param j índice del segundo elemento
+     */
+    private static void swap(MemorySegment s, long i, long j) {
+        int t = get(s, i);
+        set(s, i, get(s, j));
+        set(s, j, t);
+    }
+}
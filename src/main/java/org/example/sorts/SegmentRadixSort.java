@@ -0,0 +1,156 @@
+package org.example.sorts;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Implementación de Radix Sort LSD sobre enteros almacenados en un
+ * MemorySegment.
+ *
+ * Usa el mismo esquema que PrimitiveRadixSort (dígitos de 8 bits e
+ * inversión del bit de signo en el último dígito), pero el buffer
+ * auxiliar se reserva fuera del heap con un Arena confinado que se
+ * libera al terminar. En el heap solo se usan los histogramas, por lo
+ * que la memoria del heap no depende del tamaño de los datos.
+ *
+ * Los cuatro histogramas se calculan en una sola lectura de los datos
+ * y se omiten las pasadas en las que todos los elementos tienen el
+ * mismo dígito.
+ *
+ * Complejidad: O(n) con a lo sumo 4 pasadas de distribución.
+ *
+ * Espacio adicional: O(n) fuera del heap.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class SegmentRadixSort implements SegmentIntSortAlgorithm {
+
+    /**
+     * Bits procesados en cada pasada.
+     */
+    private static final int BITS = 8;
+
+    /**
+     * Cantidad de valores posibles de un dígito.
+     */
+    private static final int RADIX = 1 << BITS;
+
+    /**
+     * Máscara para extraer un dígito.
+     */
+    private static final int MASK = RADIX - 1;
+
+    /**
+     * Cantidad de dígitos de un int.
+     */
+    private static final int DIGITS = Integer.SIZE / BITS;
+
+    /**
+     * Ordena los elementos [from, to) del segmento, reservando el
+     * buffer auxiliar en un Arena propio.
+     *
+     * @param segment segmento con los enteros
+     * @param from índice del primer elemento (inclusive)
+     * @param to índice del último elemento (exclusivo)
+     */
+    @Override
+    public void sort(MemorySegment segment, long from, long to) {
+        if (to - from < 2) return;
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment scratch = arena.allocate((to - from) * Integer.BYTES, Integer.BYTES);
+            sort(segment, from, to, scratch);
+        }
+    }
+
+    /**
+     * Ordena los elementos [from, to) del segmento usando el buffer
+     * auxiliar indicado, que debe tener espacio para to - from enteros.
+     *
+     * @param segment segmento con los enteros
+     * @param from índice del primer elemento (inclusive)
+     * @param to índice del último elemento (exclusivo)
+     * @param scratch buffer auxiliar
+     * @throws IllegalArgumentException si el buffer auxiliar es muy pequeño
+     */
+    public void sort(MemorySegment segment, long from, long to, MemorySegment scratch) {
+        long n = to - from;
+        if (n < 2) return;
+        if (scratch.byteSize() < n * Integer.BYTES) {
+            throw new IllegalArgumentException("El buffer auxiliar necesita espacio para " + n + " enteros");
+        }
+
+        long[][] counts = histograms(segment, from, to);
+
+        // Los datos se alternan entre el segmento (desde from) y el buffer (desde 0)
+        MemorySegment src = segment;
+        long srcBase = from;
+        MemorySegment dst = scratch;
+        long dstBase = 0;
+        for (int d = 0; d < DIGITS; d++) {
+            long[] count = counts[d];
+            if (trivial(count, n)) continue;
+
+            int shift = d * BITS;
+            int flip = d == DIGITS - 1 ? 0x80 : 0;
+            long sum = 0;
+            for (int b = 0; b < RADIX; b++) {
+                long c = count[b];
+                count[b] = sum;
+                sum += c;
+            }
+            for (long i = 0; i < n; i++) {
+                int value = src.getAtIndex(LAYOUT, srcBase + i);
+                int digit = ((value >>> shift) & MASK) ^ flip;
+                dst.setAtIndex(LAYOUT, dstBase + count[digit]++, value);
+            }
+
+            MemorySegment t = src; src = dst; dst = t;
+            long tb = srcBase; srcBase = dstBase; dstBase = tb;
+        }
+
+        if (src != segment) {
+            MemorySegment.copy(src, srcBase * Integer.BYTES, segment, from * Integer.BYTES, n * Integer.BYTES);
+        }
+    }
+
+    /**
+     * Calcula en una sola lectura los histogramas de los cuatro dígitos.
+     * El dígito más significativo se cuenta con el bit de signo
+     * invertido para que los negativos queden antes que los positivos.
+     *
+     * @param segment segmento con los enteros
+     * @param from índice del primer elemento (inclusive)
+     * @param to índice del último elemento (exclusivo)
+     * @return histogramas, uno por dígito
+     */
+    private static long[][] histograms(MemorySegment segment, long from, long to) {
+        long[][] counts = new long[DIGITS][RADIX];
+        long[] c0 = counts[0], c1 = counts[1], c2 = counts[2], c3 = counts[3];
+        for (long i = from; i < to; i++) {
+            int value = segment.getAtIndex(LAYOUT, i);
+            c0[value & MASK]++;
+            c1[(value >>> 8) & MASK]++;
+            c2[(value >>> 16) & MASK]++;
+            c3[((value >>> 24) & MASK) ^ 0x80]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Indica si todos los elementos tienen el mismo dígito, en cuyo
+     * caso la pasada no cambiaría el orden.
+     *
+     * @param count histograma del dígito
+     * @param n cantidad de elementos
+     * @return true si la pasada puede omitirse
+     */
+    private static boolean trivial(long[] count, long n) {
+        for (long c : count) {
+            if (c == n) return true;
+            if (c != 0) return false;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.sorts;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Interfaz que define el contrato para los algoritmos de selección.
+ *
+ * Sirven cuando no hace falta ordenar toda la lista, sino solo
+ * conocer el elemento de un rango dado (por ejemplo, la mediana)
+ * o tener ordenados los k menores elementos.
+ *
+ * Los rangos empiezan en 0: el rango 0 es el menor elemento y el
+ * rango size - 1 es el mayor.
+ *
+ * @param <T> tipo de dato que implementa Comparable
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public interface SelectionAlgorithm<T extends Comparable<T>> {
+
+    /**
+     * Retorna el elemento de rango k, es decir, el que quedaría en la
+     * posición k si la lista se ordenara.
+     *
+     * La lista se reorganiza de modo que ese elemento queda en la
+     * posición k, los anteriores son menores o iguales y los
+     * posteriores son mayores o iguales.
+     *
+     * @param list lista de elementos comparables
+     * @param k rango buscado, entre 0 y size - 1
+     * @return elemento de rango k
+     * @throws IllegalArgumentException si k está fuera de rango
+     */
+    T select(List<T> list, int k);
+
+    /**
+     * Retorna el elemento de rango k según el comparador indicado,
+     * con las mismas garantías que select(list, k).
+     *
+     * @param list lista de elementos
+     * @param k rango buscado, entre 0 y size - 1
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     * @return elemento de rango k
+     * @throws IllegalArgumentException si k está fuera de rango
+     */
+    <E> E select(List<E> list, int k, Comparator<? super E> comparator);
+
+    /**
+     * Deja en las primeras k posiciones los k menores elementos,
+     * ordenados. El resto de la lista queda en un orden cualquiera.
+     *
+     * @param list lista de elementos comparables
+     * @param k cantidad de elementos a ordenar, entre 0 y size
+     * @throws IllegalArgumentException si k está fuera de rango
+     */
+    void partialSort(List<T> list, int k);
+
+    /**
+     * Deja en las primeras k posiciones los k menores elementos según
+     * el comparador indicado, ordenados.
+     *
+     * @param list lista de elementos
+     * @param k cantidad de elementos a ordenar, entre 0 y size
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     * @throws IllegalArgumentException si k está fuera de rango
+     */
+    <E> void partialSort(List<E> list, int k, Comparator<? super E> comparator);
+}
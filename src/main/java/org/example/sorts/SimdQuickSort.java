@@ -0,0 +1,188 @@
+package org.example.sorts;
+
+/**
+ * Quick Sort para int[] que delega el caso base y la partición en
+ * IntKernels, de modo que usa instrucciones vectoriales (SIMD) cuando
+ * la API jdk.incubator.vector está disponible y la versión escalar
+ * en caso contrario.
+ *
+ * Como PrimitiveQuickSort:
+ * - El pivote es la mediana del primero, el del medio y el último.
+ * - Se recurre sobre la partición más pequeña y se itera sobre la
+ *   más grande, acotando la pila a O(log n).
+ *
+ * La partición separa los elementos menores que el pivote de los
+ * demás. Si el pivote es el mínimo del rango, la parte izquierda
+ * quedaría vacía; en ese caso se separan los elementos iguales al
+ * pivote, que ya están en su posición final.
+ *
+ * Como SegmentQuickSort y ParallelQuickSort, es un introsort: tras
+ * 2·log2(n) particiones sin terminar un rango, ese rango se ordena
+ * con Heap Sort, de modo que una entrada adversaria no lleva el costo
+ * a O(n^2).
+ *
+ * Los rangos de hasta "cutoff" elementos se ordenan con
+ * IntKernels.sortSmall; el valor por defecto es el máximo que acepta
+ * la implementación y puede ajustarse con SimdKernelsJmhBenchmark.
+ *
+ * Complejidad:
+ * - Mejor caso: O(n log n)
+ * - Caso promedio: O(n log n)
+ * - Peor caso: O(n log n) gracias al Heap Sort de respaldo
+ *
+ * Espacio adicional: O(log n) debido a la recursión.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class SimdQuickSort implements IntSortAlgorithm {
+
+    /**
+     * Operaciones de caso base y partición.
+     */
+    private final IntKernels kernels;
+
+    /**
+     * Tamaño de rango hasta el cual se usa el caso base.
+     */
+    private final int cutoff;
+
+    /**
+     * Crea el algoritmo con la mejor implementación de IntKernels.
+     */
+    public SimdQuickSort() {
+        this(IntKernels.best());
+    }
+
+    /**
+     * Crea el algoritmo con las operaciones indicadas y el mayor
+     * caso base que aceptan.
+     *
+     * @param kernels operaciones de caso base y partición
+     */
+    public SimdQuickSort(IntKernels kernels) {
+        this(kernels, kernels.maxBlock());
+    }
+
+    /**
+     * Crea el algoritmo con las operaciones y el caso base indicados.
+     *
+     * @param kernels operaciones de caso base y partición
+     * @param cutoff tamaño de rango hasta el cual se usa el caso base
+     * @throws IllegalArgumentException si cutoff no está entre 1 y kernels.maxBlock()
+     */
+    public SimdQuickSort(IntKernels kernels, int cutoff) {
+        if (kernels == null) {
+            throw new IllegalArgumentException("Las operaciones no pueden ser nulas");
+        }
+        if (cutoff < 1 || cutoff > kernels.maxBlock()) {
+            throw new IllegalArgumentException("cutoff debe estar entre 1 y " + kernels.maxBlock() + ": " + cutoff);
+        }
+        this.kernels = kernels;
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Ordena el rango [from, to) de un arreglo de enteros.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     */
+    @Override
+    public void sort(int[] a, int from, int to) {
+        int n = to - from;
+        if (n < 2) return;
+        quickSort(a, from, to, 2 * (31 - Integer.numberOfLeadingZeros(n)));
+    }
+
+    /**
+     * Ordena el rango [low, high) con introsort.
+     *
+     * @param a arreglo a ordenar
+     * @param low índice inicial (inclusive)
+     * @param high índice final (exclusivo)
+     * @param depth particiones restantes antes de usar Heap Sort
+     */
+    private void quickSort(int[] a, int low, int high, int depth) {
+        while (high - low > cutoff) {
+            if (depth-- == 0) {
+                heapSort(a, low, high);
+                return;
+            }
+
+            int pivot = medianOfThree(a[low], a[low + (high - low) / 2], a[high - 1]);
+            int split = kernels.partition(a, low, high, pivot);
+
+            if (split == low) {
+                // El pivote es el mínimo: se apartan los iguales a él
+                if (pivot == Integer.MAX_VALUE) return;
+                low = kernels.partition(a, low, high, pivot + 1);
+            } else if (split - low < high - split) {
+                quickSort(a, low, split, depth);
+                low = split;
+            } else {
+                quickSort(a, split, high, depth);
+                high = split;
+            }
+        }
+        if (high - low > 1) {
+            kernels.sortSmall(a, low, high);
+        }
+    }
+
+    /**
+     * Retorna la mediana de tres valores.
+     *
+     * @param x primer valor
+     * @param y segundo valor
+     * @param z tercer valor
+     * @return valor intermedio
+     */
+    private static int medianOfThree(int x, int y, int z) {
+        return Math.max(Math.min(x, y), Math.min(Math.max(x, y), z));
+    }
+
+    /**
+     * Ordena el rango [low, high) con Heap Sort.
+     *
+     * @param a arreglo a ordenar
+     * @param low índice inicial (inclusive)
+     * @param high índice final (exclusivo)
+     */
+    private static void heapSort(int[] a, int low, int high) {
+        int n = high - low;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            int tmp = a[low];
+            a[low] = a[low + end];
+            a[low + end] = tmp;
+            siftDown(a, low, 0, end);
+        }
+    }
+
+    /**
+     * Hunde el nodo i de un montículo de máximos de tamaño n que
+     * comienza en base.
+     *
+     * @param a arreglo con el montículo
+     * @param base índice de la raíz del montículo
+     * @param i nodo a hundir, relativo a base
+     * @param n tamaño del montículo
+     */
+    private static void siftDown(int[] a, int base, int i, int n) {
+        int value = a[base + i];
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && a[base + child + 1] > a[base + child]) {
+                child++;
+            }
+            if (value >= a[base + child]) break;
+            a[base + i] = a[base + child];
+            i = child;
+        }
+        a[base + i] = value;
+    }
+}
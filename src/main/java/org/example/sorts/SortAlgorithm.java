@@ -1,5 +1,6 @@
 package org.example.sorts;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -11,6 +12,15 @@ import java.util.List;
  * capaz de ordenar una lista cuyos elementos implementen
  * la interfaz Comparable.
  *
+ * Además, cada algoritmo puede ordenar listas de cualquier tipo
+ * según un Comparator, sin que los elementos implementen Comparable
+ * (por ejemplo, registros ordenados por uno de sus campos).
+ *
+ * Cada algoritmo describe sus características (estabilidad, memoria,
+ * paralelismo, tipos de clave) mediante {@link #capabilities()}.
+ * Para obtener el algoritmo estable más rápido sin elegirlo
+ * manualmente se puede usar {@link StableSort}.
+ *
  * @param <T> tipo de dato que implementa Comparable
  *
  * @author Joao
@@ -25,5 +35,33 @@ public interface SortAlgorithm<T extends Comparable<T>> {
      * @param list lista de elementos comparables a ordenar
      */
     void sort(List<T> list);
+
+    /**
+     * Ordena la lista recibida según el comparador indicado,
+     * utilizando el mismo algoritmo.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    <E> void sort(List<E> list, Comparator<? super E> comparator);
+
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * @return características del algoritmo
+     */
+    SortCapabilities capabilities();
+
+    /**
+     * Retorna el algoritmo estable más rápido disponible, que elige
+     * la implementación según el tamaño y el tipo de la entrada.
+     *
+     * @param <T> tipo de dato que implementa Comparable
+     * @return algoritmo estable por defecto
+     */
+    static <T extends Comparable<T>> SortAlgorithm<T> fastestStable() {
+        return new StableSort<>();
+    }
 }
 
@@ -0,0 +1,220 @@
+package org.example.sorts;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mediciones de una sola llamada a un algoritmo instrumentado.
+ *
+ * Las comparaciones, lecturas, escrituras e intercambios se cuentan
+ * con LongAdder, ya que un algoritmo paralelo puede compararlos desde
+ * varios hilos. La profundidad de pila se muestrea con StackWalker en
+ * las comparaciones hechas en el hilo que llamó a sort (en otros hilos
+ * no tiene una base con la cual compararse), una de cada n /
+ * DEPTH_SAMPLES_PER_N: así un ordenamiento de O(n log n) comparaciones
+ * toma unas DEPTH_SAMPLES_PER_N · log n muestras sin importar n, y con
+ * n pequeño, donde un intervalo fijo no llegaba a ver la recursión, se
+ * muestrea en cada comparación. Los bytes asignados por el propio
+ * muestreo se descuentan de los bytes auxiliares del algoritmo.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+final class SortCall {
+
+    /**
+     * Muestras de la profundidad de pila por cada n comparaciones.
+     */
+    private static final int DEPTH_SAMPLES_PER_N = 64;
+
+    /**
+     * Recorre la pila del hilo actual.
+     */
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    /**
+     * Acceso a los bytes asignados por hilo.
+     */
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Comparaciones entre elementos.
+     */
+    final LongAdder comparisons = new LongAdder();
+
+    /**
+     * Lecturas de elementos.
+     */
+    final LongAdder reads = new LongAdder();
+
+    /**
+     * Escrituras de elementos.
+     */
+    final LongAdder writes = new LongAdder();
+
+    /**
+     * Intercambios detectados.
+     */
+    final LongAdder swaps = new LongAdder();
+
+    /**
+     * Hilo que llamó a sort.
+     */
+    private final Thread caller = Thread.currentThread();
+
+    /**
+     * Evento JFR de la llamada.
+     */
+    private final InstrumentedSortEvent event = new InstrumentedSortEvent();
+
+    /**
+     * Profundidad de pila al iniciar la llamada.
+     */
+    private int baseDepth;
+
+    /**
+     * Profundidad máxima observada (solo la escribe el hilo que llamó).
+     */
+    private int maxDepth;
+
+    /**
+     * Comparaciones entre una muestra de la profundidad y la siguiente.
+     */
+    private final int sampleInterval;
+
+    /**
+     * Comparaciones del hilo que llamó que faltan para la próxima muestra.
+     */
+    private int untilSample;
+
+    /**
+     * Bytes asignados por el hilo que llamó al iniciar, o -1.
+     */
+    private long startBytes;
+
+    /**
+     * Bytes asignados por el muestreo de la pila.
+     */
+    private long samplingBytes;
+
+    /**
+     * Indica si el algoritmo pasa por la vista y el comparador que
+     * cuentan los accesos.
+     */
+    private boolean counted = true;
+
+    /**
+     * Crea las mediciones de una llamada.
+     *
+     * @param size elementos a ordenar, que fijan el intervalo de muestreo
+     */
+    SortCall(int size) {
+        this.sampleInterval = Math.max(1, size / DEPTH_SAMPLES_PER_N);
+    }
+
+    /**
+     * Retorna un comparador que cuenta las comparaciones y muestrea la
+     * profundidad de pila.
+     *
+     * @param comparator comparador original
+     * @param <E> tipo de los elementos
+     * @return comparador instrumentado
+     */
+    <E> Comparator<E> counting(Comparator<? super E> comparator) {
+        return (a, b) -> {
+            comparisons.increment();
+            if (Thread.currentThread() == caller && untilSample-- == 0) {
+                untilSample = sampleInterval - 1;
+                sampleDepth();
+            }
+            return comparator.compare(a, b);
+        };
+    }
+
+    /**
+     * Indica que el algoritmo no pasará por la vista ni por el
+     * comparador, como el camino primitivo de un IntArrayList: las
+     * comparaciones, accesos, intercambios y profundidad se informan
+     * como -1 y solo se miden los bytes asignados.
+     */
+    void uncounted() {
+        counted = false;
+    }
+
+    /**
+     * Inicia la medición. Debe llamarse justo antes de ejecutar el
+     * algoritmo, después de crear las vistas y comparadores, para que
+     * esas asignaciones no se cuenten.
+     */
+    void start() {
+        baseDepth = depth();
+        event.begin();
+        startBytes = allocatedBytes();
+    }
+
+    /**
+     * Termina la medición, suma los valores a los contadores y emite
+     * el evento JFR si está habilitado.
+     *
+     * @param counters contadores acumulados
+     * @param algorithm nombre del algoritmo
+     * @param size elementos ordenados
+     * @return valores de la llamada
+     */
+    SortCounters.Snapshot finish(SortCounters counters, String algorithm, int size) {
+        long allocated = startBytes < 0 ? -1 : Math.max(0, allocatedBytes() - startBytes - samplingBytes);
+        event.end();
+        SortCounters.Snapshot call = counted
+                ? new SortCounters.Snapshot(1, comparisons.sum(), reads.sum(), writes.sum(), swaps.sum(),
+                        maxDepth, allocated)
+                : new SortCounters.Snapshot(1, -1, -1, -1, -1, -1, allocated);
+        counters.add(call);
+        if (event.shouldCommit()) {
+            event.algorithm = algorithm;
+            event.size = size;
+            event.comparisons = call.comparisons();
+            event.reads = call.reads();
+            event.writes = call.writes();
+            event.swaps = call.swaps();
+            event.maxStackDepth = (int) call.maxStackDepth();
+            event.allocatedBytes = allocated;
+            event.commit();
+        }
+        return call;
+    }
+
+    /**
+     * Registra la profundidad de pila actual respecto del inicio.
+     */
+    private void sampleDepth() {
+        long before = allocatedBytes();
+        maxDepth = Math.max(maxDepth, depth() - baseDepth);
+        if (before >= 0) {
+            samplingBytes += allocatedBytes() - before;
+        }
+    }
+
+    /**
+     * Retorna la cantidad de marcos en la pila del hilo actual.
+     *
+     * @return marcos de pila
+     */
+    private static int depth() {
+        return (int) (long) WALKER.walk(frames -> frames.count());
+    }
+
+    /**
+     * Retorna los bytes asignados hasta ahora por el hilo actual.
+     *
+     * @return bytes asignados, o -1 si la JVM no lo permite
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
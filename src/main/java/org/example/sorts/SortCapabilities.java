@@ -0,0 +1,83 @@
+package org.example.sorts;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Características de un algoritmo de ordenamiento.
+ *
+ * Permiten elegir un algoritmo según lo que necesita quien llama
+ * (por ejemplo, estabilidad para ordenar por varias claves en pasos
+ * sucesivos) sin leer su implementación.
+ *
+ * @param stable los elementos iguales conservan su orden relativo
+ * @param inPlace solo usa O(log n) memoria adicional o menos
+ * @param adaptive es más rápido cuando la entrada ya está parcialmente ordenada
+ * @param parallel usa varios hilos
+ * @param keyTypes tipos de clave que puede ordenar
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public record SortCapabilities(boolean stable, boolean inPlace, boolean adaptive, boolean parallel,
+                               Set<KeyType> keyTypes) {
+
+    /**
+     * Tipos de clave que puede ordenar un algoritmo.
+     */
+    public enum KeyType {
+        /** Elementos que implementan Comparable (orden natural). */
+        COMPARABLE,
+        /** Cualquier elemento, con un Comparator. */
+        COMPARATOR,
+        /** Enteros int, incluyendo IntArrayList sin conversión a objetos. */
+        INT,
+        /** Enteros long en arreglos primitivos. */
+        LONG,
+        /** Números double en arreglos primitivos. */
+        DOUBLE
+    }
+
+    /**
+     * Crea el descriptor guardando una copia inmutable de los tipos de clave.
+     *
+     * @param stable los elementos iguales conservan su orden relativo
+     * @param inPlace solo usa O(log n) memoria adicional o menos
+     * @param adaptive es más rápido cuando la entrada ya está parcialmente ordenada
+     * @param parallel usa varios hilos
+     * @param keyTypes tipos de clave que puede ordenar
+     * @throws IllegalArgumentException si no se indica ningún tipo de clave
+     */
+    public SortCapabilities {
+        if (keyTypes == null || keyTypes.isEmpty()) {
+            throw new IllegalArgumentException("Se requiere al menos un tipo de clave");
+        }
+        keyTypes = Set.copyOf(keyTypes);
+    }
+
+    /**
+     * Crea el descriptor con los tipos de clave indicados.
+     *
+     * @param stable los elementos iguales conservan su orden relativo
+     * @param inPlace solo usa O(log n) memoria adicional o menos
+     * @param adaptive es más rápido cuando la entrada ya está parcialmente ordenada
+     * @param parallel usa varios hilos
+     * @param first primer tipo de clave
+     * @param rest demás tipos de clave
+     * @return descriptor creado
+     */
+    public static SortCapabilities of(boolean stable, boolean inPlace, boolean adaptive, boolean parallel,
+                                      KeyType first, KeyType... rest) {
+        return new SortCapabilities(stable, inPlace, adaptive, parallel, EnumSet.of(first, rest));
+    }
+
+    /**
+     * Indica si el algoritmo puede ordenar el tipo de clave dado.
+     *
+     * @param keyType tipo de clave
+     * @return true si el tipo está soportado
+     */
+    public boolean supports(KeyType keyType) {
+        return keyTypes.contains(keyType);
+    }
+}
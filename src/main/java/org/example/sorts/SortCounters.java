@@ -0,0 +1,133 @@
+package org.example.sorts;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores acumulados de las llamadas a los algoritmos
+ * instrumentados ({@link InstrumentedSort} e
+ * {@link InstrumentedRadixSort}).
+ *
+ * Los contadores usan LongAdder, por lo que varios hilos (por ejemplo,
+ * los de un algoritmo paralelo o varias llamadas simultáneas) pueden
+ * sumar sin contención.
+ *
+ * La instrumentación se desactiva por completo iniciando la JVM con
+ * -Dorg.example.sorts.instrument=false: en ese caso ENABLED es una
+ * constante falsa y los métodos wrap retornan el algoritmo original
+ * sin decorar, de modo que no queda ningún costo que el JIT deba
+ * eliminar.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public final class SortCounters {
+
+    /**
+     * Indica si la instrumentación está activa. Es una constante leída
+     * una sola vez al cargar la clase.
+     */
+    public static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("org.example.sorts.instrument", "true"));
+
+    /**
+     * Valores de los contadores en un momento dado, o de una sola
+     * llamada.
+     *
+     * Una llamada que no pasó por la vista ni por el comparador (el
+     * camino primitivo de un IntArrayList) informa -1 en las
+     * comparaciones, accesos, intercambios y profundidad; al sumarse
+     * solo cuenta la llamada y sus bytes.
+     *
+     * @param calls llamadas a sort
+     * @param comparisons comparaciones entre elementos
+     * @param reads lecturas de elementos de la lista
+     * @param writes escrituras de elementos en la lista
+     * @param swaps intercambios detectados entre dos posiciones
+     * @param maxStackDepth profundidad máxima de pila observada por
+     *                      encima de la llamada a sort, en marcos
+     * @param allocatedBytes bytes auxiliares asignados por el hilo que
+     *                       llamó a sort, o -1 si la JVM no lo permite
+     */
+    public record Snapshot(long calls, long comparisons, long reads, long writes, long swaps,
+                           long maxStackDepth, long allocatedBytes) {
+    }
+
+    /**
+     * Llamadas a sort.
+     */
+    private final LongAdder calls = new LongAdder();
+
+    /**
+     * Comparaciones entre elementos.
+     */
+    private final LongAdder comparisons = new LongAdder();
+
+    /**
+     * Lecturas de elementos.
+     */
+    private final LongAdder reads = new LongAdder();
+
+    /**
+     * Escrituras de elementos.
+     */
+    private final LongAdder writes = new LongAdder();
+
+    /**
+     * Intercambios detectados.
+     */
+    private final LongAdder swaps = new LongAdder();
+
+    /**
+     * Profundidad máxima de pila.
+     */
+    private final LongAccumulator maxStackDepth = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Bytes auxiliares asignados.
+     */
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    /**
+     * Suma los valores de una llamada.
+     *
+     * @param call valores de la llamada
+     */
+    void add(Snapshot call) {
+        calls.add(call.calls());
+        if (call.comparisons() >= 0) {
+            comparisons.add(call.comparisons());
+            reads.add(call.reads());
+            writes.add(call.writes());
+            swaps.add(call.swaps());
+            maxStackDepth.accumulate(call.maxStackDepth());
+        }
+        if (call.allocatedBytes() > 0) {
+            allocatedBytes.add(call.allocatedBytes());
+        }
+    }
+
+    /**
+     * Retorna los valores acumulados. Si hay llamadas en curso, el
+     * resultado puede no incluirlas.
+     *
+     * @return valores acumulados
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(calls.sum(), comparisons.sum(), reads.sum(), writes.sum(), swaps.sum(),
+                maxStackDepth.get(), allocatedBytes.sum());
+    }
+
+    /**
+     * Reinicia todos los contadores.
+     */
+    public void reset() {
+        calls.reset();
+        comparisons.reset();
+        reads.reset();
+        writes.reset();
+        swaps.reset();
+        maxStackDepth.reset();
+        allocatedBytes.reset();
+    }
+}
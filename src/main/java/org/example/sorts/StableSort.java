@@ -0,0 +1,137 @@
+package org.example.sorts;
+
+import org.example.sorts.SortCapabilities.KeyType;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Ordenamiento estable por defecto: elige el algoritmo estable más
+ * rápido para cada entrada.
+ *
+ * Quien necesita estabilidad (por ejemplo, para ordenar registros
+ * por varias claves en pasos sucesivos) puede usar esta clase sin
+ * conocer los algoritmos disponibles. La elección es:
+ * 1. RadixSort si los elementos son Integer en orden natural
+ *    (incluido IntArrayList).
+ * 2. InsertionSort si la lista es pequeña.
+ * 3. ParallelMergeSort si la lista es grande y el pool tiene
+ *    más de un hilo.
+ * 4. NaturalMergeSort en los demás casos, que además aprovecha
+ *    las secuencias ya ordenadas de la entrada.
+ *
+ * Todas las opciones son estables, por lo que el resultado no depende
+ * de la elección: los elementos iguales conservan su orden relativo.
+ *
+ * @param <T> tipo de dato que implementa la interfaz Comparable
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public class StableSort<T extends Comparable<T>> implements SortAlgorithm<T> {
+
+    /**
+     * Tamaño máximo para usar InsertionSort (igual que en AdaptiveSort).
+     */
+    public static final int INSERTION_MAX = AdaptiveSort.Thresholds.DEFAULT.insertionMax();
+
+    /**
+     * Tamaño mínimo para usar RadixSort con Integer (igual que en AdaptiveSort).
+     */
+    public static final int RADIX_MIN = AdaptiveSort.Thresholds.DEFAULT.radixMin();
+
+    /**
+     * Tamaño mínimo para ordenar en paralelo. Por debajo, el costo de
+     * copiar la lista y coordinar las tareas supera la ganancia.
+     */
+    public static final int PARALLEL_MIN = 1 << 16;
+
+    /**
+     * Pool donde se ejecuta el ordenamiento en paralelo.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea el algoritmo usando el pool común.
+     */
+    public StableSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea el algoritmo usando el pool indicado para las listas grandes.
+     *
+     * @param pool pool donde se ejecutan las tareas
+     * @throws IllegalArgumentException si el pool es nulo
+     */
+    public StableSort(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool no puede ser nulo");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Ordena la lista de forma estable según el orden natural.
+     *
+     * @param list lista de elementos comparables a ordenar
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(List<T> list) {
+        if (list instanceof IntArrayList || (list.size() >= RADIX_MIN && allIntegers(list))) {
+            new RadixSort().sort((List<Integer>) list);
+            return;
+        }
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena la lista de forma estable según el comparador indicado.
+     *
+     * @param list lista de elementos a ordenar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos de la lista
+     */
+    @Override
+    public <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        int n = list.size();
+        if (n <= INSERTION_MAX) {
+            new InsertionSort<T>().sort(list, comparator);
+        } else if (n >= PARALLEL_MIN && pool.getParallelism() > 1) {
+            new ParallelMergeSort<T>(pool).sort(list, comparator);
+        } else {
+            new NaturalMergeSort<T>().sort(list, comparator);
+        }
+    }
+
+    /**
+     * Retorna las características del algoritmo.
+     *
+     * Es estable y adaptativo en todos los casos; es paralelo si el
+     * pool tiene más de un hilo.
+     *
+     * @return características del algoritmo
+     */
+    @Override
+    public SortCapabilities capabilities() {
+        return SortCapabilities.of(true, false, true, pool.getParallelism() > 1,
+                KeyType.COMPARABLE, KeyType.COMPARATOR, KeyType.INT);
+    }
+
+    /**
+     * Indica si todos los elementos de la lista son Integer.
+     *
+     * @param list lista a revisar
+     * @return true si todos los elementos son Integer
+     */
+    private static boolean allIntegers(List<?> list) {
+        for (Object element : list) {
+            if (!(element instanceof Integer)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.sorts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Selección de los k menores o k mayores elementos de una secuencia.
+ *
+ * Recorre un Iterator una sola vez y mantiene un montículo (heap)
+ * de a lo sumo k elementos: cada elemento nuevo solo entra si es
+ * mejor que el peor de los guardados, que está en la raíz. Por eso
+ * no necesita tener toda la entrada en memoria y sirve para datos
+ * que llegan en flujo (por ejemplo, leídos de un archivo).
+ *
+ * Complejidad: O(n log k)
+ *
+ * Espacio adicional: O(k)
+ *
+ * @author Joao
+ * @version 1.0
+ */
+public final class TopK {
+
+    /**
+     * Capacidad inicial del montículo; crece hasta k según se necesite.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Clase de utilidades, no se instancia.
+     */
+    private TopK() {
+    }
+
+    /**
+     * Retorna los k menores elementos de la secuencia, en orden ascendente.
+     *
+     * @param it elementos a recorrer
+     * @param k cantidad de elementos a conservar
+     * @param <T> tipo de dato que implementa la interfaz Comparable
+     * @return a lo sumo k elementos, de menor a mayor
+     * @throws IllegalArgumentException si k es negativo
+     */
+    public static <T extends Comparable<T>> List<T> smallest(Iterator<? extends T> it, int k) {
+        return select(it, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Retorna los k menores elementos de la secuencia según el
+     * comparador indicado, en orden ascendente.
+     *
+     * @param it elementos a recorrer
+     * @param k cantidad de elementos a conservar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos
+     * @return a lo sumo k elementos, de menor a mayor
+     * @throws IllegalArgumentException si k es negativo
+     */
+    public static <E> List<E> smallest(Iterator<? extends E> it, int k, Comparator<? super E> comparator) {
+        return select(it, k, comparator);
+    }
+
+    /**
+     * Retorna los k mayores elementos de la secuencia, en orden descendente.
+     *
+     * @param it elementos a recorrer
+     * @param k cantidad de elementos a conservar
+     * @param <T> tipo de dato que implementa la interfaz Comparable
+     * @return a lo sumo k elementos, de mayor a menor
+     * @throws IllegalArgumentException si k es negativo
+     */
+    public static <T extends Comparable<T>> List<T> largest(Iterator<? extends T> it, int k) {
+        return select(it, k, Comparator.reverseOrder());
+    }
+
+    /**
+     * Retorna los k mayores elementos de la secuencia según el
+     * comparador indicado, en orden descendente.
+     *
+     * @param it elementos a recorrer
+     * @param k cantidad de elementos a conservar
+     * @param comparator comparador que define el orden
+     * @param <E> tipo de los elementos
+     * @return a lo sumo k elementos, de mayor a menor
+     * @throws IllegalArgumentException si k es negativo
+     */
+    public static <E> List<E> largest(Iterator<? extends E> it, int k, Comparator<? super E> comparator) {
+        return select(it, k, comparator.reversed());
+    }
+
+    /**
+     * Conserva los k primeros elementos según el comparador.
+     *
+     * El montículo tiene en la raíz el peor elemento conservado
+     * (el mayor según el comparador).
+     *
+     * @param it elementos a recorrer
+     * @param k cantidad de elementos a conservar
+     * @param c comparador que define el orden
+     * @param <E> tipo de los elementos
+     * @return elementos conservados, del mejor al peor
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> select(Iterator<? extends E> it, int k, Comparator<? super E> c) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k no puede ser negativo: " + k);
+        }
+        if (k == 0) return new ArrayList<>();
+
+        Object[] heap = new Object[Math.min(k, INITIAL_CAPACITY)];
+        int size = 0;
+        while (it.hasNext()) {
+            E element = it.next();
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * heap.length));
+                }
+                siftUp(heap, size++, element, c);
+            } else if (c.compare(element, (E) heap[0]) < 0) {
+                siftDown(heap, size, element, c);
+            }
+        }
+
+        // Extraer la raíz repetidamente entrega del peor al mejor
+        List<E> result = new ArrayList<>(Collections.nCopies(size, null));
+        for (int i = size - 1; i >= 0; i--) {
+            result.set(i, (E) heap[0]);
+            E last = (E) heap[i];
+            heap[i] = null;
+            if (i > 0) siftDown(heap, i, last, c);
+        }
+        return result;
+    }
+
+    /**
+     * Inserta element en la posición index y lo sube mientras sea
+     * peor que su padre.
+     *
+     * @param heap montículo
+     * @param index posición libre al final del montículo
+     * @param element elemento a insertar
+     * @param c comparador que define el orden
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> void siftUp(Object[] heap, int index, E element, Comparator<? super E> c) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            E p = (E) heap[parent];
+            if (c.compare(element, p) <= 0) break;
+            heap[index] = p;
+            index = parent;
+        }
+        heap[index] = element;
+    }
+
+    /**
+     * Reemplaza la raíz por element y lo baja mientras algún hijo
+     * sea peor que él.
+     *
+     * @param heap montículo
+     * @param size cantidad de elementos del montículo
+     * @param element elemento que ocupa la raíz
+     * @param c comparador que define el orden
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> void siftDown(Object[] heap, int size, E element, Comparator<? super E> c) {
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            E childValue = (E) heap[child];
+            int right = child + 1;
+            if (right < size && c.compare(childValue, (E) heap[right]) < 0) {
+                child = right;
+                childValue = (E) heap[child];
+            }
+            if (c.compare(element, childValue) >= 0) break;
+            heap[index] = childValue;
+            index = child;
+        }
+        heap[index] = element;
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.workload;
+
+/**
+ * Formas de datos de entrada que genera {@link WorkloadGenerator}.
+ *
+ * Cada distribución tiene el nombre de escenario con que aparece en
+ * los resultados del benchmark (Unsorted, Sorted y NearlySorted
+ * conservan los nombres que ya usaban los resultados anteriores) y un
+ * título para la consola.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public enum Distribution {
+
+    /**
+     * Valores uniformes en [0, 10000): el caso promedio.
+     */
+    UNIFORM("Unsorted", "Unsorted data (Average Case)"),
+
+    /**
+     * Valores sesgados según una ley de Zipf: pocos valores concentran
+     * la mayoría de las apariciones.
+     */
+    ZIPF("Zipf", "Skewed data (Zipf, s = 1)"),
+
+    /**
+     * Solo 8 valores distintos, con muchos repetidos.
+     */
+    FEW_UNIQUE("FewUnique", "Few unique values (8 keys)"),
+
+    /**
+     * Valores uniformes ya ordenados: el mejor caso.
+     */
+    SORTED("Sorted", "Sorted data (Best Case)"),
+
+    /**
+     * Valores uniformes en orden descendente.
+     */
+    REVERSE("Reverse", "Reverse sorted data"),
+
+    /**
+     * Valores ordenados salvo un 1% de intercambios aleatorios.
+     */
+    NEARLY_SORTED("NearlySorted", "Nearly sorted data (1% swaps)"),
+
+    /**
+     * 8 tramos ascendentes consecutivos.
+     */
+    SAWTOOTH("Sawtooth", "Sawtooth data (8 ascending runs)"),
+
+    /**
+     * Una mitad ascendente seguida de una mitad descendente.
+     */
+    ORGAN_PIPE("OrganPipe", "Organ pipe data (up then down)"),
+
+    /**
+     * Secuencia adversaria que lleva a QuickSort a su peor caso.
+     */
+    QUICKSORT_KILLER("QuickSortKiller", "QuickSort killer (adversarial)");
+
+    /**
+     * Nombre del escenario en los resultados.
+     */
+    private final String scenario;
+
+    /**
+     * Título impreso en consola.
+     */
+    private final String title;
+
+    /**
+     * Crea una distribución.
+     *
+     * @param scenario nombre del escenario en los resultados
+     * @param title título impreso en consola
+     */
+    Distribution(String scenario, String title) {
+        this.scenario = scenario;
+        this.title = title;
+    }
+
+    /**
+     * Retorna el nombre del escenario en los resultados.
+     *
+     * @return nombre del escenario
+     */
+    public String scenario() {
+        return scenario;
+    }
+
+    /**
+     * Retorna el título impreso en consola.
+     *
+     * @return título de la distribución
+     */
+    public String title() {
+        return title;
+    }
+
+    /**
+     * Busca una distribución por su nombre de escenario o por el
+     * nombre de la constante, sin distinguir mayúsculas.
+     *
+     * @param name nombre a buscar (por ejemplo "NearlySorted" o "nearly_sorted")
+     * @return distribución encontrada
+     * @throws IllegalArgumentException si no existe ninguna con ese nombre
+     */
+    public static Distribution fromName(String name) {
+        for (Distribution distribution : values()) {
+            if (distribution.scenario.equalsIgnoreCase(name) || distribution.name().equalsIgnoreCase(name)) {
+                return distribution;
+            }
+        }
+        throw new IllegalArgumentException("Distribución desconocida: " + name);
+    }
+}
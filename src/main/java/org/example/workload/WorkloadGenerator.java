@@ -0,0 +1,501 @@
+package org.example.workload;
+
+import org.example.monitoring.SortExecuted;
+import org.example.sorts.QuickSort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Generador reproducible de datos de entrada para los algoritmos de
+ * ordenamiento.
+ *
+ * Produce arreglos int[] directamente, sin crear un Integer por valor,
+ * a partir de una semilla: la misma semilla, el mismo tamaño y la
+ * misma distribución producen siempre los mismos datos, en cualquier
+ * máquina y con cualquier cantidad de hilos.
+ *
+ * Los valores aleatorios se generan por bloques de 65536 elementos.
+ * Cada bloque usa su propio SplittableRandom, obtenido con split() de
+ * un generador creado con la semilla, por lo que los bloques pueden
+ * llenarse en paralelo sin compartir estado. A partir de
+ * {@link #PARALLEL_THRESHOLD} elementos los bloques se llenan con un
+ * stream paralelo y los arreglos se ordenan con Arrays.parallelSort;
+ * el resultado es idéntico al secuencial.
+ *
+ * Las distribuciones basadas en valores uniformes (Sorted, Reverse,
+ * NearlySorted) parten de los mismos valores que Uniform con la misma
+ * semilla, igual que los escenarios que ya comparaba el benchmark.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public final class WorkloadGenerator {
+
+    /**
+     * Límite superior (exclusivo) de los valores uniformes por defecto,
+     * el mismo de los resultados anteriores del benchmark.
+     */
+    public static final int DEFAULT_BOUND = 10_000;
+
+    /**
+     * Cantidad de elementos a partir de la cual se genera en paralelo.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    /**
+     * Tamaño máximo de una secuencia adversaria para QuickSort: su
+     * construcción es cuadrática en tiempo y su recursión, lineal, debe
+     * caber en la pila por defecto de un hilo.
+     */
+    public static final int MAX_KILLER_SIZE = 10_000;
+
+    /**
+     * Elementos por bloque de generación.
+     */
+    static final int CHUNK = 1 << 16;
+
+    /**
+     * Valor que se combina con la semilla para obtener el generador de
+     * los intercambios de NearlySorted, independiente de los valores.
+     */
+    private static final long SWAP_SALT = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Llena un rango de un arreglo con valores aleatorios.
+     */
+    @FunctionalInterface
+    private interface ChunkFiller {
+
+        /**
+         * Llena el rango [from, to) del arreglo.
+         *
+         * @param values arreglo a llenar
+         * @param from índice inicial (inclusive)
+         * @param to índice final (exclusivo)
+         * @param random generador propio del bloque
+         */
+        void fill(int[] values, int from, int to, SplittableRandom random);
+    }
+
+    /**
+     * Semilla de los datos generados.
+     */
+    private final long seed;
+
+    /**
+     * Crea un generador con la semilla indicada.
+     *
+     * @param seed semilla de los datos generados
+     */
+    public WorkloadGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Retorna la semilla del generador.
+     *
+     * @return semilla
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Genera datos con una distribución y sus parámetros por defecto:
+     * valores en [0, 10000), Zipf con exponente 1 sobre 10000 valores,
+     * 8 valores distintos, un 1% de intercambios, 8 tramos y la
+     * secuencia adversaria de {@link QuickSort}.
+     *
+     * @param distribution distribución de los datos
+     * @param size cantidad de elementos
+     * @return datos generados
+     * @throws IllegalArgumentException si size es negativo, o si supera
+     *                                  {@link #MAX_KILLER_SIZE} en
+     *                                  QUICKSORT_KILLER
+     */
+    public int[] generate(Distribution distribution, int size) {
+        return switch (distribution) {
+            case UNIFORM -> uniform(size, 0, DEFAULT_BOUND);
+            case ZIPF -> zipf(size, DEFAULT_BOUND, 1.0);
+            case FEW_UNIQUE -> fewUnique(size, 8);
+            case SORTED -> sorted(size);
+            case REVERSE -> reverse(size);
+            case NEARLY_SORTED -> nearlySorted(size, size / 100 + 1);
+            case SAWTOOTH -> sawtooth(size, 8);
+            case ORGAN_PIPE -> organPipe(size);
+            case QUICKSORT_KILLER -> quickSortKiller(size);
+        };
+    }
+
+    /**
+     * Genera datos como lista de Integer, para los algoritmos que
+     * ordenan listas.
+     *
+     * @param distribution distribución de los datos
+     * @param size cantidad de elementos
+     * @return lista modificable con los datos generados
+     */
+    public List<Integer> generateList(Distribution distribution, int size) {
+        int[] values = generate(distribution, size);
+        List<Integer> list = new ArrayList<>(values.length);
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    /**
+     * Genera valores uniformes en [origin, bound). Se aceptan límites
+     * long para poder cubrir todo el rango de int, con origin igual a
+     * Integer.MIN_VALUE y bound igual a Integer.MAX_VALUE + 1.
+     *
+     * @param size cantidad de elementos
+     * @param origin menor valor posible (inclusive)
+     * @param bound límite superior (exclusivo)
+     * @return datos generados
+     * @throws IllegalArgumentException si size es negativo o el rango
+     *                                  está vacío o no cabe en int
+     */
+    public int[] uniform(int size, long origin, long bound) {
+        if (origin >= bound || origin < Integer.MIN_VALUE || bound > Integer.MAX_VALUE + 1L) {
+            throw new IllegalArgumentException("Rango inválido: [" + origin + ", " + bound + ")");
+        }
+        return fill(size, (values, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                values[i] = (int) random.nextLong(origin, bound);
+            }
+        });
+    }
+
+    /**
+     * Genera valores en [0, distinct) según una ley de Zipf: el valor k
+     * aparece con probabilidad proporcional a 1 / (k + 1)^exponent, de
+     * modo que 0 es el más frecuente. Con exponente 0 es uniforme.
+     *
+     * Cada valor se obtiene por búsqueda binaria en la distribución
+     * acumulada, calculada una vez por llamada.
+     *
+     * @param size cantidad de elementos
+     * @param distinct cantidad de valores posibles
+     * @param exponent exponente de la ley (mayor es más sesgado)
+     * @return datos generados
+     * @throws IllegalArgumentException si size es negativo, distinct
+     *                                  no es positivo o el exponente es
+     *                                  negativo
+     */
+    public int[] zipf(int size, int distinct, double exponent) {
+        if (distinct < 1) {
+            throw new IllegalArgumentException("distinct debe ser positivo: " + distinct);
+        }
+        if (!(exponent >= 0)) {
+            throw new IllegalArgumentException("El exponente no puede ser negativo: " + exponent);
+        }
+        double[] cumulative = new double[distinct];
+        double total = 0;
+        for (int k = 0; k < distinct; k++) {
+            total += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        double sum = total;
+        return fill(size, (values, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                int k = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+                values[i] = Math.min(k < 0 ? -k - 1 : k, distinct - 1);
+            }
+        });
+    }
+
+    /**
+     * Genera valores uniformes en [0, distinct): con pocos valores
+     * distintos hay muchos elementos repetidos.
+     *
+     * @param size cantidad de elementos
+     * @param distinct cantidad de valores distintos
+     * @return datos generados
+     * @throws IllegalArgumentException si size es negativo o distinct
+     *                                  no es positivo
+     */
+    public int[] fewUnique(int size, int distinct) {
+        if (distinct < 1) {
+            throw new IllegalArgumentException("distinct debe ser positivo: " + distinct);
+        }
+        return uniform(size, 0, distinct);
+    }
+
+    /**
+     * Genera valores uniformes en [0, 10000) ordenados de menor a mayor.
+     *
+     * @param size cantidad de elementos
+     * @return datos generados
+     */
+    public int[] sorted(int size) {
+        int[] values = uniform(size, 0, DEFAULT_BOUND);
+        if (size >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+        return values;
+    }
+
+    /**
+     * Genera valores uniformes en [0, 10000) divididos en runs tramos
+     * consecutivos de igual tamaño, cada uno ordenado de menor a mayor.
+     * Entre dos tramos casi siempre hay un descenso, por lo que la
+     * proporción de pares consecutivos en orden es cercana a
+     * 1 - (runs - 1) / (size - 1); con un solo tramo es Sorted.
+     *
+     * @param size cantidad de elementos
+     * @param runs cantidad de tramos ordenados
+     * @return datos generados
+     * @throws IllegalArgumentException si size es negativo o runs no
+     *                                  es positivo
+     */
+    public int[] runs(int size, int runs) {
+        if (runs < 1) {
+            throw new IllegalArgumentException("runs debe ser positivo: " + runs);
+        }
+        int[] values = uniform(size, 0, DEFAULT_BOUND);
+        for (int r = 0; r < runs; r++) {
+            int from = (int) ((long) size * r / runs);
+            int to = (int) ((long) size * (r + 1) / runs);
+            Arrays.sort(values, from, to);
+        }
+        return values;
+    }
+
+    /**
+     * Genera valores uniformes en [0, 10000) ordenados de mayor a menor.
+     *
+     * @param size cantidad de elementos
+     * @return datos generados
+     */
+    public int[] reverse(int size) {
+        int[] values = sorted(size);
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+
+    /**
+     * Genera valores ordenados y luego intercambia swaps pares de
+     * posiciones aleatorias. Los intercambios son secuenciales: cada
+     * uno depende de los anteriores.
+     *
+     * @param size cantidad de elementos
+     * @param swaps cantidad de intercambios
+     * @return datos generados
+     * @throws IllegalArgumentException si size o swaps son negativos
+     */
+    public int[] nearlySorted(int size, int swaps) {
+        if (swaps < 0) {
+            throw new IllegalArgumentException("swaps no puede ser negativo: " + swaps);
+        }
+        int[] values = sorted(size);
+        if (size < 2) {
+            return values;
+        }
+        SplittableRandom random = new SplittableRandom(seed ^ SWAP_SALT);
+        for (int k = 0; k < swaps; k++) {
+            int i = random.nextInt(size);
+            int j = random.nextInt(size);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+
+    /**
+     * Genera teeth tramos ascendentes consecutivos: 0, 1, ..., p - 1,
+     * 0, 1, ..., donde p es el tamaño de cada tramo. No depende de la
+     * semilla.
+     *
+     * @param size cantidad de elementos
+     * @param teeth cantidad de tramos
+     * @return datos generados
+     * @throws IllegalArgumentException si size es negativo o teeth no
+     *                                  es positivo
+     */
+    public int[] sawtooth(int size, int teeth) {
+        if (teeth < 1) {
+            throw new IllegalArgumentException("teeth debe ser positivo: " + teeth);
+        }
+        int period = Math.max(1, (int) (((long) size + teeth - 1) / teeth));
+        return fillIndexed(size, i -> i % period);
+    }
+
+    /**
+     * Genera una mitad ascendente seguida de una mitad descendente
+     * (0, 1, 2, ..., 2, 1, 0). No depende de la semilla.
+     *
+     * @param size cantidad de elementos
+     * @return datos generados
+     * @throws IllegalArgumentException si size es negativo
+     */
+    public int[] organPipe(int size) {
+        return fillIndexed(size, i -> Math.min(i, size - 1 - i));
+    }
+
+    /**
+     * Genera la secuencia que lleva a {@link QuickSort} a su peor caso,
+     * con el adversario de McIlroy ("A Killer Adversary for Quicksort").
+     *
+     * En lugar de suponer cómo elige el pivote, se ordenan los índices
+     * con QuickSort y un comparador que decide los valores a medida que
+     * se comparan: todos empiezan como "gas" (mayores que cualquier
+     * otro) y un valor se fija solo cuando hace falta, tratando de que
+     * el candidato a pivote quede siempre en un extremo. Los valores
+     * fijados forman una entrada con la que QuickSort hace un número
+     * cuadrático de comparaciones y una recursión de profundidad
+     * lineal. La secuencia no depende de la semilla, y su construcción
+     * es secuencial y cuadrática, por eso el tamaño está limitado.
+     *
+     * Aplica al ordenamiento de listas con comparador; el camino rápido
+     * de QuickSort para IntArrayList usa otra partición. El ordenamiento
+     * interno se emite con el escenario SortExecuted.WORKLOAD.
+     *
+     * @param size cantidad de elementos
+     * @return datos generados
+     * @throws IllegalArgumentException si size es negativo o mayor que
+     *                                  {@link #MAX_KILLER_SIZE}
+     */
+    public int[] quickSortKiller(int size) {
+        checkSize(size);
+        if (size > MAX_KILLER_SIZE) {
+            throw new IllegalArgumentException("La secuencia adversaria admite hasta "
+                    + MAX_KILLER_SIZE + " elementos: " + size);
+        }
+        Adversary adversary = new Adversary(size);
+        List<Integer> indexes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indexes.add(i);
+        }
+        String scenario = SortExecuted.scenario();
+        SortExecuted.setScenario(SortExecuted.WORKLOAD);
+        try {
+            new QuickSort<Integer>().sort(indexes, adversary);
+        } finally {
+            SortExecuted.setScenario(scenario);
+        }
+        return adversary.values;
+    }
+
+    /**
+     * Comparador adversario de McIlroy sobre índices.
+     */
+    private static final class Adversary implements Comparator<Integer> {
+
+        /**
+         * Valor asignado a cada índice; gas mientras no se fije.
+         */
+        private final int[] values;
+
+        /**
+         * Valor de los índices aún no fijados, mayor que cualquier
+         * valor fijado.
+         */
+        private final int gas;
+
+        /**
+         * Próximo valor a fijar.
+         */
+        private int solid;
+
+        /**
+         * Índice que probablemente es el pivote, o -1.
+         */
+        private int candidate = -1;
+
+        /**
+         * Crea el adversario con todos los índices en gas.
+         *
+         * @param size cantidad de índices
+         */
+        Adversary(int size) {
+            this.values = new int[size];
+            this.gas = size;
+            Arrays.fill(values, gas);
+        }
+
+        @Override
+        public int compare(Integer a, Integer b) {
+            int x = a;
+            int y = b;
+            if (values[x] == gas && values[y] == gas) {
+                values[x == candidate ? x : y] = solid++;
+            }
+            if (values[x] == gas) {
+                candidate = x;
+            } else if (values[y] == gas) {
+                candidate = y;
+            }
+            return Integer.compare(values[x], values[y]);
+        }
+    }
+
+    /**
+     * Crea un arreglo y llena sus bloques con generadores propios, en
+     * paralelo si el tamaño alcanza {@link #PARALLEL_THRESHOLD}.
+     *
+     * @param size cantidad de elementos
+     * @param filler llena un bloque
+     * @return arreglo lleno
+     */
+    private int[] fill(int size, ChunkFiller filler) {
+        checkSize(size);
+        int[] values = new int[size];
+        int chunks = (int) (((long) size + CHUNK - 1) / CHUNK);
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            randoms[c] = root.split();
+        }
+        IntStream blocks = IntStream.range(0, chunks);
+        if (size >= PARALLEL_THRESHOLD) {
+            blocks = blocks.parallel();
+        }
+        blocks.forEach(c -> filler.fill(values, c * CHUNK, (int) Math.min(size, (long) (c + 1) * CHUNK), randoms[c]));
+        return values;
+    }
+
+    /**
+     * Crea un arreglo cuyos valores dependen solo de la posición, en
+     * paralelo si el tamaño alcanza {@link #PARALLEL_THRESHOLD}.
+     *
+     * @param size cantidad de elementos
+     * @param value valor de cada posición
+     * @return arreglo lleno
+     */
+    private static int[] fillIndexed(int size, IntUnaryOperator value) {
+        checkSize(size);
+        int[] values = new int[size];
+        if (size >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(values, value);
+        } else {
+            Arrays.setAll(values, value);
+        }
+        return values;
+    }
+
+    /**
+     * Valida la cantidad de elementos.
+     *
+     * @param size cantidad de elementos
+     * @throws IllegalArgumentException si es negativa
+     */
+    private static void checkSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("El tamaño no puede ser negativo: " + size);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.example;
+
+import org.example.sorts.MergeSort;
+import org.example.sorts.NaturalMergeSort;
+import org.example.sorts.QuickSort;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for ExternalSort.
+ * A tiny memory budget is used so the input is split into many runs.
+ */
+public class ExternalSortTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<Integer> writeRandomFile(Path file, int amount) throws IOException {
+        Random random = new Random(1);
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+            numbers.add(random.nextInt(2_000_000) - 1_000_000);
+        }
+        new FileManager(file).writeNumbersToFile(numbers);
+        return numbers;
+    }
+
+    @Test
+    public void testMultiPassMerge() throws IOException {
+        Path input = folder.getRoot().toPath().resolve("input.txt");
+        Path output = folder.getRoot().toPath().resolve("output.txt");
+        Path temp = folder.newFolder("tmp").toPath();
+        List<Integer> expected = writeRandomFile(input, 50_000);
+        Collections.sort(expected);
+
+        // 8 KB -> 1024 elements per run, 49 runs merged 4 at a time
+        new ExternalSort(new QuickSort<>(), 8 * 1024, 4, temp).sort(input, output);
+
+        assertEquals("Output file should contain the sorted numbers",
+                     expected, new FileManager(output).readNumbersFromFile());
+        try (var files = Files.list(temp)) {
+            assertEquals("Temporary runs should be deleted", 0, files.count());
+        }
+    }
+
+    @Test
+    public void testTruncatedRunIsDetected() throws IOException {
+        Path input = folder.getRoot().toPath().resolve("input.txt");
+        Path output = folder.getRoot().toPath().resolve("output.txt");
+        Path temp = folder.newFolder("tmp").toPath();
+        writeRandomFile(input, 5000);
+
+        // Before the second chunk is sorted, drop the last value of the first run
+        QuickSort<Integer> truncating = new QuickSort<>() {
+            private int calls;
+
+            @Override
+            public void sort(List<Integer> list) {
+                if (calls++ == 1) {
+                    try (var files = Files.list(temp);
+                         FileChannel run = FileChannel.open(files.findFirst().orElseThrow(),
+                                                            StandardOpenOption.WRITE)) {
+                        run.truncate(run.size() - Integer.BYTES);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                super.sort(list);
+            }
+        };
+
+        try {
+            new ExternalSort(truncating, 8 * 1024, 4, temp).sort(input, output);
+            fail("A truncated run should be reported");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().startsWith("Run truncado"));
+        }
+        try (var files = Files.list(temp)) {
+            assertEquals("Temporary runs should be deleted", 0, files.count());
+        }
+    }
+
+    @Test
+    public void testBoxingAlgorithmGetsSmallerChunks() throws IOException {
+        Path input = folder.getRoot().toPath().resolve("input.txt");
+        Path output = folder.getRoot().toPath().resolve("output.txt");
+        List<Integer> expected = writeRandomFile(input, 5000);
+        Collections.sort(expected);
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        NaturalMergeSort<Integer> recording = new NaturalMergeSort<>() {
+            @Override
+            public void sort(List<Integer> list) {
+                chunkSizes.add(list.size());
+                super.sort(list);
+            }
+        };
+        new ExternalSort(recording, 8 * 1024, 4, folder.newFolder("tmp").toPath()).sort(input, output);
+
+        assertEquals(expected, new FileManager(output).readNumbersFromFile());
+        // 8 KB holds 1024 ints, but far fewer boxed Integers with their reference arrays
+        assertTrue("Chunk too large for a boxing algorithm: " + chunkSizes,
+                   Collections.max(chunkSizes) <= 8 * 1024 / 40);
+    }
+
+    @Test
+    public void testSingleRun() throws IOException {
+        Path input = folder.getRoot().toPath().resolve("input.txt");
+        Path output = folder.getRoot().toPath().resolve("output.txt");
+        List<Integer> expected = writeRandomFile(input, 1000);
+        Collections.sort(expected);
+
+        new ExternalSort(new MergeSort<>(), 1 << 20, 8, folder.getRoot().toPath())
+                .sort(new FileManager(input), output);
+
+        assertEquals("Output file should contain the sorted numbers",
+                     expected, new FileManager(output).readNumbersFromFile());
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        Path input = folder.newFile("empty.txt").toPath();
+        Path output = folder.getRoot().toPath().resolve("output.txt");
+
+        new ExternalSort().sort(input, output);
+
+        assertTrue("Empty input should produce an empty output",
+                   new FileManager(output).readNumbersFromFile().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFanIn() {
+        new ExternalSort(new QuickSort<>(), 1 << 20, 1, folder.getRoot().toPath());
+    }
+}
@@ -0,0 +1,127 @@
+package org.example;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for FileManager text and binary formats.
+ */
+public class FileManagerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path file(String name) {
+        return folder.getRoot().toPath().resolve(name);
+    }
+
+    @Test
+    public void testTextRoundTrip() throws IOException {
+        FileManager manager = new FileManager(file("numbers.txt"));
+        List<Integer> numbers = Arrays.asList(5, -3, 0, 42, Integer.MIN_VALUE);
+        manager.writeNumbersToFile(numbers);
+        assertEquals("Text file should return the written numbers", numbers, manager.readNumbersFromFile());
+    }
+
+    @Test
+    public void testIntBinaryRoundTrip() throws IOException {
+        FileManager manager = new FileManager(file("numbers.bin"));
+        int[] numbers = new Random(1).ints(10_000).toArray();
+        manager.writeBinary(numbers);
+
+        assertEquals(new FileManager.BinaryHeader(FileManager.ElementType.INT, 10_000), manager.readBinaryHeader());
+        assertEquals("Binary file size should be header plus 4 bytes per value",
+                     FileManager.BINARY_HEADER_SIZE + 4L * numbers.length, Files.size(manager.getFile()));
+        assertArrayEquals("Binary file should return the written numbers", numbers, manager.readIntsBinary());
+    }
+
+    @Test
+    public void testMappedViewIsLittleEndian() throws IOException {
+        FileManager manager = new FileManager(file("numbers.bin"));
+        manager.writeBinary(new int[]{1, 2, 3});
+
+        byte[] raw = Files.readAllBytes(manager.getFile());
+        assertEquals("First value should be stored little-endian", 1, raw[FileManager.BINARY_HEADER_SIZE]);
+        assertEquals("Magic should start with 'H'", 'H', raw[0]);
+
+        IntBuffer view = manager.mapInts();
+        assertEquals(3, view.remaining());
+        assertEquals(2, view.get(1));
+    }
+
+    @Test
+    public void testLongAndDoubleBinaryRoundTrip() throws IOException {
+        long[] longs = new Random(2).longs(1000).toArray();
+        FileManager longManager = new FileManager(file("longs.bin"));
+        longManager.writeBinary(longs);
+        assertArrayEquals(longs, longManager.readLongsBinary());
+
+        double[] doubles = new Random(3).doubles(1000).toArray();
+        FileManager doubleManager = new FileManager(file("doubles.bin"));
+        doubleManager.writeBinary(doubles);
+        assertArrayEquals(doubles, doubleManager.readDoublesBinary(), 0.0);
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrongElementType() throws IOException {
+        FileManager manager = new FileManager(file("longs.bin"));
+        manager.writeBinary(new long[]{1L, 2L});
+        manager.readIntsBinary();
+    }
+
+    @Test(expected = IOException.class)
+    public void testTextFileIsNotBinary() throws IOException {
+        FileManager manager = new FileManager(file("numbers.txt"));
+        manager.writeNumbersToFile(Arrays.asList(1234567, 2, 3, 4, 5));
+        manager.readIntsBinary();
+    }
+
+    /**
+     * Writes a one-int file whose header claims 2^62 + 1 values: times 4 bytes that wraps
+     * around to 4 bytes, which the file does hold.
+     */
+    private FileManager overflowingCount() throws IOException {
+        FileManager manager = new FileManager(file("numbers.bin"));
+        manager.writeBinary(new int[]{1});
+        byte[] raw = Files.readAllBytes(manager.getFile());
+        ByteBuffer.wrap(raw).order(ByteOrder.LITTLE_ENDIAN).putLong(8, (1L << 62) + 1);
+        Files.write(manager.getFile(), raw);
+        return manager;
+    }
+
+    @Test(expected = IOException.class)
+    public void testOverflowingCountIsRejectedByHeader() throws IOException {
+        overflowingCount().readBinaryHeader();
+    }
+
+    @Test(expected = IOException.class)
+    public void testOverflowingCountIsRejectedByMapping() throws IOException {
+        overflowingCount().mapInts();
+    }
+
+    @Test
+    public void testTextBinaryConversion() throws IOException {
+        FileManager text = new FileManager(file("numbers.txt"));
+        List<Integer> numbers = Arrays.asList(7, -1, 300, 0);
+        text.writeNumbersToFile(numbers);
+
+        text.convertTextToBinary(file("numbers.bin"));
+        FileManager binary = new FileManager(file("numbers.bin"));
+        assertArrayEquals(new int[]{7, -1, 300, 0}, binary.readIntsBinary());
+
+        binary.convertBinaryToText(file("export.txt"));
+        assertEquals(numbers, new FileManager(file("export.txt")).readNumbersFromFile());
+    }
+}
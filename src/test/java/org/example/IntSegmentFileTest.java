@@ -0,0 +1,80 @@
+package org.example;
+
+import org.example.sorts.SegmentIntSortAlgorithm;
+import org.example.sorts.SegmentQuickSort;
+import org.example.sorts.SegmentRadixSort;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for IntSegmentFile: mapping FileManager binary files as segments and sorting them in place.
+ */
+public class IntSegmentFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path file(String name) {
+        return folder.getRoot().toPath().resolve(name);
+    }
+
+    private void assertSortsFileInPlace(SegmentIntSortAlgorithm sorter) throws IOException {
+        FileManager manager = new FileManager(file("numbers.bin"));
+        int[] numbers = new Random(1).ints(50_000).toArray();
+        manager.writeBinary(numbers);
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = IntSegmentFile.map(manager.getFile(), arena);
+            assertEquals(4L * numbers.length, segment.byteSize());
+            sorter.sort(segment);
+        }
+
+        Arrays.sort(numbers);
+        assertArrayEquals("Sorted file should be readable by FileManager", numbers, manager.readIntsBinary());
+    }
+
+    @Test
+    public void testRadixSortsMappedFileInPlace() throws IOException {
+        assertSortsFileInPlace(new SegmentRadixSort());
+    }
+
+    @Test
+    public void testQuickSortsMappedFileInPlace() throws IOException {
+        assertSortsFileInPlace(new SegmentQuickSort());
+    }
+
+    @Test
+    public void testCreateWritesFileManagerFormat() throws IOException {
+        Path path = file("created.bin");
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = IntSegmentFile.create(path, 1000, arena);
+            for (int i = 0; i < 1000; i++) {
+                segment.setAtIndex(SegmentIntSortAlgorithm.LAYOUT, i, 1000 - i);
+            }
+        }
+
+        FileManager manager = new FileManager(path);
+        assertEquals(new FileManager.BinaryHeader(FileManager.ElementType.INT, 1000), manager.readBinaryHeader());
+        int[] numbers = manager.readIntsBinary();
+        assertEquals(1000, numbers[0]);
+        assertEquals(1, numbers[999]);
+    }
+
+    @Test(expected = IOException.class)
+    public void testMapRejectsLongFile() throws IOException {
+        FileManager manager = new FileManager(file("longs.bin"));
+        manager.writeBinary(new long[] {1, 2, 3});
+        try (Arena arena = Arena.ofConfined()) {
+            IntSegmentFile.map(manager.getFile(), arena);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for NumberTextParser.
+ */
+public class NumberTextParserTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path write(String content) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    @Test
+    public void testUnixAndWindowsLineEndings() throws IOException {
+        Path file = write("1\n-2\r\n+3\n\n40\r\n");
+        assertArrayEquals(new int[]{1, -2, 3, 40}, new NumberTextParser().parse(file).toIntArray());
+    }
+
+    @Test
+    public void testLastLineWithoutNewline() throws IOException {
+        Path file = write("7\n8");
+        assertArrayEquals(new int[]{7, 8}, new NumberTextParser().parse(file).toIntArray());
+    }
+
+    @Test
+    public void testIntRangeLimits() throws IOException {
+        Path file = write(Integer.MIN_VALUE + "\n" + Integer.MAX_VALUE + "\n");
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE},
+                          new NumberTextParser().parse(file).toIntArray());
+    }
+
+    @Test
+    public void testNumbersSplitAcrossBuffers() throws IOException {
+        int[] expected = new Random(1).ints(5000).toArray();
+        StringBuilder content = new StringBuilder();
+        for (int value : expected) {
+            content.append(value).append("\r\n");
+        }
+        Path file = write(content.toString());
+
+        // A 7-byte buffer splits most numbers and some "\r\n" pairs
+        assertArrayEquals(expected, new NumberTextParser(7).parse(file).toIntArray());
+    }
+
+    @Test
+    public void testMalformedLineReportsLineNumber() throws IOException {
+        Path file = write("1\n2\n3x\n4\n");
+        try {
+            new NumberTextParser().parse(file);
+            fail("Malformed line should be rejected");
+        } catch (NumberFormatException e) {
+            assertTrue("Message should contain the line number: " + e.getMessage(),
+                       e.getMessage().startsWith("Línea 3:"));
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testOverflow() throws IOException {
+        new NumberTextParser().parse(write("2147483648\n"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testSignWithoutDigits() throws IOException {
+        new NumberTextParser().parse(write("5\n-\n"));
+    }
+
+    @Test
+    public void testParserIsReusable() throws IOException {
+        NumberTextParser parser = new NumberTextParser(16);
+        assertArrayEquals(new int[]{1, 2}, parser.parse(write("1\n2\n")).toIntArray());
+        assertArrayEquals(new int[]{-3}, parser.parse(write("-3")).toIntArray());
+    }
+}
@@ -0,0 +1,85 @@
+package org.example;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for ParallelTextIO.
+ */
+public class ParallelTextIOTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @AfterClass
+    public static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void testWriteThenReadLargeFile() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("numbers.txt");
+        int[] numbers = new Random(1).ints(1_500_000).toArray();
+        numbers[0] = Integer.MIN_VALUE;
+        numbers[1] = Integer.MAX_VALUE;
+        numbers[2] = 0;
+
+        ParallelTextIO io = new ParallelTextIO(POOL);
+        io.write(file, numbers);
+
+        assertArrayEquals("Sequential parser should read what the parallel writer wrote",
+                          numbers, new NumberTextParser().parse(file).toIntArray());
+        assertArrayEquals("Parallel reader should keep the original order",
+                          numbers, io.read(file).toIntArray());
+    }
+
+    @Test
+    public void testSmallAndEmptyFiles() throws IOException {
+        ParallelTextIO io = new ParallelTextIO(POOL);
+        Path small = folder.getRoot().toPath().resolve("small.txt");
+        io.write(small, new int[]{3, -1, 2});
+        assertEquals("3\n-1\n2\n", Files.readString(small, StandardCharsets.US_ASCII));
+        assertArrayEquals(new int[]{3, -1, 2}, io.read(small).toIntArray());
+
+        Path empty = folder.getRoot().toPath().resolve("empty.txt");
+        io.write(empty, new int[0]);
+        assertEquals(0, io.read(empty).size());
+    }
+
+    @Test
+    public void testMalformedLineReportsAbsoluteLineNumber() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("bad.txt");
+        int[] numbers = new Random(2).ints(1_000_000, 0, 1000).toArray();
+        new ParallelTextIO(POOL).write(file, numbers);
+        String content = Files.readString(file, StandardCharsets.US_ASCII);
+        Files.writeString(file, content + "oops\n", StandardCharsets.US_ASCII);
+
+        try {
+            new ParallelTextIO(POOL).read(file);
+            fail("Malformed line should be rejected");
+        } catch (NumberFormatException e) {
+            assertTrue("Message should contain the absolute line number: " + e.getMessage(),
+                       e.getMessage().startsWith("Línea 1000001:"));
+        }
+    }
+
+    @Test
+    public void testFileManagerParallelMode() throws IOException {
+        FileManager manager = new FileManager(folder.getRoot().toPath().resolve("numbers.txt"));
+        int[] numbers = {9, 8, -7};
+        manager.writeNumbersParallel(numbers);
+        assertArrayEquals(numbers, manager.readNumbersParallel().toIntArray());
+    }
+}
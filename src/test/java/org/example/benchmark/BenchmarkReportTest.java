@@ -0,0 +1,68 @@
+package org.example.benchmark;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for BenchmarkReport: versioned CSV and JSON output with metadata.
+ */
+public class BenchmarkReportTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static BenchmarkResult sample() {
+        return new BenchmarkResult("QuickSort", 1000, "Unsorted", BenchmarkScheduler.Mode.ISOLATED, 1, 1,
+                10, 0.5, BenchmarkStats.of(new long[] {1000, 2000, 3000}), 12345, 678, 9000, 8000, 12, 4096, 0, 0);
+    }
+
+    @Test
+    public void testMetadataHasSchemaAndMachine() {
+        Map<String, String> metadata = BenchmarkReport.metadata();
+        assertEquals(String.valueOf(BenchmarkReport.SCHEMA_VERSION), metadata.get("schemaVersion"));
+        assertNotNull(metadata.get("java.version"));
+        assertNotNull(metadata.get("cpu.model"));
+        assertTrue(Integer.parseInt(metadata.get("cpu.count")) > 0);
+    }
+
+    @Test
+    public void testCsvRowMatchesHeader() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("results.csv");
+        BenchmarkReport.writeCsv(path, BenchmarkReport.metadata(), List.of(sample()));
+
+        List<String> lines = Files.readAllLines(path);
+        List<String> data = lines.stream().filter(line -> !line.startsWith("#")).toList();
+        assertEquals(2, data.size());
+        assertEquals(BenchmarkReport.CSV_HEADER, data.get(0));
+        String[] header = data.get(0).split(",");
+        String[] row = data.get(1).split(",");
+        assertEquals(header.length, row.length);
+        assertEquals(String.valueOf(BenchmarkReport.SCHEMA_VERSION), row[0]);
+        assertEquals("2000", row[List.of(header).indexOf("MedianNs")]);
+        assertEquals("500000000.00", row[List.of(header).indexOf("ElementsPerSec")]);
+        assertTrue(lines.get(0).startsWith("# schemaVersion="));
+    }
+
+    @Test
+    public void testJsonContainsMetadataAndResults() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("results.json");
+        BenchmarkReport.writeJson(path, Map.of("cpu.model", "Fake \"CPU\"\\1"), List.of(sample(), sample()));
+
+        String json = Files.readString(path);
+        assertTrue(json.contains("\"schemaVersion\": " + BenchmarkReport.SCHEMA_VERSION));
+        assertTrue(json.contains("\"cpu.model\": \"Fake \\\"CPU\\\"\\\\1\""));
+        assertTrue(json.contains("\"medianNs\": 2000"));
+        assertEquals(2, json.split("\"algorithm\"", -1).length - 1);
+    }
+
+    @Test
+    public void testQuoteEscapesControlCharacters() {
+        assertEquals("\"a\\tb\\nc\\u0001\"", BenchmarkReport.quote("a\tb\nc\u0001"));
+    }
+}
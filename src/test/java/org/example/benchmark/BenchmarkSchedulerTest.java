@@ -0,0 +1,183 @@
+package org.example.benchmark;
+
+import org.example.monitoring.SortExecuted;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for BenchmarkScheduler: isolation, repetitions, throughput copies, mixed runs and config validation.
+ */
+public class BenchmarkSchedulerTest {
+
+    private static BenchmarkScheduler.Job counting(String name, AtomicInteger running, AtomicInteger maxRunning) {
+        return new BenchmarkScheduler.Job(name, "Test", 10, () -> () -> {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        });
+    }
+
+    @Test
+    public void testWarmUpRunsAreTaggedAsWarmup() throws Exception {
+        List<String> scenarios = Collections.synchronizedList(new ArrayList<>());
+        BenchmarkScheduler.Job job = new BenchmarkScheduler.Job("Scenario", "Test", 1,
+                () -> () -> scenarios.add(String.valueOf(SortExecuted.scenario())));
+
+        new BenchmarkScheduler(BenchmarkScheduler.Mode.ISOLATED, 1, 2, 3).run(List.of(job));
+
+        assertEquals(List.of(SortExecuted.WARMUP, SortExecuted.WARMUP, "Test", "Test", "Test"), scenarios);
+    }
+
+    @Test
+    public void testIsolatedRunsOneJobAtATime() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<BenchmarkScheduler.Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            jobs.add(counting("Job" + i, running, maxRunning));
+        }
+
+        List<BenchmarkScheduler.Run> runs = new BenchmarkScheduler().run(jobs);
+        assertEquals(4, runs.size());
+        assertEquals("Isolated jobs should never overlap", 1, maxRunning.get());
+        for (int i = 0; i < runs.size(); i++) {
+            BenchmarkScheduler.Run run = runs.get(i);
+            assertEquals("Job" + i, run.name());
+            assertEquals(BenchmarkScheduler.Mode.ISOLATED, run.mode());
+            assertEquals(1, run.threads());
+            assertEquals(1, run.concurrentJobs());
+            assertEquals(5, run.stats().samples());
+            assertTrue(run.stats().min() > 0);
+            assertTrue(run.liveThreads() > 0);
+        }
+    }
+
+    @Test
+    public void testWarmupsAreNotReported() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        BenchmarkScheduler.Job job = new BenchmarkScheduler.Job("Counter", "Test", 1,
+                () -> executions::incrementAndGet);
+
+        List<BenchmarkScheduler.Run> runs =
+                new BenchmarkScheduler(BenchmarkScheduler.Mode.ISOLATED, 1, 5).run(List.of(job));
+        assertEquals(1, runs.size());
+        assertEquals("5 warmups plus 1 measured run", 6, executions.get());
+    }
+
+    @Test
+    public void testRepetitionsUseFreshSetupAndMeasureAllocation() throws Exception {
+        AtomicInteger setups = new AtomicInteger();
+        BenchmarkScheduler.Job job = new BenchmarkScheduler.Job("Alloc", "Test", 1000, () -> {
+            setups.incrementAndGet();
+            return () -> {
+                long[] garbage = new long[1000];
+                garbage[999] = 1;
+            };
+        });
+
+        List<BenchmarkScheduler.Run> runs =
+                new BenchmarkScheduler(BenchmarkScheduler.Mode.ISOLATED, 1, 2, 7).run(List.of(job));
+        BenchmarkScheduler.Run run = runs.get(0);
+        assertEquals("2 warmups plus 7 repetitions", 9, setups.get());
+        assertEquals(7, run.stats().samples());
+        assertTrue(run.stats().min() <= run.stats().median());
+        assertTrue(run.stats().median() <= run.stats().max());
+        assertTrue(run.gcCount() >= 0);
+        if (run.allocatedBytes() >= 0) {
+            assertTrue("Each repetition allocates a long[1000]", run.allocatedBytes() >= 8000);
+        }
+    }
+
+    @Test
+    public void testThroughputStartsCopiesTogether() throws Exception {
+        int threads = 3;
+        CountDownLatch allStarted = new CountDownLatch(threads);
+        BenchmarkScheduler.Job job = new BenchmarkScheduler.Job("Latch", "Test", 1, () -> () -> {
+            allStarted.countDown();
+            try {
+                // Solo termina si todas las copias corren a la vez
+                assertTrue(allStarted.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        List<BenchmarkScheduler.Run> runs =
+                new BenchmarkScheduler(BenchmarkScheduler.Mode.THROUGHPUT, threads, 0).run(List.of(job));
+        assertEquals("One run per copy", threads, runs.size());
+        for (BenchmarkScheduler.Run run : runs) {
+            assertEquals(BenchmarkScheduler.Mode.THROUGHPUT, run.mode());
+            assertEquals(threads, run.threads());
+            assertEquals(threads, run.concurrentJobs());
+        }
+    }
+
+    @Test
+    public void testMixedRunsJobsConcurrently() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<BenchmarkScheduler.Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            jobs.add(counting("Job" + i, running, maxRunning));
+        }
+
+        List<BenchmarkScheduler.Run> runs =
+                new BenchmarkScheduler(BenchmarkScheduler.Mode.MIXED, 4, 0).run(jobs);
+        assertEquals(4, runs.size());
+        for (int i = 0; i < runs.size(); i++) {
+            assertEquals("Results keep the job order", "Job" + i, runs.get(i).name());
+            assertEquals(BenchmarkScheduler.Mode.MIXED, runs.get(i).mode());
+        }
+        assertTrue("Mixed jobs should overlap", maxRunning.get() > 1);
+        assertTrue(runs.stream().anyMatch(run -> run.concurrentJobs() > 1));
+    }
+
+    @Test
+    public void testFailedJobDoesNotInflateConcurrentJobs() throws Exception {
+        BenchmarkScheduler scheduler = new BenchmarkScheduler(BenchmarkScheduler.Mode.ISOLATED, 1, 0);
+        BenchmarkScheduler.Job failing = new BenchmarkScheduler.Job("Failing", "Test", 1, () -> () -> {
+            throw new IllegalStateException("boom");
+        });
+        try {
+            scheduler.run(List.of(failing));
+            fail("The job's exception should be reported");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        BenchmarkScheduler.Job ok = new BenchmarkScheduler.Job("Ok", "Test", 1, () -> () -> { });
+        assertEquals(1, scheduler.run(List.of(ok)).get(0).concurrentJobs());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIsolatedRejectsSeveralThreads() {
+        new BenchmarkScheduler(BenchmarkScheduler.Mode.ISOLATED, 2, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonPositiveThreads() {
+        new BenchmarkScheduler(BenchmarkScheduler.Mode.MIXED, 0, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativeWarmups() {
+        new BenchmarkScheduler(BenchmarkScheduler.Mode.THROUGHPUT, 2, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonPositiveRepetitions() {
+        new BenchmarkScheduler(BenchmarkScheduler.Mode.ISOLATED, 1, 0, 0);
+    }
+}
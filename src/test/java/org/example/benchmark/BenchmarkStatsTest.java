@@ -0,0 +1,50 @@
+package org.example.benchmark;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for BenchmarkStats: nearest-rank percentiles, median and mean.
+ */
+public class BenchmarkStatsTest {
+
+    @Test
+    public void testSingleSample() {
+        BenchmarkStats stats = BenchmarkStats.of(new long[] {42});
+        assertEquals(1, stats.samples());
+        assertEquals(42, stats.min());
+        assertEquals(42, stats.median());
+        assertEquals(42.0, stats.mean(), 0.0);
+        assertEquals(42, stats.p90());
+        assertEquals(42, stats.p99());
+        assertEquals(42, stats.max());
+    }
+
+    @Test
+    public void testUnsortedSamples() {
+        long[] samples = new long[100];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = 100 - i;
+        }
+        BenchmarkStats stats = BenchmarkStats.of(samples);
+        assertEquals(1, stats.min());
+        assertEquals(50, stats.median());
+        assertEquals(50.5, stats.mean(), 1e-9);
+        assertEquals(90, stats.p90());
+        assertEquals(99, stats.p99());
+        assertEquals(100, stats.max());
+        assertEquals("Samples must not be modified", 100, samples[0]);
+    }
+
+    @Test
+    public void testOddMedian() {
+        BenchmarkStats stats = BenchmarkStats.of(new long[] {5, 1, 3});
+        assertEquals(3, stats.median());
+        assertEquals(5, stats.p90());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEmptySamples() {
+        BenchmarkStats.of(new long[0]);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.monitoring;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for the log-linear rolling histogram.
+ */
+public class RollingHistogramTest {
+
+    @Test
+    public void testSmallValuesHaveExactBuckets() {
+        for (int v = 0; v < 8; v++) {
+            assertEquals(v, RollingHistogram.bucket(v));
+            assertEquals(v, RollingHistogram.upperBound(v));
+        }
+    }
+
+    @Test
+    public void testBucketsAreContiguousAndWithinRelativeError() {
+        int previous = RollingHistogram.bucket(0);
+        for (long v = 1; v < 1 << 20; v++) {
+            int bucket = RollingHistogram.bucket(v);
+            assertTrue("Buckets should never go backwards", bucket >= previous);
+            assertTrue("Buckets should not skip indexes", bucket - previous <= 1);
+            long upper = RollingHistogram.upperBound(bucket);
+            assertTrue("Value " + v + " should not exceed its bucket bound " + upper, v <= upper);
+            assertTrue("Bucket bound should be within 12.5% of " + v, upper - v <= v / 8);
+            previous = bucket;
+        }
+        assertTrue(RollingHistogram.bucket(Long.MAX_VALUE) < RollingHistogram.BUCKETS);
+    }
+
+    @Test
+    public void testPercentilesAndMean() {
+        RollingHistogram histogram = new RollingHistogram(Duration.ofSeconds(10), 10);
+        for (int v = 1; v <= 100; v++) {
+            histogram.record(1_000, v * 1_000L);
+        }
+        RollingHistogram.Snapshot snapshot = histogram.snapshot(1_000);
+        assertEquals(100, snapshot.count());
+        assertEquals(100_000, snapshot.max());
+        assertEquals(50_500.0, snapshot.mean(), 0.0);
+        long p50 = snapshot.percentile(0.50);
+        assertTrue("p50 was " + p50, p50 >= 50_000 && p50 <= 50_000 * 9 / 8);
+        assertEquals("p100 should be capped at the maximum", 100_000, snapshot.percentile(1.0));
+    }
+
+    @Test
+    public void testOldSlicesExpire() {
+        RollingHistogram histogram = new RollingHistogram(Duration.ofSeconds(10), 10);
+        histogram.record(0, 5);
+        histogram.record(5_000, 7);
+        assertEquals(2, histogram.snapshot(9_999).count());
+        assertEquals("Value from the first slice should leave the window", 1, histogram.snapshot(10_000).count());
+        assertEquals(0, histogram.snapshot(15_000).count());
+
+        histogram.record(20_000, 3);
+        histogram.record(10_000, 9);
+        assertEquals("Value older than the reused slice should be dropped", 1, histogram.snapshot(20_000).count());
+    }
+
+    @Test
+    public void testEmptySnapshot() {
+        RollingHistogram.Snapshot snapshot = new RollingHistogram(Duration.ofSeconds(1), 4).snapshot(0);
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.percentile(0.99));
+        assertEquals(0.0, snapshot.mean(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsWindowShorterThanSlices() {
+        new RollingHistogram(Duration.ofMillis(5), 10);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.monitoring;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.FileManager;
+import org.example.sorts.QuickSort;
+import org.example.workload.WorkloadGenerator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for the SortExecuted and FileIoCompleted events and the
+ * SortMetrics MBean that aggregates them.
+ */
+public class SortMetricsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static List<Integer> randomList(int size) {
+        List<Integer> list = new ArrayList<>();
+        new Random(7).ints(size).forEach(list::add);
+        return list;
+    }
+
+    @Test
+    public void testEventsAreRecorded() throws Exception {
+        Path jfr = folder.getRoot().toPath().resolve("events.jfr");
+        Path numbers = folder.getRoot().toPath().resolve("numbers.bin");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.SortExecuted");
+            recording.enable("org.example.FileIoCompleted");
+            recording.start();
+            SortExecuted.setScenario("random");
+            try {
+                new QuickSort<Integer>().sort(randomList(1_000));
+            } finally {
+                SortExecuted.setScenario(null);
+            }
+            new FileManager(numbers).writeBinary(new int[]{1, 2, 3});
+            recording.stop();
+            recording.dump(jfr);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(jfr);
+        RecordedEvent sort = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.example.SortExecuted"))
+                .findFirst().orElseThrow();
+        assertEquals("QuickSort", sort.getString("algorithm"));
+        assertEquals(1_000, sort.getInt("size"));
+        assertEquals("random", sort.getString("scenario"));
+        assertEquals(Thread.currentThread().getName(), sort.getThread().getJavaName());
+
+        RecordedEvent io = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.example.FileIoCompleted"))
+                .findFirst().orElseThrow();
+        assertEquals("write", io.getString("operation"));
+        assertEquals("binary-int", io.getString("format"));
+        assertEquals(Files.size(numbers), io.getLong("bytes"));
+    }
+
+    @Test
+    public void testMBeanAggregatesStreamedEvents() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(SortMetrics.OBJECT_NAME);
+        try (SortMetrics metrics = SortMetrics.start(Duration.ofMinutes(1))) {
+            assertTrue(server.isRegistered(name));
+            for (int i = 0; i < 5; i++) {
+                new QuickSort<Integer>().sort(randomList(2_000));
+            }
+            new FileManager(folder.getRoot().toPath().resolve("numbers.txt"))
+                    .writeNumbersToFile(List.of(3, 1, 2));
+
+            assertTrue("drain should see the flushed events", metrics.drain(Duration.ofSeconds(15)));
+
+            assertEquals(5, metrics.sortCount("QuickSort"));
+            assertEquals(1, metrics.getFileIoCount());
+            assertTrue(List.of(metrics.getAlgorithms()).contains("QuickSort"));
+            assertTrue(metrics.sortPercentileMicros("QuickSort", 99) > 0);
+            assertTrue(metrics.getSortP99Micros() >= metrics.getSortP50Micros());
+            assertTrue(metrics.getSortMaxMicros() >= metrics.getSortP99Micros());
+            assertTrue(metrics.getFileIoBytes() > 0);
+            assertEquals(0, metrics.sortCount("UnknownSort"));
+            assertEquals(60L, server.getAttribute(name, "WindowSeconds"));
+            assertTrue((Long) server.getAttribute(name, "SortCount") >= 5);
+        }
+        assertFalse("close should unregister the MBean", server.isRegistered(name));
+    }
+
+    @Test
+    public void testUnmeasuredSortsAreNotAggregated() throws Exception {
+        try (SortMetrics metrics = SortMetrics.start(Duration.ofMinutes(1))) {
+            for (String scenario : List.of(SortExecuted.WARMUP, SortExecuted.INSTRUMENTED)) {
+                SortExecuted.setScenario(scenario);
+                try {
+                    new QuickSort<Integer>().sort(randomList(1_000));
+                } finally {
+                    SortExecuted.setScenario(null);
+                }
+            }
+            new WorkloadGenerator(1).quickSortKiller(200);
+            new QuickSort<Integer>().sort(randomList(1_000));
+
+            assertTrue("drain should see the flushed events", metrics.drain(Duration.ofSeconds(15)));
+            assertEquals("Only the measured sort is aggregated", 1, metrics.sortCount("QuickSort"));
+            assertEquals(1, metrics.getSortCount());
+        }
+    }
+
+    @Test
+    public void testKillerRestoresScenario() {
+        SortExecuted.setScenario("random");
+        try {
+            new WorkloadGenerator(1).quickSortKiller(50);
+            assertEquals("random", SortExecuted.scenario());
+        } finally {
+            SortExecuted.setScenario(null);
+        }
+        assertTrue(SortExecuted.isMeasured(null));
+        assertTrue(SortExecuted.isMeasured("random"));
+        assertFalse(SortExecuted.isMeasured(SortExecuted.WARMUP));
+    }
+
+    @Test
+    public void testFailedRegistrationClosesTheStream() throws Exception {
+        try (SortMetrics first = SortMetrics.start(Duration.ofSeconds(10))) {
+            int recordings = FlightRecorder.getFlightRecorder().getRecordings().size();
+            try {
+                SortMetrics.start(Duration.ofSeconds(10)).close();
+                fail("A second instance should not register");
+            } catch (InstanceAlreadyExistsException expected) {
+                // expected
+            }
+            assertEquals("The second stream should be closed", recordings,
+                         FlightRecorder.getFlightRecorder().getRecordings().size());
+            assertTrue(ManagementFactory.getPlatformMBeanServer()
+                               .isRegistered(new ObjectName(SortMetrics.OBJECT_NAME)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsInvalidPercentile() throws Exception {
+        try (SortMetrics metrics = SortMetrics.start(Duration.ofSeconds(10))) {
+            metrics.sortPercentileMicros("QuickSort", 101);
+        }
+    }
+}
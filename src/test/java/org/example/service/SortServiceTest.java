@@ -0,0 +1,194 @@
+package org.example.service;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for SortService: batched tiny requests, routing, list jobs and lifecycle.
+ */
+public class SortServiceTest {
+
+    private static int[] sorted(int[] a) {
+        int[] copy = a.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Test
+    public void testSortTaggedSplitsBatchBack() {
+        Random random = new Random(1);
+        List<int[]> arrays = new ArrayList<>();
+        List<int[]> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int[] a = random.ints(random.nextInt(20)).toArray();
+            arrays.add(a);
+            expected.add(sorted(a));
+        }
+        arrays.add(new int[] {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1});
+        expected.add(new int[] {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE});
+
+        SortService.sortTagged(arrays);
+        for (int i = 0; i < arrays.size(); i++) {
+            assertArrayEquals("Array " + i + " should be sorted on its own", expected.get(i), arrays.get(i));
+        }
+    }
+
+    @Test
+    public void testConcurrentTinyRequests() throws Exception {
+        try (SortService service = new SortService();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> checks = new ArrayList<>();
+            for (int c = 0; c < 16; c++) {
+                int seed = c;
+                checks.add(clients.submit(() -> {
+                    Random random = new Random(seed);
+                    List<int[]> inputs = new ArrayList<>();
+                    List<CompletableFuture<int[]>> results = new ArrayList<>();
+                    for (int i = 0; i < 200; i++) {
+                        int[] input = random.ints(1 + random.nextInt(32), -100, 100).toArray();
+                        inputs.add(input);
+                        results.add(service.sort(input));
+                    }
+                    for (int i = 0; i < inputs.size(); i++) {
+                        assertArrayEquals(sorted(inputs.get(i)), results.get(i).get());
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> check : checks) {
+                assertTrue(check.get());
+            }
+            assertEquals(16 * 200, service.stats().submitted());
+        }
+    }
+
+    @Test
+    public void testInputIsNotModified() throws Exception {
+        try (SortService service = new SortService()) {
+            int[] input = {3, 1, 2};
+            assertArrayEquals(new int[] {1, 2, 3}, service.sort(input).get());
+            assertArrayEquals(new int[] {3, 1, 2}, input);
+        }
+    }
+
+    @Test
+    public void testLargeRequestsUseParallelAlgorithms() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        SortService.Config config = new SortService.Config(16, 8, 1024, 1000);
+        try (SortService service = new SortService(config, pool)) {
+            int[] input = new Random(2).ints(5000).toArray();
+            assertArrayEquals(sorted(input), service.sort(input).get());
+
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < 3000; i++) list.add(i % 7);
+            List<Integer> expected = new ArrayList<>(list);
+            expected.sort(null);
+            assertEquals(expected, service.sort(list, Comparator.naturalOrder()).get());
+
+            assertEquals(2, service.stats().parallelRequests());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testListRequestIsStable() throws Exception {
+        try (SortService service = new SortService()) {
+            List<int[]> pairs = new ArrayList<>();
+            Random random = new Random(3);
+            for (int i = 0; i < 1000; i++) {
+                pairs.add(new int[] {random.nextInt(10), i});
+            }
+            List<int[]> result = service.sort(pairs, Comparator.comparingInt((int[] p) -> p[0])).get();
+            for (int i = 1; i < result.size(); i++) {
+                int[] prev = result.get(i - 1);
+                int[] curr = result.get(i);
+                assertTrue(prev[0] < curr[0] || (prev[0] == curr[0] && prev[1] < curr[1]));
+            }
+        }
+    }
+
+    @Test
+    public void testSmallQueueStillCompletesEveryRequest() throws Exception {
+        SortService.Config config = new SortService.Config(1, 16, 64, 1 << 16);
+        try (SortService service = new SortService(config, ForkJoinPool.commonPool())) {
+            List<CompletableFuture<int[]>> results = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                results.add(service.sort(new int[] {i % 3, 2 - i % 3}));
+            }
+            for (CompletableFuture<int[]> result : results) {
+                int[] r = result.get();
+                assertTrue(r[0] <= r[1]);
+            }
+        }
+    }
+
+    @Test
+    public void testSubmitBlocksWhenQueueAndInFlightAreFull() throws Exception {
+        SortService.Config config = new SortService.Config(1, 16, 64, 1 << 16, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Comparator<Integer> blocking = (a, b) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Integer.compare(a, b);
+        };
+        ExecutorService client = Executors.newSingleThreadExecutor();
+        try (SortService service = new SortService(config, ForkJoinPool.commonPool())) {
+            CompletableFuture<List<Integer>> running = service.sort(List.of(2, 1), blocking);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // The only permit is held by the running job, so this one stays in the queue
+            CompletableFuture<int[]> queued = service.sort(new int[] {3, 1, 2});
+
+            Future<CompletableFuture<int[]>> blocked = client.submit(() -> service.sort(new int[] {5, 4}));
+            try {
+                blocked.get(300, TimeUnit.MILLISECONDS);
+                fail("sort should block while the queue and the in-flight limit are full");
+            } catch (TimeoutException expected) {
+                // Backpressure reached the client
+            }
+            assertFalse(queued.isDone());
+
+            release.countDown();
+            assertEquals(List.of(1, 2), running.get(10, TimeUnit.SECONDS));
+            assertArrayEquals(new int[] {1, 2, 3}, queued.get(10, TimeUnit.SECONDS));
+            assertArrayEquals(new int[] {4, 5}, blocked.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS));
+        } finally {
+            client.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxInFlightIsRejected() {
+        new SortService.Config(16, 16, 64, 1000, 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosedServiceRejectsRequests() throws Exception {
+        SortService service = new SortService();
+        service.close();
+        service.sort(new int[] {1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidConfigIsRejected() {
+        new SortService.Config(0, 16, 64, 1000);
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.sorts;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for AdaptiveSort that verifies it complies with the SortAlgorithm contract
+ * and that it picks the expected strategy for typical inputs.
+ */
+public class AdaptiveSortTest extends SortAlgorithmContract {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Override
+    protected <T extends Comparable<T>> SortAlgorithm<T> createSortAlgorithm() {
+        return new AdaptiveSort<>();
+    }
+
+    private static List<Integer> randomInts(int size, int bound, long seed) {
+        Random random = new Random(seed);
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(bound) - bound / 2);
+        }
+        return list;
+    }
+
+    private static <T extends Comparable<T>> void assertSorted(List<T> list) {
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue("List should be sorted at index " + i, list.get(i - 1).compareTo(list.get(i)) <= 0);
+        }
+    }
+
+    @Test
+    public void testSmallListUsesInsertion() {
+        AdaptiveSort<Integer> sorter = new AdaptiveSort<>();
+        List<Integer> list = randomInts(AdaptiveSort.Thresholds.DEFAULT.insertionMax(), 1000, 1);
+        sorter.sort(list);
+        assertSorted(list);
+        assertEquals(AdaptiveSort.Strategy.INSERTION, sorter.getLastDecision().strategy());
+    }
+
+    @Test
+    public void testNearlySortedUsesNaturalMerge() {
+        AdaptiveSort<Integer> sorter = new AdaptiveSort<>();
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.add(i);
+        }
+        Collections.swap(list, 10, 4000);
+        sorter.sort(list);
+        assertSorted(list);
+        assertEquals(AdaptiveSort.Strategy.NATURAL_MERGE, sorter.getLastDecision().strategy());
+    }
+
+    @Test
+    public void testLargeIntegersUseRadix() {
+        AdaptiveSort<Integer> sorter = new AdaptiveSort<>();
+        List<Integer> list = randomInts(5000, Integer.MAX_VALUE, 2);
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+        sorter.sort(list);
+        assertEquals(expected, list);
+        assertEquals(AdaptiveSort.Strategy.RADIX, sorter.getLastDecision().strategy());
+    }
+
+    @Test
+    public void testSmallRangeKeepsRadixThreshold() {
+        AdaptiveSort<Integer> sorter = new AdaptiveSort<>(new AdaptiveSort.Thresholds(16, 400, 0.97));
+        List<Integer> list = randomInts(300, 100, 3);
+        sorter.sort(list);
+        assertSorted(list);
+        assertEquals(AdaptiveSort.Strategy.THREE_WAY_QUICK, sorter.getLastDecision().strategy());
+    }
+
+    @Test
+    public void testStringsUseThreeWayQuick() {
+        AdaptiveSort<String> sorter = new AdaptiveSort<>();
+        Random random = new Random(4);
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            list.add("s" + random.nextInt(50));
+        }
+        sorter.sort(list);
+        assertSorted(list);
+        assertEquals(AdaptiveSort.Strategy.THREE_WAY_QUICK, sorter.getLastDecision().strategy());
+    }
+
+    @Test
+    public void testThresholdsFromJmhCsv() throws IOException {
+        Path csv = folder.newFile("results.csv").toPath();
+        String header = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\","
+                + "\"Unit\",\"Param: algorithm\",\"Param: distribution\",\"Param: size\"";
+        String row = "\"org.example.benchmark.jmh.SortJmhBenchmark.sort\",\"avgt\",3,24,%s,5,\"ns/op\",%s,%s,%d";
+        List<String> lines = new ArrayList<>();
+        lines.add(header);
+        lines.add(String.format(row, "100", "InsertionSort", "Unsorted", 10));
+        lines.add(String.format(row, "200", "QuickSort", "Unsorted", 10));
+        lines.add(String.format(row, "900", "MergeSort", "Unsorted", 10));
+        lines.add(String.format(row, "300", "RadixSort", "Unsorted", 10));
+        lines.add(String.format(row, "1000", "InsertionSort", "Unsorted", 100));
+        lines.add(String.format(row, "800", "QuickSort", "Unsorted", 100));
+        lines.add(String.format(row, "1200", "MergeSort", "Unsorted", 100));
+        lines.add(String.format(row, "500", "RadixSort", "Unsorted", 100));
+        lines.add(String.format(row, "9000", "QuickSort", "Unsorted", 1000));
+        lines.add(String.format(row, "4000", "RadixSort", "Unsorted", 1000));
+        // Rows that must be ignored
+        lines.add(String.format(row, "1", "RadixSort", "Sorted", 10));
+        lines.add("\"org.example.benchmark.jmh.SortJmhBenchmark.sort:gc.alloc.rate\",\"avgt\",1,1,5,NaN,"
+                + "\"MB/sec\",InsertionSort,Unsorted,100");
+        Files.write(csv, lines);
+
+        AdaptiveSort.Thresholds thresholds = AdaptiveSort.Thresholds.fromJmhCsv(csv);
+        assertEquals(10, thresholds.insertionMax());
+        assertEquals(100, thresholds.radixMin());
+        assertEquals(AdaptiveSort.Thresholds.DEFAULT.presortedRatio(), thresholds.presortedRatio(), 0.0);
+    }
+
+    @Test
+    public void testPresortedRatioAndWideRadixFromJmhCsv() throws IOException {
+        Path csv = folder.newFile("presorted.csv").toPath();
+        String header = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\","
+                + "\"Unit\",\"Param: algorithm\",\"Param: distribution\",\"Param: size\"";
+        String row = "\"org.example.benchmark.jmh.SortJmhBenchmark.sort\",\"avgt\",3,24,%s,5,\"ns/op\",%s,%s,%d";
+        List<String> lines = new ArrayList<>();
+        lines.add(header);
+        lines.add(String.format(row, "100", "InsertionSort", "Unsorted", 10));
+        lines.add(String.format(row, "200", "QuickSort", "Unsorted", 10));
+        lines.add(String.format(row, "200", "MergeSort", "Unsorted", 10));
+        lines.add(String.format(row, "500", "RadixSort", "Unsorted", 100));
+        lines.add(String.format(row, "800", "QuickSort", "Unsorted", 100));
+        // With the full int range RadixSort only wins from 1000 on
+        lines.add(String.format(row, "900", "RadixSort", "UnsortedWide", 100));
+        lines.add(String.format(row, "800", "QuickSort", "UnsortedWide", 100));
+        lines.add(String.format(row, "4000", "RadixSort", "UnsortedWide", 1000));
+        lines.add(String.format(row, "9000", "QuickSort", "UnsortedWide", 1000));
+        // Below radixMin NaturalMergeSort races ParallelQuickSort, from radixMin on RadixSort
+        lines.add(String.format(row, "700", "NaturalMergeSort", "Presorted80", 100));
+        lines.add(String.format(row, "600", "ParallelQuickSort", "Presorted80", 100));
+        lines.add(String.format(row, "300", "NaturalMergeSort", "Presorted90", 100));
+        lines.add(String.format(row, "600", "ParallelQuickSort", "Presorted90", 100));
+        lines.add(String.format(row, "5000", "NaturalMergeSort", "Presorted90", 1000));
+        lines.add(String.format(row, "4000", "RadixSort", "Presorted90", 1000));
+        lines.add(String.format(row, "200", "NaturalMergeSort", "Presorted95", 100));
+        lines.add(String.format(row, "600", "ParallelQuickSort", "Presorted95", 100));
+        Files.write(csv, lines);
+
+        AdaptiveSort.Thresholds thresholds = AdaptiveSort.Thresholds.fromJmhCsv(csv);
+        assertEquals(10, thresholds.insertionMax());
+        assertEquals(1000, thresholds.radixMin());
+        assertEquals(0.90, thresholds.presortedRatio(), 0.0);
+    }
+
+    @Test
+    public void testOverlappingIntervalsKeepDefaults() throws IOException {
+        Path csv = folder.newFile("noisy.csv").toPath();
+        String header = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\","
+                + "\"Unit\",\"Param: algorithm\",\"Param: distribution\",\"Param: size\"";
+        String row = "\"org.example.benchmark.jmh.SortJmhBenchmark.sort\",\"avgt\",3,24,%s,%s,\"ns/op\",%s,%s,%d";
+        List<String> lines = new ArrayList<>();
+        lines.add(header);
+        // 100 ± 60 and 200 ± 60 overlap: InsertionSort is not clearly faster
+        lines.add(String.format(row, "100", "60", "InsertionSort", "Unsorted", 10));
+        lines.add(String.format(row, "200", "60", "QuickSort", "Unsorted", 10));
+        lines.add(String.format(row, "900", "60", "MergeSort", "Unsorted", 10));
+        // A single sample has no interval, so it never proves a difference
+        lines.add(String.format(row, "500", "NaN", "RadixSort", "Unsorted", 100));
+        lines.add(String.format(row, "800", "NaN", "QuickSort", "Unsorted", 100));
+        lines.add(String.format(row, "4000", "100", "RadixSort", "Unsorted", 1000));
+        lines.add(String.format(row, "9000", "100", "QuickSort", "Unsorted", 1000));
+        lines.add(String.format(row, "300", "400", "NaturalMergeSort", "Presorted90", 100));
+        lines.add(String.format(row, "600", "400", "ParallelQuickSort", "Presorted90", 100));
+        Files.write(csv, lines);
+
+        AdaptiveSort.Thresholds thresholds = AdaptiveSort.Thresholds.fromJmhCsv(csv);
+        assertEquals(AdaptiveSort.Thresholds.DEFAULT.insertionMax(), thresholds.insertionMax());
+        assertEquals(1000, thresholds.radixMin());
+        assertEquals(AdaptiveSort.Thresholds.DEFAULT.presortedRatio(), thresholds.presortedRatio(), 0.0);
+    }
+
+    @Test
+    public void testDefaultsMatchCheckedInCalibration() throws IOException {
+        Path csv = Path.of("src", "jmh", "calibration", "adaptive-sort-jmh.csv");
+        assertEquals(AdaptiveSort.Thresholds.DEFAULT, AdaptiveSort.Thresholds.fromJmhCsv(csv));
+    }
+
+    @Test
+    public void testThresholdsFromEmptyCsvUsesDefaults() throws IOException {
+        Path csv = folder.newFile("empty.csv").toPath();
+        assertEquals(AdaptiveSort.Thresholds.DEFAULT, AdaptiveSort.Thresholds.fromJmhCsv(csv));
+    }
+}
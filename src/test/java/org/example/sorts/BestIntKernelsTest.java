@@ -0,0 +1,13 @@
+package org.example.sorts;
+
+/**
+ * Test suite for IntKernels.best() that verifies it complies with the IntKernels contract.
+ * Runs the vectorized kernels under the "vector" Maven profile and the scalar ones otherwise.
+ */
+public class BestIntKernelsTest extends IntKernelsContract {
+
+    @Override
+    protected IntKernels createKernels() {
+        return IntKernels.best();
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for the bottom-up MergeSort mode with a caller-provided workspace.
+ */
+public class BottomUpMergeSortTest extends SortAlgorithmContract {
+
+    @Override
+    protected <T extends Comparable<T>> SortAlgorithm<T> createSortAlgorithm() {
+        return new MergeSort<>(new MergeWorkspace(4));
+    }
+
+    private static List<Integer> randomList(int size, long seed) {
+        Random random = new Random(seed);
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(1000) - 500);
+        }
+        return list;
+    }
+
+    @Test
+    public void testWorkspaceIsReusedAcrossCalls() {
+        MergeWorkspace workspace = new MergeWorkspace(1000);
+        MergeSort<Integer> sorter = new MergeSort<>(workspace);
+        for (int size : new int[] {1000, 17, 500, 1000}) {
+            List<Integer> list = randomList(size, size);
+            List<Integer> expected = new ArrayList<>(list);
+            Collections.sort(expected);
+            sorter.sort(list);
+            assertEquals(expected, list);
+        }
+        assertEquals("Workspace should not grow when sized up front", 1000, workspace.capacity());
+    }
+
+    @Test
+    public void testWorkspaceGrows() {
+        MergeWorkspace workspace = new MergeWorkspace(0);
+        List<Integer> list = randomList(300, 1);
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+        new MergeSort<Integer>(workspace).sort(list);
+        assertEquals(expected, list);
+        assertTrue(workspace.capacity() >= 300);
+    }
+
+    @Test
+    public void testThreadLocalWorkspace() throws InterruptedException {
+        MergeSort<Integer> sorter = MergeSort.withThreadLocalWorkspace();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 50; i++) {
+                        List<Integer> list = randomList(200 + i, seed * 100 + i);
+                        List<Integer> expected = new ArrayList<>(list);
+                        Collections.sort(expected);
+                        sorter.sort(list);
+                        assertEquals(expected, list);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue("Concurrent sorts failed: " + failures, failures.isEmpty());
+    }
+
+    @Test
+    public void testLinkedList() {
+        List<Integer> list = new LinkedList<>(randomList(100, 2));
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+        new MergeSort<Integer>(new MergeWorkspace(16)).sort(list);
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void testIntArrayListUsesWorkspace() {
+        IntArrayList list = new IntArrayList(new int[] {5, -3, 9, 0, -3, 2, 7, 1, 8, 4, 6, 3, 11, 10, 15, 14, 13, 12});
+        MergeWorkspace workspace = new MergeWorkspace(0);
+        new MergeSort<Integer>(workspace).sort(list);
+        assertArrayEquals(new int[] {-3, -3, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15}, list.toIntArray());
+        // The primitive buffer came from the workspace, and no boxed copy was made
+        assertTrue(workspace.ints(0).length >= list.size());
+        assertEquals(0, workspace.capacity());
+    }
+
+    @Test
+    public void testThrowingComparatorClearsWorkspace() {
+        MergeWorkspace workspace = new MergeWorkspace(0);
+        List<Integer> list = randomList(100, 4);
+        try {
+            new MergeSort<Integer>(workspace).sort(list, (x, y) -> {
+                throw new IllegalStateException("boom");
+            });
+            fail("Expected the comparator exception");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        for (Object element : workspace.elements(0)) {
+            assertNull(element);
+        }
+    }
+
+    @Test
+    public void testThreadLocalWorkspaceIsTrimmedAfterLargeSort() {
+        List<Integer> list = randomList(MergeWorkspace.MAX_RETAINED_CAPACITY * 2, 5);
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        MergeSort.<Integer>withThreadLocalWorkspace().sort(list);
+        assertEquals(expected, list);
+        assertTrue(MergeWorkspace.current().capacity() <= MergeWorkspace.MAX_RETAINED_CAPACITY);
+    }
+
+    @Test
+    public void testTrimKeepsSmallArrays() {
+        MergeWorkspace workspace = new MergeWorkspace(100);
+        workspace.trim(1000);
+        assertEquals(100, workspace.capacity());
+        workspace.trim(10);
+        assertEquals(10, workspace.capacity());
+        assertEquals(10, workspace.ints(0).length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTrim() {
+        new MergeWorkspace(0).trim(-1);
+    }
+
+    @Test
+    public void testStability() {
+        SortAlgorithm<Tagged> sorter = new MergeSort<>(new MergeWorkspace(0));
+        Random random = new Random(3);
+        List<Tagged> list = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.add(new Tagged(random.nextInt(20), i));
+        }
+
+        sorter.sort(list);
+        for (int i = 1; i < list.size(); i++) {
+            Tagged prev = list.get(i - 1);
+            Tagged curr = list.get(i);
+            assertTrue("List should be sorted by key", prev.key <= curr.key);
+            if (prev.key == curr.key) {
+                assertTrue("Equal keys should keep their original order", prev.tag < curr.tag);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullWorkspace() {
+        new MergeSort<Integer>((MergeWorkspace) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new MergeWorkspace(-1);
+    }
+
+    /**
+     * Element compared only by key, carrying its original position as tag.
+     */
+    private static final class Tagged implements Comparable<Tagged> {
+        final int key;
+        final int tag;
+
+        Tagged(int key, int tag) {
+            this.key = key;
+            this.tag = tag;
+        }
+
+        @Override
+        public int compareTo(Tagged other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for IncrementalSorter: ordering, early prefixes, stability, snapshots and run bounds.
+ */
+public class IncrementalSorterTest {
+
+    private static <E> List<E> drain(Iterable<E> iterable) {
+        List<E> result = new ArrayList<>();
+        for (E element : iterable) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    @Test
+    public void testEmpty() {
+        IncrementalSorter<Integer> sorter = new IncrementalSorter<>(Comparator.naturalOrder());
+        assertFalse(sorter.iterator().hasNext());
+        assertEquals(List.of(), sorter.prefix(5));
+        assertEquals(0, sorter.size());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextOnExhaustedIterator() {
+        new IncrementalSorter<Integer>(Comparator.naturalOrder()).iterator().next();
+    }
+
+    @Test
+    public void testRandomStreamIsSorted() {
+        for (int capacity : new int[] {1, 3, 16, 1024}) {
+            IncrementalSorter<Integer> sorter = new IncrementalSorter<>(Comparator.naturalOrder(), capacity);
+            Random random = new Random(capacity);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                int value = random.nextInt(1000) - 500;
+                sorter.add(value);
+                expected.add(value);
+            }
+            expected.sort(null);
+
+            assertEquals(5000, sorter.size());
+            assertEquals("Capacity " + capacity + " should yield sorted output", expected, drain(sorter));
+        }
+    }
+
+    @Test
+    public void testAddAllAndPrefix() {
+        IncrementalSorter<Integer> sorter = new IncrementalSorter<>(Comparator.reverseOrder(), 4);
+        sorter.addAll(Arrays.asList(5, 1, 9, 3));
+        sorter.addAll(Arrays.asList(7, 2, 8, 6, 4));
+        assertEquals(Arrays.asList(9, 8, 7), sorter.prefix(3));
+        assertEquals(Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2, 1), sorter.prefix(100));
+    }
+
+    @Test
+    public void testStability() {
+        IncrementalSorter<int[]> sorter = new IncrementalSorter<>(Comparator.comparingInt(pair -> pair[0]), 8);
+        Random random = new Random(3);
+        for (int i = 0; i < 3000; i++) {
+            sorter.add(new int[] {random.nextInt(20), i});
+        }
+        sorter.compact();
+        sorter.add(new int[] {0, 3000});
+
+        int[] prev = null;
+        for (int[] curr : sorter) {
+            if (prev != null) {
+                assertTrue("Output should be sorted by key", prev[0] <= curr[0]);
+                if (prev[0] == curr[0]) {
+                    assertTrue("Equal keys should keep insertion order", prev[1] < curr[1]);
+                }
+            }
+            prev = curr;
+        }
+    }
+
+    @Test
+    public void testIteratorIsSnapshot() {
+        IncrementalSorter<Integer> sorter = new IncrementalSorter<>(Comparator.naturalOrder(), 2);
+        sorter.addAll(Arrays.asList(4, 2, 6));
+        Iterator<Integer> it = sorter.iterator();
+        for (int i = 0; i < 100; i++) {
+            sorter.add(0);
+        }
+        List<Integer> seen = new ArrayList<>();
+        it.forEachRemaining(seen::add);
+        assertEquals(Arrays.asList(2, 4, 6), seen);
+        assertEquals(103, drain(sorter).size());
+    }
+
+    @Test
+    public void testIteratingDoesNotCreateRuns() {
+        IncrementalSorter<Integer> sorter = new IncrementalSorter<>(Comparator.naturalOrder(), 64);
+        for (int i = 0; i < 40; i++) {
+            sorter.add(40 - i);
+            assertEquals(Integer.valueOf(40 - i), sorter.prefix(1).get(0));
+            assertEquals(i + 1, drain(sorter).size());
+        }
+        assertEquals(0, sorter.runCount());
+
+        for (int i = 0; i < 30; i++) {
+            sorter.add(100 + i);
+        }
+        assertEquals(1, sorter.runCount());
+        assertEquals(Arrays.asList(1, 2, 3), sorter.prefix(3));
+        assertEquals(1, sorter.runCount());
+    }
+
+    @Test
+    public void testRunCountStaysLogarithmic() {
+        IncrementalSorter<Integer> sorter = new IncrementalSorter<>(Comparator.naturalOrder(), 16);
+        Random random = new Random(4);
+        for (int i = 0; i < 100_000; i++) {
+            sorter.add(random.nextInt());
+        }
+        // 6250 level-0 runs collapse into at most FAN_IN - 1 runs per level
+        int levels = 1 + (int) Math.ceil(Math.log(100_000 / 16.0) / Math.log(IncrementalSorter.FAN_IN));
+        assertTrue("Run count should be bounded, was " + sorter.runCount(),
+                   sorter.runCount() <= levels * (IncrementalSorter.FAN_IN - 1));
+
+        sorter.compact();
+        assertEquals(1, sorter.runCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacityIsRejected() {
+        new IncrementalSorter<Integer>(Comparator.naturalOrder(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativePrefixIsRejected() {
+        new IncrementalSorter<Integer>(Comparator.naturalOrder()).prefix(-1);
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.sorts;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for InstrumentedSort: it must still satisfy the SortAlgorithm contract
+ * and count comparisons, accesses, swaps, stack depth and allocations.
+ */
+public class InstrumentedSortTest extends SortAlgorithmContract {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Override
+    protected <T extends Comparable<T>> SortAlgorithm<T> createSortAlgorithm() {
+        return InstrumentedSort.wrap("NaturalMergeSort", new NaturalMergeSort<T>(), new SortCounters());
+    }
+
+    private static List<Integer> shuffled(int n, long seed) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        Collections.shuffle(list, new Random(seed));
+        return list;
+    }
+
+    @Test
+    public void testGnomeSortSwapsAreDetected() {
+        SortCounters counters = new SortCounters();
+        SortAlgorithm<Integer> sorter = InstrumentedSort.wrap("GnomeSort", new GnomeSort<Integer>(), counters);
+        List<Integer> list = new ArrayList<>(Arrays.asList(3, 2, 1));
+        sorter.sort(list);
+
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        SortCounters.Snapshot snapshot = counters.snapshot();
+        assertEquals(1, snapshot.calls());
+        assertEquals("Reversing three elements takes three adjacent swaps", 3, snapshot.swaps());
+        assertEquals("Each swap is two writes", 6, snapshot.writes());
+        assertTrue(snapshot.comparisons() >= 3);
+        assertTrue(snapshot.reads() > 0);
+    }
+
+    @Test
+    public void testInsertionSortShiftsAreNotSwaps() {
+        SortCounters counters = new SortCounters();
+        SortAlgorithm<Integer> sorter = InstrumentedSort.wrap("InsertionSort", new InsertionSort<Integer>(), counters);
+        List<Integer> list = new ArrayList<>(Arrays.asList(2, 3, 4, 5, 1));
+        sorter.sort(list);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), list);
+        assertEquals("Moving 1 four positions is a shift, not a swap", 0, counters.snapshot().swaps());
+        assertEquals("Three in-place key writes plus four shifts and the key", 8, counters.snapshot().writes());
+        assertEquals(7, counters.snapshot().comparisons());
+    }
+
+    @Test
+    public void testIntArrayListKeepsPrimitivePath() {
+        SortCounters counters = new SortCounters();
+        List<Class<?>> received = new ArrayList<>();
+        SortAlgorithm<Integer> recording = new QuickSort<>() {
+            @Override
+            public void sort(List<Integer> list) {
+                received.add(list.getClass());
+                super.sort(list);
+            }
+        };
+        InstrumentedSort<Integer> sorter =
+                (InstrumentedSort<Integer>) InstrumentedSort.wrap("QuickSort", recording, counters);
+        IntArrayList list = new IntArrayList(new int[] {4, 1, 3, 2});
+        sorter.sort(list);
+
+        assertArrayEquals(new int[] {1, 2, 3, 4}, list.toIntArray());
+        assertEquals(List.of(IntArrayList.class), received);
+        assertEquals("The primitive path is not counted", -1, sorter.lastCall().comparisons());
+        assertEquals(1, counters.snapshot().calls());
+        assertEquals(0, counters.snapshot().comparisons());
+    }
+
+    @Test
+    public void testCountersAccumulateAndReset() {
+        SortCounters counters = new SortCounters();
+        SortAlgorithm<Integer> sorter = InstrumentedSort.wrap("QuickSort", new QuickSort<Integer>(), counters);
+        sorter.sort(shuffled(1000, 1));
+        long first = counters.snapshot().comparisons();
+        sorter.sort(shuffled(1000, 2));
+
+        assertEquals(2, counters.snapshot().calls());
+        assertTrue(counters.snapshot().comparisons() > first);
+        counters.reset();
+        assertEquals(new SortCounters.Snapshot(0, 0, 0, 0, 0, 0, 0), counters.snapshot());
+    }
+
+    @Test
+    public void testLastCallMatchesSingleCall() {
+        SortCounters counters = new SortCounters();
+        InstrumentedSort<Integer> sorter =
+                (InstrumentedSort<Integer>) InstrumentedSort.wrap("QuickSort", new QuickSort<Integer>(), counters);
+        assertNull(sorter.lastCall());
+        sorter.sort(shuffled(100, 3));
+        assertEquals(counters.snapshot(), sorter.lastCall());
+    }
+
+    @Test
+    public void testRecursiveSortReportsStackDepth() {
+        SortCounters counters = new SortCounters();
+        SortAlgorithm<Integer> sorter = InstrumentedSort.wrap("QuickSort", new QuickSort<Integer>(), counters);
+        sorter.sort(shuffled(20_000, 4));
+        assertTrue("QuickSort recursion should show up in the sampled depth",
+                counters.snapshot().maxStackDepth() > 2);
+    }
+
+    @Test
+    public void testSmallSortReportsStackDepth() {
+        SortCounters base = new SortCounters();
+        InstrumentedSort.wrap("QuickSort", new QuickSort<Integer>(), base).sort(shuffled(2, 5));
+        SortCounters counters = new SortCounters();
+        InstrumentedSort.wrap("QuickSort", new QuickSort<Integer>(), counters).sort(shuffled(200, 5));
+        assertTrue("Small inputs should still sample the deepest recursion",
+                counters.snapshot().maxStackDepth() >= base.snapshot().maxStackDepth() + 4);
+    }
+
+    @Test
+    public void testMergeSortAllocationIsMeasured() {
+        SortCounters counters = new SortCounters();
+        SortAlgorithm<Integer> sorter = InstrumentedSort.wrap("MergeSort", new MergeSort<Integer>(), counters);
+        sorter.sort(shuffled(10_000, 5));
+        long allocated = counters.snapshot().allocatedBytes();
+        assertTrue("MergeSort needs an auxiliary buffer", allocated < 0 || allocated >= 10_000 * 4);
+    }
+
+    @Test
+    public void testRadixSortCountsAccessesOnly() {
+        SortCounters counters = new SortCounters();
+        RadixSort sorter = InstrumentedRadixSort.wrap(new RadixSort(), counters);
+        List<Integer> list = shuffled(1000, 6);
+        sorter.sort(list);
+
+        List<Integer> expected = shuffled(1000, 6);
+        Collections.sort(expected);
+        assertEquals(expected, list);
+        SortCounters.Snapshot snapshot = counters.snapshot();
+        assertEquals(0, snapshot.comparisons());
+        assertEquals(0, snapshot.swaps());
+        assertEquals("Each element is written back once", 1000, snapshot.writes());
+        assertTrue(snapshot.reads() >= 1000);
+    }
+
+    @Test
+    public void testEmitsJfrEventPerCall() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("sort.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.sorts.InstrumentedSort");
+            recording.start();
+            SortAlgorithm<Integer> sorter = InstrumentedSort.wrap("GnomeSort", new GnomeSort<Integer>(), new SortCounters());
+            sorter.sort(new ArrayList<>(Arrays.asList(3, 2, 1)));
+            sorter.sort(new ArrayList<>(Arrays.asList(2, 1)));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("org.example.sorts.InstrumentedSort"))
+                .toList();
+        assertEquals(2, events.size());
+        assertEquals("GnomeSort", events.get(0).getString("algorithm"));
+        assertEquals(3, events.get(0).getInt("size"));
+        assertEquals(3, events.get(0).getLong("swaps"));
+    }
+}
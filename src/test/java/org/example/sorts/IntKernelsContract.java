@@ -0,0 +1,79 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Contract test that defines the expected behavior for all IntKernels implementations.
+ */
+public abstract class IntKernelsContract {
+
+    /**
+     * Subclasses must provide the specific IntKernels implementation to test
+     */
+    protected abstract IntKernels createKernels();
+
+    @Test
+    public void testSortSmallEverySize() {
+        IntKernels kernels = createKernels();
+        Random random = new Random(1);
+        for (int n = 0; n <= kernels.maxBlock(); n++) {
+            for (int round = 0; round < 50; round++) {
+                // Values outside the block must not be touched
+                int[] a = random.ints(n + 6, -20, 20).toArray();
+                int[] expected = a.clone();
+                Arrays.sort(expected, 3, 3 + n);
+
+                kernels.sortSmall(a, 3, 3 + n);
+                assertArrayEquals("Block of " + n + " elements should be sorted", expected, a);
+            }
+        }
+    }
+
+    @Test
+    public void testSortSmallExtremeValues() {
+        IntKernels kernels = createKernels();
+        int[] a = {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -1, 1, Integer.MIN_VALUE};
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        kernels.sortSmall(a, 0, a.length);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortSmallRejectsLargeBlocks() {
+        IntKernels kernels = createKernels();
+        kernels.sortSmall(new int[kernels.maxBlock() + 1], 0, kernels.maxBlock() + 1);
+    }
+
+    @Test
+    public void testPartition() {
+        IntKernels kernels = createKernels();
+        Random random = new Random(2);
+        for (int n : new int[] {0, 1, 2, 15, 16, 17, 31, 32, 33, 47, 64, 100, 1000, 4099}) {
+            for (int bound : new int[] {3, 1000}) {
+                int[] a = random.ints(n + 4, 0, bound).toArray();
+                int[] before = a.clone();
+                int pivot = random.nextInt(bound);
+
+                int split = kernels.partition(a, 2, 2 + n, pivot);
+                assertTrue(split >= 2 && split <= 2 + n);
+                for (int i = 2; i < split; i++) {
+                    assertTrue("Left part should be less than the pivot", a[i] < pivot);
+                }
+                for (int i = split; i < 2 + n; i++) {
+                    assertTrue("Right part should not be less than the pivot", a[i] >= pivot);
+                }
+
+                // Same multiset, and the outside of the range is untouched
+                int[] sortedBefore = before.clone();
+                int[] sortedAfter = a.clone();
+                Arrays.sort(sortedBefore, 2, 2 + n);
+                Arrays.sort(sortedAfter, 2, 2 + n);
+                assertArrayEquals(sortedBefore, sortedAfter);
+            }
+        }
+    }
+}
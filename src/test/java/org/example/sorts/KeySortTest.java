@@ -0,0 +1,128 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for KeySort (decorate-sort-undecorate by primitive key).
+ */
+public class KeySortTest {
+
+    private static List<Item> randomItems(int size, long seed) {
+        Random random = new Random(seed);
+        List<Item> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new Item(random.nextInt(), random.nextLong(), i));
+        }
+        return list;
+    }
+
+    @Test
+    public void testEmptyAndSingle() {
+        List<Item> empty = new ArrayList<>();
+        KeySort.sortByInt(empty, Item::intKey);
+        assertTrue(empty.isEmpty());
+
+        List<Item> single = new ArrayList<>(Arrays.asList(new Item(1, 1, 0)));
+        KeySort.sortByLong(single, Item::longKey);
+        assertEquals(1, single.size());
+    }
+
+    @Test
+    public void testSortByIntSmall() {
+        List<Item> list = new ArrayList<>(Arrays.asList(
+                new Item(5, 0, 0), new Item(-3, 0, 1), new Item(Integer.MIN_VALUE, 0, 2),
+                new Item(Integer.MAX_VALUE, 0, 3), new Item(0, 0, 4)));
+        KeySort.sortByInt(list, Item::intKey);
+        assertEquals(Arrays.asList(2, 1, 4, 0, 3), tags(list));
+    }
+
+    @Test
+    public void testSortByIntLarge() {
+        List<Item> list = randomItems(20_000, 1);
+        List<Item> expected = new ArrayList<>(list);
+        expected.sort(Comparator.comparingInt(Item::intKey));
+        KeySort.sortByInt(list, Item::intKey);
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void testSortByLongSmall() {
+        List<Item> list = new ArrayList<>(Arrays.asList(
+                new Item(0, 5L, 0), new Item(0, -3L, 1), new Item(0, Long.MIN_VALUE, 2),
+                new Item(0, Long.MAX_VALUE, 3), new Item(0, 0L, 4)));
+        KeySort.sortByLong(list, Item::longKey);
+        assertEquals(Arrays.asList(2, 1, 4, 0, 3), tags(list));
+    }
+
+    @Test
+    public void testSortByLongLarge() {
+        List<Item> list = randomItems(20_000, 2);
+        List<Item> expected = new ArrayList<>(list);
+        expected.sort(Comparator.comparingLong(Item::longKey));
+        KeySort.sortByLong(list, Item::longKey);
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void testStability() {
+        Random random = new Random(3);
+        List<Item> list = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(new Item(random.nextInt(20) - 10, random.nextInt(20) - 10, i));
+        }
+        // List.sort is stable, so it is the reference for both key modes
+        List<Item> byInt = new ArrayList<>(list);
+        byInt.sort(Comparator.comparingInt(Item::intKey));
+        List<Item> byLong = new ArrayList<>(list);
+        byLong.sort(Comparator.comparingLong(Item::longKey));
+
+        List<Item> actual = new ArrayList<>(list);
+        KeySort.sortByInt(actual, Item::intKey);
+        assertEquals(byInt, actual);
+
+        actual = new ArrayList<>(list);
+        KeySort.sortByLong(actual, Item::longKey);
+        assertEquals(byLong, actual);
+    }
+
+    @Test
+    public void testLinkedList() {
+        List<Item> list = new LinkedList<>(randomItems(500, 4));
+        List<Item> expected = new ArrayList<>(list);
+        expected.sort(Comparator.comparingInt(Item::intKey));
+        KeySort.sortByInt(list, Item::intKey);
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void testKeyExtractedOncePerElement() {
+        List<Item> list = randomItems(1_000, 5);
+        int[] calls = new int[1];
+        KeySort.sortByInt(list, item -> {
+            calls[0]++;
+            return item.intKey();
+        });
+        assertEquals(1_000, calls[0]);
+    }
+
+    private static List<Integer> tags(List<Item> list) {
+        List<Integer> tags = new ArrayList<>();
+        for (Item item : list) {
+            tags.add(item.tag());
+        }
+        return tags;
+    }
+
+    /**
+     * Record without natural order, carrying its original position as tag.
+     */
+    private record Item(int intKey, long longKey, int tag) {
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for NaturalMergeSort that verifies it complies with the SortAlgorithm contract.
+ * Extra tests cover descending runs, galloping merges on large inputs and stability.
+ */
+public class NaturalMergeSortTest extends SortAlgorithmContract {
+
+    @Override
+    protected <T extends Comparable<T>> SortAlgorithm<T> createSortAlgorithm() {
+        return new NaturalMergeSort<>();
+    }
+
+    private static void assertSortedCopy(List<Integer> list) {
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+        new NaturalMergeSort<Integer>().sort(list);
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void testLargeRandomList() {
+        Random random = new Random(1);
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            list.add(random.nextInt());
+        }
+        assertSortedCopy(list);
+    }
+
+    @Test
+    public void testNearlySortedList() {
+        Random random = new Random(2);
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            list.add(i);
+        }
+        for (int k = 0; k < 50; k++) {
+            Collections.swap(list, random.nextInt(list.size()), random.nextInt(list.size()));
+        }
+        assertSortedCopy(list);
+    }
+
+    @Test
+    public void testAlternatingRuns() {
+        // Ascending and descending blocks of varying length force reversals and galloping
+        Random random = new Random(3);
+        List<Integer> list = new ArrayList<>();
+        int value = 0;
+        while (list.size() < 40_000) {
+            int length = 1 + random.nextInt(2000);
+            boolean descending = random.nextBoolean();
+            for (int i = 0; i < length; i++) {
+                list.add(descending ? value - i : value + i);
+            }
+            value = random.nextInt(100_000);
+        }
+        assertSortedCopy(list);
+    }
+
+    @Test
+    public void testSortedAndReversedInputsTakeOnePass() {
+        for (boolean reversed : new boolean[] {false, true}) {
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                list.add(reversed ? -i : i);
+            }
+            int[] comparisons = new int[1];
+            new NaturalMergeSort<Integer>().sort(list, (x, y) -> {
+                comparisons[0]++;
+                return Integer.compare(x, y);
+            });
+            for (int i = 1; i < list.size(); i++) {
+                assertTrue(list.get(i - 1) <= list.get(i));
+            }
+            assertEquals("A single run needs n - 1 comparisons", list.size() - 1, comparisons[0]);
+        }
+    }
+
+    @Test
+    public void testGallopingKeepsMergeComparisonsLow() {
+        // Two runs whose values alternate in blocks of 1000: the merge gallops over each block
+        List<Integer> list = new ArrayList<>();
+        for (int start : new int[] {0, 1_000}) {
+            for (int block = start; block < 10_000; block += 2_000) {
+                for (int i = block; i < block + 1_000; i++) {
+                    list.add(i);
+                }
+            }
+        }
+        int[] comparisons = new int[1];
+        new NaturalMergeSort<Integer>().sort(list, (x, y) -> {
+            comparisons[0]++;
+            return Integer.compare(x, y);
+        });
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+        assertEquals(expected, list);
+        assertTrue("Galloping should skip most comparisons, took " + comparisons[0],
+                   comparisons[0] < list.size() + 500);
+    }
+
+    @Test
+    public void testStability() {
+        SortAlgorithm<Tagged> sorter = new NaturalMergeSort<>();
+        Random random = new Random(4);
+        List<Tagged> list = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            // Descending blocks with repeated keys must not be reordered among equals
+            int key = i % 3000 < 1500 ? 1500 - (i % 1500) / 10 : random.nextInt(50);
+            list.add(new Tagged(key, i));
+        }
+
+        sorter.sort(list);
+        for (int i = 1; i < list.size(); i++) {
+            Tagged prev = list.get(i - 1);
+            Tagged curr = list.get(i);
+            assertTrue("List should be sorted by key", prev.key <= curr.key);
+            if (prev.key == curr.key) {
+                assertTrue("Equal keys should keep their original order", prev.tag < curr.tag);
+            }
+        }
+    }
+
+    /**
+     * Element compared only by key, carrying its original position as tag.
+     */
+    private static final class Tagged implements Comparable<Tagged> {
+        final int key;
+        final int tag;
+
+        Tagged(int key, int tag) {
+            this.key = key;
+            this.tag = tag;
+        }
+
+        @Override
+        public int compareTo(Tagged other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for ParallelMergeSort that verifies it complies with the SortAlgorithm contract.
+ */
+public class ParallelMergeSortTest extends SortAlgorithmContract {
+
+    @Override
+    protected <T extends Comparable<T>> SortAlgorithm<T> createSortAlgorithm() {
+        return new ParallelMergeSort<>();
+    }
+
+    @Test
+    public void testLargeRandomListWithSmallThresholds() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SortAlgorithm<Integer> sorter = new ParallelMergeSort<>(pool, 64, 8);
+            Random random = new Random(1);
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < 50_000; i++) {
+                list.add(random.nextInt(1000));
+            }
+            List<Integer> expected = new ArrayList<>(list);
+            expected.sort(null);
+
+            sorter.sort(list);
+            assertEquals("Large random list should be sorted correctly", expected, list);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testStability() {
+        SortAlgorithm<Tagged> sorter = new ParallelMergeSort<>(ForkJoinPool.commonPool(), 64, 8);
+        Random random = new Random(2);
+        List<Tagged> list = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            list.add(new Tagged(random.nextInt(50), i));
+        }
+
+        sorter.sort(list);
+        for (int i = 1; i < list.size(); i++) {
+            Tagged prev = list.get(i - 1);
+            Tagged curr = list.get(i);
+            assertTrue("List should be sorted by key", prev.key <= curr.key);
+            if (prev.key == curr.key) {
+                assertTrue("Equal keys should keep their original order", prev.tag < curr.tag);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        new ParallelMergeSort<Integer>(ForkJoinPool.commonPool(), 0, 16);
+    }
+
+    /**
+     * Element compared only by key, carrying its original position as tag.
+     */
+    private static final class Tagged implements Comparable<Tagged> {
+        final int key;
+        final int tag;
+
+        Tagged(int key, int tag) {
+            this.key = key;
+            this.tag = tag;
+        }
+
+        @Override
+        public int compareTo(Tagged other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
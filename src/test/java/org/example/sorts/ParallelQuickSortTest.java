@@ -0,0 +1,124 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for ParallelQuickSort that verifies it complies with the SortAlgorithm contract.
+ */
+public class ParallelQuickSortTest extends SortAlgorithmContract {
+
+    @Override
+    protected <T extends Comparable<T>> SortAlgorithm<T> createSortAlgorithm() {
+        return new ParallelQuickSort<>();
+    }
+
+    @Test
+    public void testLargeListWithFewDistinctValues() {
+        try (ParallelQuickSort<Integer> sorter = new ParallelQuickSort<>(4, 256)) {
+            sortFewDistinctValues(sorter);
+        }
+    }
+
+    private static void sortFewDistinctValues(SortAlgorithm<Integer> sorter) {
+        Random random = new Random(1);
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(random.nextInt(10));
+        }
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        sorter.sort(list);
+        assertEquals("List with few distinct values should be sorted correctly", expected, list);
+    }
+
+    @Test
+    public void testLargeSortedAndReversedLists() {
+        try (ParallelQuickSort<Integer> sorter = new ParallelQuickSort<>(4, 256)) {
+            sortSortedAndReversed(sorter);
+        }
+    }
+
+    private static void sortSortedAndReversed(SortAlgorithm<Integer> sorter) {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            expected.add(i);
+        }
+
+        List<Integer> sorted = new ArrayList<>(expected);
+        sorter.sort(sorted);
+        assertEquals("Large sorted list should remain sorted", expected, sorted);
+
+        List<Integer> reversed = new ArrayList<>(expected);
+        Collections.reverse(reversed);
+        sorter.sort(reversed);
+        assertEquals("Large reversed list should be sorted correctly", expected, reversed);
+    }
+
+    @Test
+    public void testKnobs() {
+        try (ParallelQuickSort<Integer> sorter = new ParallelQuickSort<>(3, 1000)) {
+            assertEquals(3, sorter.getParallelism());
+            assertEquals(1000, sorter.getSequentialThreshold());
+        }
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testCloseShutsDownOwnedPool() {
+        ParallelQuickSort<Integer> sorter = new ParallelQuickSort<>(2, 256);
+        sorter.close();
+        // Larger than the sequential threshold, so the work has to go to the pool
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(1000 - i);
+        }
+        sorter.sort(list);
+    }
+
+    @Test
+    public void testListBelowThresholdSortsOnCallingThread() {
+        try (ParallelQuickSort<Integer> sorter = new ParallelQuickSort<>(2, 256)) {
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                list.add((i * 37) % 200);
+            }
+            Thread caller = Thread.currentThread();
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            sorter.sort(list, (x, y) -> {
+                threads.add(Thread.currentThread());
+                return Integer.compare(x, y);
+            });
+            for (int i = 0; i < 200; i++) {
+                assertEquals(i, (int) list.get(i));
+            }
+            assertEquals(Set.of(caller), threads);
+        }
+    }
+
+    @Test
+    public void testCloseLeavesCallerPoolOpen() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            new ParallelQuickSort<Integer>(pool, 256).close();
+            assertFalse("A pool passed by the caller should stay open", pool.isShutdown());
+            new ParallelQuickSort<Integer>().close();
+            assertFalse(ForkJoinPool.commonPool().isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        new ParallelQuickSort<Integer>(0, 1000);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.sorts;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for ParallelRadixSort.
+ * A small sequential threshold is used so the parallel path is exercised.
+ */
+public class ParallelRadixSortTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    private ParallelRadixSort createSorter() {
+        return new ParallelRadixSort(POOL, 16);
+    }
+
+    @Test
+    public void testEmptyList() {
+        List<Integer> list = new ArrayList<>();
+        createSorter().sort(list);
+        assertTrue("Empty list should remain empty", list.isEmpty());
+    }
+
+    @Test
+    public void testReverseSorted() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(5, 4, 3, 2, 1));
+        createSorter().sort(list);
+        assertEquals("Reverse sorted list should be sorted correctly", Arrays.asList(1, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    public void testAllSameElements() {
+        int[] a = new int[1000];
+        Arrays.fill(a, 7);
+        createSorter().sort(a);
+        for (int value : a) {
+            assertEquals("Array with all same elements should remain unchanged", 7, value);
+        }
+    }
+
+    @Test
+    public void testSmallDomain() {
+        int[] a = new Random(1).ints(100_000, 0, 10_000).toArray();
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        createSorter().sort(a);
+        assertArrayEquals("Values from a small domain should be sorted correctly", expected, a);
+    }
+
+    @Test
+    public void testFullIntRange() {
+        int[] a = new Random(2).ints(100_000).toArray();
+        a[0] = Integer.MIN_VALUE;
+        a[1] = Integer.MAX_VALUE;
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        createSorter().sort(a);
+        assertArrayEquals("Values from the full int range should be sorted correctly", expected, a);
+    }
+
+    @Test
+    public void testSubRange() {
+        int[] a = new Random(3).ints(10_000, -500, 500).toArray();
+        int[] expected = a.clone();
+        Arrays.sort(expected, 100, 9_900);
+        createSorter().sort(a, 100, 9_900);
+        assertArrayEquals("Only the requested range should be sorted", expected, a);
+    }
+
+    @Test
+    public void testIntArrayList() {
+        IntArrayList list = new IntArrayList(new int[]{170, -45, 75, -90, 802, 24, 2, 66});
+        createSorter().sort(list);
+        assertEquals("Array-backed list should be sorted correctly",
+                     Arrays.asList(-90, -45, 2, 24, 66, 75, 170, 802), list);
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testCloseShutsDownOwnedPool() {
+        ParallelRadixSort sorter = new ParallelRadixSort(2);
+        sorter.close();
+        sorter.sort(new Random(1).ints(ParallelRadixSort.DEFAULT_SEQUENTIAL_THRESHOLD).toArray());
+    }
+
+    @Test
+    public void testCloseLeavesCallerPoolOpen() {
+        createSorter().close();
+        assertFalse("A pool passed by the caller should stay open", POOL.isShutdown());
+        int[] values = new Random(2).ints(1_000).toArray();
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        createSorter().sort(values);
+        assertArrayEquals(expected, values);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.sorts;
+
+/**
+ * Test suite for PrimitiveInsertionSort that verifies it complies with the PrimitiveSortContract.
+ */
+public class PrimitiveInsertionSortTest extends PrimitiveSortContract {
+
+    @Override
+    protected IntSortAlgorithm createIntSorter() {
+        return new PrimitiveInsertionSort();
+    }
+
+    @Override
+    protected LongSortAlgorithm createLongSorter() {
+        return new PrimitiveInsertionSort();
+    }
+
+    @Override
+    protected DoubleSortAlgorithm createDoubleSorter() {
+        return new PrimitiveInsertionSort();
+    }
+}
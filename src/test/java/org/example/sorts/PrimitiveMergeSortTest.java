@@ -0,0 +1,22 @@
+package org.example.sorts;
+
+/**
+ * Test suite for PrimitiveMergeSort that verifies it complies with the PrimitiveSortContract.
+ */
+public class PrimitiveMergeSortTest extends PrimitiveSortContract {
+
+    @Override
+    protected IntSortAlgorithm createIntSorter() {
+        return new PrimitiveMergeSort();
+    }
+
+    @Override
+    protected LongSortAlgorithm createLongSorter() {
+        return new PrimitiveMergeSort();
+    }
+
+    @Override
+    protected DoubleSortAlgorithm createDoubleSorter() {
+        return new PrimitiveMergeSort();
+    }
+}
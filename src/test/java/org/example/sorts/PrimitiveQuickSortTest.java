@@ -0,0 +1,22 @@
+package org.example.sorts;
+
+/**
+ * Test suite for PrimitiveQuickSort that verifies it complies with the PrimitiveSortContract.
+ */
+public class PrimitiveQuickSortTest extends PrimitiveSortContract {
+
+    @Override
+    protected IntSortAlgorithm createIntSorter() {
+        return new PrimitiveQuickSort();
+    }
+
+    @Override
+    protected LongSortAlgorithm createLongSorter() {
+        return new PrimitiveQuickSort();
+    }
+
+    @Override
+    protected DoubleSortAlgorithm createDoubleSorter() {
+        return new PrimitiveQuickSort();
+    }
+}
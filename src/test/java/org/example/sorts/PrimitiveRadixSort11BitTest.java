@@ -0,0 +1,51 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for PrimitiveRadixSort configured with 11-bit digits.
+ */
+public class PrimitiveRadixSort11BitTest extends PrimitiveSortContract {
+
+    @Override
+    protected IntSortAlgorithm createIntSorter() {
+        return new PrimitiveRadixSort(11);
+    }
+
+    @Override
+    protected LongSortAlgorithm createLongSorter() {
+        return new PrimitiveRadixSort(11);
+    }
+
+    @Override
+    protected DoubleSortAlgorithm createDoubleSorter() {
+        return new PrimitiveRadixSort(11);
+    }
+
+    @Test
+    public void testReusedScratchBuffer() {
+        PrimitiveRadixSort sorter = new PrimitiveRadixSort(11);
+        int[] scratch = new int[1000];
+        Random random = new Random(9);
+        for (int round = 0; round < 5; round++) {
+            int[] a = random.ints(1000).toArray();
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            sorter.sort(a, 0, a.length, scratch);
+            assertArrayEquals("Array should be sorted when reusing the scratch buffer", expected, a);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testScratchBufferTooSmall() {
+        new PrimitiveRadixSort().sort(new int[]{3, 2, 1}, 0, 3, new int[2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDigitBits() {
+        new PrimitiveRadixSort(0);
+    }
+}
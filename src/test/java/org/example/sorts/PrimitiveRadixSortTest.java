@@ -0,0 +1,22 @@
+package org.example.sorts;
+
+/**
+ * Test suite for PrimitiveRadixSort that verifies it complies with the PrimitiveSortContract.
+ */
+public class PrimitiveRadixSortTest extends PrimitiveSortContract {
+
+    @Override
+    protected IntSortAlgorithm createIntSorter() {
+        return new PrimitiveRadixSort();
+    }
+
+    @Override
+    protected LongSortAlgorithm createLongSorter() {
+        return new PrimitiveRadixSort();
+    }
+
+    @Override
+    protected DoubleSortAlgorithm createDoubleSorter() {
+        return new PrimitiveRadixSort();
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Contract test that defines the expected behavior for the primitive sort algorithms
+ * (IntSortAlgorithm, LongSortAlgorithm and DoubleSortAlgorithm).
+ */
+public abstract class PrimitiveSortContract {
+
+    /**
+     * Subclasses must provide the specific int[] implementation to test
+     */
+    protected abstract IntSortAlgorithm createIntSorter();
+
+    /**
+     * Subclasses must provide the specific long[] implementation to test
+     */
+    protected abstract LongSortAlgorithm createLongSorter();
+
+    /**
+     * Subclasses must provide the specific double[] implementation to test
+     */
+    protected abstract DoubleSortAlgorithm createDoubleSorter();
+
+    @Test
+    public void testEmptyArray() {
+        int[] a = new int[0];
+        createIntSorter().sort(a);
+        assertEquals("Empty array should remain empty", 0, a.length);
+    }
+
+    @Test
+    public void testSingleElement() {
+        int[] a = {42};
+        createIntSorter().sort(a);
+        assertArrayEquals("Single element array should remain unchanged", new int[]{42}, a);
+    }
+
+    @Test
+    public void testReverseSorted() {
+        int[] a = {5, 4, 3, 2, 1};
+        createIntSorter().sort(a);
+        assertArrayEquals("Reverse sorted array should be sorted correctly", new int[]{1, 2, 3, 4, 5}, a);
+    }
+
+    @Test
+    public void testNegativeNumbers() {
+        int[] a = {-5, 3, -1, 0, 8, -3, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        createIntSorter().sort(a);
+        assertArrayEquals("Array with negative numbers should be sorted correctly",
+                          new int[]{Integer.MIN_VALUE, -5, -3, -1, 0, 3, 8, Integer.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void testSubRange() {
+        int[] a = {9, 8, 5, 4, 3, 2, 1, 0};
+        createIntSorter().sort(a, 2, 6);
+        assertArrayEquals("Only the requested range should be sorted",
+                          new int[]{9, 8, 2, 3, 4, 5, 1, 0}, a);
+    }
+
+    @Test
+    public void testLargeRandomIntArray() {
+        int[] a = new Random(7).ints(5000, -10000, 10000).toArray();
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        createIntSorter().sort(a);
+        assertArrayEquals("Large random array should be sorted correctly", expected, a);
+    }
+
+    @Test
+    public void testManyDuplicates() {
+        int[] a = new Random(11).ints(5000, 0, 4).toArray();
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        createIntSorter().sort(a);
+        assertArrayEquals("Array with many duplicates should be sorted correctly", expected, a);
+    }
+
+    @Test
+    public void testLongArray() {
+        long[] a = new Random(3).longs(3000).toArray();
+        long[] expected = a.clone();
+        Arrays.sort(expected);
+        createLongSorter().sort(a);
+        assertArrayEquals("Random long array should be sorted correctly", expected, a);
+    }
+
+    @Test
+    public void testDoubleArray() {
+        double[] a = new Random(5).doubles(3000, -1e6, 1e6).toArray();
+        a[0] = Double.NEGATIVE_INFINITY;
+        a[1] = Double.POSITIVE_INFINITY;
+        a[2] = 0.0;
+        double[] expected = a.clone();
+        Arrays.sort(expected);
+        createDoubleSorter().sort(a);
+        assertArrayEquals("Random double array should be sorted correctly", expected, a, 0.0);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.sorts;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for QuickSelect that verifies it complies with the SelectionAlgorithm contract.
+ */
+public class QuickSelectTest extends SelectionAlgorithmContract {
+
+    @Override
+    protected <T extends Comparable<T>> SelectionAlgorithm<T> createSelectionAlgorithm() {
+        return new QuickSelect<>();
+    }
+
+    /**
+     * Lomuto partitioning only removes the pivot from an all-equal range, so
+     * the fallback must start as soon as the range stops halving instead of
+     * after 2·log2(n) partitions of almost the whole range.
+     */
+    @Test
+    public void testAllEqualInputUsesLinearComparisons() {
+        int n = 100_000;
+        List<Integer> list = new ArrayList<>(Collections.nCopies(n, 7));
+        long[] comparisons = new long[1];
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons[0]++;
+            return a.compareTo(b);
+        };
+
+        assertEquals(Integer.valueOf(7), new QuickSelect<Integer>().select(list, n / 2, counting));
+        assertTrue("Expected O(n) comparisons, got " + comparisons[0], comparisons[0] < 12L * n);
+    }
+}
@@ -8,7 +8,7 @@ import static org.junit.Assert.*;
 
 /**
  * Test suite for RadixSort.
- * Note: RadixSort only works with positive integers, so tests are tailored accordingly.
+ * Note: RadixSort only sorts integers, so there is no String test.
  */
 public class RadixSortTest {
 
@@ -103,4 +103,22 @@ public class RadixSortTest {
                         Integer.valueOf(i + 1), list.get(i));
         }
     }
+
+    @Test
+    public void testIntArrayListWithNegatives() {
+        RadixSort sorter = new RadixSort();
+        IntArrayList list = new IntArrayList(new int[]{170, -45, 75, -90, 802, 24, 2, 66});
+        sorter.sort(list);
+        assertEquals("Array-backed list should be sorted with the primitive path",
+                     Arrays.asList(-90, -45, 2, 24, 66, 75, 170, 802), list);
+    }
+
+    @Test
+    public void testNegativeNumbers() {
+        RadixSort sorter = new RadixSort();
+        List<Integer> list = new ArrayList<>(Arrays.asList(-5, 3, -1, 0, 8, -3, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        sorter.sort(list);
+        assertEquals("List with negative numbers should be sorted correctly",
+                     Arrays.asList(Integer.MIN_VALUE, -5, -3, -1, 0, 3, 8, Integer.MAX_VALUE), list);
+    }
 }
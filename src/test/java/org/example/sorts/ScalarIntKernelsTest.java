@@ -0,0 +1,12 @@
+package org.example.sorts;
+
+/**
+ * Test suite for ScalarIntKernels that verifies it complies with the IntKernels contract.
+ */
+public class ScalarIntKernelsTest extends IntKernelsContract {
+
+    @Override
+    protected IntKernels createKernels() {
+        return new ScalarIntKernels();
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Contract test that defines the expected behavior for all SegmentIntSortAlgorithm implementations.
+ * Data lives in native segments allocated from a confined arena.
+ */
+public abstract class SegmentIntSortContract {
+
+    /**
+     * Subclasses must provide the specific SegmentIntSortAlgorithm implementation to test
+     */
+    protected abstract SegmentIntSortAlgorithm createSortAlgorithm();
+
+    private int[] sortSegment(int[] values, long from, long to) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate((long) values.length * Integer.BYTES, Integer.BYTES);
+            for (int i = 0; i < values.length; i++) {
+                segment.setAtIndex(SegmentIntSortAlgorithm.LAYOUT, i, values[i]);
+            }
+            createSortAlgorithm().sort(segment, from, to);
+            int[] result = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = segment.getAtIndex(SegmentIntSortAlgorithm.LAYOUT, i);
+            }
+            return result;
+        }
+    }
+
+    private void assertSorts(int[] values) {
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sortSegment(values, 0, values.length));
+    }
+
+    @Test
+    public void testEmptyAndSingleElement() {
+        assertSorts(new int[0]);
+        assertSorts(new int[] {42});
+    }
+
+    @Test
+    public void testSmallArrays() {
+        assertSorts(new int[] {5, 4, 3, 2, 1});
+        assertSorts(new int[] {3, 1, 4, 1, 5, 9, 2, 6, 5});
+        assertSorts(new int[] {-5, 3, -1, 0, 8, -3});
+    }
+
+    @Test
+    public void testExtremeValues() {
+        assertSorts(new int[] {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1, Integer.MIN_VALUE, Integer.MAX_VALUE});
+    }
+
+    @Test
+    public void testLargeRandomArray() {
+        Random random = new Random(1);
+        int[] values = new int[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+        assertSorts(values);
+    }
+
+    @Test
+    public void testManyDuplicates() {
+        Random random = new Random(2);
+        int[] values = new int[50_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(4);
+        }
+        assertSorts(values);
+    }
+
+    @Test
+    public void testSortedAndReversed() {
+        int[] sorted = new int[20_000];
+        int[] reversed = new int[20_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i - 10_000;
+            reversed[i] = 10_000 - i;
+        }
+        assertSorts(sorted);
+        assertSorts(reversed);
+    }
+
+    @Test
+    public void testSubRangeLeavesRestUntouched() {
+        int[] values = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        assertArrayEquals(new int[] {9, 8, 4, 5, 6, 7, 3, 2, 1, 0}, sortSegment(values, 2, 6));
+    }
+}
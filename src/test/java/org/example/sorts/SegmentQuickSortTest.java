@@ -0,0 +1,39 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.Arrays;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for SegmentQuickSort that verifies it complies with the SegmentIntSortAlgorithm contract.
+ * An extra test uses an organ-pipe input, a classic bad case for median-of-three pivots.
+ */
+public class SegmentQuickSortTest extends SegmentIntSortContract {
+
+    @Override
+    protected SegmentIntSortAlgorithm createSortAlgorithm() {
+        return new SegmentQuickSort();
+    }
+
+    @Test
+    public void testOrganPipe() {
+        int n = 100_000;
+        int[] expected = new int[n];
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate((long) n * Integer.BYTES, Integer.BYTES);
+            for (int i = 0; i < n; i++) {
+                int value = i < n / 2 ? i : n - i;
+                expected[i] = value;
+                segment.setAtIndex(SegmentIntSortAlgorithm.LAYOUT, i, value);
+            }
+            Arrays.sort(expected);
+
+            new SegmentQuickSort().sort(segment);
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[i], segment.getAtIndex(SegmentIntSortAlgorithm.LAYOUT, i));
+            }
+        }
+    }
+}
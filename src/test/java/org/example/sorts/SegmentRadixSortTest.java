@@ -0,0 +1,25 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Test suite for SegmentRadixSort that verifies it complies with the SegmentIntSortAlgorithm contract.
+ */
+public class SegmentRadixSortTest extends SegmentIntSortContract {
+
+    @Override
+    protected SegmentIntSortAlgorithm createSortAlgorithm() {
+        return new SegmentRadixSort();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testScratchTooSmallIsRejected() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(10L * Integer.BYTES, Integer.BYTES);
+            MemorySegment scratch = arena.allocate(4L * Integer.BYTES, Integer.BYTES);
+            new SegmentRadixSort().sort(segment, 0, 10, scratch);
+        }
+    }
+}
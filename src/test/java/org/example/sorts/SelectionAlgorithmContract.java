@@ -0,0 +1,165 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Contract test that defines the expected behavior for all SelectionAlgorithm implementations.
+ * Any class implementing SelectionAlgorithm should pass all these tests.
+ */
+public abstract class SelectionAlgorithmContract {
+
+    /**
+     * Subclasses must provide the specific SelectionAlgorithm implementation to test
+     */
+    protected abstract <T extends Comparable<T>> SelectionAlgorithm<T> createSelectionAlgorithm();
+
+    private static List<Integer> randomList(int size, int bound, long seed) {
+        Random random = new Random(seed);
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(bound) - bound / 2);
+        }
+        return list;
+    }
+
+    private static void assertPartitionedAt(List<Integer> list, int k) {
+        Integer pivot = list.get(k);
+        for (int i = 0; i < k; i++) {
+            assertTrue("Elements before k should not be greater", list.get(i) <= pivot);
+        }
+        for (int i = k + 1; i < list.size(); i++) {
+            assertTrue("Elements after k should not be smaller", list.get(i) >= pivot);
+        }
+    }
+
+    @Test
+    public void testSelectSingleElement() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        List<Integer> list = new ArrayList<>(Arrays.asList(42));
+        assertEquals(Integer.valueOf(42), selector.select(list, 0));
+    }
+
+    @Test
+    public void testSelectEveryRankOfSmallList() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        List<Integer> original = Arrays.asList(5, 2, 8, 1, 9, 3, 7, 4, 6, 0);
+        for (int k = 0; k < original.size(); k++) {
+            List<Integer> list = new ArrayList<>(original);
+            assertEquals("Rank " + k, Integer.valueOf(k), selector.select(list, k));
+            assertPartitionedAt(list, k);
+        }
+    }
+
+    @Test
+    public void testSelectLargeRandomList() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        List<Integer> original = randomList(20_000, 1_000_000, 1);
+        List<Integer> sorted = new ArrayList<>(original);
+        Collections.sort(sorted);
+
+        for (int k : new int[] {0, 1, 137, 9_999, 10_000, 19_998, 19_999}) {
+            List<Integer> list = new ArrayList<>(original);
+            assertEquals("Rank " + k, sorted.get(k), selector.select(list, k));
+            assertPartitionedAt(list, k);
+
+            List<Integer> permutation = new ArrayList<>(list);
+            Collections.sort(permutation);
+            assertEquals("Selection should only reorder the list", sorted, permutation);
+        }
+    }
+
+    @Test
+    public void testSelectWithDuplicates() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        List<Integer> original = randomList(5_000, 4, 2);
+        List<Integer> sorted = new ArrayList<>(original);
+        Collections.sort(sorted);
+
+        List<Integer> list = new ArrayList<>(original);
+        assertEquals(sorted.get(2_500), selector.select(list, 2_500));
+        assertPartitionedAt(list, 2_500);
+    }
+
+    @Test
+    public void testSelectAllEqual() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        List<Integer> list = new ArrayList<>(Collections.nCopies(50_000, 7));
+        assertEquals(Integer.valueOf(7), selector.select(list, 25_000));
+    }
+
+    @Test
+    public void testSelectSortedAndReversed() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        List<Integer> ascending = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ascending.add(i);
+        }
+        List<Integer> descending = new ArrayList<>(ascending);
+        Collections.reverse(descending);
+
+        assertEquals(Integer.valueOf(1234), selector.select(ascending, 1234));
+        assertEquals(Integer.valueOf(8765), selector.select(descending, 8765));
+    }
+
+    @Test
+    public void testSelectStrings() {
+        SelectionAlgorithm<String> selector = createSelectionAlgorithm();
+        List<String> list = new ArrayList<>(Arrays.asList("pear", "apple", "fig", "banana", "cherry"));
+        assertEquals("cherry", selector.select(list, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelectRankTooLarge() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        selector.select(new ArrayList<>(Arrays.asList(1, 2, 3)), 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelectEmptyList() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        selector.select(new ArrayList<>(), 0);
+    }
+
+    @Test
+    public void testPartialSort() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        List<Integer> original = randomList(10_000, 100_000, 3);
+        List<Integer> sorted = new ArrayList<>(original);
+        Collections.sort(sorted);
+
+        List<Integer> list = new ArrayList<>(original);
+        selector.partialSort(list, 100);
+        assertEquals("Prefix should hold the smallest elements in order", sorted.subList(0, 100), list.subList(0, 100));
+
+        Collections.sort(list);
+        assertEquals("Partial sort should only reorder the list", sorted, list);
+    }
+
+    @Test
+    public void testPartialSortWholeList() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        List<Integer> list = new ArrayList<>(Arrays.asList(3, 1, 2));
+        selector.partialSort(list, 3);
+        assertEquals(Arrays.asList(1, 2, 3), list);
+    }
+
+    @Test
+    public void testPartialSortZero() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        List<Integer> list = new ArrayList<>(Arrays.asList(3, 1, 2));
+        selector.partialSort(list, 0);
+        assertEquals(Arrays.asList(3, 1, 2), list);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPartialSortTooMany() {
+        SelectionAlgorithm<Integer> selector = createSelectionAlgorithm();
+        selector.partialSort(new ArrayList<>(Arrays.asList(3, 1, 2)), 4);
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for SimdQuickSort with both the best available kernels and the scalar fallback.
+ */
+public class SimdQuickSortTest {
+
+    private static void assertSorts(IntSortAlgorithm sorter, int[] a) {
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        sorter.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    private static void assertSortsInputs(IntKernels kernels, int cutoff) {
+        SimdQuickSort sorter = new SimdQuickSort(kernels, cutoff);
+        Random random = new Random(cutoff);
+        assertSorts(sorter, new int[0]);
+        assertSorts(sorter, new int[] {42});
+        assertSorts(sorter, random.ints(10_000).toArray());
+        assertSorts(sorter, random.ints(10_000, 0, 5).toArray());
+        assertSorts(sorter, new int[3000]);
+
+        int[] organPipe = new int[5000];
+        for (int i = 0; i < organPipe.length; i++) {
+            organPipe[i] = Math.min(i, organPipe.length - i);
+        }
+        assertSorts(sorter, organPipe);
+
+        int[] extremes = new int[2000];
+        for (int i = 0; i < extremes.length; i++) {
+            extremes[i] = random.nextBoolean() ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        }
+        assertSorts(sorter, extremes);
+    }
+
+    @Test
+    public void testBestKernelsEveryCutoff() {
+        IntKernels kernels = IntKernels.best();
+        for (int cutoff = 1; cutoff <= kernels.maxBlock(); cutoff++) {
+            assertSortsInputs(kernels, cutoff);
+        }
+    }
+
+    @Test
+    public void testScalarKernels() {
+        assertSortsInputs(new ScalarIntKernels(), ScalarIntKernels.MAX_BLOCK);
+    }
+
+    @Test
+    public void testSubRange() {
+        int[] a = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        new SimdQuickSort().sort(a, 2, 6);
+        assertArrayEquals(new int[] {9, 8, 4, 5, 6, 7, 3, 2, 1, 0}, a);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCutoffAboveMaxBlockIsRejected() {
+        new SimdQuickSort(new ScalarIntKernels(), ScalarIntKernels.MAX_BLOCK + 1);
+    }
+
+    /**
+     * Kernels that partition correctly but then move the three smallest values of each side
+     * to the positions sampled by the median of three, so every partition peels off a
+     * single element.
+     */
+    private static final class AdversarialKernels implements IntKernels {
+        private final IntKernels delegate = new ScalarIntKernels();
+        private int partitions;
+
+        @Override
+        public int maxBlock() {
+            return delegate.maxBlock();
+        }
+
+        @Override
+        public void sortSmall(int[] a, int from, int to) {
+            delegate.sortSmall(a, from, to);
+        }
+
+        @Override
+        public int partition(int[] a, int from, int to, int pivot) {
+            partitions++;
+            int split = delegate.partition(a, from, to, pivot);
+            spoil(a, from, split);
+            spoil(a, split, to);
+            return split;
+        }
+
+        private static void spoil(int[] a, int from, int to) {
+            if (to - from < 3) return;
+            int[] slots = {from, from + (to - from) / 2, to - 1};
+            for (int k = 0; k < 3; k++) {
+                int min = -1;
+                for (int i = from; i < to; i++) {
+                    if (!isSlotBefore(slots, k, i) && (min < 0 || a[i] < a[min])) {
+                        min = i;
+                    }
+                }
+                int tmp = a[slots[k]];
+                a[slots[k]] = a[min];
+                a[min] = tmp;
+            }
+        }
+
+        private static boolean isSlotBefore(int[] slots, int k, int i) {
+            for (int j = 0; j < k; j++) {
+                if (slots[j] == i) return true;
+            }
+            return false;
+        }
+    }
+
+    @Test
+    public void testAdversarialPartitionsFallBackToHeapSort() {
+        int n = 1 << 14;
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = i;
+        }
+        Random random = new Random(7);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+        AdversarialKernels.spoil(a, 0, n);
+
+        AdversarialKernels kernels = new AdversarialKernels();
+        assertSorts(new SimdQuickSort(kernels), a);
+        assertTrue("partitions: " + kernels.partitions, kernels.partitions <= 2 * 14);
+    }
+}
@@ -1,9 +1,13 @@
 package org.example.sorts;
 
+import org.junit.Assume;
 import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 import static org.junit.Assert.*;
 
 /**
@@ -117,4 +121,153 @@ public abstract class SortAlgorithmContract {
                         Integer.valueOf(i + 1), list.get(i));
         }
     }
+
+    @Test
+    public void testIntArrayList() {
+        SortAlgorithm<Integer> sorter = createSortAlgorithm();
+        IntArrayList list = new IntArrayList(new int[]{64, -34, 25, 12, 22, -11, 90});
+        sorter.sort(list);
+        assertEquals("Array-backed Integer list should be sorted correctly",
+                     Arrays.asList(-34, -11, 12, 22, 25, 64, 90), list);
+    }
+
+    @Test
+    public void testComparatorReverseOrder() {
+        SortAlgorithm<Integer> sorter = createSortAlgorithm();
+        List<Integer> list = new ArrayList<>(Arrays.asList(64, -34, 25, 12, 22, -11, 90));
+        sorter.sort(list, Comparator.reverseOrder());
+        assertEquals("List should be sorted in descending order",
+                     Arrays.asList(90, 64, 25, 22, 12, -11, -34), list);
+    }
+
+    @Test
+    public void testComparatorOnRecordsWithoutNaturalOrder() {
+        SortAlgorithm<Integer> sorter = createSortAlgorithm();
+        Random random = new Random(7);
+        List<Point> list = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            list.add(new Point(random.nextInt(50), random.nextInt(1000)));
+        }
+        Comparator<Point> byXThenY = Comparator.comparingInt(Point::x).thenComparingInt(Point::y);
+        List<Point> expected = new ArrayList<>(list);
+        expected.sort(byXThenY);
+
+        sorter.sort(list, byXThenY);
+        assertEquals("Records should be sorted by the comparator", expected, list);
+    }
+
+    @Test
+    public void testCapabilitiesDeclared() {
+        SortCapabilities capabilities = createSortAlgorithm().capabilities();
+        assertNotNull("Every algorithm should declare its capabilities", capabilities);
+        assertTrue("Every algorithm should accept Comparable elements",
+                   capabilities.supports(SortCapabilities.KeyType.COMPARABLE));
+        assertTrue("Every algorithm should accept a Comparator",
+                   capabilities.supports(SortCapabilities.KeyType.COMPARATOR));
+    }
+
+    @Test
+    public void testIntKeyWhenDeclaredUsesPrimitivePath() {
+        SortAlgorithm<Integer> sorter = createSortAlgorithm();
+        Assume.assumeTrue(sorter.capabilities().supports(SortCapabilities.KeyType.INT));
+
+        for (int size : new int[] {10, 100, 5000}) {
+            Random random = new Random(size);
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(2 * size) - size;
+            }
+            BoxCountingIntList list = new BoxCountingIntList(values.clone());
+            sorter.sort(list);
+
+            Arrays.sort(values);
+            assertArrayEquals(values, list.toIntArray());
+            assertEquals("KeyType.INT means the int[] is sorted without boxing", 0, list.boxedAccesses);
+        }
+    }
+
+    /**
+     * IntArrayList that counts the calls to its boxed accessors, which a
+     * primitive fast path never makes.
+     */
+    private static final class BoxCountingIntList extends IntArrayList {
+        int boxedAccesses;
+
+        BoxCountingIntList(int[] elements) {
+            super(elements);
+        }
+
+        @Override
+        public Integer get(int index) {
+            boxedAccesses++;
+            return super.get(index);
+        }
+
+        @Override
+        public Integer set(int index, Integer value) {
+            boxedAccesses++;
+            return super.set(index, value);
+        }
+    }
+
+    @Test
+    public void testStabilityWhenDeclaredStable() {
+        SortAlgorithm<Tagged> sorter = createSortAlgorithm();
+        Assume.assumeTrue(sorter.capabilities().stable());
+
+        for (int size : new int[] {10, 100, 2000}) {
+            List<Tagged> list = taggedRecords(size, size / 10 + 1);
+            sorter.sort(list);
+            assertStable(list);
+
+            list = taggedRecords(size, size / 10 + 1);
+            sorter.sort(list, Comparator.comparingInt(Tagged::key).reversed());
+            Collections.reverse(list);
+            for (int i = 1; i < list.size(); i++) {
+                // After reversing, equal keys appear in descending tag order
+                Tagged prev = list.get(i - 1);
+                Tagged curr = list.get(i);
+                assertTrue("List should be sorted by key", prev.key() <= curr.key());
+                if (prev.key() == curr.key()) {
+                    assertTrue("Equal keys should keep their original order", prev.tag() > curr.tag());
+                }
+            }
+        }
+    }
+
+    private static List<Tagged> taggedRecords(int size, int distinctKeys) {
+        Random random = new Random(size);
+        List<Tagged> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(new Tagged(random.nextInt(distinctKeys), i));
+        }
+        return list;
+    }
+
+    private static void assertStable(List<Tagged> list) {
+        for (int i = 1; i < list.size(); i++) {
+            Tagged prev = list.get(i - 1);
+            Tagged curr = list.get(i);
+            assertTrue("List should be sorted by key", prev.key() <= curr.key());
+            if (prev.key() == curr.key()) {
+                assertTrue("Equal keys should keep their original order", prev.tag() < curr.tag());
+            }
+        }
+    }
+
+    /**
+     * Record ordered by key only; the tag records the original position.
+     */
+    private record Tagged(int key, int tag) implements Comparable<Tagged> {
+        @Override
+        public int compareTo(Tagged other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
+    /**
+     * Record that does not implement Comparable.
+     */
+    private record Point(int x, int y) {
+    }
 }
@@ -0,0 +1,80 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for StableSort that verifies it complies with the SortAlgorithm contract.
+ * Extra tests cover each branch of the selection (radix, insertion, natural merge, parallel merge).
+ */
+public class StableSortTest extends SortAlgorithmContract {
+
+    @Override
+    protected <T extends Comparable<T>> SortAlgorithm<T> createSortAlgorithm() {
+        return new StableSort<>();
+    }
+
+    @Test
+    public void testFastestStableIsStable() {
+        SortAlgorithm<Integer> sorter = SortAlgorithm.fastestStable();
+        assertTrue("The default stable algorithm should declare stability", sorter.capabilities().stable());
+    }
+
+    @Test
+    public void testLargeIntegerListUsesRadix() {
+        Random random = new Random(3);
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(random.nextInt());
+        }
+        List<Integer> expected = new ArrayList<>(list);
+        expected.sort(null);
+
+        new StableSort<Integer>().sort(list);
+        assertEquals("Large integer list should be sorted correctly", expected, list);
+    }
+
+    @Test
+    public void testIntArrayList() {
+        IntArrayList list = new IntArrayList(new int[] {5, -2, 9, 0, -2, 7});
+        new StableSort<Integer>().sort(list);
+        assertEquals(List.of(-2, -2, 0, 5, 7, 9), list);
+    }
+
+    @Test
+    public void testLargeListInParallelIsStable() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            StableSort<Integer> sorter = new StableSort<>(pool);
+            assertTrue(sorter.capabilities().parallel());
+
+            Random random = new Random(4);
+            List<long[]> list = new ArrayList<>();
+            for (int i = 0; i < StableSort.PARALLEL_MIN + 100; i++) {
+                list.add(new long[] {random.nextInt(100), i});
+            }
+
+            sorter.sort(list, Comparator.comparingLong(pair -> pair[0]));
+            for (int i = 1; i < list.size(); i++) {
+                long[] prev = list.get(i - 1);
+                long[] curr = list.get(i);
+                assertTrue("List should be sorted by key", prev[0] <= curr[0]);
+                if (prev[0] == curr[0]) {
+                    assertTrue("Equal keys should keep their original order", prev[1] < curr[1]);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullPoolIsRejected() {
+        new StableSort<Integer>(null);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.sorts;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for the streaming TopK selection.
+ */
+public class TopKTest {
+
+    @Test
+    public void testSmallest() {
+        List<Integer> list = Arrays.asList(5, 2, 8, 1, 9, 3, 7);
+        assertEquals(Arrays.asList(1, 2, 3), TopK.smallest(list.iterator(), 3));
+    }
+
+    @Test
+    public void testLargest() {
+        List<Integer> list = Arrays.asList(5, 2, 8, 1, 9, 3, 7);
+        assertEquals(Arrays.asList(9, 8, 7), TopK.largest(list.iterator(), 3));
+    }
+
+    @Test
+    public void testKLargerThanInput() {
+        List<Integer> list = Arrays.asList(3, 1, 2);
+        assertEquals(Arrays.asList(1, 2, 3), TopK.smallest(list.iterator(), Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testZero() {
+        assertTrue(TopK.smallest(Arrays.asList(3, 1, 2).iterator(), 0).isEmpty());
+    }
+
+    @Test
+    public void testEmptyInput() {
+        assertTrue(TopK.largest(Collections.<Integer>emptyIterator(), 5).isEmpty());
+    }
+
+    @Test
+    public void testDuplicates() {
+        List<Integer> list = Arrays.asList(4, 1, 4, 1, 4, 1, 2);
+        assertEquals(Arrays.asList(1, 1, 1, 2), TopK.smallest(list.iterator(), 4));
+        assertEquals(Arrays.asList(4, 4), TopK.largest(list.iterator(), 2));
+    }
+
+    @Test
+    public void testLargeRandomStream() {
+        Random random = new Random(1);
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(random.nextInt());
+        }
+        List<Integer> sorted = new ArrayList<>(list);
+        Collections.sort(sorted);
+
+        assertEquals(sorted.subList(0, 500), TopK.smallest(list.iterator(), 500));
+        List<Integer> expectedLargest = new ArrayList<>(sorted.subList(sorted.size() - 500, sorted.size()));
+        Collections.reverse(expectedLargest);
+        assertEquals(expectedLargest, TopK.largest(list.iterator(), 500));
+    }
+
+    @Test
+    public void testGeneratedStreamIsNotMaterialized() {
+        // A lazily generated sequence of one million values: only k of them are kept
+        Iterator<Integer> it = IntStream.range(0, 1_000_000).map(i -> 999_999 - i).iterator();
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), TopK.smallest(it, 5));
+    }
+
+    @Test
+    public void testStrings() {
+        List<String> list = Arrays.asList("pear", "apple", "fig", "banana", "cherry");
+        assertEquals(Arrays.asList("apple", "banana"), TopK.smallest(list.iterator(), 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeK() {
+        TopK.smallest(Arrays.asList(1, 2).iterator(), -1);
+    }
+}
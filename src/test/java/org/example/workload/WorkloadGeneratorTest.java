@@ -0,0 +1,211 @@
+package org.example.workload;
+
+import org.example.sorts.InstrumentedSort;
+import org.example.sorts.QuickSort;
+import org.example.sorts.SortAlgorithm;
+import org.example.sorts.SortCounters;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for the seeded workload generator and its distributions.
+ */
+public class WorkloadGeneratorTest {
+
+    private static boolean isSorted(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Integer> boxed(int[] values) {
+        List<Integer> list = new ArrayList<>(values.length);
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Test
+    public void testSameSeedGivesSameData() {
+        for (Distribution distribution : Distribution.values()) {
+            int[] first = new WorkloadGenerator(42).generate(distribution, 2_000);
+            int[] second = new WorkloadGenerator(42).generate(distribution, 2_000);
+            assertArrayEquals(distribution + " should be reproducible", first, second);
+            assertEquals(2_000, first.length);
+        }
+        assertFalse("Different seeds should give different data",
+                Arrays.equals(new WorkloadGenerator(1).generate(Distribution.UNIFORM, 1_000),
+                        new WorkloadGenerator(2).generate(Distribution.UNIFORM, 1_000)));
+    }
+
+    @Test
+    public void testParallelGenerationMatchesChunkedSequentialPrefix() {
+        int size = WorkloadGenerator.PARALLEL_THRESHOLD + 12_345;
+        WorkloadGenerator generator = new WorkloadGenerator(7);
+        int[] large = generator.uniform(size, 0, 1_000_000);
+        int[] small = generator.uniform(WorkloadGenerator.CHUNK * 2, 0, 1_000_000);
+        assertArrayEquals("Parallel blocks should use the same per-block streams as sequential generation",
+                small, Arrays.copyOf(large, small.length));
+        assertArrayEquals(large, generator.uniform(size, 0, 1_000_000));
+    }
+
+    @Test
+    public void testUniformStaysInRange() {
+        int[] values = new WorkloadGenerator(3).uniform(10_000, -5, 5);
+        assertTrue(Arrays.stream(values).allMatch(v -> v >= -5 && v < 5));
+        assertEquals(10, Arrays.stream(values).distinct().count());
+
+        int[] full = new WorkloadGenerator(3).uniform(1_000, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L);
+        assertTrue("Full int range should produce negative values", Arrays.stream(full).anyMatch(v -> v < 0));
+    }
+
+    @Test
+    public void testZipfIsSkewed() {
+        int[] values = new WorkloadGenerator(5).zipf(100_000, 1_000, 1.0);
+        int[] counts = new int[1_000];
+        for (int value : values) {
+            counts[value]++;
+        }
+        assertTrue("Rank 0 should be the most frequent", counts[0] > counts[1] && counts[1] > counts[10]);
+        // With s = 1 and 1000 values, P(0) = 1 / H(1000) ≈ 0.134
+        assertEquals(0.134, counts[0] / 100_000.0, 0.01);
+    }
+
+    @Test
+    public void testFewUnique() {
+        int[] values = new WorkloadGenerator(5).generate(Distribution.FEW_UNIQUE, 5_000);
+        assertEquals(8, Arrays.stream(values).distinct().count());
+    }
+
+    @Test
+    public void testSortedReverseAndNearlySortedShareValues() {
+        WorkloadGenerator generator = new WorkloadGenerator(11);
+        int[] uniform = generator.generate(Distribution.UNIFORM, 3_000);
+        int[] sorted = generator.generate(Distribution.SORTED, 3_000);
+        int[] reverse = generator.generate(Distribution.REVERSE, 3_000);
+        int[] nearly = generator.generate(Distribution.NEARLY_SORTED, 3_000);
+
+        assertTrue(isSorted(sorted));
+        int[] expected = uniform.clone();
+        Arrays.sort(expected);
+        assertArrayEquals("Sorted should be the uniform values in order", expected, sorted);
+        for (int i = 0; i < reverse.length; i++) {
+            assertEquals(sorted[sorted.length - 1 - i], reverse[i]);
+        }
+
+        int misplaced = 0;
+        for (int i = 0; i < nearly.length; i++) {
+            if (nearly[i] != sorted[i]) {
+                misplaced++;
+            }
+        }
+        assertTrue("31 swaps should move at most 62 values, moved " + misplaced, misplaced > 0 && misplaced <= 62);
+        int[] resorted = nearly.clone();
+        Arrays.sort(resorted);
+        assertArrayEquals(sorted, resorted);
+    }
+
+    @Test
+    public void testRunsGiveRequestedInOrderRatio() {
+        int size = 1_001;
+        int[] values = new WorkloadGenerator(13).runs(size, 101);
+        int descents = 0;
+        for (int i = 1; i < size; i++) {
+            if (values[i] < values[i - 1]) descents++;
+        }
+        // One descent at most between consecutive runs, none inside a run
+        assertTrue("descents: " + descents, descents <= 100 && descents >= 90);
+        assertTrue(isSorted(new WorkloadGenerator(13).runs(size, 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRunsRejectsZeroRuns() {
+        new WorkloadGenerator(13).runs(10, 0);
+    }
+
+    @Test
+    public void testSawtoothAndOrganPipe() {
+        WorkloadGenerator generator = new WorkloadGenerator(0);
+        assertArrayEquals(new int[]{0, 1, 2, 0, 1, 2, 0, 1}, generator.sawtooth(8, 3));
+        assertArrayEquals(new int[]{0, 1, 2, 2, 1, 0}, generator.organPipe(6));
+        assertArrayEquals(new int[]{0, 1, 2, 1, 0}, generator.organPipe(5));
+    }
+
+    @Test
+    public void testQuickSortKillerIsQuadraticForQuickSort() {
+        int size = 2_000;
+        WorkloadGenerator generator = new WorkloadGenerator(0);
+
+        SortCounters killer = new SortCounters();
+        SortAlgorithm<Integer> quick = InstrumentedSort.wrap("QuickSort", new QuickSort<Integer>(), killer);
+        List<Integer> data = boxed(generator.quickSortKiller(size));
+        quick.sort(data);
+        assertTrue(isSorted(data.stream().mapToInt(Integer::intValue).toArray()));
+
+        SortCounters random = new SortCounters();
+        InstrumentedSort.wrap("QuickSort", new QuickSort<Integer>(), random)
+                .sort(boxed(generator.generate(Distribution.UNIFORM, size)));
+
+        long quadratic = (long) size * size / 8;
+        assertTrue("Killer should need Θ(n²) comparisons, was " + killer.snapshot().comparisons(),
+                killer.snapshot().comparisons() > quadratic);
+        assertTrue(random.snapshot().comparisons() < quadratic / 10);
+    }
+
+    @Test
+    public void testQuickSortKillerAtMaximumSize() {
+        int[] values = new WorkloadGenerator(0).quickSortKiller(WorkloadGenerator.MAX_KILLER_SIZE);
+        List<Integer> data = boxed(values);
+        new QuickSort<Integer>().sort(data);
+        Arrays.sort(values);
+        assertEquals(boxed(values), data);
+    }
+
+    @Test
+    public void testEmptyAndSingleElement() {
+        WorkloadGenerator generator = new WorkloadGenerator(1);
+        for (Distribution distribution : Distribution.values()) {
+            assertEquals(0, generator.generate(distribution, 0).length);
+            assertEquals(1, generator.generate(distribution, 1).length);
+        }
+    }
+
+    @Test
+    public void testFromName() {
+        assertEquals(Distribution.NEARLY_SORTED, Distribution.fromName("NearlySorted"));
+        assertEquals(Distribution.NEARLY_SORTED, Distribution.fromName("nearly_sorted"));
+        assertEquals(Distribution.UNIFORM, Distribution.fromName("unsorted"));
+        for (Distribution distribution : Distribution.values()) {
+            assertEquals(distribution, Distribution.fromName(distribution.scenario()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromNameRejectsUnknown() {
+        Distribution.fromName("Gaussian");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativeSize() {
+        new WorkloadGenerator(1).generate(Distribution.SORTED, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEmptyRange() {
+        new WorkloadGenerator(1).uniform(10, 5, 5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsOversizedKiller() {
+        new WorkloadGenerator(1).quickSortKiller(WorkloadGenerator.MAX_KILLER_SIZE + 1);
+    }
+}
@@ -0,0 +1,374 @@
+package org.example.sorts;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementación de IntKernels con la API jdk.incubator.vector.
+ *
+ * Caso base: redes de ordenamiento bitónicas dentro de un vector.
+ * Los bloques de hasta SCALAR_MAX elementos se ordenan con Insertion
+ * Sort, que en SimdKernelsJmhBenchmark fue más rápido para ellos.
+ * Cada paso de la red intercambia cada carril con su pareja
+ * (rearrange), calcula mínimo y máximo y elige uno de los dos con
+ * una máscara (blend). Los carriles sobrantes se rellenan con
+ * Integer.MAX_VALUE, que queda al final y no se escribe.
+ * - Hasta 8 elementos: un vector de 256 bits.
+ * - Hasta 16 elementos: un vector de 512 bits o, si el hardware
+ *   solo tiene 256 bits, dos vectores ordenados y mezclados.
+ * - Hasta 32 elementos (solo con 512 bits): dos vectores de 512
+ *   bits ordenados y mezclados.
+ *
+ * Partición: se procesan bloques de un vector; compress agrupa los
+ * carriles menores que el pivote, que se escriben a la izquierda, y
+ * los demás, que se escriben desde la derecha. Se lee del extremo
+ * que tiene menos espacio libre, por lo que la partición es en el
+ * lugar. Como compress solo es eficiente con AVX-512, en otro
+ * hardware la partición usa la versión escalar.
+ *
+ * Requiere compilar con el perfil Maven "vector" y ejecutar con
+ * --add-modules jdk.incubator.vector.
+ *
+ * @author Kenett
+ * @version 1.0
+ */
+public class VectorIntKernels implements IntKernels {
+
+    /**
+     * Tamaño máximo de bloque que se ordena con la versión escalar.
+     */
+    private static final int SCALAR_MAX = 4;
+
+    /**
+     * Vectores de 8 carriles.
+     */
+    private static final VectorSpecies<Integer> S256 = IntVector.SPECIES_256;
+
+    /**
+     * Vectores de 16 carriles.
+     */
+    private static final VectorSpecies<Integer> S512 = IntVector.SPECIES_512;
+
+    /**
+     * Red de ordenamiento de 8 carriles.
+     */
+    private static final Network SORT8 = Network.sort(S256);
+
+    /**
+     * Red de mezcla bitónica de 8 carriles.
+     */
+    private static final Network MERGE8 = Network.merge(S256);
+
+    /**
+     * Red de ordenamiento de 16 carriles.
+     */
+    private static final Network SORT16 = Network.sort(S512);
+
+    /**
+     * Red de mezcla bitónica de 16 carriles.
+     */
+    private static final Network MERGE16 = Network.merge(S512);
+
+    /**
+     * Si el hardware tiene vectores de 512 bits.
+     */
+    private final boolean wide;
+
+    /**
+     * Versión escalar, usada para los bloques muy pequeños y para la
+     * partición sin AVX-512.
+     */
+    private final ScalarIntKernels scalar = new ScalarIntKernels();
+
+    /**
+     * Crea la implementación según el ancho de vector del hardware.
+     *
+     * @throws UnsupportedOperationException si el hardware no tiene vectores de 256 bits
+     */
+    public VectorIntKernels() {
+        int bits = IntVector.SPECIES_PREFERRED.vectorBitSize();
+        if (bits < 256) {
+            throw new UnsupportedOperationException("Se requieren vectores de al menos 256 bits: " + bits);
+        }
+        wide = bits >= 512;
+    }
+
+    /**
+     * Retorna el tamaño máximo de bloque que acepta sortSmall.
+     *
+     * @return 32 con vectores de 512 bits, 16 con vectores de 256 bits
+     */
+    @Override
+    public int maxBlock() {
+        return wide ? 32 : 16;
+    }
+
+    /**
+     * Ordena el bloque [from, to) con una red de ordenamiento.
+     *
+     * @param a arreglo a ordenar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @throws IllegalArgumentException si el bloque supera maxBlock()
+     */
+    @Override
+    public void sortSmall(int[] a, int from, int to) {
+        int n = to - from;
+        if (n <= SCALAR_MAX) {
+            scalar.sortSmall(a, from, to);
+        } else if (n <= 8) {
+            sortOne(S256, SORT8, a, from, n);
+        } else if (n <= 16) {
+            if (wide) {
+                sortOne(S512, SORT16, a, from, n);
+            } else {
+                sortTwo(S256, SORT8, MERGE8, a, from, n);
+            }
+        } else if (wide && n <= 32) {
+            sortTwo(S512, SORT16, MERGE16, a, from, n);
+        } else {
+            throw new IllegalArgumentException("El bloque supera " + maxBlock() + " elementos: " + n);
+        }
+    }
+
+    /**
+     * Particiona el rango [from, to) alrededor del pivote.
+     *
+     * @param a arreglo a particionar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusivo)
+     * @param pivot valor del pivote
+     * @return índice del primer elemento mayor o igual que el pivote
+     */
+    @Override
+    public int partition(int[] a, int from, int to, int pivot) {
+        int lanes = S512.length();
+        if (!wide || to - from < 2 * lanes) {
+            return scalar.partition(a, from, to, pivot);
+        }
+
+        // Los primeros y últimos carriles se leen antes, para dejar espacio libre en ambos extremos
+        IntVector first = IntVector.fromArray(S512, a, from);
+        IntVector last = IntVector.fromArray(S512, a, to - lanes);
+        int readLeft = from + lanes;
+        int readRight = to - lanes;
+        int writeLeft = from;
+        int writeRight = to;
+
+        VectorMask<Integer> all = S512.maskAll(true);
+        while (readRight - readLeft >= lanes) {
+            IntVector v;
+            if (readLeft - writeLeft <= writeRight - readRight) {
+                v = IntVector.fromArray(S512, a, readLeft);
+                readLeft += lanes;
+            } else {
+                readRight -= lanes;
+                v = IntVector.fromArray(S512, a, readRight);
+            }
+            int less = store(v, all, pivot, a, writeLeft, writeRight);
+            writeLeft += less;
+            writeRight -= lanes - less;
+        }
+
+        int rest = readRight - readLeft;
+        if (rest > 0) {
+            VectorMask<Integer> valid = S512.indexInRange(0, rest);
+            IntVector v = IntVector.fromArray(S512, a, readLeft, valid);
+            int less = store(v, valid, pivot, a, writeLeft, writeRight);
+            writeLeft += less;
+            writeRight -= rest - less;
+        }
+
+        int less = store(first, all, pivot, a, writeLeft, writeRight);
+        writeLeft += less;
+        writeRight -= lanes - less;
+        less = store(last, all, pivot, a, writeLeft, writeRight);
+        return writeLeft + less;
+    }
+
+    /**
+     * Escribe los carriles válidos de un vector: los menores que el
+     * pivote desde writeLeft y los demás terminando en writeRight.
+     *
+     * @param v vector leído
+     * @param valid carriles con datos
+     * @param pivot valor del pivote
+     * @param a arreglo a particionar
+     * @param writeLeft próxima posición libre de la izquierda
+     * @param writeRight posición siguiente a la última libre de la derecha
+     * @return cantidad de carriles menores que el pivote
+     */
+    private static int store(IntVector v, VectorMask<Integer> valid, int pivot, int[] a,
+                             int writeLeft, int writeRight) {
+        VectorMask<Integer> less = v.compare(VectorOperators.LT, pivot).and(valid);
+        VectorMask<Integer> rest = less.not().and(valid);
+        int lessCount = less.trueCount();
+        int restCount = rest.trueCount();
+        v.compress(less).intoArray(a, writeLeft, S512.indexInRange(0, lessCount));
+        v.compress(rest).intoArray(a, writeRight - restCount, S512.indexInRange(0, restCount));
+        return lessCount;
+    }
+
+    /**
+     * Ordena hasta species.length() elementos con un solo vector.
+     *
+     * @param species especie del vector
+     * @param sort red de ordenamiento de la especie
+     * @param a arreglo a ordenar
+     * @param from índice inicial
+     * @param n cantidad de elementos
+     */
+    private static void sortOne(VectorSpecies<Integer> species, Network sort, int[] a, int from, int n) {
+        VectorMask<Integer> valid = species.indexInRange(0, n);
+        IntVector v = load(species, a, from, valid);
+        sort.apply(v).intoArray(a, from, valid);
+    }
+
+    /**
+     * Ordena hasta 2·species.length() elementos: ordena dos vectores,
+     * invierte el segundo y los mezcla con una red bitónica.
+     *
+     * @param species especie de los vectores
+     * @param sort red de ordenamiento de la especie
+     * @param merge red de mezcla de la especie
+     * @param a arreglo a ordenar
+     * @param from índice inicial
+     * @param n cantidad de elementos
+     */
+    private static void sortTwo(VectorSpecies<Integer> species, Network sort, Network merge,
+                                int[] a, int from, int n) {
+        int lanes = species.length();
+        VectorMask<Integer> valid = species.indexInRange(0, n - lanes);
+        IntVector low = sort.apply(IntVector.fromArray(species, a, from));
+        IntVector high = sort.apply(load(species, a, from + lanes, valid));
+
+        // low ascendente y high descendente forman una secuencia bitónica
+        high = high.rearrange(sort.reverse);
+        IntVector min = low.min(high);
+        IntVector max = low.max(high);
+        merge.apply(min).intoArray(a, from);
+        merge.apply(max).intoArray(a, from + lanes, valid);
+    }
+
+    /**
+     * Lee los carriles válidos y rellena los demás con Integer.MAX_VALUE.
+     *
+     * @param species especie del vector
+     * @param a arreglo de origen
+     * @param from índice inicial
+     * @param valid carriles a leer
+     * @return vector leído
+     */
+    private static IntVector load(VectorSpecies<Integer> species, int[] a, int from, VectorMask<Integer> valid) {
+        return IntVector.broadcast(species, Integer.MAX_VALUE)
+                .blend(IntVector.fromArray(species, a, from, valid), valid);
+    }
+
+    /**
+     * Red de comparación e intercambio sobre los carriles de un vector.
+     * Cada paso compara cada carril con el indicado por su shuffle y
+     * se queda con el máximo en los carriles de su máscara.
+     */
+    private static final class Network {
+
+        /**
+         * Pareja de cada carril en cada paso.
+         */
+        private final VectorShuffle<Integer>[] partners;
+
+        /**
+         * Carriles que toman el máximo en cada paso.
+         */
+        private final VectorMask<Integer>[] takeMax;
+
+        /**
+         * Shuffle que invierte el orden de los carriles.
+         */
+        private final VectorShuffle<Integer> reverse;
+
+        /**
+         * Crea la red a partir de la distancia y el sentido de cada paso.
+         *
+         * @param species especie del vector
+         * @param distances distancia entre parejas en cada paso
+         * @param blocks tamaño del bloque que define el sentido (ascendente o descendente) en cada paso
+         */
+        @SuppressWarnings("unchecked")
+        private Network(VectorSpecies<Integer> species, int[] distances, int[] blocks) {
+            int lanes = species.length();
+            partners = new VectorShuffle[distances.length];
+            takeMax = new VectorMask[distances.length];
+            for (int s = 0; s < distances.length; s++) {
+                int[] partner = new int[lanes];
+                boolean[] max = new boolean[lanes];
+                for (int i = 0; i < lanes; i++) {
+                    partner[i] = i ^ distances[s];
+                    boolean ascending = (i & blocks[s]) == 0;
+                    max[i] = ((i & distances[s]) != 0) == ascending;
+                }
+                partners[s] = VectorShuffle.fromArray(species, partner, 0);
+                takeMax[s] = VectorMask.fromArray(species, max, 0);
+            }
+            reverse = VectorShuffle.fromOp(species, i -> lanes - 1 - i);
+        }
+
+        /**
+         * Crea la red de ordenamiento bitónico completo.
+         *
+         * @param species especie del vector
+         * @return red de ordenamiento
+         */
+        static Network sort(VectorSpecies<Integer> species) {
+            int lanes = species.length();
+            int steps = 0;
+            for (int k = 2; k <= lanes; k <<= 1) {
+                steps += Integer.numberOfTrailingZeros(k);
+            }
+            int[] distances = new int[steps];
+            int[] blocks = new int[steps];
+            int s = 0;
+            for (int k = 2; k <= lanes; k <<= 1) {
+                for (int j = k >> 1; j > 0; j >>= 1) {
+                    distances[s] = j;
+                    blocks[s++] = k;
+                }
+            }
+            return new Network(species, distances, blocks);
+        }
+
+        /**
+         * Crea la red que ordena ascendentemente una secuencia bitónica.
+         *
+         * @param species especie del vector
+         * @return red de mezcla
+         */
+        static Network merge(VectorSpecies<Integer> species) {
+            int lanes = species.length();
+            int steps = Integer.numberOfTrailingZeros(lanes);
+            int[] distances = new int[steps];
+            int[] blocks = new int[steps];
+            for (int s = 0, j = lanes >> 1; j > 0; s++, j >>= 1) {
+                distances[s] = j;
+                blocks[s] = lanes;
+            }
+            return new Network(species, distances, blocks);
+        }
+
+        /**
+         * Aplica todos los pasos de la red al vector.
+         *
+         * @param v vector de entrada
+         * @return vector con los carriles reordenados
+         */
+        IntVector apply(IntVector v) {
+            for (int s = 0; s < partners.length; s++) {
+                IntVector w = v.rearrange(partners[s]);
+                v = v.min(w).blend(v.max(w), takeMax[s]);
+            }
+            return v;
+        }
+    }
+}